@@ -3,11 +3,12 @@ package org.yarnandtail.andhow.compile;
 import java.util.logging.Level;
 import org.yarnandtail.andhow.service.PropertyRegistrationList;
 import org.yarnandtail.andhow.service.PropertyRegistration;
-import com.sun.source.util.Trees;
 import java.io.*;
 import java.util.*;
 import javax.annotation.processing.*;
 import javax.lang.model.element.*;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
 
 
 import javax.tools.FileObject;
@@ -19,6 +20,17 @@ import org.yarnandtail.andhow.util.AndHowLog;
 import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 /**
+ * Finds AndHow Properties and init classes in each compiled class, generating
+ * a PropertyRegistrar for each class containing Properties and registering
+ * the registrars and init classes as services.
+ * 
+ * The processor tolerates incremental compilation:  Each generated registrar
+ * has exactly one originating element, the top level class it was generated
+ * from, and the PropertyRegistrar service file is merged w/ the entries
+ * already in the output directory for classes that were not recompiled.
+ * It is not registered w/ Gradle as an incremental processor, since it reads
+ * Property initializers w/ the javac Trees API, which Gradle's incremental
+ * processing contract does not allow.  Gradle recompiles fully when it is used.
  *
  * Note: check to ensure that Props are not referenced in static init blocks b/c
  * we may need to load the class (and run its init) before andHow init can
@@ -27,9 +39,17 @@ import static javax.tools.StandardLocation.CLASS_OUTPUT;
  * @author ericeverman
  */
 @SupportedAnnotationTypes("*")
+@SupportedOptions(AndHowCompileProcessor.GENERATE_ACCESSORS_OPTION)
 public class AndHowCompileProcessor extends AbstractProcessor {
 	private static final AndHowLog LOG = AndHowLog.getLogger(AndHowCompileProcessor.class);
 	
+	/**
+	 * Processor option to also generate a {@code $<Class>_AndHowValues} class
+	 * w/ a typed, static accessor method for each Property, e.g.
+	 * {@code -Aandhow.generateAccessors=true}
+	 */
+	public static final String GENERATE_ACCESSORS_OPTION = "andhow.generateAccessors";
+	
 	private static final String INIT_CLASS_NAME = AndHowInit.class.getCanonicalName();
 	private static final String TEST_INIT_CLASS_NAME = "org.yarnandtail.andhow.AndHowTestInit";
 	
@@ -40,10 +60,11 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 	//Static to insure all generated classes have the same timestamp
 	private static Calendar runDate;
 
-	private Trees trees;
-	
 	private final List<CauseEffect> registrars = new ArrayList();
 	
+	//Generated registrar names for all classes processed, incl. those w/o Properties
+	private final Set<String> processedRegistrarNames = new HashSet();
+	
 	private final List<CauseEffect> initClasses = new ArrayList();		//List of init classes (should only ever be 1)
 	private final List<CauseEffect> testInitClasses = new ArrayList();	//List of test init classes (should only ever be 1)
 
@@ -91,8 +112,10 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 					throw err;
 				}
 
-				if (registrars != null && registrars.size() > 0) {
-					writeServiceFile(filer, PropertyRegistrar.class.getCanonicalName(), registrars);
+				List<String> retained = readRetainedRegistrars(filer);
+				
+				if (registrars.size() > 0 || retained.size() > 0) {
+					writeServiceFile(filer, PropertyRegistrar.class.getCanonicalName(), registrars, retained);
 				}
 			} catch (IOException e) {
 				throw new RuntimeException("Exception while trying to write generated files", e);
@@ -102,19 +125,31 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 			LOG.trace("Another round of annotation processing.  Current root element count: {0}", roundEnv.getRootElements().size());
 
 
+			//
+			//One scanner per round, so the types it compares against are only
+			//resolved once.  Elements are not valid across rounds.
+			AndHowElementScanner7 st = new AndHowElementScanner7(
+					this.processingEnv, 
+					Property.class.getCanonicalName(),
+					INIT_CLASS_NAME,
+					TEST_INIT_CLASS_NAME);
+			
+			boolean generateAccessors = isGenerateAccessors();
+			st.setRecordValueTypes(generateAccessors);
+			
 			//
 			//Scan all the Compilation units (i.e. class files) for AndHow Properties
-			Iterator<? extends Element> it = roundEnv.getRootElements().iterator();
 			for (Element e : roundEnv.getRootElements()) {
-
-
+				
+				//Root elements may also be packages, i.e. package-info files
+				if (! (e instanceof TypeElement)) {
+					continue;
+				}
+				
 				TypeElement te = (TypeElement) e;
-				AndHowElementScanner7 st = new AndHowElementScanner7(
-						this.processingEnv, 
-						Property.class.getCanonicalName(),
-						INIT_CLASS_NAME,
-						TEST_INIT_CLASS_NAME);
-				CompileUnit ret = st.scan(e);
+				CompileUnit ret = st.scanRoot(te);
+				PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(ret, AndHowCompileProcessor.class, runDate);
+				processedRegistrarNames.add(gen.buildGeneratedClassFullName());
 
 
 				if (ret.istestInitClass()) {
@@ -126,7 +161,6 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 				if (ret.hasRegistrations()) {
 
 					LOG.debug("Found {0} AndHow Properties in class {1} ", ret.getRegistrations().size(), ret.getRootCanonicalName());
-					PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(ret, AndHowCompileProcessor.class, runDate);
 					registrars.add(new CauseEffect(gen.buildGeneratedClassFullName(), te));
 					PropertyRegistrationList regs = ret.getRegistrations();
 
@@ -144,6 +178,18 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 						LOG.error("Unable to write generated classfile '" + gen.buildGeneratedClassFullName() + "'", ex);
 						throw new RuntimeException(ex);
 					}
+					
+					if (generateAccessors && ! ret.hasErrors()) {
+						PropertyAccessorClassGenerator accGen = new PropertyAccessorClassGenerator(ret, AndHowCompileProcessor.class, runDate);
+						
+						try {
+							writeClassFile(filer, accGen, e);
+							LOG.trace("Wrote new generated class file " + accGen.buildGeneratedClassSimpleName());
+						} catch (Exception ex) {
+							LOG.error("Unable to write generated classfile '" + accGen.buildGeneratedClassFullName() + "'", ex);
+							throw new RuntimeException(ex);
+						}
+					}
 				}
 
 				if (ret.getErrors().size() > 0) {
@@ -163,7 +209,21 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 		return false;
 
 	}
-
+	
+	/**
+	 * True if the GENERATE_ACCESSORS_OPTION is set, either w/o a value or to true.
+	 */
+	protected boolean isGenerateAccessors() {
+		Map<String, String> options = processingEnv.getOptions();
+		
+		if (options.containsKey(GENERATE_ACCESSORS_OPTION)) {
+			String value = options.get(GENERATE_ACCESSORS_OPTION);
+			return value == null || Boolean.parseBoolean(value);
+		}
+		
+		return false;
+	}
+	
 	public void writeClassFile(Filer filer, PropertyRegistrarClassGenerator generator, Element causingElement) throws Exception {
 
 		String classContent = generator.generateSource();
@@ -179,6 +239,27 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 			String fullyQualifiedServiceInterfaceName, 
 			List<CauseEffect> implementingClasses) throws IOException {
 		
+		writeServiceFile(filer, fullyQualifiedServiceInterfaceName, implementingClasses, Collections.emptyList());
+	}
+	
+	/**
+	 * Writes a service file listing the implementing classes found in this
+	 * compile, followed by the retained classes from an earlier compile.
+	 * 
+	 * Only the implementing classes are originating elements, so a build tool
+	 * can tie each entry to the class it came from.
+	 * 
+	 * @param filer
+	 * @param fullyQualifiedServiceInterfaceName
+	 * @param implementingClasses Classes found in this compile
+	 * @param retainedClassNames Classes from an earlier compile to keep listing
+	 * @throws IOException 
+	 */
+	protected void writeServiceFile(Filer filer, 
+			String fullyQualifiedServiceInterfaceName, 
+			List<CauseEffect> implementingClasses,
+			List<String> retainedClassNames) throws IOException {
+		
 		//Get a unique causing elements
 		HashSet<Element> set = new HashSet();
 		for (CauseEffect ce : implementingClasses) {
@@ -198,8 +279,91 @@ public class AndHowCompileProcessor extends AbstractProcessor {
 				writer.write(ce.fullClassName);
 				writer.write(System.lineSeparator());
 			}
+			
+			for (String name : retainedClassNames) {
+				writer.write(name);
+				writer.write(System.lineSeparator());
+			}
+		}
+		
+	}
+	
+	/**
+	 * Reads the PropertyRegistrar service file from an earlier compile, if
+	 * there is one, returning the registrars to keep listing.
+	 * 
+	 * During an incremental compile only the changed classes are processed, so
+	 * the registrars of the unchanged classes would otherwise be lost.  An
+	 * entry is kept only if its class was not processed in this compile and it
+	 * still exists as a PropertyRegistrar.  A generated registrar is also only
+	 * kept if the class it was generated from still exists, since the class
+	 * file of a registrar may outlive the deleted source it was generated from.
+	 * 
+	 * @param filer
+	 * @return Registrar class names, which may be empty but never null.
+	 */
+	protected List<String> readRetainedRegistrars(Filer filer) {
+		List<String> retained = new ArrayList();
+		String content;
+		
+		try {
+			FileObject existing = filer.getResource(CLASS_OUTPUT, SERVICES_PACKAGE,
+					SERVICE_REGISTRY_META_DIR + PropertyRegistrar.class.getCanonicalName());
+			CharSequence chars = existing.getCharContent(true);
+			content = (chars != null) ? chars.toString() : "";
+		} catch (IOException | RuntimeException e) {
+			//No earlier file, or the Filer does not support reading it
+			return retained;
+		}
+		
+		Elements elements = processingEnv.getElementUtils();
+		Types types = processingEnv.getTypeUtils();
+		TypeElement registrarType = elements.getTypeElement(PropertyRegistrar.class.getCanonicalName());
+		
+		for (String line : content.split("\\r?\\n")) {
+			String name = line.trim();
+			
+			if (name.isEmpty() || name.startsWith("#") || 
+					processedRegistrarNames.contains(name) || retained.contains(name)) {
+				continue;
+			}
+			
+			TypeElement te = elements.getTypeElement(name);
+			String originName = getOriginatingClassName(name);
+			
+			if (te != null && registrarType != null &&
+					types.isAssignable(types.erasure(te.asType()), types.erasure(registrarType.asType())) &&
+					(originName == null || elements.getTypeElement(originName) != null)) {
+				retained.add(name);
+			} else {
+				LOG.debug("Dropping the PropertyRegistrar ''{0}'' from the service file b/c it no longer exists", name);
+			}
 		}
 		
+		return retained;
+	}
+	
+	/**
+	 * The name of the top level class a registrar was generated from, based on
+	 * the naming of PropertyRegistrarClassGenerator.
+	 * 
+	 * @param registrarName The fully qualified name of a registrar
+	 * @return The name of the class it was generated from, or null if the
+	 * registrar does not have a generated name.
+	 */
+	protected static String getOriginatingClassName(String registrarName) {
+		final String suffix = PropertyRegistrarClassGenerator.GENERATED_CLASS_SUFFIX;
+		int dot = registrarName.lastIndexOf('.');
+		String simpleName = registrarName.substring(dot + 1);
+		
+		if (simpleName.startsWith("$") && simpleName.endsWith(suffix) &&
+				simpleName.length() > suffix.length() + 1) {
+			
+			return registrarName.substring(0, dot + 1) +
+					simpleName.substring(1, simpleName.length() - suffix.length());
+		} else {
+			return null;
+		}
 	}
 	
 	/**
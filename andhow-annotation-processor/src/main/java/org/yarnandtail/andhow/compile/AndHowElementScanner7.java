@@ -1,12 +1,16 @@
 package org.yarnandtail.andhow.compile;
 
 import org.yarnandtail.andhow.util.NameUtil;
+import com.sun.source.util.TreePath;
 import com.sun.source.util.Trees;
+import java.util.*;
 import java.util.logging.Level;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.*;
-import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.*;
 import javax.lang.model.util.*;
+import org.yarnandtail.andhow.api.Name;
+import org.yarnandtail.andhow.api.Property;
 import org.yarnandtail.andhow.util.AndHowLog;
 
 import static javax.lang.model.util.ElementFilter.*;
@@ -28,8 +32,15 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 	private final TypeMirror initTypeMirror;
 	private final TypeMirror testInitTypeMirror;
 	private final Trees trees;
+	private final PropertyBuildEvaluator evaluator;
+	private boolean recordValueTypes;	//True to record the accessor type of each Property
 	
 	CompileUnit compileUnit;		//Info on a single compileable file.  Late init.
+	
+	//Alias names of the build verified Properties in the current CompileUnit,
+	//to the canonical name of the Property using them.
+	private final Map<String, String> inNames = new HashMap();
+	private final Map<String, String> outNames = new HashMap();
 
 	/**
 	 * 
@@ -47,6 +58,7 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 
 		trees = Trees.instance(processingEnv);
 		typeUtils = processingEnv.getTypeUtils();
+		evaluator = new PropertyBuildEvaluator(processingEnv);
 		
 		//Type for a property
 		TypeElement propertyTypeElem = processingEnv.getElementUtils().getTypeElement(typeNameOfAndHowProperty);
@@ -65,7 +77,31 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 		}
 
 	}
+	
+	/**
+	 * Scans a single top level class, discarding the state of any earlier scan.
+	 * 
+	 * The Property and init types are resolved once in the constructor, so a
+	 * single scanner can be reused for all the root elements of a round.
+	 * 
+	 * @param e A top level class
+	 * @return The CompileUnit describing the class
+	 */
+	public CompileUnit scanRoot(TypeElement e) {
+		compileUnit = null;
+		return scan(e);
+	}
 
+	/**
+	 * If true, the type returned by the generated accessor of each Property
+	 * is recorded in the CompileUnit.  Only needed if accessors are generated.
+	 * 
+	 * @param recordValueTypes True to record accessor types.
+	 */
+	public void setRecordValueTypes(boolean recordValueTypes) {
+		this.recordValueTypes = recordValueTypes;
+	}
+	
 	@Override
 	public CompileUnit visitVariable(VariableElement e, String p) {
 
@@ -75,14 +111,28 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 
 			PropertyVariableTreeScanner ts = new PropertyVariableTreeScanner();
 			PropertyMarker marker = new PropertyMarker();
-			ts.scan(trees.getPath(e), marker);
+			TreePath path = trees.getPath(e);
+			ts.scan(path, marker);
 			if (marker.isNewProperty()) {
+				Property<?> prop = evaluator.build(e, path);
+				boolean verified = verify(e, prop);
+				
 				compileUnit.addProperty(
 						new SimpleVariable(e.getSimpleName().toString(),
 						e.getModifiers().contains(Modifier.STATIC),
-						e.getModifiers().contains(Modifier.FINAL))
+						e.getModifiers().contains(Modifier.FINAL)),
+						verified
 				);
 				
+				if (isFieldAccessible(e)) {
+					compileUnit.setFieldAccessible(e.getSimpleName().toString());
+				}
+				
+				if (recordValueTypes) {
+					compileUnit.setValueType(e.getSimpleName().toString(),
+							getAccessorType(e.asType(), verified ? prop : null));
+				}
+				
 				if (LOG.isLoggable(Level.FINE)) {
 					LOG.debug("Found creating of an AndHow Property in source code: {0}",
 							NameUtil.getAndHowName(compileUnit.getRootCanonicalName(), e.getSimpleName().toString(), compileUnit.getInnerPathNames()));
@@ -111,6 +161,8 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 			//Construct a new CompileUnit to record state and scan its contents
 			
 			compileUnit = new CompileUnit(e.getQualifiedName().toString());
+			inNames.clear();
+			outNames.clear();
 			
 			if (e.getKind().equals(ElementKind.CLASS) && ! e.getModifiers().contains(Modifier.ABSTRACT)) {
 				if (testInitTypeMirror != null &&
@@ -144,5 +196,172 @@ public class AndHowElementScanner7 extends ElementScanner7<CompileUnit, String>
 				
 		return compileUnit;
 	}
+	
+	/**
+	 * Checks the validators, default value and alias names of the Property
+	 * assigned to a variable, if it could be built at compile time.
+	 * 
+	 * Any problem is recorded as an error in the CompileUnit.
+	 * 
+	 * @param e The variable
+	 * @param prop The Property built at compile time, or null if it could not be.
+	 * @return True if the Property was built and passed all checks.
+	 */
+	protected boolean verify(VariableElement e, Property<?> prop) {
+		String name = e.getSimpleName().toString();
+		
+		if (prop == null) {
+			return false;
+		}
+		
+		List<String> errors = PropertyBuildEvaluator.check(prop);
+		String canonName = NameUtil.getAndHowName(compileUnit.getRootCanonicalName(), name, compileUnit.getInnerPathNames());
+		
+		//Only exact duplicates are certain to conflict at compile time, since
+		//case sensitivity and other Properties depend on the runtime config.
+		for (Name alias : prop.getRequestedAliases()) {
+			if (alias.isIn()) {
+				String other = inNames.putIfAbsent(alias.getActualName(), canonName);
+				if (other != null) {
+					errors.add("The in alias '" + alias.getActualName() + "' is also used by the Property " + other);
+				}
+			}
+			
+			if (alias.isOut()) {
+				String other = outNames.putIfAbsent(alias.getActualName(), canonName);
+				if (other != null) {
+					errors.add("The out alias '" + alias.getActualName() + "' is also used by the Property " + other);
+				}
+			}
+		}
+		
+		for (String err : errors) {
+			compileUnit.addPropertyError(name, err);
+		}
+		
+		return errors.isEmpty();
+	}
+	
+	/**
+	 * The type returned by the generated accessor of a Property.
+	 * 
+	 * The value type T of the Property&lt;T&gt; the variable is declared as,
+	 * or its primitive type if the Property was verified at build time and
+	 * has a default, so its value can never be null.
+	 * 
+	 * @param variableType The declared type of the variable
+	 * @param verifiedProp The Property if it was verified at build time, otherwise null.
+	 * @return A fully qualified type name or a primitive type name.
+	 */
+	protected String getAccessorType(TypeMirror variableType, Property<?> verifiedProp) {
+		String type = getValueType(variableType);
+		
+		if (verifiedProp != null && verifiedProp.getDefaultValue() != null && PRIMITIVES.containsKey(type)) {
+			return PRIMITIVES.get(type);
+		}
+		
+		return type;
+	}
+	
+	/**
+	 * Finds the type argument of the Property interface, walking up the
+	 * supertypes of the variable type.
+	 * 
+	 * A raw type, a type variable or a type the generated class could not
+	 * refer to results in Object.
+	 */
+	protected String getValueType(TypeMirror type) {
+		if (type.getKind() != TypeKind.DECLARED) {
+			return OBJECT_TYPE;
+		}
+		
+		if (typeUtils.isSameType(typeUtils.erasure(type), typeUtils.erasure(propertyTypeMirror))) {
+			List<? extends TypeMirror> args = ((DeclaredType) type).getTypeArguments();
+			
+			if (args.size() == 1 && args.get(0).getKind() == TypeKind.DECLARED &&
+					isAccessible(((DeclaredType) args.get(0)).asElement())) {
+				
+				return typeUtils.erasure(args.get(0)).toString();
+			} else {
+				return OBJECT_TYPE;
+			}
+		}
+		
+		for (TypeMirror st : typeUtils.directSupertypes(type)) {
+			if (typeUtils.isAssignable(typeUtils.erasure(st), typeUtils.erasure(propertyTypeMirror))) {
+				return getValueType(st);
+			}
+		}
+		
+		return OBJECT_TYPE;
+	}
+	
+	/**
+	 * True if a type can be referenced from the package of the current root class.
+	 */
+	protected boolean isAccessible(Element type) {
+		String pkg = compileUnit.getRootPackageName();
+		
+		for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+			Set<Modifier> mods = e.getModifiers();
+			
+			if (mods.contains(Modifier.PRIVATE)) {
+				return false;
+			} else if (! mods.contains(Modifier.PUBLIC)) {
+				PackageElement typePkg = (PackageElement) getPackage(e);
+				String name = typePkg.isUnnamed() ? null : typePkg.getQualifiedName().toString();
+				
+				if (! Objects.equals(name, pkg)) {
+					return false;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * True if a field can be referenced from a class in the package of the
+	 * current root class.  Fields of local and anonymous classes cannot be.
+	 */
+	protected boolean isFieldAccessible(VariableElement field) {
+		if (field.getModifiers().contains(Modifier.PRIVATE)) {
+			return false;
+		}
+		
+		for (Element e = field.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+			NestingKind kind = ((TypeElement) e).getNestingKind();
+			
+			if (kind != NestingKind.TOP_LEVEL && kind != NestingKind.MEMBER) {
+				return false;
+			}
+		}
+		
+		return isAccessible(field.getEnclosingElement());
+	}
+	
+	private static Element getPackage(Element e) {
+		while (! (e instanceof PackageElement)) {
+			e = e.getEnclosingElement();
+		}
+		
+		return e;
+	}
+	
+	private static final String OBJECT_TYPE = Object.class.getCanonicalName();
+	
+	/** Boxed types that are returned as primitives when never null */
+	private static final Map<String, String> PRIMITIVES = new HashMap();
+	
+	static {
+		PRIMITIVES.put(Boolean.class.getCanonicalName(), "boolean");
+		PRIMITIVES.put(Byte.class.getCanonicalName(), "byte");
+		PRIMITIVES.put(Short.class.getCanonicalName(), "short");
+		PRIMITIVES.put(Character.class.getCanonicalName(), "char");
+		PRIMITIVES.put(Integer.class.getCanonicalName(), "int");
+		PRIMITIVES.put(Long.class.getCanonicalName(), "long");
+		PRIMITIVES.put(Float.class.getCanonicalName(), "float");
+		PRIMITIVES.put(Double.class.getCanonicalName(), "double");
+	}
 
 }
@@ -33,6 +33,8 @@ public class CompileUnit {
 	private final String classCanonName;
 	private PropertyRegistrationList registrations;	//late init
 	private List<String> errors;	//late init
+	private Map<String, String> valueTypes;	//late init.  Property canonical name to accessor type
+	private Set<String> accessibleFields;	//late init.  Property canonical names the registrar can reference
 	private boolean initClass;	//True if an AndHowInit instance (and not AndHowTestInit)
 	private boolean testInitClass;	//True if an AndHowTestInit instance
 	
@@ -107,13 +109,28 @@ public class CompileUnit {
 	 * recorded instead.
 	 */
 	public boolean addProperty(SimpleVariable variableElement) {
+		return addProperty(variableElement, false);
+	}
+	
+	/**
+	 * Register an AndHow Property declaration in the current scope, recording
+	 * if the Property was verified at build time.
+	 * 
+	 * @param variableElement A SimpleType representing a variable to which an
+	 * AndHow property is constructed and assigned to.
+	 * @param buildVerified True if the validators and default value of the
+	 * Property were checked at build time.
+	 * @return True if the property could be added, false if an error was
+	 * recorded instead.
+	 */
+	public boolean addProperty(SimpleVariable variableElement, boolean buildVerified) {
 
 		if (variableElement.isStatic() && variableElement.isFinal()) {
 			if (registrations == null) {
 				registrations = new PropertyRegistrationList(classCanonName);
 			}
 
-			registrations.add(variableElement.getName(), getInnerPathNames());
+			registrations.add(variableElement.getName(), getInnerPathNames(), buildVerified);
 
 			return true;
 		} else {
@@ -121,6 +138,58 @@ public class CompileUnit {
 			return false;
 		}
 	}
+	
+	/**
+	 * Records the type returned by the generated accessor method of a Property
+	 * in the current scope.
+	 * 
+	 * @param propName The name of the variable the Property is assigned to.
+	 * @param typeName The type, which is a primitive type name if the value
+	 * can never be null.
+	 */
+	public void setValueType(String propName, String typeName) {
+		if (valueTypes == null) {
+			valueTypes = new HashMap();
+		}
+		
+		valueTypes.put(NameUtil.getAndHowName(classCanonName, propName, getInnerPathNames()), typeName);
+	}
+	
+	/**
+	 * The type returned by the generated accessor method of a Property.
+	 * 
+	 * @param canonicalPropertyName The canonical name of the Property
+	 * @return The type name, or null if none was recorded.
+	 */
+	public String getValueType(String canonicalPropertyName) {
+		return (valueTypes != null) ? valueTypes.get(canonicalPropertyName) : null;
+	}
+	
+	/**
+	 * Records that the field of a Property in the current scope can be
+	 * referenced from generated classes in the package of the root class,
+	 * so the Property can be read w/o reflection.
+	 * 
+	 * @param propName The name of the variable the Property is assigned to.
+	 */
+	public void setFieldAccessible(String propName) {
+		if (accessibleFields == null) {
+			accessibleFields = new HashSet();
+		}
+		
+		accessibleFields.add(NameUtil.getAndHowName(classCanonName, propName, getInnerPathNames()));
+	}
+	
+	/**
+	 * True if the field of a Property can be referenced from generated classes
+	 * in the package of the root class.
+	 * 
+	 * @param canonicalPropertyName The canonical name of the Property
+	 * @return True if setFieldAccessible() was called for the Property.
+	 */
+	public boolean isFieldAccessible(String canonicalPropertyName) {
+		return accessibleFields != null && accessibleFields.contains(canonicalPropertyName);
+	}
 
 	/**
 	 * Register an AndHow Property declaration in the current scope - either
@@ -0,0 +1,177 @@
+package org.yarnandtail.andhow.compile;
+
+import java.util.*;
+import org.yarnandtail.andhow.service.PropertyRegistration;
+import org.yarnandtail.andhow.service.PropertyRegistrationList;
+
+/**
+ * Generates a class w/ a static, typed accessor method for each Property of
+ * a CompileUnit, next to the PropertyRegistrar generated for it.
+ * 
+ * Properties in inner classes are accessed via nested classes of the same
+ * name, so the Property {@code Config.Db.URL} is read w/
+ * {@code $Config_AndHowValues.Db.URL()}.  Each method reads its value by
+ * index from a {@code PropertyValueTable}, so calls are static, monomorphic
+ * and return a primitive where the value can never be null.
+ * 
+ * @author ericeverman
+ */
+public class PropertyAccessorClassGenerator extends PropertyRegistrarClassGenerator {
+	
+	private final CompileUnit compUnit;
+	private final Class<?> generatingClass;
+	
+	/**
+	 * Create a new instance w all info needed to generate an accessor class.
+	 * 
+	 * @param compUnit CompileUnit instance w/ all needed class and property info,
+	 *		including the value type of each Property.
+	 * @param generatingClass The class (likely an AnnotationProcessor) that will be annotated as the generator
+	 * @param runDate  The Calendar date-time of the run, used for annotation.
+	 */
+	public PropertyAccessorClassGenerator(CompileUnit compUnit, Class<?> generatingClass, Calendar runDate) {
+		super(compUnit, generatingClass, runDate);
+		this.compUnit = compUnit;
+		this.generatingClass = generatingClass;
+	}
+	
+	@Override
+	public String getTemplatePath() {
+		return "/" + PropertyAccessorClassGenerator.class.getCanonicalName().replace(".", "/") + "_Template.txt";
+	}
+	
+	@Override
+	public String generateSource() throws Exception {
+		
+		List<PropertyRegistration> regs = getSortedRegistrations();
+		
+		return String.format(getTemplate(),
+				buildPackageString(),
+				compUnit.getRootCanonicalName(),
+				buildGeneratedClassSimpleName(),
+				generatingClass.getCanonicalName(), buildRunDateString(),
+				buildNamesString(regs),
+				buildAccessorsString(regs)
+		);
+	}
+	
+	@Override
+	protected String buildGeneratedClassSimpleName() {
+		return "$" + compUnit.getRootSimpleName() + "_AndHowValues";
+	}
+	
+	protected List<PropertyRegistration> getSortedRegistrations() {
+		PropertyRegistrationList regList = compUnit.getRegistrations();
+		regList.sort();
+		return new ArrayList(regList);
+	}
+	
+	/**
+	 * The canonical names of the Properties, which is the argument list of the
+	 * PropertyValueTable constructor.  The index of each is its table index.
+	 */
+	protected String buildNamesString(List<PropertyRegistration> regs) {
+		StringBuilder buf = new StringBuilder();
+		
+		for (int i = 0; i < regs.size(); i++) {
+			buf.append("\t\t\t\"").append(regs.get(i).getCanonicalPropertyName()).append("\"");
+			
+			if (i < regs.size() - 1) {
+				buf.append(",").append(System.lineSeparator());
+			}
+		}
+		
+		return buf.toString();
+	}
+	
+	/**
+	 * An accessor method for each Property, opening and closing nested classes
+	 * as the inner path changes.  The registrations must be sorted, so all the
+	 * Properties of an inner class are together and follow those of its parent.
+	 */
+	protected String buildAccessorsString(List<PropertyRegistration> regs) {
+		StringBuilder buf = new StringBuilder();
+		List<String> openPath = new ArrayList();
+		
+		for (int i = 0; i < regs.size(); i++) {
+			PropertyRegistration pr = regs.get(i);
+			List<String> path = (pr.getInnerPath() != null) ? Arrays.asList(pr.getInnerPath()) : Collections.EMPTY_LIST;
+			
+			int common = 0;
+			while (common < openPath.size() && common < path.size() && openPath.get(common).equals(path.get(common))) {
+				common++;
+			}
+			
+			//Close the nested classes that are not shared w/ this Property
+			while (openPath.size() > common) {
+				openPath.remove(openPath.size() - 1);
+				buf.append(indent(openPath.size() + 1)).append("}").append(System.lineSeparator());
+			}
+			
+			//Open the nested classes down to this Property
+			while (openPath.size() < path.size()) {
+				String name = path.get(openPath.size());
+				String ind = indent(openPath.size() + 1);
+				
+				buf.append(System.lineSeparator());
+				buf.append(ind).append("public static final class ").append(name).append(" {").append(System.lineSeparator());
+				buf.append(ind).append("\tprivate ").append(name).append("() {}").append(System.lineSeparator());
+				openPath.add(name);
+			}
+			
+			buf.append(System.lineSeparator());
+			buildAccessor(buf, indent(openPath.size() + 1), pr, i);
+		}
+		
+		while (openPath.size() > 0) {
+			openPath.remove(openPath.size() - 1);
+			buf.append(indent(openPath.size() + 1)).append("}").append(System.lineSeparator());
+		}
+		
+		return buf.toString();
+	}
+	
+	protected void buildAccessor(StringBuilder buf, String indent, PropertyRegistration pr, int index) {
+		String type = compUnit.getValueType(pr.getCanonicalPropertyName());
+		
+		if (type == null) {
+			type = Object.class.getCanonicalName();
+		}
+		
+		buf.append(indent).append("/** Value of the Property ").append(pr.getCanonicalPropertyName()).append(" */")
+				.append(System.lineSeparator());
+		buf.append(indent).append("public static ").append(type).append(" ").append(pr.getPropertyName())
+				.append("() { return ");
+		
+		if (! type.equals(Object.class.getCanonicalName())) {
+			buf.append("(").append(getCastType(type)).append(") ");
+		}
+		
+		buf.append("VALUE_TABLE.get(").append(index).append("); }").append(System.lineSeparator());
+	}
+	
+	/**
+	 * The type to cast the Object value to:  The boxed type of a primitive.
+	 */
+	protected static String getCastType(String type) {
+		switch (type) {
+			case "boolean": return Boolean.class.getCanonicalName();
+			case "byte": return Byte.class.getCanonicalName();
+			case "short": return Short.class.getCanonicalName();
+			case "char": return Character.class.getCanonicalName();
+			case "int": return Integer.class.getCanonicalName();
+			case "long": return Long.class.getCanonicalName();
+			case "float": return Float.class.getCanonicalName();
+			case "double": return Double.class.getCanonicalName();
+			default: return type;
+		}
+	}
+	
+	private static String indent(int depth) {
+		StringBuilder buf = new StringBuilder();
+		for (int i = 0; i < depth; i++) {
+			buf.append("\t");
+		}
+		return buf.toString();
+	}
+}
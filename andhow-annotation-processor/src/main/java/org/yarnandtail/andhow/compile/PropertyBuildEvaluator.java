@@ -0,0 +1,374 @@
+package org.yarnandtail.andhow.compile;
+
+import com.sun.source.tree.*;
+import com.sun.source.util.TreePath;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Builds an AndHow Property at compile time, if its construction is fully
+ * determined by the source code, so it can be checked at build time.
+ * 
+ * A Property can be built if it is created by a builder chain like
+ * {@code StrProp.builder().mustStartWith("a").defaultValue("abc").build()},
+ * where the Property class is one of the AndHow Property types and every
+ * argument is a compile time constant.  The chain is replayed reflectively
+ * against the AndHow classes the processor itself runs with.  Anything else,
+ * such as a custom Property type, a custom Validator or a non-constant
+ * argument, is not statically knowable and is left to be checked at startup.
+ * 
+ * @author ericeverman
+ */
+public class PropertyBuildEvaluator {
+	
+	/** Only Property types in this package are built at compile time */
+	private static final String PROPERTY_PACKAGE = "org.yarnandtail.andhow.property.";
+	
+	private final Elements elementUtils;
+	private final ClassLoader classLoader;
+	
+	/**
+	 * New instance.
+	 * 
+	 * @param processingEnv The environment of the processor
+	 */
+	public PropertyBuildEvaluator(ProcessingEnvironment processingEnv) {
+		this.elementUtils = processingEnv.getElementUtils();
+		this.classLoader = PropertyBuildEvaluator.class.getClassLoader();
+	}
+	
+	/**
+	 * Builds the Property assigned to a variable.
+	 * 
+	 * @param variable The variable the Property is assigned to
+	 * @param variablePath The path to the variable declaration
+	 * @return The Property, or null if it cannot be built at compile time.
+	 */
+	public Property<?> build(VariableElement variable, TreePath variablePath) {
+		if (variablePath == null || ! (variablePath.getLeaf() instanceof VariableTree)) {
+			return null;
+		}
+		
+		ExpressionTree init = ((VariableTree) variablePath.getLeaf()).getInitializer();
+		
+		if (init == null) {
+			return null;
+		}
+		
+		try {
+			return replay(variable, variablePath.getCompilationUnit(), init);
+		} catch (Exception | LinkageError e) {
+			//Anything unexpected just means it cannot be checked at build time
+			return null;
+		}
+	}
+	
+	/**
+	 * Walks the builder chain from build() back to builder(), then replays it.
+	 * 
+	 * Annotation processing happens before the source is attributed, so names
+	 * and methods are resolved here rather than by the compiler.
+	 */
+	protected Property<?> replay(VariableElement variable, CompilationUnitTree unit, ExpressionTree expr) throws Exception {
+		
+		LinkedList<MethodInvocationTree> calls = new LinkedList();	//Invocations, builder() first
+		ExpressionTree owner = null;
+		
+		while (expr instanceof MethodInvocationTree) {
+			MethodInvocationTree mit = (MethodInvocationTree) expr;
+			
+			if (! (mit.getMethodSelect() instanceof MemberSelectTree)) {
+				return null;
+			}
+			
+			calls.addFirst(mit);
+			owner = ((MemberSelectTree) mit.getMethodSelect()).getExpression();
+			expr = owner;
+		}
+		
+		if (calls.size() < 2 || ! getMethodName(calls.getFirst()).equals("builder") ||
+				! calls.getFirst().getArguments().isEmpty() || ! getMethodName(calls.getLast()).equals("build")) {
+			return null;
+		}
+		
+		String ownerName = resolvePropertyType(variable, unit, owner);
+		
+		if (ownerName == null) {
+			return null;
+		}
+		
+		Method builder = Class.forName(ownerName, true, classLoader).getMethod("builder");
+		
+		if (! Modifier.isStatic(builder.getModifiers())) {
+			return null;
+		}
+		
+		Object current = builder.invoke(null);
+		calls.removeFirst();
+		
+		for (MethodInvocationTree call : calls) {
+			Object[] args = new Object[call.getArguments().size()];
+			
+			for (int i = 0; i < args.length; i++) {
+				args[i] = getConstant(variable, call.getArguments().get(i));
+				
+				if (args[i] == null) {
+					return null;
+				}
+			}
+			
+			Method method = findMethod(current.getClass(), getMethodName(call), args);
+			
+			if (method == null) {
+				return null;
+			}
+			
+			current = method.invoke(current, args);
+			
+			if (current == null) {
+				return null;
+			}
+		}
+		
+		return (current instanceof Property) ? (Property<?>) current : null;
+	}
+	
+	protected static String getMethodName(MethodInvocationTree mit) {
+		return ((MemberSelectTree) mit.getMethodSelect()).getIdentifier().toString();
+	}
+	
+	/**
+	 * The binary name of the Property type that builder() is called on, if it
+	 * is an AndHow Property type, otherwise null.
+	 * 
+	 * A simple name must be imported, either directly or w/ a wildcard, and
+	 * not be shadowed by a type in the same package or an enclosing class.
+	 */
+	protected String resolvePropertyType(VariableElement variable, CompilationUnitTree unit, ExpressionTree owner) {
+		if (owner instanceof MemberSelectTree) {
+			String name = owner.toString();
+			return (name.startsWith(PROPERTY_PACKAGE) && name.indexOf('.', PROPERTY_PACKAGE.length()) < 0) ? name : null;
+		} else if (! (owner instanceof IdentifierTree)) {
+			return null;
+		}
+		
+		String simpleName = ((IdentifierTree) owner).getName().toString();
+		boolean wildcard = false;
+		
+		for (ImportTree imp : unit.getImports()) {
+			if (imp.isStatic()) continue;
+			
+			String name = imp.getQualifiedIdentifier().toString();
+			
+			if (name.endsWith("." + simpleName)) {
+				return name.equals(PROPERTY_PACKAGE + simpleName) ? name : null;
+			} else if (name.equals(PROPERTY_PACKAGE + "*")) {
+				wildcard = true;
+			}
+		}
+		
+		if (! wildcard) {
+			return null;
+		}
+		
+		//A type in an enclosing class or the same package would shadow the import
+		for (Element e = variable.getEnclosingElement(); e != null; e = e.getEnclosingElement()) {
+			if (e instanceof PackageElement) {
+				String pkg = ((PackageElement) e).getQualifiedName().toString();
+				String local = pkg.isEmpty() ? simpleName : pkg + "." + simpleName;
+				return (elementUtils.getTypeElement(local) == null) ? PROPERTY_PACKAGE + simpleName : null;
+			}
+			
+			for (TypeElement te : ElementFilter.typesIn(e.getEnclosedElements())) {
+				if (te.getSimpleName().contentEquals(simpleName)) {
+					return null;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * Finds the public method w/ the given name that accepts the arguments.
+	 * 
+	 * If more than one matches, one w/o conversion of primitive arguments is
+	 * preferred, as the compiler would.
+	 */
+	protected static Method findMethod(Class<?> clazz, String name, Object[] args) {
+		Method best = null;
+		int bestCost = Integer.MAX_VALUE;
+		
+		for (Method m : clazz.getMethods()) {
+			if (! m.getName().equals(name) || m.getParameterCount() != args.length || m.isVarArgs()) {
+				continue;
+			}
+			
+			int cost = m.isBridge() ? 1 : 0;
+			Class<?>[] params = m.getParameterTypes();
+			
+			for (int i = 0; i < params.length && cost >= 0; i++) {
+				int c = conversionCost(params[i], args[i]);
+				cost = (c < 0) ? -1 : cost + c;
+			}
+			
+			if (cost >= 0 && cost < bestCost) {
+				best = m;
+				bestCost = cost;
+			}
+		}
+		
+		return best;
+	}
+	
+	/**
+	 * Zero if the argument can be passed as is, two if it needs a widening
+	 * primitive conversion, or -1 if it cannot be passed.
+	 */
+	protected static int conversionCost(Class<?> param, Object arg) {
+		if (! param.isPrimitive()) {
+			return param.isInstance(arg) ? 0 : -1;
+		}
+		
+		int from = PRIMITIVE_ORDER.indexOf(arg.getClass());
+		int to = PRIMITIVE_ORDER.indexOf(BOXES.get(param));
+		
+		if (param == boolean.class) {
+			return (arg instanceof Boolean) ? 0 : -1;
+		} else if (from < 0 || to < 0 || from > to) {
+			return -1;
+		} else {
+			return (from == to) ? 0 : 2;
+		}
+	}
+	
+	/** Boxed numeric types in the order primitive values may be widened */
+	private static final List<Class<?>> PRIMITIVE_ORDER = Arrays.asList(
+			Byte.class, Short.class, Character.class, Integer.class, Long.class, Float.class, Double.class);
+	
+	private static final Map<Class<?>, Class<?>> BOXES = new HashMap();
+	
+	static {
+		BOXES.put(byte.class, Byte.class);
+		BOXES.put(short.class, Short.class);
+		BOXES.put(char.class, Character.class);
+		BOXES.put(int.class, Integer.class);
+		BOXES.put(long.class, Long.class);
+		BOXES.put(float.class, Float.class);
+		BOXES.put(double.class, Double.class);
+	}
+	
+	/**
+	 * The value of a compile time constant expression, or null if it is not
+	 * a constant this evaluator understands.
+	 * 
+	 * Supported are literals, negated numeric literals, String concatenation
+	 * of constants and constant fields declared in or inherited by the enclosing
+	 * classes.
+	 */
+	protected Object getConstant(VariableElement variable, ExpressionTree tree) {
+		
+		switch (tree.getKind()) {
+			case PARENTHESIZED:
+				return getConstant(variable, ((ParenthesizedTree) tree).getExpression());
+			case UNARY_MINUS:
+				return negate(getConstant(variable, ((UnaryTree) tree).getExpression()));
+			case PLUS:
+				BinaryTree bt = (BinaryTree) tree;
+				Object left = getConstant(variable, bt.getLeftOperand());
+				Object right = getConstant(variable, bt.getRightOperand());
+				
+				if ((left instanceof String || right instanceof String) && left != null && right != null) {
+					return left.toString() + right.toString();
+				}
+				
+				return null;
+			case IDENTIFIER:
+				String name = ((IdentifierTree) tree).getName().toString();
+				
+				//Like Java, the innermost class declaring or inheriting the name wins
+				for (Element e = variable.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement()) {
+					VariableElement found = null;
+					
+					for (VariableElement field : ElementFilter.fieldsIn(elementUtils.getAllMembers((TypeElement) e))) {
+						if (field.getSimpleName().contentEquals(name)) {
+							if (found != null) {
+								return null;	//Ambiguous, e.g. inherited from two interfaces
+							}
+							
+							found = field;
+						}
+					}
+					
+					if (found != null) {
+						return found.getConstantValue();
+					}
+				}
+				
+				return null;
+			default:
+				if (tree instanceof LiteralTree) {
+					return ((LiteralTree) tree).getValue();
+				}
+				
+				return null;
+		}
+	}
+	
+	protected static Object negate(Object value) {
+		if (value instanceof Integer) {
+			return - (Integer) value;
+		} else if (value instanceof Long) {
+			return - (Long) value;
+		} else if (value instanceof Double) {
+			return - (Double) value;
+		} else if (value instanceof Float) {
+			return - (Float) value;
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * Checks the validator configuration and default value of a Property,
+	 * the same checks made at startup for a Property that was not verified
+	 * at build time.
+	 * 
+	 * @param <T> The value type of the Property
+	 * @param property The Property to check
+	 * @return A list of error messages, which is empty if the Property is valid.
+	 */
+	public static <T> List<String> check(Property<T> property) {
+		List<String> errors = new ArrayList();
+		
+		for (Validator<T> v : property.getValidators()) {
+			if (! v.isSpecificationValid()) {
+				errors.add(TextUtil.format(
+						"Has a Validator of type {} that is not configured correctly: {}",
+						v.getClass().getSimpleName(), v.getInvalidSpecificationMessage()));
+			}
+		}
+		
+		T def = property.getDefaultValue();
+		
+		if (def != null && errors.isEmpty()) {
+			for (Validator<T> v : property.getValidators()) {
+				if (! v.isValid(def)) {
+					errors.add(TextUtil.format(
+							"Has a default value that does not pass validation: {}",
+							v.getInvalidMessage(def)));
+				}
+			}
+		}
+		
+		return errors;
+	}
+
+}
@@ -6,6 +6,7 @@ import org.yarnandtail.andhow.service.PropertyRegistration;
 import java.io.*;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
+import org.yarnandtail.andhow.util.AndHowUtil;
 import org.yarnandtail.andhow.util.IOUtil;
 
 
@@ -14,7 +15,10 @@ import org.yarnandtail.andhow.util.IOUtil;
  * @author ericeverman
  */
 public class PropertyRegistrarClassGenerator {
-
+	
+	/** Suffix of the generated class name, which is '$' + the root simple name + this */
+	static final String GENERATED_CLASS_SUFFIX = "_AndHowProps";
+	
 	private final CompileUnit compUnit;
 	private final Class<?> generatingClass;
 	private final Calendar runDate;
@@ -70,7 +74,7 @@ public class PropertyRegistrarClassGenerator {
 	
 	//TODO:  Should this be moved to the nameUtil?
 	protected String buildGeneratedClassSimpleName() {
-		return "$" + compUnit.getRootSimpleName() + "_AndHowProps";
+		return "$" + compUnit.getRootSimpleName() + GENERATED_CLASS_SUFFIX;
 	}
 	
 	protected String buildGeneratedClassFullName() {
@@ -92,6 +96,8 @@ public class PropertyRegistrarClassGenerator {
 		PropertyRegistrationList regList = compUnit.getRegistrations();
 		regList.sort();
 		
+		buf.append(buildBuildVersionString(regList));
+		
 		PropertyRegistration prevReg = null;
 		
 		for (PropertyRegistration pr : regList) {
@@ -99,7 +105,8 @@ public class PropertyRegistrarClassGenerator {
 			if ((prevReg != null && pr.compareInnerPathTo(prevReg) != 0) || (prevReg == null && pr.getInnerPathLength() > 0)) {
 				//Do a 'full add' b/c this has a different inner path that prev
 				//list.add("STRING", "PI", "PI_DC");
-				buf.append("\t\tlist.add(\"").append(pr.getPropertyName()).append("\"");
+				buf.append("\t\tlist.").append(buildAddMethodName(pr)).append("(\"").append(pr.getPropertyName()).append("\"");
+				buf.append(buildAccessorString(pr));
 				
 				for (String step : pr.getInnerPath()) {
 					buf.append(", \"").append(step).append("\"");
@@ -109,7 +116,8 @@ public class PropertyRegistrarClassGenerator {
 				
 			} else {
 				//Do a simple add b/c this has the same inner path as prev
-				buf.append("\t\tlist.add(\"").append(pr.getPropertyName()).append("\");").append(System.lineSeparator());
+				buf.append("\t\tlist.").append(buildAddMethodName(pr)).append("(\"").append(pr.getPropertyName()).append("\"")
+						.append(buildAccessorString(pr)).append(");").append(System.lineSeparator());
 			}
 			
 			
@@ -119,4 +127,57 @@ public class PropertyRegistrarClassGenerator {
 		
 		return buf.toString();
 	}
+	
+	/**
+	 * The accessor argument of a registration, which is a lambda returning
+	 * the static field of the Property, so it can be read w/o reflection.
+	 * 
+	 * @param reg The registration
+	 * @return The argument, starting w/ a comma, or an empty string if the
+	 * field cannot be referenced from the generated class.
+	 */
+	protected String buildAccessorString(PropertyRegistration reg) {
+		if (! compUnit.isFieldAccessible(reg.getCanonicalPropertyName())) {
+			return "";
+		}
+		
+		StringBuilder buf = new StringBuilder(", () -> ").append(compUnit.getRootCanonicalName());
+		
+		if (reg.getInnerPath() != null) {
+			for (String step : reg.getInnerPath()) {
+				buf.append(".").append(step);
+			}
+		}
+		
+		return buf.append(".").append(reg.getPropertyName()).toString();
+	}
+	
+	/**
+	 * Records the version of AndHow that build verified Properties were checked
+	 * against, since the builder chains were replayed against that version.
+	 * At runtime, verification is ignored if the version does not match.
+	 * 
+	 * @param regList The registrations
+	 * @return The setBuildVersion statement, or an empty string if no Property
+	 * was verified or the version is not known.
+	 */
+	protected String buildBuildVersionString(PropertyRegistrationList regList) {
+		String version = AndHowUtil.getAndHowVersion();
+		
+		if (version != null && regList.stream().anyMatch(PropertyRegistration::isBuildVerified)) {
+			return "\t\tlist.setBuildVersion(\"" + version + "\");" + System.lineSeparator();
+		} else {
+			return "";
+		}
+	}
+	
+	/**
+	 * The PropertyRegistrationList method used to add a registration.
+	 * 
+	 * @param reg The registration
+	 * @return 'addBuildVerified' for a Property verified at build time, 'add' otherwise.
+	 */
+	protected String buildAddMethodName(PropertyRegistration reg) {
+		return reg.isBuildVerified() ? "addBuildVerified" : "add";
+	}
 }
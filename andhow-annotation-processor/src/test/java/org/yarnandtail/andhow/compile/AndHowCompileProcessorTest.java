@@ -4,6 +4,8 @@ import org.yarnandtail.compile.*;
 import org.yarnandtail.andhow.service.PropertyRegistrar;
 import org.yarnandtail.andhow.service.PropertyRegistration;
 import java.io.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
 import java.util.*;
 import javax.tools.*;
@@ -85,6 +87,185 @@ public class AndHowCompileProcessorTest {
 		assertEquals(GEN_CLASS_NAME, genSvsFile.trim());
     }
 	
+	@Test
+	public void testPropertiesAreVerifiedAtBuildTime() throws Exception {
+		
+		final String CLASS_NAME = "org.yarnandtail.andhow.compile.BuildVerifySample";
+		final String GEN_CLASS_NAME = "org.yarnandtail.andhow.compile.$BuildVerifySample_AndHowProps";
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final MemoryFileManager manager = new MemoryFileManager(compiler);
+		TestClassLoader loader = new TestClassLoader(manager);
+		
+		Set<TestSource> input = new HashSet();
+		input.add(new TestSource(CLASS_NAME));
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, new ArrayList(), null, input);
+		task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+		assertTrue(task.call());
+		
+		PropertyRegistrar registrar = (PropertyRegistrar) loader.loadClass(GEN_CLASS_NAME).newInstance();
+		Map<String, Boolean> verified = new HashMap();
+		
+		for (PropertyRegistration reg : registrar.getRegistrationList()) {
+			verified.put(reg.getCanonicalPropertyName(), reg.isBuildVerified());
+		}
+		
+		assertEquals(5, verified.size());
+		assertTrue(verified.get(CLASS_NAME + ".STR"));
+		assertTrue(verified.get(CLASS_NAME + ".INT"));
+		assertFalse(verified.get(CLASS_NAME + ".DYNAMIC"));
+		assertTrue(verified.get(CLASS_NAME + ".Inner.REGEX"));
+		assertTrue(verified.get(CLASS_NAME + ".Shadowing.SHADOWED"));
+	}
+	
+	@Test
+	public void testAccessorsAreGeneratedWhenRequested() throws Exception {
+		
+		final String CLASS_NAME = "org.yarnandtail.andhow.compile.AccessorSample";
+		final String GEN_CLASS_NAME = "org.yarnandtail.andhow.compile.$AccessorSample_AndHowValues";
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final MemoryFileManager manager = new MemoryFileManager(compiler);
+		TestClassLoader loader = new TestClassLoader(manager);
+		
+		Set<TestSource> input = new HashSet();
+		input.add(new TestSource(CLASS_NAME));
+		
+		List<String> options = new ArrayList();
+		options.add("-A" + AndHowCompileProcessor.GENERATE_ACCESSORS_OPTION + "=true");
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, options, null, input);
+		task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+		assertTrue(task.call());
+		
+		Class<?> values = loader.loadClass(GEN_CLASS_NAME);
+		
+		assertEquals(int.class, values.getMethod("INT").getReturnType());
+		assertEquals(boolean.class, values.getMethod("FLAG").getReturnType());
+		assertEquals(Long.class, values.getMethod("LNG").getReturnType());
+		assertEquals(String.class, values.getMethod("STR").getReturnType());
+		
+		Class<?> inner = loader.loadClass(GEN_CLASS_NAME + "$Inner");
+		assertEquals(double.class, inner.getMethod("DBL").getReturnType());
+		
+		Class<?> deeper = loader.loadClass(GEN_CLASS_NAME + "$Inner$Deeper");
+		assertEquals(java.time.LocalDateTime.class, deeper.getMethod("WHEN").getReturnType());
+		
+		//Not verified at build time, so it may not be safe to return a primitive
+		Class<?> other = loader.loadClass(GEN_CLASS_NAME + "$Other");
+		assertEquals(Integer.class, other.getMethod("COUNT").getReturnType());
+		
+		for (Method m : values.getDeclaredMethods()) {
+			assertTrue(Modifier.isStatic(m.getModifiers()));
+		}
+	}
+	
+	@Test(expected = ClassNotFoundException.class)
+	public void testAccessorsAreNotGeneratedByDefault() throws Exception {
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final MemoryFileManager manager = new MemoryFileManager(compiler);
+		TestClassLoader loader = new TestClassLoader(manager);
+		
+		Set<TestSource> input = new HashSet();
+		input.add(new TestSource("org.yarnandtail.andhow.compile.AccessorSample"));
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, new ArrayList(), null, input);
+		task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+		assertTrue(task.call());
+		
+		loader.loadClass("org.yarnandtail.andhow.compile.$AccessorSample_AndHowValues");
+	}
+	
+	@Test(expected = RuntimeException.class)
+	public void testInvalidDefaultValueFailsTheBuild() throws Exception {
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final MemoryFileManager manager = new MemoryFileManager(compiler);
+		
+		Set<TestSource> input = new HashSet();
+		input.add(new TestSource("org.yarnandtail.andhow.compile.BuildVerifyInvalidSample"));
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, new ArrayList(), null, input);
+		task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+		task.call();
+	}
+	
+	@Test
+	public void testServiceFileIsMergedWithEarlierCompile() throws Exception {
+		
+		final String CLASS_PACKAGE = "org.yarnandtail.andhow.compile";
+		final String CLASS_NAME = CLASS_PACKAGE + ".PropertySample";
+		final String CLASS_SOURCE_PATH = "/" + CLASS_NAME.replace(".", "/") + ".java";
+		final String GEN_CLASS_NAME = CLASS_PACKAGE + ".$PropertySample_AndHowProps";
+		final String UNCHANGED_CLASS_NAME = CLASS_PACKAGE + ".__PropertySample_PropertyRegistrationForClass";
+		final String STALE_CLASS_NAME = CLASS_PACKAGE + ".$Removed_AndHowProps";
+		final String SVS_PATH = "/META-INF/services/org.yarnandtail.andhow.service.PropertyRegistrar";
+		
+		//The service file from an earlier compile, w/ a registrar for an unchanged
+		//class, one for a deleted class, one left over from a deleted class and
+		//one for the class recompiled now.
+		final String earlierSvsFile = UNCHANGED_CLASS_NAME + "\n" +
+				CLASS_PACKAGE + ".$Deleted_AndHowProps\n" + STALE_CLASS_NAME + "\n" + GEN_CLASS_NAME + "\n";
+		
+		//The registrar class still exists, but the Removed class it was generated from does not
+		final String staleSource = "package " + CLASS_PACKAGE + ";\n" +
+				"public class $Removed_AndHowProps extends org.yarnandtail.andhow.service.AbstractPropertyRegistrar {\n" +
+				"	public String getRootCanonicalName() { return \"" + CLASS_PACKAGE + ".Removed\"; }\n" +
+				"	public void addPropertyRegistrations(org.yarnandtail.andhow.service.PropertyRegistrationList list) {}\n" +
+				"}\n";
+		
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		final MemoryFileManager manager = new MemoryFileManager(compiler) {
+			boolean earlierFileRead = false;
+			
+			@Override
+			public TestFile getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) throws IOException {
+				if (! earlierFileRead && SVS_PATH.equals("/" + relativeName)) {
+					earlierFileRead = true;
+					return new TestResource(SVS_PATH, JavaFileObject.Kind.OTHER, earlierSvsFile);
+				}
+				
+				return super.getFileForOutput(location, packageName, relativeName, sibling);
+			}
+			
+			@Override
+			public FileObject getFileForInput(Location location, String packageName, String relativeName) throws IOException {
+				if (! earlierFileRead && SVS_PATH.equals("/" + relativeName)) {
+					earlierFileRead = true;
+					return new TestResource(SVS_PATH, JavaFileObject.Kind.OTHER, earlierSvsFile);
+				}
+				
+				return super.getFileForInput(location, packageName, relativeName);
+			}
+		};
+		TestClassLoader loader = new TestClassLoader(manager);
+		
+		Set<TestSource> input = new HashSet();
+		input.add(new TestSource(CLASS_NAME, JavaFileObject.Kind.SOURCE, IOUtil.getUTF8ResourceAsString(CLASS_SOURCE_PATH)));
+		input.add(new TestSource(STALE_CLASS_NAME, JavaFileObject.Kind.SOURCE, staleSource));
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, null, new ArrayList(), null, input);
+		task.setProcessors(Collections.singleton(new AndHowCompileProcessor()));
+		task.call();
+		
+		String genSvsFile = IOUtil.toString(loader.getResourceAsStream(SVS_PATH), Charset.forName("UTF-8"));
+		String[] lines = genSvsFile.trim().split("\\r?\\n");
+		
+		assertEquals(2, lines.length);
+		assertEquals(GEN_CLASS_NAME, lines[0]);
+		assertEquals(UNCHANGED_CLASS_NAME, lines[1]);
+	}
+	
+	@Test
+	public void testGetOriginatingClassName() {
+		assertEquals("com.bigcorp.MyConfig", AndHowCompileProcessor.getOriginatingClassName("com.bigcorp.$MyConfig_AndHowProps"));
+		assertEquals("MyConfig", AndHowCompileProcessor.getOriginatingClassName("$MyConfig_AndHowProps"));
+		assertNull(AndHowCompileProcessor.getOriginatingClassName("com.bigcorp.MyRegistrar"));
+		assertNull(AndHowCompileProcessor.getOriginatingClassName("com.bigcorp.$_AndHowProps"));
+	}
+	
 
     @Test
     public void testServiceRegistrationOfOneProdAndOneTestInit() throws Exception {
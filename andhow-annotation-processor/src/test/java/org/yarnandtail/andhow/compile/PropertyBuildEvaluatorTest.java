@@ -0,0 +1,33 @@
+package org.yarnandtail.andhow.compile;
+
+import java.util.List;
+import org.junit.Test;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+import static org.junit.Assert.*;
+
+/**
+ * 
+ * @author ericeverman
+ */
+public class PropertyBuildEvaluatorTest {
+	
+	@Test
+	public void testCheckValidProperty() {
+		assertTrue(PropertyBuildEvaluator.check(StrProp.builder().mustStartWith("a").defaultValue("abc").build()).isEmpty());
+		assertTrue(PropertyBuildEvaluator.check(IntProp.builder().build()).isEmpty());
+	}
+	
+	@Test
+	public void testCheckInvalidProperty() {
+		List<String> errors = PropertyBuildEvaluator.check(StrProp.builder().mustMatchRegex("[a-z").build());
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).contains("not configured correctly"));
+		
+		errors = PropertyBuildEvaluator.check(IntProp.builder().mustBeGreaterThan(5).defaultValue(1).build());
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).contains("default value"));
+	}
+
+}
@@ -144,6 +144,23 @@ public class PropertyRegistrarClassGeneratorTest {
 		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[4]);	//No inner path b/c in inherits from above
 	}
 	
+	@Test
+	public void testBuildRegistrationAddsString_Accessors() {
+		PropertyRegistrarClassGenerator gen = new PropertyRegistrarClassGenerator(
+				accessibleCompileUnit(), AndHowCompileProcessor.class, runDate);
+		String adds = gen.buildRegistrationAddsString();
+		String eachAdds[] = adds.trim().split("[\\t\\n\\r\\f]+");
+		
+		//Fields in Inner2 are not accessible, so are read reflectively
+		assertEquals(5, eachAdds.length);
+		assertEquals("list.add(\"" + PROP1_NAME + "\", () -> " + ROOT_QUAL_NAME + "." + PROP1_NAME + ");", eachAdds[0]);
+		assertEquals("list.add(\"" + PROP1_NAME + "\", () -> " + ROOT_QUAL_NAME + "." + INNER1_SIMP_NAME + "." + PROP1_NAME
+				+ ", \"" + INNER1_SIMP_NAME + "\");", eachAdds[1]);
+		assertEquals("list.add(\"" + PROP2_NAME + "\", () -> " + ROOT_QUAL_NAME + "." + INNER1_SIMP_NAME + "." + PROP2_NAME + ");", eachAdds[2]);
+		assertEquals("list.add(\"" + PROP1_NAME + "\", \"" + INNER1_SIMP_NAME + "\", \"" + INNER2_SIMP_NAME + "\");", eachAdds[3]);
+		assertEquals("list.add(\"" + PROP2_NAME + "\");", eachAdds[4]);
+	}
+	
 	/**
 	 * Basic gross test that the generated source is compilable
 	 */
@@ -222,6 +239,31 @@ public class PropertyRegistrarClassGeneratorTest {
 	}
 	
 	
+	/**
+	 * Same Properties as the complexCompileUnit, w/ all but those of Inner2
+	 * accessible from the generated class.
+	 */
+	public CompileUnit accessibleCompileUnit() {
+		CompileUnit cu = new CompileUnit(ROOT_QUAL_NAME);
+		
+		cu.addProperty(new SimpleVariable(PROP1_NAME, true, true));
+		cu.setFieldAccessible(PROP1_NAME);
+		
+		cu.pushType(INNER1_SIMP_NAME, true);
+		cu.addProperty(new SimpleVariable(PROP1_NAME, true, true));
+		cu.setFieldAccessible(PROP1_NAME);
+		cu.addProperty(new SimpleVariable(PROP2_NAME, true, true));
+		cu.setFieldAccessible(PROP2_NAME);
+		
+		cu.pushType(INNER2_SIMP_NAME, true);
+		cu.addProperty(new SimpleVariable(PROP1_NAME, true, true));
+		cu.addProperty(new SimpleVariable(PROP2_NAME, true, true));
+		cu.popType();
+		cu.popType();
+		
+		return cu;
+	}
+	
 	public CompileUnit complexCompileUnit() {
 		
 		
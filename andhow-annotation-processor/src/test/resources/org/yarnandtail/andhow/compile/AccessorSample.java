@@ -0,0 +1,31 @@
+package org.yarnandtail.andhow.compile;
+
+import org.yarnandtail.andhow.property.*;
+
+/**
+ * Properties of several types and nesting levels, for generating accessors.
+ * 
+ * @author ericeverman
+ */
+public class AccessorSample {
+	
+	//Never null, so accessed as primitives
+	static final IntProp INT = IntProp.builder().defaultValue(1).build();
+	static final FlagProp FLAG = FlagProp.builder().defaultValue(false).build();
+	
+	//May be null
+	static final LngProp LNG = LngProp.builder().build();
+	static final StrProp STR = StrProp.builder().defaultValue("abc").build();
+	
+	private static interface Inner {
+		DblProp DBL = DblProp.builder().defaultValue(1.5d).build();
+		
+		static interface Deeper {
+			LocalDateTimeProp WHEN = LocalDateTimeProp.builder().build();
+		}
+	}
+	
+	static interface Other {
+		IntProp COUNT = IntProp.builder().defaultValue(Integer.parseInt("2")).build();
+	}
+}
@@ -0,0 +1,15 @@
+package org.yarnandtail.andhow.compile;
+
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * A Property w/ a default value that does not pass its own validation, which
+ * is detected at compile time.
+ * 
+ * @author ericeverman
+ */
+public class BuildVerifyInvalidSample {
+	
+	static final StrProp STR = StrProp.builder().mustStartWith("x").defaultValue("abc").build();
+
+}
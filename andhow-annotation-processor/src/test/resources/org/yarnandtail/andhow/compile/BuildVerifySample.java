@@ -0,0 +1,38 @@
+package org.yarnandtail.andhow.compile;
+
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * Properties w/ valid configuration, some of which can be built and verified
+ * at compile time and some which cannot.
+ * 
+ * @author ericeverman
+ */
+public class BuildVerifySample {
+	
+	static final String PREFIX = "a";
+	
+	//Not a valid regex, but shadowed by the inherited Base.REGEX_PATTERN within Shadowing
+	static final String REGEX_PATTERN = "[a-z";
+	
+	//Verified:  All arguments are constants
+	static final StrProp STR = StrProp.builder().mustStartWith(PREFIX).defaultValue("a" + "bc").aliasIn("str").build();
+	static final IntProp INT = IntProp.builder().mustBeGreaterThan(-1).defaultValue(1).build();
+	
+	//Not verified:  The default value is not a constant
+	static final StrProp DYNAMIC = StrProp.builder().defaultValue(String.valueOf(System.nanoTime())).build();
+	
+	static interface Inner {
+		StrProp REGEX = StrProp.builder().mustMatchRegex("[a-z]+").defaultValue("abc").build();
+	}
+	
+	static interface Base {
+		String REGEX_PATTERN = "[a-z]+";
+	}
+	
+	//Verified:  The inherited constant wins over the one of the enclosing class
+	static interface Shadowing extends Base {
+		StrProp SHADOWED = StrProp.builder().mustMatchRegex(REGEX_PATTERN).defaultValue("abc").build();
+	}
+}
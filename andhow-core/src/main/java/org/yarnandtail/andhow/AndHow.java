@@ -4,7 +4,9 @@ import java.lang.reflect.Field;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AccessMetrics;
 import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.internal.AndHowStatus;
 import org.yarnandtail.andhow.internal.ConstructionProblem;
 import org.yarnandtail.andhow.util.AndHowUtil;
 
@@ -44,6 +46,12 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 
 	private volatile AndHowCore core;
 	
+	/** Returned by instance() within an AndHowScope if AndHow is not initialized */
+	private static final AndHow SCOPE_ONLY_INSTANCE = new AndHow();
+	
+	/** True if the MBean of the global instance is registered */
+	private static boolean mbeanRegistered;
+	
 	/** Stack trace and time of startup */
 	private static volatile Initialization initialization;
 	
@@ -52,6 +60,13 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 	 * re-entrant initialization
 	 */
 	private static AtomicBoolean initializing = new AtomicBoolean(false);
+	
+	/**
+	 * An instance w/o a core, which reads all values from the current scope.
+	 */
+	private AndHow() {
+		//no core
+	}
 
 	private AndHow(AndHowConfiguration config) throws AppFatalException {
 		synchronized (LOCK) {
@@ -96,6 +111,8 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 	public static AndHow instance() throws AppFatalException {
 		if (singleInstance != null && singleInstance.core != null) {
 			return singleInstance;
+		} else if (AndHowScope.getCurrentCore() != null) {
+			return (singleInstance != null) ? singleInstance : SCOPE_ONLY_INSTANCE;
 		} else {
 			synchronized (LOCK) {
 				if (singleInstance == null || singleInstance.core == null) {
@@ -137,6 +154,7 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 							initializing.getAndSet(true);	//Block re-entrant initialization
 							initialization = new Initialization();	//Record initialization time & place
 							singleInstance = new AndHow(config);	//Build new instance
+							updateMBean(singleInstance.core);
 							
 						} finally {
 							initializing.getAndSet(false);	//Done w/ init regardless of possible error
@@ -169,6 +187,7 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 							Field coreField = AndHow.class.getDeclaredField("core");
 							coreField.setAccessible(true);
 							coreField.set(singleInstance, newCore);
+							updateMBean(newCore);
 
 						} catch (Exception ex) {
 							
@@ -197,6 +216,35 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 		}	//end sync
 	}
 
+	/**
+	 * Registers the JMX MBean if Options.MBEAN is set for the new core, or
+	 * unregisters the MBean of an earlier core if it is not.
+	 * 
+	 * The MBean reads the current global core each time it is read, so it
+	 * does not hold cores that have been replaced.
+	 * 
+	 * @param newCore The new global core
+	 */
+	private static void updateMBean(AndHowCore newCore) {
+		if (newCore.getValue(Options.MBEAN)) {
+			AndHowStatus.register(AndHowStatus.OBJECT_NAME, AndHow::getGlobalCore);
+			mbeanRegistered = true;
+		} else if (mbeanRegistered) {
+			AndHowStatus.unregister(AndHowStatus.OBJECT_NAME);
+			mbeanRegistered = false;
+		}
+	}
+	
+	/**
+	 * The core of the global instance, w/o initializing it or checking scopes.
+	 * 
+	 * @return The core or null if AndHow is not initialized.
+	 */
+	private static AndHowCore getGlobalCore() {
+		AndHow instance = singleInstance;
+		return (instance != null) ? instance.core : null;
+	}
+	
 	/**
 	 * Determine if AndHow is initialized or not w/out forcing AndHow to load.
 	 *
@@ -232,39 +280,91 @@ public class AndHow implements StaticPropertyConfiguration, ValidatedValues {
 	//PropertyValues Interface
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
-		return core.isExplicitlySet(prop);
+		return getCore().isExplicitlySet(prop);
 	}
 
 	@Override
 	public <T> T getExplicitValue(Property<T> prop) {
-		return core.getExplicitValue(prop);
+		AndHowCore c = getCore();
+		AccessMetrics metrics = c.getAccessMetrics();
+		
+		if (metrics != null) {
+			metrics.recordAccess(prop);
+		}
+		
+		return c.getExplicitValue(prop);
 	}
 
 	@Override
 	public <T> T getValue(Property<T> prop) {
-		return core.getValue(prop);
+		AndHowCore c = getCore();
+		AccessMetrics metrics = c.getAccessMetrics();
+		
+		if (metrics != null) {
+			metrics.recordAccess(prop);
+		}
+		
+		return c.getValue(prop);
 	}
-
+	
+	/**
+	 * Counts of how many times each Property has been read.
+	 * 
+	 * Only enabled if Options.ACCESS_METRICS is set.
+	 * 
+	 * @return The metrics, or null if they are not enabled.
+	 */
+	public AccessMetrics getAccessMetrics() {
+		return getCore().getAccessMetrics();
+	}
+	
+	/**
+	 * The current core:  The core of the AndHowScope open on this thread, if
+	 * any, otherwise the global core.
+	 * 
+	 * @return The core, which is replaced if AndHow is reloaded during testing.
+	 * @throws IllegalStateException If no scope is open on this thread and
+	 * there is no global core, e.g. this instance was returned inside a scope
+	 * before AndHow was initialized and the scope has since been closed.
+	 */
+	AndHowCore getCore() {
+		AndHowCore scoped = AndHowScope.getCurrentCore();
+		
+		if (scoped != null) {
+			return scoped;
+		}
+		
+		AndHowCore c = core;
+		
+		if (c == null) {
+			throw new IllegalStateException("AndHow is not initialized and no AndHowScope is open "
+					+ "on this thread.  An AndHow instance returned within a scope cannot be used "
+					+ "after the scope is closed, unless AndHow has been initialized.");
+		}
+		
+		return c;
+	}
+	
 	//
 	//StaticPropertyConfiguration Interface
 	@Override
 	public List<EffectiveName> getAliases(Property<?> property) {
-		return core.getAliases(property);
+		return getCore().getAliases(property);
 	}
 
 	@Override
 	public String getCanonicalName(Property<?> prop) {
-		return core.getCanonicalName(prop);
+		return getCore().getCanonicalName(prop);
 	}
 
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		return core.getGroupForProperty(prop);
+		return getCore().getGroupForProperty(prop);
 	}
 
 	@Override
 	public NamingStrategy getNamingStrategy() {
-		return core.getNamingStrategy();
+		return getCore().getNamingStrategy();
 	}
 	
 	/**
@@ -0,0 +1,313 @@
+package org.yarnandtail.andhow;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.AccessMetrics;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.internal.AndHowStatus;
+import org.yarnandtail.andhow.internal.ConstructionProblem;
+import org.yarnandtail.andhow.service.PropertyRegistrarLoader;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * An AndHow instance that is independent of the global AndHow singleton, w/
+ * its own configuration, its own Property discovery and its own startup.
+ * 
+ * This is intended for app servers where several webapps share the AndHow jar:
+ * Each webapp uses the context of its own classloader, which discovers the
+ * AndHowInit and Properties visible to that classloader.  Each context has
+ * its own lock, so the startup of one context does not block another.
+ * Values are read from a context directly, or by opening a scope so that
+ * Property.getValue() reads from the context on the current thread:
+ * <pre>{@code
+ * AndHowContext context = AndHowContext.forClassLoader(webappClassLoader);
+ * try (AndHowScope scope = context.open()) {
+ *	...MyConfig.PORT.getValue() reads from the webapp context...
+ * }
+ * }</pre>
+ * Contexts returned by forClassLoader() are held until remove() is called,
+ * which should be done when the webapp is undeployed:  A context references
+ * the Properties of the webapp, so the classloader cannot be unloaded while
+ * the context is held.  A context created w/ create() is not held by AndHow.
+ * 
+ * If Options.MBEAN is set, a context returned by forClassLoader() registers
+ * its MBean w/ a context key in its name (see AndHowStatus.getObjectName()),
+ * which remove() unregisters.  Contexts created w/ create() do not register
+ * an MBean, since nothing would unregister it.
+ * 
+ * This class is thread safe.
+ * 
+ * @author eeverman
+ */
+public final class AndHowContext implements ValidatedValues {
+	
+	/**
+	 * Contexts by classloader.  Not a WeakHashMap:  Each context references its
+	 * classloader, so its entry could never be collected.  Entries are removed
+	 * by remove().
+	 */
+	private static final Map<ClassLoader, AndHowContext> CONTEXTS = new HashMap();
+	
+	private final ClassLoader classLoader;
+	private final boolean held;
+	private final Object lock = new Object();
+	
+	/** The name of the registered MBean, or null if none is registered */
+	private volatile String mbeanName;
+	
+	private volatile AndHowCore core;
+	
+	/** Stack trace and time of startup */
+	private volatile AndHow.Initialization initialization;
+	
+	/**
+	 * True only during initialization to detect re-entrant initialization
+	 */
+	private final AtomicBoolean initializing = new AtomicBoolean(false);
+	
+	private AndHowContext(ClassLoader classLoader, boolean held) {
+		this.classLoader = classLoader;
+		this.held = held;
+	}
+	
+	/**
+	 * The context of a classloader, creating it if it does not exist.
+	 * 
+	 * Creating the context does not initialize it.
+	 * 
+	 * @param classLoader The classloader to discover configuration and Properties from.
+	 * @return The same context for each call w/ the same classloader.
+	 */
+	public static AndHowContext forClassLoader(ClassLoader classLoader) {
+		if (classLoader == null) {
+			throw new IllegalArgumentException("The classloader of a context cannot be null");
+		}
+		
+		synchronized (CONTEXTS) {
+			AndHowContext context = CONTEXTS.get(classLoader);
+			
+			if (context == null) {
+				context = new AndHowContext(classLoader, true);
+				CONTEXTS.put(classLoader, context);
+			}
+			
+			return context;
+		}
+	}
+	
+	/**
+	 * Creates a new context that is not held by AndHow.
+	 * 
+	 * The caller is responsible for keeping the context and passing it to the
+	 * code that needs it.
+	 * 
+	 * @param classLoader The classloader to discover configuration and Properties
+	 * from, or null for the classloader that loaded AndHow.
+	 * @return A new, uninitialized context
+	 */
+	public static AndHowContext create(ClassLoader classLoader) {
+		return new AndHowContext(classLoader, false);
+	}
+	
+	/**
+	 * Removes the context of a classloader, if there is one.
+	 * 
+	 * The MBean of the context is unregistered and the Properties discovered
+	 * from the classloader are removed from the PropertyRegistrarLoader cache,
+	 * so nothing held by AndHow references the classloader afterwards.
+	 * Scopes already opened on the context continue to work.
+	 * 
+	 * @param classLoader The classloader
+	 * @return The removed context or null if there was none.
+	 */
+	public static AndHowContext remove(ClassLoader classLoader) {
+		AndHowContext context;
+		
+		if (classLoader == null) return null;	//Contexts are never held for null
+		
+		synchronized (CONTEXTS) {
+			context = CONTEXTS.remove(classLoader);
+		}
+		
+		if (context != null && context.mbeanName != null) {
+			AndHowStatus.unregister(context.mbeanName);
+			context.mbeanName = null;
+		}
+		
+		PropertyRegistrarLoader.invalidateCache(classLoader);
+		
+		return context;
+	}
+	
+	/**
+	 * The classloader that configuration and Properties are discovered from.
+	 * 
+	 * @return The classloader, or null if the one that loaded AndHow is used.
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+	
+	/**
+	 * Finds and creates a new instance of the <code>AndHowConfiguration</code>
+	 * that this context would be initialized with, so it can be modified and
+	 * passed to initialize().
+	 * 
+	 * @return A new configuration
+	 */
+	public AndHowConfiguration<? extends AndHowConfiguration> findConfig() {
+		return AndHowUtil.findConfiguration(StdConfig.instance(), classLoader);
+	}
+	
+	/**
+	 * Initializes this context w/ a specific configuration.
+	 * 
+	 * If the configuration discovers Properties and no classloader has been
+	 * set on it, Properties are discovered from the classloader of this context.
+	 * 
+	 * @param config The configuration
+	 * @return This context
+	 * @throws AppFatalException If the context is already initialized, the
+	 * initialization is re-entrant or the configuration is invalid.
+	 */
+	public AndHowContext initialize(AndHowConfiguration config) throws AppFatalException {
+		synchronized (lock) {
+			
+			if (core != null) {
+				throw new AppFatalException("Cannot initialize an AndHowContext that is already initialized.");
+			} else if (initializing.get()) {
+				throw new AppFatalException(
+						new ConstructionProblem.InitiationLoopException(initialization, new AndHow.Initialization()));
+			}
+			
+			if (config instanceof BaseConfig && ((BaseConfig) config).getClassLoader() == null) {
+				((BaseConfig) config).setClassLoader(classLoader);
+			}
+			
+			try {
+				
+				initializing.getAndSet(true);	//Block re-entrant initialization
+				initialization = new AndHow.Initialization();	//Record initialization time & place
+				core = new AndHowCore(
+						config.getNamingStrategy(),
+						config.buildLoaders(),
+						config.getRegisteredGroups());
+				
+				if (held && core.getValue(Options.MBEAN)) {
+					mbeanName = AndHowStatus.getObjectName(classLoader);
+					AndHowStatus.register(mbeanName, () -> core);
+				}
+				
+			} finally {
+				initializing.getAndSet(false);	//Done w/ init regardless of possible error
+			}
+			
+			return this;
+		}
+	}
+	
+	/**
+	 * Determine if this context is initialized w/out forcing it to load.
+	 * 
+	 * @return True if initialized
+	 */
+	public boolean isInitialized() {
+		return core != null;
+	}
+	
+	/**
+	 * Get the stacktrace of where this context was initialized.
+	 * 
+	 * @return A stacktrace if it is available or an empty stacktrace array if
+	 * it is not available or the context is not yet initialized.
+	 */
+	public StackTraceElement[] getInitializationTrace() {
+		AndHow.Initialization init = initialization;
+		
+		if (init != null) {
+			return init.getStackTrace();
+		} else {
+			return new StackTraceElement[0];
+		}
+	}
+	
+	/**
+	 * The core of this context, initializing the context w/ its discovered
+	 * configuration if needed.
+	 * 
+	 * Once initialized, this does not lock.
+	 * 
+	 * @return The core
+	 * @throws AppFatalException If the context fails to initialize.
+	 */
+	public AndHowCore getCore() throws AppFatalException {
+		AndHowCore c = core;
+		
+		if (c != null) {
+			return c;
+		}
+		
+		synchronized (lock) {
+			if (core == null) {
+				initialize(findConfig());
+			}
+			
+			return core;
+		}
+	}
+	
+	/**
+	 * Opens a scope on the current thread that reads values from this context,
+	 * initializing the context if needed.
+	 * 
+	 * @return The scope, which must be closed by this thread.
+	 * @throws AppFatalException If the context fails to initialize.
+	 */
+	public AndHowScope open() throws AppFatalException {
+		return AndHowScope.open(getCore());
+	}
+	
+	/**
+	 * Counts of how many times each Property has been read from this context.
+	 * 
+	 * Only enabled if Options.ACCESS_METRICS is set.
+	 * 
+	 * @return The metrics, or null if they are not enabled.
+	 */
+	public AccessMetrics getAccessMetrics() {
+		return getCore().getAccessMetrics();
+	}
+	
+	//
+	//ValidatedValues Interface
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		return getCore().isExplicitlySet(prop);
+	}
+	
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		AndHowCore c = getCore();
+		AccessMetrics metrics = c.getAccessMetrics();
+		
+		if (metrics != null) {
+			metrics.recordAccess(prop);
+		}
+		
+		return c.getExplicitValue(prop);
+	}
+	
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		AndHowCore c = getCore();
+		AccessMetrics metrics = c.getAccessMetrics();
+		
+		if (metrics != null) {
+			metrics.recordAccess(prop);
+		}
+		
+		return c.getValue(prop);
+	}
+
+}
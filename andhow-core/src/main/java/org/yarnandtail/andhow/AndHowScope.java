@@ -0,0 +1,105 @@
+package org.yarnandtail.andhow;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.yarnandtail.andhow.internal.AndHowCore;
+
+/**
+ * Binds an AndHowCore to the current thread, so that Property values read on
+ * that thread come from it instead of the single global core.
+ * 
+ * This is intended for testing:  Each test can read its own configuration,
+ * so tests can run in parallel.  Scopes are opened and closed like this:
+ * <pre>{@code
+ * try (AndHowScope scope = AndHowScope.open(myTestCore)) {
+ *	...MyConfig.PORT.getValue() reads from myTestCore...
+ * }
+ * }</pre>
+ * Scopes may be nested, but must be closed in the reverse order they were
+ * opened and by the thread that opened them, which try-with-resources does.
+ * A scope is not inherited by other threads, including threads of a pool,
+ * which must each open their own scope.
+ * 
+ * If AndHow has not been initialized, {@code AndHow.instance()} called within
+ * a scope returns an instance that is only usable within scopes, rather than
+ * initializing AndHow.
+ * 
+ * Every read of a value checks for an open scope.  While no scope is open
+ * anywhere, that is one volatile read of the open scope counter, which is
+ * cheap but not free.  System properties are not scoped, so tests that set
+ * them cannot run in parallel.
+ * 
+ * @author eeverman
+ */
+public final class AndHowScope implements AutoCloseable {
+	
+	/** Number of open scopes, across all threads */
+	private static final AtomicInteger OPEN_COUNT = new AtomicInteger();
+	
+	/** The core of the innermost open scope of each thread */
+	private static final ThreadLocal<AndHowCore> CURRENT = new ThreadLocal();
+	
+	private final AndHowCore previous;
+	private final Thread thread;
+	private boolean closed;
+	
+	private AndHowScope(AndHowCore previous, Thread thread) {
+		this.previous = previous;
+		this.thread = thread;
+	}
+	
+	/**
+	 * Opens a new scope on the current thread.
+	 * 
+	 * @param core The core to read values from while the scope is open
+	 * @return The scope, which must be closed.
+	 */
+	public static AndHowScope open(AndHowCore core) {
+		if (core == null) {
+			throw new IllegalArgumentException("The core of a scope cannot be null");
+		}
+		
+		AndHowScope scope = new AndHowScope(CURRENT.get(), Thread.currentThread());
+		CURRENT.set(core);
+		OPEN_COUNT.incrementAndGet();
+		return scope;
+	}
+	
+	/**
+	 * The core of the innermost scope open on the current thread.
+	 * 
+	 * @return The core, or null if no scope is open on this thread.
+	 */
+	public static AndHowCore getCurrentCore() {
+		if (OPEN_COUNT.get() == 0) {
+			return null;
+		}
+		
+		return CURRENT.get();
+	}
+	
+	/**
+	 * Closes this scope, restoring the scope that was open when it was opened,
+	 * if any.  Closing a scope more than once has no effect.
+	 * 
+	 * @throws IllegalStateException If called from another thread.
+	 */
+	@Override
+	public void close() {
+		if (closed) return;
+		
+		if (Thread.currentThread() != thread) {
+			throw new IllegalStateException("An AndHowScope must be closed by the thread that opened it");
+		}
+		
+		closed = true;
+		
+		if (previous != null) {
+			CURRENT.set(previous);
+		} else {
+			CURRENT.remove();
+		}
+		
+		OPEN_COUNT.decrementAndGet();
+	}
+
+}
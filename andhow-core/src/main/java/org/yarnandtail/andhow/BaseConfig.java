@@ -55,6 +55,9 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 	
 	protected NamingStrategy naming = new CaseInsensitiveNaming();
 	
+	//Classloader to discover registered Properties from, or null for the default
+	protected ClassLoader classLoader;
+	
 	protected BaseConfig() {
 		standardLoaders = getDefaultLoaderList();
 	}
@@ -151,11 +154,37 @@ public abstract class BaseConfig<C extends BaseConfig<C>> implements AndHowConfi
 		return loaders;
 	}
 
+	/**
+	 * Sets the classloader used to discover the registered Properties.
+	 * 
+	 * By default, Properties are discovered from the classloader that loaded
+	 * AndHow, which is not the classloader of a webapp if the AndHow jar is
+	 * shared by several webapps in an app server.
+	 * 
+	 * The Properties discovered are cached per classloader, so when the
+	 * classloader is discarded, {@code PropertyRegistrarLoader.invalidateCache}
+	 * must be called for it, which {@code AndHowContext.remove} does.
+	 * 
+	 * @param classLoader The classloader, or null for the default.
+	 * @return This configuration
+	 */
+	public C setClassLoader(ClassLoader classLoader) {
+		this.classLoader = classLoader;
+		return (C) this;
+	}
+	
+	/**
+	 * The classloader used to discover the registered Properties.
+	 * 
+	 * @return The classloader, or null if the default is used.
+	 */
+	public ClassLoader getClassLoader() {
+		return classLoader;
+	}
+	
 	@Override
 	public List<GroupProxy> getRegisteredGroups() {
-		PropertyRegistrarLoader registrar = new PropertyRegistrarLoader();
-		List<GroupProxy> registeredGroups = registrar.getGroups();
-		return registeredGroups;
+		return PropertyRegistrarLoader.getCachedGroups(classLoader);
 	}
 	
 	@Override
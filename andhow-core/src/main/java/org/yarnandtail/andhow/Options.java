@@ -1,6 +1,7 @@
 package org.yarnandtail.andhow;
 
 import org.yarnandtail.andhow.property.FlagProp;
+import org.yarnandtail.andhow.property.IntProp;
 import org.yarnandtail.andhow.property.StrProp;
 
 /**
@@ -30,4 +31,47 @@ public interface Options {
 					+ "The special 'java.io.tmpdir' string is recognized as the current Java temp directory.")
 			.helpText("All paths should be specified w/ forward slashes, even on windows systems.")
 			.build();
+	FlagProp VALIDATE_IN_PARALLEL = FlagProp.builder().aliasIn("AHValidateInParallel")
+			.desc("Validates Property values in parallel during startup.")
+			.helpText("Only helps for applications with many Properties and expensive validation. "
+					+ "It is read once before any values are loaded, "
+					+ "so it must be set as a system property or env. variable. "
+					+ "Custom Validators must be thread safe to use this option.")
+			.build();
+	StrProp MAPPED_EXPORT_FILE = StrProp.builder().aliasIn("AHMappedExportFile")
+			.desc("Path to the file that Groups exported w/ the MappedFileExporter are written to.")
+			.helpText("Required if any Group uses the MappedFileExporter.  Other processes on the same host "
+					+ "can read the file w/ a MappedFileReader.  "
+					+ "The special 'java.io.tmpdir' string is recognized as the current Java temp directory.")
+			.build();
+	StrProp JSON_REPORT = StrProp.builder().aliasIn("AHJsonReport")
+			.desc("Writes a startup report as JSON lines to 'stdout', 'stderr' or appends it to a file path.")
+			.helpText("The report includes all startup problems, which loader each value came from and startup timings.  "
+					+ "When set, it replaces the text problem report on System.err.  "
+					+ "If AndHow itself is misconfigured, values are not loaded, so only a system property w/ its name or alias is used.")
+			.build();
+	FlagProp RETAIN_LOADER_VALUES = FlagProp.builder().aliasIn("AHRetainLoaderValues")
+			.desc("Keeps every value loaded by each loader after startup, not just the effective values.")
+			.helpText("By default, only the effective value of each Property and the loader it came from are kept.  "
+					+ "Values overridden by earlier loaders are dropped to save memory.  "
+					+ "Set this to keep them for debugging.")
+			.build();
+	FlagProp ACCESS_METRICS = FlagProp.builder().aliasIn("AHAccessMetrics")
+			.desc("Counts how many times the value of each Property is read by the application.")
+			.helpText("The counts are available from AndHow.instance().getAccessMetrics() "
+					+ "and show which Properties are never read.")
+			.build();
+	IntProp ACCESS_METRICS_LOG_SECONDS = IntProp.builder().aliasIn("AHAccessMetricsLogSeconds").mustBeGreaterThan(0)
+			.desc("If ACCESS_METRICS is set, logs the read count of each Property at this interval, in seconds.")
+			.build();
+	FlagProp MBEAN = FlagProp.builder().aliasIn("AHMBean")
+			.desc("Registers a JMX MBean named 'org.yarnandtail.andhow:type=AndHow' w/ the effective values and load details.")
+			.helpText("Values of Properties w/ names matching MBEAN_REDACT_REGEX are masked.  "
+					+ "The MBean of an AndHowContext has an added 'context' key in its name.")
+			.build();
+	StrProp MBEAN_REDACT_REGEX = StrProp.builder().aliasIn("AHMBeanRedactRegex")
+			.defaultValue("(?i).*(password|passwd|secret|token|credential|key).*")
+			.desc("Regex of Property canonical names whose values are masked in the JMX MBean.")
+			.helpText("The whole name must match.  To show all values, set it to a regex that matches no name, like '^$'.")
+			.build();
 }
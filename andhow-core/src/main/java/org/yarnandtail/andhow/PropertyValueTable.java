@@ -0,0 +1,114 @@
+package org.yarnandtail.andhow;
+
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.internal.AccessMetrics;
+import org.yarnandtail.andhow.internal.AndHowCore;
+
+/**
+ * Reads Property values by ordinal for a generated accessor class.
+ * 
+ * When the annotation processor is run w/ the andhow.generateAccessors option,
+ * it generates a {@code $<Class>_AndHowValues} class next to each registrar,
+ * w/ a static, typed method for each Property.  Each of those methods reads
+ * its value from one of these tables by index, e.g.:
+ * <pre>{@code
+ * private static final PropertyValueTable VALUE_TABLE =
+ *		new PropertyValueTable("com.bigcorp.Config.PORT");
+ * public static int PORT() { return (Integer) VALUE_TABLE.get(0); }
+ * }</pre>
+ * The canonical names are resolved to ordinals once and cached by the AndHow
+ * core.  The table also keeps the ordinals of the last core it read from, so
+ * a read from the same core is an array lookup for the ordinal and one for
+ * the value.  Only when the core changes, e.g. in a test scope, are the
+ * ordinals looked up in the core's cache.  The lookup is by name
+ * because a Property may be declared in a private inner class that the
+ * generated class cannot reference.
+ * 
+ * This class is thread safe.
+ * 
+ * @author eeverman
+ */
+public final class PropertyValueTable {
+	
+	private final String[] canonicalNames;
+	
+	/** The ordinals in the last core read from */
+	private volatile Snapshot snapshot;
+	
+	/**
+	 * New instance.
+	 * 
+	 * @param canonicalNames The canonical names of the Properties, in the
+	 * order of the indexes passed to get().
+	 */
+	public PropertyValueTable(String... canonicalNames) {
+		this.canonicalNames = canonicalNames;
+	}
+	
+	/**
+	 * The effective value of a Property, initializing AndHow if needed.
+	 * 
+	 * @param index The index of the Property in the names passed to the constructor.
+	 * @return The value, which may be null.
+	 * @throws AppFatalException If AndHow fails to start or the Property is
+	 * not registered w/ AndHow.
+	 */
+	public Object get(int index) throws AppFatalException {
+		AndHowCore core = AndHow.instance().getCore();
+		Snapshot snap = snapshot;
+		
+		if (snap == null || snap.core != core) {
+			snap = new Snapshot(core, core.getOrdinals(this));
+			snapshot = snap;
+		}
+		
+		int ordinal = snap.ordinals[index];
+		
+		if (ordinal < 0) {
+			throw new AppFatalException("The Property '" + canonicalNames[index] + "' is not registered "
+					+ "w/ AndHow, so its value cannot be read from a generated accessor.");
+		}
+		
+		AccessMetrics metrics = core.getAccessMetrics();
+		
+		if (metrics != null) {
+			metrics.recordAccess(core.getProperties().get(ordinal));
+		}
+		
+		return core.getValue(ordinal);
+	}
+	
+	/**
+	 * The number of Properties in the table.
+	 * 
+	 * @return The count
+	 */
+	public int size() {
+		return canonicalNames.length;
+	}
+	
+	/**
+	 * The canonical name of a Property in the table.
+	 * 
+	 * @param index The index of the Property
+	 * @return The canonical name
+	 */
+	public String getCanonicalName(int index) {
+		return canonicalNames[index];
+	}
+	
+	/**
+	 * The ordinals of the table in one core, replaced as a unit so a reader
+	 * never pairs the ordinals of one core w/ another core.
+	 */
+	private static final class Snapshot {
+		final AndHowCore core;
+		final int[] ordinals;
+		
+		Snapshot(AndHowCore core, int[] ordinals) {
+			this.core = core;
+			this.ordinals = ordinals;
+		}
+	}
+
+}
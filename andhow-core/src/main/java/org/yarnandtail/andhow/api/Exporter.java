@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.api;
 
+import java.util.List;
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 
 /**
@@ -56,6 +57,23 @@ public interface Exporter {
 	 */
 	void export(GroupProxy group, StaticPropertyConfigurationInternal definition, ValidatedValues values);
 	
+	/**
+	 * Exports several Groups as a single batch.
+	 * 
+	 * Exporters that write to a shared destination can override this to
+	 * collect all names and values first and then write them in one operation.
+	 * The default implementation exports each group in turn.
+	 * 
+	 * @param groups
+	 * @param definition
+	 * @param values
+	 */
+	default void export(List<GroupProxy> groups, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		for (GroupProxy group : groups) {
+			export(group, definition, values);
+		}
+	}
+	
 	public static enum EXPORT_CANONICAL_NAME {
 		ALWAYS, ONLY_IF_NO_OUT_ALIAS, NEVER;
 	}
@@ -45,6 +45,36 @@ public interface Loader {
 	LoaderValues load(StaticPropertyConfigurationInternal runtimeDef,
 			ValidatedValuesWithContext existingValues);
 	
+	/**
+	 * Loads property values from a configuration source, pushing each value
+	 * and LoaderProblem into the passed ValueSink as it is found.
+	 * 
+	 * This is the method AndHow uses during startup.  The sink validates and
+	 * merges each value as it arrives, so there is no need to build up a
+	 * LoaderValues instance.
+	 * 
+	 * The default implementation calls load(runtimeDef, existingValues) and
+	 * pushes the resulting values and problems to the sink.  Loaders that can
+	 * push values as they find them should override this method.
+	 * 
+	 * @param runtimeDef
+	 * @param existingValues
+	 * @param sink Receives the loaded values and problems.
+	 */
+	default void load(StaticPropertyConfigurationInternal runtimeDef,
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
+		
+		LoaderValues result = load(runtimeDef, existingValues);
+		
+		for (ValidatedValue value : result.getValues()) {
+			sink.addValue(value);
+		}
+		
+		for (Problem problem : result.getProblems()) {
+			sink.addProblem(problem);
+		}
+	}
+	
 	/**
 	 * Returns a PropertyGroup used to globally configure a class of Loader.
 	 *
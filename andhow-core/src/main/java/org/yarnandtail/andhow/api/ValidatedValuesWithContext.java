@@ -30,6 +30,12 @@ public interface ValidatedValuesWithContext extends ValidatedValues {
 	
 	/**
 	 * A sequential list of all loaders and all its values, even overwritten ones.
+	 * 
+	 * After startup, AndHow only keeps the effective values and the loader each
+	 * came from, unless Options.RETAIN_LOADER_VALUES is set.  So by default, the
+	 * values of AndHow itself only include the effective values of each loader
+	 * and no Problems.
+	 * 
 	 * @return 
 	 */
 	List<LoaderValues> getAllLoaderValues();
@@ -41,6 +47,11 @@ public interface ValidatedValuesWithContext extends ValidatedValues {
 	 * This is mostly for reporting and debugging to show the user what the loader
 	 * was able to find and load.
 	 * 
+	 * After startup, AndHow only keeps the effective values and the loader each
+	 * came from, unless Options.RETAIN_LOADER_VALUES is set.  So by default, the
+	 * values of AndHow itself only include the effective values of the loader
+	 * and no Problems, the same as getEffectiveValuesLoadedByLoader().
+	 * 
 	 * @param loader
 	 * @return May return null if the passed Loader is not in use by AndHow.
 	 */
@@ -0,0 +1,42 @@
+package org.yarnandtail.andhow.api;
+
+/**
+ * Receives the values and problems found by a single Loader as it loads them.
+ * 
+ * A Loader pushes each value into the sink as soon as it is created, rather
+ * than collecting all of its values into a list first.  This allows the sink
+ * to check, validate and merge each value with the values from other loaders
+ * in a single pass.
+ * 
+ * The sink keeps track of which Loader each value and problem came from, so
+ * a Loader does not need to add that context.
+ * 
+ * @author eeverman
+ */
+public interface ValueSink {
+	
+	/**
+	 * The Loader that is pushing values to this sink.
+	 * 
+	 * @return The Loader, never null.
+	 */
+	Loader getLoader();
+	
+	/**
+	 * Adds a Property value created by the Loader.
+	 * 
+	 * If the Loader already added a value for the same Property, the value is
+	 * not added and a DuplicatePropertyLoaderProblem is recorded instead.
+	 * 
+	 * @param value The value to add, which must not be null.
+	 * @return True if the value was added, false if it was a duplicate.
+	 */
+	boolean addValue(ValidatedValue value);
+	
+	/**
+	 * Adds a loader level problem, such as an unparsable value.
+	 * 
+	 * @param problem The problem to add.
+	 */
+	void addProblem(Problem problem);
+}
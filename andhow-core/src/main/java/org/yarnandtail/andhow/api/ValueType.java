@@ -1,5 +1,7 @@
 package org.yarnandtail.andhow.api;
 
+import java.nio.charset.StandardCharsets;
+
 /**
  * The type of a Property.
  * 
@@ -32,6 +34,47 @@ public interface ValueType<T> {
 	 */
 	T parse(String sourceValue) throws ParsingException;
 	
+	/**
+	 * Attempts to parse a span of characters into the destinationType.
+	 * 
+	 * This has the same behavior as parse(String) for the characters in the
+	 * range <code>[start, end)</code>, but lets loaders that read from a buffer
+	 * or a slice of a larger line skip creating a String for each value.
+	 * Implementations may parse directly from the CharSequence.  This default
+	 * implementation creates a String from the span and calls parse(String).
+	 * 
+	 * @param sourceValue The characters containing the value
+	 * @param start Index of the first character of the value, inclusive
+	 * @param end Index of the end of the value, exclusive
+	 * @return The same as parse(String) for the span, or null if sourceValue is null.
+	 * @throws ParsingException for any type of failure.
+	 */
+	default T parse(CharSequence sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue == null) return null;
+		
+		return parse(sourceValue.subSequence(start, end).toString());
+	}
+	
+	/**
+	 * Attempts to parse a span of UTF-8 encoded bytes into the destinationType.
+	 * 
+	 * This has the same behavior as parse(String) for the bytes in the
+	 * range <code>[start, end)</code>, decoded as UTF-8.  Implementations may
+	 * parse directly from the bytes.  This default implementation decodes the
+	 * span to a String and calls parse(String).
+	 * 
+	 * @param sourceValue The bytes containing the value
+	 * @param start Index of the first byte of the value, inclusive
+	 * @param end Index of the end of the value, exclusive
+	 * @return The same as parse(String) for the span, or null if sourceValue is null.
+	 * @throws ParsingException for any type of failure.
+	 */
+	default T parse(byte[] sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue == null) return null;
+		
+		return parse(new String(sourceValue, start, end - start, StandardCharsets.UTF_8));
+	}
+	
 	/**
 	 * Converts an instance of the destination type to string.
 	 * 
@@ -2,7 +2,10 @@ package org.yarnandtail.andhow.export;
 		
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.yarnandtail.andhow.api.*;
 
 /**
@@ -50,32 +53,103 @@ public abstract class BaseExporter implements Exporter {
 	
 	@Override
 	public void export(StaticPropertyConfigurationInternal definition, ValidatedValues values) {
-		for (GroupProxy pg : definition.getPropertyGroups()) {
-			export(pg, definition, values);
-		}
+		export(definition.getPropertyGroups(), definition, values);
 	}
 
 	@Override
 	public void export(GroupProxy group, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
-		List<Property<?>> props = definition.getPropertiesForGroup(group);
-		
-		for (Property<?> prop : props) {
-			export(prop, definition, values);
+		export(Collections.singletonList(group), definition, values);
+	}
+	
+	@Override
+	public void export(List<GroupProxy> groups, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		for (GroupProxy group : groups) {
+			for (Property<?> prop : definition.getPropertiesForGroup(group)) {
+				export(prop, definition, values);
+			}
 		}
 	}
 	
 	public void export(Property<?> property, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		for (String name : getExportNames(property, definition)) {
+			doExport(name, property, definition, values);
+		}
+	}
+	
+	/**
+	 * Collects the export names and String values of all the Properties in the
+	 * groups, for exporters that write all values in a single operation.
+	 * 
+	 * Each value is converted to a String once, even if exported under several
+	 * names.  Properties with a null value are not included.
+	 * 
+	 * @param groups
+	 * @param definition
+	 * @param values
+	 * @return A map of export names to values, in export order.
+	 */
+	protected Map<String, String> collectExports(List<GroupProxy> groups,
+			StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		
+		Map<String, String> exports = new LinkedHashMap();
+		
+		for (GroupProxy group : groups) {
+			for (Property<?> prop : definition.getPropertiesForGroup(group)) {
+				collectExport(prop, definition, values, exports);
+			}
+		}
+		
+		return exports;
+	}
+	
+	private <T> void collectExport(Property<T> property, StaticPropertyConfigurationInternal definition,
+			ValidatedValues values, Map<String, String> exports) {
+		
+		List<String> names = getExportNames(property, definition);
+		
+		if (names.isEmpty()) {
+			return;
+		}
 		
-		List<String> names = new ArrayList();
+		T value = values.getValue(property);
 		
-		boolean exportCanon = false;
-		boolean exportAlias = false;
-		boolean hasOut = hasOutAlias(property, definition);
+		if (value != null) {
+			String strValue = property.getValueType().toString(value);
+			
+			for (String name : names) {
+				exports.put(name, strValue);
+			}
+		}
+	}
+	
+	/**
+	 * Finds the names a Property should be exported as, based on the canonical
+	 * name and out alias options.
+	 * 
+	 * The aliases are read in a single pass, which finds both the out alias
+	 * names and whether there are any.
+	 * 
+	 * @param property
+	 * @param definition
+	 * @return The names to export as, in order, canonical name first.  May be empty.
+	 */
+	protected List<String> getExportNames(Property<?> property, StaticPropertyConfigurationInternal definition) {
 		
-		if (EXPORT_OUT_ALIASES.ALWAYS.equals(includeOutAlias) && hasOut) {
-			exportAlias = true;
+		List<String> outNames = null;
+		
+		for (EffectiveName a : definition.getAliases(property)) {
+			if (a.isOut()) {
+				if (outNames == null) {
+					outNames = new ArrayList(2);
+				}
+				outNames.add(a.getActualName());
+			}
 		}
 		
+		boolean hasOut = outNames != null;
+		boolean exportAlias = EXPORT_OUT_ALIASES.ALWAYS.equals(includeOutAlias) && hasOut;
+		boolean exportCanon;
+		
 		if (EXPORT_CANONICAL_NAME.ALWAYS.equals(includeCanonical)) {
 			exportCanon = true;
 		} else if (EXPORT_CANONICAL_NAME.NEVER.equals(includeCanonical)) {
@@ -84,20 +158,16 @@ public abstract class BaseExporter implements Exporter {
 			exportCanon = !hasOut;
 		}
 		
-		if (exportCanon) {
-			names.add(definition.getCanonicalName(property));
-		}
-		
-		if (exportAlias) {
-			
-			definition.getAliases(property).stream().
-					filter(a -> a.isOut()).
-					forEachOrdered(a -> names.add(a.getActualName()));
-			
+		if (exportCanon && exportAlias) {
+			outNames.add(0, definition.getCanonicalName(property));
+			return outNames;
+		} else if (exportCanon) {
+			return Collections.singletonList(definition.getCanonicalName(property));
+		} else if (exportAlias) {
+			return outNames;
+		} else {
+			return Collections.emptyList();
 		}
-		
-		names.stream().forEach(n -> doExport(n, property, definition, values));
-		
 	}
 	
 	protected boolean hasOutAlias(Property<?> property, StaticPropertyConfigurationInternal definition) {
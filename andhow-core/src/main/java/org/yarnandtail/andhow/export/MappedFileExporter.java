@@ -0,0 +1,365 @@
+package org.yarnandtail.andhow.export;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import org.yarnandtail.andhow.Options;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import org.yarnandtail.andhow.util.IOUtil;
+
+/**
+ * Exports Properties to a memory mapped file that other processes on the same
+ * host can read with a MappedFileReader.
+ * 
+ * The file is set by the Options.MAPPED_EXPORT_FILE Property.  Each Group
+ * exported to the same file is added to it, so the file contains the values of
+ * all Groups exported to it by the current AndHow instance.  Values written
+ * by any other AndHow instance are replaced.  Each time the
+ * file is written, its generation is incremented, so readers can detect the
+ * update.
+ * 
+ * Exported values may be secrets, so a new file is only readable and writable
+ * by the current user (where the file system supports POSIX permissions) and
+ * an existing file owned by another user is not written to.
+ * 
+ * See MappedFileReader for the file format.
+ * 
+ * @author ericeverman
+ */
+public class MappedFileExporter extends BaseExporter {
+	
+	/**
+	 * A random id for each AndHow instance that exports, so the Groups it
+	 * exports add to the file.  Only the id is held, not the values.
+	 */
+	private static final Map<ValidatedValues, Long> WRITER_IDS = new WeakHashMap();
+	
+	/** FileLocks are per process, so writes from this JVM are also serialized here */
+	private static final Object WRITE_LOCK = new Object();
+	
+	/**
+	 * A default constructor is required.
+	 */
+	public MappedFileExporter() {}
+	
+	@Override
+	public void export(List<GroupProxy> groups, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		exportToFile(collectExports(groups, definition, values), values);
+	}
+	
+	@Override
+	public <T> void doExport(String name, Property<T> property,
+			StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		T value = values.getValue(property);
+		
+		if (value != null) {
+			exportToFile(Collections.singletonMap(name, property.getValueType().toString(value)), values);
+		}
+	}
+	
+	/**
+	 * The file to export to.
+	 * 
+	 * @param values The values being exported, which include the AndHow Options.
+	 * @return The path of the file.
+	 */
+	protected Path getPath(ValidatedValues values) {
+		String path = values.getValue(Options.MAPPED_EXPORT_FILE);
+		
+		if (path == null) {
+			throw new AppFatalException("A Group is exported w/ the " +
+					MappedFileExporter.class.getSimpleName() + ", but the " +
+					Options.class.getCanonicalName() + ".MAPPED_EXPORT_FILE Property is not set");
+		}
+		
+		return Paths.get(IOUtil.expandFilePath(path)).toAbsolutePath();
+	}
+	
+	private void exportToFile(Map<String, String> exports, ValidatedValues values) {
+		Path path = getPath(values);
+		
+		try {
+			write(path, exports, getWriterId(values));
+		} catch (IOException e) {
+			throw new AppFatalException("Unable to export to the file '" + path + "'", e);
+		}
+	}
+	
+	/**
+	 * The id of an AndHow instance, which is created the first time it exports.
+	 * 
+	 * @param values The values of the AndHow instance
+	 * @return A random, non-zero id
+	 */
+	private static long getWriterId(ValidatedValues values) {
+		synchronized (WRITER_IDS) {
+			Long id = WRITER_IDS.get(values);
+			
+			while (id == null || id == 0L) {
+				id = ThreadLocalRandom.current().nextLong();
+				WRITER_IDS.put(values, id);
+			}
+			
+			return id;
+		}
+	}
+	
+	/**
+	 * Writes the values to the file, replacing any values already in it.
+	 * 
+	 * @param path The file to write
+	 * @param values The names and values to write
+	 * @throws IOException
+	 */
+	static void write(Path path, Map<String, String> values) throws IOException {
+		write(path, values, 0L);
+	}
+	
+	/**
+	 * Writes the values to the file, adding to the values already in it if
+	 * they were written by the same writer.
+	 * 
+	 * The file is written in place, so readers that have it mapped see the
+	 * update.  It is locked while writing to prevent concurrent writes from
+	 * other processes.  The values already in the file are read back under
+	 * that lock, so they are never held in memory between writes.
+	 * 
+	 * @param path The file to write
+	 * @param values The names and values to write
+	 * @param writerId If not zero, values in the file written w/ the same id
+	 * are kept unless replaced.  Otherwise all values in the file are replaced.
+	 * @throws IOException
+	 */
+	static void write(Path path, Map<String, String> values, long writerId) throws IOException {
+		
+		synchronized (WRITE_LOCK) {
+			try (FileChannel channel = open(path);
+					FileLock lock = channel.lock()) {
+				
+				ByteBuffer header = readHeader(channel);
+				long generation = 0;
+				
+				if (header != null) {
+					long current = header.getLong(MappedFileReader.GENERATION_POS);
+					
+					//Round up if an earlier writer did not complete
+					generation = current + (current & 1);
+					
+					if (writerId != 0 && (current & 1) == 0 &&
+							header.getLong(MappedFileReader.WRITER_ID_POS) == writerId) {
+						
+						Map<String, String> all = MappedFileReader.readValues(
+								channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+						all.putAll(values);
+						values = all;
+					}
+				}
+				
+				write(channel, values, generation, writerId);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the values to a locked file.
+	 */
+	private static void write(FileChannel channel, Map<String, String> values,
+			long generation, long writerId) throws IOException {
+		
+		//Encode and sort by the UTF-8 bytes, which is the order readers search in
+		byte[][][] entries = new byte[values.size()][][];
+		int i = 0;
+		int length = MappedFileReader.HEADER_SIZE + values.size() * MappedFileReader.ENTRY_SIZE;
+		
+		for (Map.Entry<String, String> e : values.entrySet()) {
+			byte[] name = e.getKey().getBytes(StandardCharsets.UTF_8);
+			byte[] value = e.getValue().getBytes(StandardCharsets.UTF_8);
+			entries[i++] = new byte[][] {name, value};
+			length += name.length + value.length;
+		}
+		
+		Arrays.sort(entries, (a, b) -> MappedFileReader.compare(a[0], b[0]));
+		
+		//Never shrink the file, since readers may have all of it mapped
+		long oldSize = channel.size();
+		MappedByteBuffer buf = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+				Math.max(length, oldSize));
+		
+		//An odd generation tells readers a write is in progress
+		buf.putLong(MappedFileReader.GENERATION_POS, generation + 1);
+		MappedFileReader.storeFence();
+		buf.putInt(MappedFileReader.MAGIC_POS, MappedFileReader.MAGIC);
+		buf.putInt(MappedFileReader.VERSION_POS, MappedFileReader.VERSION);
+		buf.putLong(MappedFileReader.WRITER_ID_POS, writerId);
+		
+		int entryPos = MappedFileReader.HEADER_SIZE;
+		int dataPos = MappedFileReader.HEADER_SIZE + entries.length * MappedFileReader.ENTRY_SIZE;
+		
+		for (byte[][] entry : entries) {
+			buf.putInt(entryPos, dataPos);
+			buf.putInt(entryPos + 4, entry[0].length);
+			buf.putInt(entryPos + 8, dataPos + entry[0].length);
+			buf.putInt(entryPos + 12, entry[1].length);
+			entryPos += MappedFileReader.ENTRY_SIZE;
+			
+			buf.position(dataPos);
+			buf.put(entry[0]);
+			buf.put(entry[1]);
+			dataPos = buf.position();
+		}
+		
+		//Erase the remains of earlier, longer values, which may be secrets
+		if (oldSize > length) {
+			byte[] zeros = new byte[(int) Math.min(4096L, oldSize - length)];
+			buf.position(length);
+			
+			while (buf.hasRemaining()) {
+				buf.put(zeros, 0, Math.min(zeros.length, buf.remaining()));
+			}
+		}
+		
+		buf.putInt(MappedFileReader.COUNT_POS, entries.length);
+		buf.putInt(MappedFileReader.LENGTH_POS, length);
+		MappedFileReader.storeFence();
+		buf.putLong(MappedFileReader.GENERATION_POS, generation + 2);
+		buf.force();
+	}
+	
+	/**
+	 * Opens the file for writing, creating it if it does not exist.
+	 * 
+	 * A new file is only readable and writable by the current user where the
+	 * file system supports POSIX permissions.  An existing file is only written
+	 * if it is owned by the current user, so another user cannot plant a file
+	 * or link that values are exported into.
+	 * 
+	 * @param path The file to open
+	 * @return The open channel
+	 * @throws IOException If the file cannot be opened or is owned by another user.
+	 */
+	static FileChannel open(Path path) throws IOException {
+		
+		try {
+			return FileChannel.open(path, EnumSet.of(
+					StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE),
+					ownerOnlyAttributes(path));
+		} catch (FileAlreadyExistsException e) {
+			
+			checkOwner(path);
+			
+			return FileChannel.open(path,
+					StandardOpenOption.READ, StandardOpenOption.WRITE, LinkOption.NOFOLLOW_LINKS);
+		}
+	}
+	
+	/**
+	 * File attributes that make a new file readable and writable only by its owner.
+	 * 
+	 * @return The attributes, or none if the file system does not support POSIX permissions.
+	 */
+	private static FileAttribute<?>[] ownerOnlyAttributes(Path path) {
+		if (path.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+			return new FileAttribute<?>[] {
+				PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))
+			};
+		} else {
+			return new FileAttribute<?>[0];
+		}
+	}
+	
+	/**
+	 * Verifies that an existing file is owned by the current user.
+	 * 
+	 * The current user is taken to be the owner of a file this process creates,
+	 * rather than looked up by name, since a process in a container may run
+	 * as a user id that has no name.  Where the file system has unix
+	 * attributes, the user ids are compared.
+	 * 
+	 * Links are not followed, so a link is refused unless the link itself is
+	 * owned by the current user.
+	 * 
+	 * @param path The existing file
+	 * @throws IOException If the file is owned by another user.
+	 */
+	private static void checkOwner(Path path) throws IOException {
+		
+		Set<String> views = path.getFileSystem().supportedFileAttributeViews();
+		
+		if (! views.contains("owner")) {
+			return;	//Nothing to check against
+		}
+		
+		Path probe = createProbe(path);
+		
+		try {
+			boolean owned;
+			
+			if (views.contains("unix")) {
+				owned = Files.getAttribute(path, "unix:uid", LinkOption.NOFOLLOW_LINKS)
+						.equals(Files.getAttribute(probe, "unix:uid"));
+			} else {
+				owned = Files.getOwner(path, LinkOption.NOFOLLOW_LINKS).equals(Files.getOwner(probe));
+			}
+			
+			if (! owned) {
+				throw new IOException("The file '" + path + "' is owned by '" +
+						Files.getOwner(path, LinkOption.NOFOLLOW_LINKS).getName() +
+						"', not the current user, so AndHow will not export to it");
+			}
+		} finally {
+			Files.deleteIfExists(probe);
+		}
+	}
+	
+	/**
+	 * Creates an empty file owned by the current user, next to the path if
+	 * that directory is writable, otherwise in the default temp directory.
+	 * 
+	 * @param path The file whose directory is tried first
+	 * @return The new file, which the caller must delete.
+	 */
+	private static Path createProbe(Path path) throws IOException {
+		Path dir = path.toAbsolutePath().getParent();
+		
+		try {
+			return Files.createTempFile(dir, ".andhow-owner", null, ownerOnlyAttributes(path));
+		} catch (IOException e) {
+			if (path.getFileSystem() != FileSystems.getDefault()) {
+				throw e;
+			}
+			
+			return Files.createTempFile(".andhow-owner", null, ownerOnlyAttributes(path));
+		}
+	}
+	
+	/**
+	 * Reads the header of an existing file.
+	 * 
+	 * @return The header, or null for a new or unrecognized file.
+	 */
+	private static ByteBuffer readHeader(FileChannel channel) throws IOException {
+		
+		if (channel.size() < MappedFileReader.HEADER_SIZE) {
+			return null;
+		}
+		
+		ByteBuffer header = ByteBuffer.allocate(MappedFileReader.HEADER_SIZE);
+		channel.read(header, 0);
+		
+		if (header.getInt(MappedFileReader.MAGIC_POS) != MappedFileReader.MAGIC) {
+			return null;
+		}
+		
+		return header;
+	}
+
+}
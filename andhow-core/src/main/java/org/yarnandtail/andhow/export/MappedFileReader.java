@@ -0,0 +1,456 @@
+package org.yarnandtail.andhow.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads the values written by a MappedFileExporter, looking them up in place
+ * in the memory mapped file.
+ * 
+ * This class only depends on the JDK, so other JVMs and tools running on the
+ * same host can read the configuration of an application without repeating
+ * its loading and validation.
+ * 
+ * The file format (all numbers are big endian):
+ * <ul>
+ * <li>A 32 byte header:  MAGIC (int), VERSION (int), the generation (long),
+ * the number of entries (int), the number of bytes in use (int) and the id
+ * of the writer (long), which is zero if the writer did not set one.
+ * <li>An index of 16 byte entries, sorted by the UTF-8 bytes of the name:
+ * name offset, name length, value offset and value length (all ints).
+ * Offsets are from the start of the file.
+ * <li>The UTF-8 bytes of the names and values.
+ * </ul>
+ * 
+ * The generation is incremented each time the file is written.  It is odd
+ * while a write is in progress and even once the write is complete.  Reads
+ * are retried if the generation changes while reading, so a reader never sees
+ * a partially written file.  Readers can compare generations to find out if
+ * the values were updated.  The writer and reader fence the generation
+ * accesses (VarHandle fences on Java 9+, Unsafe fences on Java 8), so the
+ * values are not reordered around them.
+ * 
+ * Writers hold an exclusive FileLock on the file while writing.  If the
+ * generation stays odd while no writer holds the lock, the writer died
+ * mid-write and reads fail w/ an IllegalStateException until the file is
+ * written again.
+ * 
+ * Instances are thread safe.
+ * 
+ * @author ericeverman
+ */
+public class MappedFileReader implements Closeable {
+	
+	/** Identifies the file format:  'AHMF' */
+	public static final int MAGIC = 0x41484D46;
+	
+	/** The current version of the file format */
+	public static final int VERSION = 1;
+	
+	static final int MAGIC_POS = 0;
+	static final int VERSION_POS = 4;
+	static final int GENERATION_POS = 8;
+	static final int COUNT_POS = 16;
+	static final int LENGTH_POS = 20;
+	static final int WRITER_ID_POS = 24;
+	static final int HEADER_SIZE = 32;
+	static final int ENTRY_SIZE = 16;
+	
+	/** Number of times to retry a read that overlaps a write */
+	private static final int MAX_READ_ATTEMPTS = 1000;
+	
+	/** Number of reads that find a write in progress before checking if the writer died */
+	private static final int ABANDONED_CHECK_INTERVAL = 100;
+	
+	/** Loads before the fence are not reordered w/ loads and stores after it */
+	private static final MethodHandle LOAD_FENCE = findFence("acquireFence", "loadFence");
+	
+	/** Loads and stores before the fence are not reordered w/ stores after it */
+	private static final MethodHandle STORE_FENCE = findFence("releaseFence", "storeFence");
+	
+	/** Only used if neither VarHandle nor Unsafe fences are available */
+	private static volatile int fallbackFence;
+	
+	private final Path path;
+	private final FileChannel channel;
+	private volatile ByteBuffer buffer;
+	
+	/**
+	 * Opens and maps a file written by a MappedFileExporter.
+	 * 
+	 * @param path The file to read
+	 * @throws IOException If the file cannot be read or is not in a known format.
+	 */
+	public MappedFileReader(Path path) throws IOException {
+		this.path = path;
+		channel = FileChannel.open(path, StandardOpenOption.READ);
+		
+		try {
+			buffer = map();
+			
+			if (buffer.capacity() < HEADER_SIZE || buffer.getInt(MAGIC_POS) != MAGIC) {
+				throw new IOException("The file '" + path + "' is not an AndHow mapped config file");
+			}
+			
+			if (buffer.getInt(VERSION_POS) > VERSION) {
+				throw new IOException("The file '" + path + "' is version " +
+						buffer.getInt(VERSION_POS) + ", which is newer than this reader");
+			}
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * The number of times the file has been written, times two.
+	 * 
+	 * An odd number means a write is in progress, or that a writer died
+	 * mid-write.
+	 * 
+	 * @return The current generation
+	 */
+	public long getGeneration() {
+		return buffer.getLong(GENERATION_POS);
+	}
+	
+	/**
+	 * True if the file was written since the generation was read.
+	 * 
+	 * @param generation A generation previously returned by getGeneration().
+	 * @return True if the values may have changed.
+	 */
+	public boolean hasChanged(long generation) {
+		return getGeneration() != generation;
+	}
+	
+	/**
+	 * Returns the UTF-8 bytes of a value, without copying them.
+	 * 
+	 * The returned buffer is a read only view of the mapped file, so it is only
+	 * valid until the file is written again, which can be checked by calling
+	 * hasChanged() with the generation from before the call.
+	 * 
+	 * @param name The exported name of a Property
+	 * @return A buffer containing just the value, or null if there is no value.
+	 */
+	public ByteBuffer getValueBuffer(String name) {
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		
+		return read(buf -> {
+			int entry = find(buf, nameBytes);
+			
+			if (entry < 0) {
+				return null;
+			}
+			
+			ByteBuffer value = buf.duplicate();
+			int offset = buf.getInt(entry + 8);
+			value.limit(offset + buf.getInt(entry + 12)).position(offset);
+			return value.slice();
+		});
+	}
+	
+	/**
+	 * Returns a value as a String.
+	 * 
+	 * @param name The exported name of a Property
+	 * @return The value, or null if there is no value.
+	 */
+	public String getValue(String name) {
+		byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+		
+		return read(buf -> {
+			int entry = find(buf, nameBytes);
+			
+			if (entry < 0) {
+				return null;
+			}
+			
+			return decode(buf, buf.getInt(entry + 8), buf.getInt(entry + 12));
+		});
+	}
+	
+	/**
+	 * Returns a copy of all the names and values.
+	 * 
+	 * @return A map of names to values, sorted by name.
+	 */
+	public Map<String, String> getValues() {
+		return read(MappedFileReader::readValues);
+	}
+	
+	public Path getPath() {
+		return path;
+	}
+	
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+	
+	/**
+	 * Runs a read against the mapped file, retrying it if the file is written
+	 * while reading.
+	 * 
+	 * @param <R> The type of the result
+	 * @param reader A function that reads from the passed buffer.
+	 * @return The result of the read function.
+	 */
+	private <R> R read(Function<ByteBuffer, R> reader) {
+		
+		int writesInProgress = 0;
+		
+		for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+			ByteBuffer buf = currentBuffer();
+			long before = buf.getLong(GENERATION_POS);
+			loadFence();
+			
+			if ((before & 1) == 0) {
+				try {
+					R result = reader.apply(buf);
+					loadFence();
+					
+					if (buf.getLong(GENERATION_POS) == before) {
+						return result;
+					}
+				} catch (RuntimeException e) {
+					loadFence();
+					
+					//Offsets are not trustworthy if the file changed while reading
+					if (buf.getLong(GENERATION_POS) == before) {
+						throw e;
+					}
+				}
+			} else if (++writesInProgress % ABANDONED_CHECK_INTERVAL == 0 && isWriteAbandoned()) {
+				throw new IllegalStateException("The last write to '" + path +
+						"' did not complete, so it cannot be read until it is written again");
+			}
+			
+			Thread.yield();
+		}
+		
+		throw new IllegalStateException("Unable to read '" + path +
+				"' because it is continuously being written");
+	}
+	
+	/**
+	 * The mapped buffer, remapped if the file has grown past the end of it.
+	 * 
+	 * @return A buffer that includes all bytes in use.
+	 */
+	private ByteBuffer currentBuffer() {
+		ByteBuffer buf = buffer;
+		
+		if (buf.getInt(LENGTH_POS) > buf.capacity()) {
+			synchronized (this) {
+				buf = buffer;
+				
+				if (buf.getInt(LENGTH_POS) > buf.capacity()) {
+					try {
+						buf = map();
+						buffer = buf;
+					} catch (IOException e) {
+						throw new IllegalStateException("Unable to remap '" + path + "'", e);
+					}
+				}
+			}
+		}
+		
+		return buf;
+	}
+	
+	/**
+	 * True if the generation is odd and no writer holds the lock on the file,
+	 * which means a writer died mid-write.
+	 * 
+	 * @return True if the file is incompletely written and nothing is writing it.
+	 */
+	private boolean isWriteAbandoned() {
+		try (FileLock lock = channel.tryLock(0, Long.MAX_VALUE, true)) {
+			return lock != null && (currentBuffer().getLong(GENERATION_POS) & 1) == 1;
+		} catch (OverlappingFileLockException e) {
+			return false;	//Locked by this JVM, which may be writing
+		} catch (IOException e) {
+			return false;	//Unable to tell, so keep retrying
+		}
+	}
+	
+	private MappedByteBuffer map() throws IOException {
+		return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+	}
+	
+	/**
+	 * Copies all the names and values out of a buffer of the file.
+	 * 
+	 * @param buf The mapped file, which must not be written while reading.
+	 * @return A map of names to values, sorted by name.
+	 */
+	static Map<String, String> readValues(ByteBuffer buf) {
+		int count = buf.getInt(COUNT_POS);
+		Map<String, String> values = new LinkedHashMap();
+		
+		for (int i = 0; i < count; i++) {
+			int entry = HEADER_SIZE + i * ENTRY_SIZE;
+			values.put(
+					decode(buf, buf.getInt(entry), buf.getInt(entry + 4)),
+					decode(buf, buf.getInt(entry + 8), buf.getInt(entry + 12)));
+		}
+		
+		return values;
+	}
+	
+	/**
+	 * Binary search of the index for a name.
+	 * 
+	 * @param buf The mapped file
+	 * @param name The UTF-8 bytes of the name
+	 * @return The position of the index entry, or -1 if not found.
+	 */
+	private static int find(ByteBuffer buf, byte[] name) {
+		int low = 0;
+		int high = buf.getInt(COUNT_POS) - 1;
+		
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int entry = HEADER_SIZE + mid * ENTRY_SIZE;
+			int comp = compare(buf, buf.getInt(entry), buf.getInt(entry + 4), name);
+			
+			if (comp < 0) {
+				low = mid + 1;
+			} else if (comp > 0) {
+				high = mid - 1;
+			} else {
+				return entry;
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Compares bytes in the buffer to a name, as unsigned bytes.
+	 */
+	private static int compare(ByteBuffer buf, int offset, int length, byte[] name) {
+		int len = Math.min(length, name.length);
+		
+		for (int i = 0; i < len; i++) {
+			int comp = (buf.get(offset + i) & 0xFF) - (name[i] & 0xFF);
+			
+			if (comp != 0) {
+				return comp;
+			}
+		}
+		
+		return length - name.length;
+	}
+	
+	/**
+	 * Compares two names as unsigned bytes, which is the order of the index.
+	 * 
+	 * @param a
+	 * @param b
+	 * @return Negative, zero or positive, like a Comparator.
+	 */
+	static int compare(byte[] a, byte[] b) {
+		return -compare(ByteBuffer.wrap(b), 0, b.length, a);
+	}
+	
+	/**
+	 * Loads before the fence are not reordered w/ loads and stores after it.
+	 * 
+	 * Readers call this after reading the generation and before reading it
+	 * again to verify it did not change.
+	 */
+	static void loadFence() {
+		try {
+			LOAD_FENCE.invokeExact();
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);	//Fences do not throw
+		}
+	}
+	
+	/**
+	 * Loads and stores before the fence are not reordered w/ stores after it.
+	 * 
+	 * Writers call this after marking a write in progress and before marking
+	 * it complete.
+	 */
+	static void storeFence() {
+		try {
+			STORE_FENCE.invokeExact();
+		} catch (Throwable t) {
+			throw new IllegalStateException(t);	//Fences do not throw
+		}
+	}
+	
+	/**
+	 * Finds a fence method:  A static VarHandle method on Java 9 and later, or
+	 * an Unsafe method on Java 8.  Since AndHow is compiled for Java 8, both are
+	 * accessed reflectively.
+	 * 
+	 * @param varHandleName The name of the VarHandle fence method
+	 * @param unsafeName The name of the equivalent Unsafe fence method
+	 * @return A handle to the fence, which takes no arguments.
+	 */
+	private static MethodHandle findFence(String varHandleName, String unsafeName) {
+		MethodType type = MethodType.methodType(void.class);
+		
+		try {
+			return MethodHandles.publicLookup().findStatic(
+					Class.forName("java.lang.invoke.VarHandle"), varHandleName, type);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			//Not Java 9+, so try Unsafe
+		}
+		
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			
+			return MethodHandles.publicLookup().findVirtual(unsafeClass, unsafeName, type)
+					.bindTo(theUnsafe.get(null));
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			//Not a JVM w/ Unsafe, so fall back to volatile accesses
+		}
+		
+		try {
+			return MethodHandles.lookup().findStatic(MappedFileReader.class, "volatileFence", type);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);	//Our own method, so shouldn't happen
+		}
+	}
+	
+	/**
+	 * A volatile write then read, which is a full fence on common JVMs.
+	 */
+	private static void volatileFence() {
+		fallbackFence = fallbackFence + 1;
+	}
+	
+	private static String decode(ByteBuffer buf, int offset, int length) {
+		byte[] bytes = new byte[length];
+		
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buf.get(offset + i);
+		}
+		
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
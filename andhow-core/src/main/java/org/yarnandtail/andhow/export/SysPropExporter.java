@@ -1,5 +1,8 @@
 package org.yarnandtail.andhow.export;
 
+import java.util.List;
+import java.util.Map;
+import org.yarnandtail.andhow.api.GroupProxy;
 import org.yarnandtail.andhow.api.Property;
 import org.yarnandtail.andhow.api.ValidatedValues;
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
@@ -16,7 +19,26 @@ public class SysPropExporter extends BaseExporter {
 	 */
 	public SysPropExporter() {}
 
-
+	/**
+	 * Collects the names and values of all the Properties in the groups, then
+	 * adds them to System.Properties in a single putAll.
+	 * 
+	 * Calling System.setProperty for each name would lock the Properties and
+	 * check with the security manager once per name.
+	 * 
+	 * @param groups
+	 * @param definition
+	 * @param values 
+	 */
+	@Override
+	public void export(List<GroupProxy> groups, StaticPropertyConfigurationInternal definition, ValidatedValues values) {
+		
+		Map<String, String> exports = collectExports(groups, definition, values);
+		
+		if (! exports.isEmpty()) {
+			System.getProperties().putAll(exports);
+		}
+	}
 	
 	@Override
 	public <T> void doExport(String name, Property<T> property, 
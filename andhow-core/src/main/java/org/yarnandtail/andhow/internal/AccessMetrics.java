@@ -0,0 +1,248 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.util.AndHowLog;
+
+/**
+ * Counts how many times the value of each Property is read by the application.
+ * 
+ * Enabled by the Options.ACCESS_METRICS Property.  Each Property has a
+ * LongAdder counter, indexed by the ordinal of the Property in the static
+ * configuration, so concurrent reads of the same Property do not contend.
+ * Only reads by the application (Property.getValue() and getExplicitValue(),
+ * or the same methods of AndHow) are counted, not reads by AndHow during
+ * startup or export.
+ * 
+ * Use this to find Properties that are never read, which can be removed, and
+ * Properties that are read very often.  The counts can be read at any time
+ * or written to the log periodically w/ Options.ACCESS_METRICS_LOG_SECONDS.
+ * 
+ * @author eeverman
+ */
+public class AccessMetrics {
+	private static final AndHowLog LOG = AndHowLog.getLogger(AccessMetrics.class);
+	
+	/**
+	 * One daemon thread logs the metrics of every AndHow instance, so replaced
+	 * AndHow instances do not leave threads behind.  The thread is only
+	 * started once logging is first started.
+	 */
+	private static final ScheduledThreadPoolExecutor LOG_EXECUTOR = buildLogExecutor();
+	
+	private final StaticPropertyConfigurationInternal config;
+	private final LongAdder[] counters;
+	private ScheduledFuture<?> logTask;
+	
+	/**
+	 * New instance w/ a counter for each Property in the configuration.
+	 * 
+	 * @param config The static configuration, which must not change.
+	 */
+	public AccessMetrics(StaticPropertyConfigurationInternal config) {
+		this.config = config;
+		
+		counters = new LongAdder[config.getProperties().size()];
+		for (int i = 0; i < counters.length; i++) {
+			counters[i] = new LongAdder();
+		}
+	}
+	
+	/**
+	 * Records one read of a Property.
+	 * 
+	 * @param prop The Property that was read.  Unknown Properties are ignored.
+	 */
+	public void recordAccess(Property<?> prop) {
+		int ordinal = config.getOrdinal(prop);
+		
+		if (ordinal >= 0) {
+			counters[ordinal].increment();
+		}
+	}
+	
+	/**
+	 * The number of times the Property has been read.
+	 * 
+	 * @param prop The Property
+	 * @return The count, or zero for an unknown Property.
+	 */
+	public long getAccessCount(Property<?> prop) {
+		int ordinal = config.getOrdinal(prop);
+		return (ordinal >= 0) ? counters[ordinal].sum() : 0L;
+	}
+	
+	/**
+	 * The current count for every Property.
+	 * 
+	 * @return A map of Property to count, in the order of the configuration.
+	 */
+	public Map<Property<?>, Long> getAccessCounts() {
+		Map<Property<?>, Long> counts = new LinkedHashMap();
+		List<Property<?>> props = config.getProperties();
+		
+		for (int i = 0; i < counters.length; i++) {
+			counts.put(props.get(i), counters[i].sum());
+		}
+		
+		return counts;
+	}
+	
+	/**
+	 * Properties that have not been read since startup or the last reset.
+	 * 
+	 * @return A list in the order of the configuration.
+	 */
+	public List<Property<?>> getUnreadProperties() {
+		List<Property<?>> unread = new ArrayList();
+		List<Property<?>> props = config.getProperties();
+		
+		for (int i = 0; i < counters.length; i++) {
+			if (counters[i].sum() == 0L) {
+				unread.add(props.get(i));
+			}
+		}
+		
+		return unread;
+	}
+	
+	/**
+	 * The most read Properties.
+	 * 
+	 * @param max The max number of Properties to return
+	 * @return Properties that have been read at least once, most read first.
+	 */
+	public List<Property<?>> getHotProperties(int max) {
+		Map<Property<?>, Long> counts = getAccessCounts();
+		List<Property<?>> hot = new ArrayList();
+		
+		for (Map.Entry<Property<?>, Long> e : counts.entrySet()) {
+			if (e.getValue() > 0L) {
+				hot.add(e.getKey());
+			}
+		}
+		
+		hot.sort((a, b) -> Long.compare(counts.get(b), counts.get(a)));
+		
+		return (hot.size() > max) ? new ArrayList(hot.subList(0, max)) : hot;
+	}
+	
+	/**
+	 * Sets all counts back to zero.
+	 */
+	public void reset() {
+		for (LongAdder counter : counters) {
+			counter.reset();
+		}
+	}
+	
+	/**
+	 * Writes the count of each Property, one per line, most read first, then
+	 * the Properties that were never read.
+	 * 
+	 * @param out Where to write the report
+	 * @throws IOException
+	 */
+	public void writeReport(Appendable out) throws IOException {
+		List<Property<?>> hot = getHotProperties(counters.length);
+		List<Property<?>> unread = getUnreadProperties();
+		
+		out.append("AndHow Property access counts: ")
+				.append(Integer.toString(hot.size())).append(" read, ")
+				.append(Integer.toString(unread.size())).append(" never read")
+				.append(System.lineSeparator());
+		
+		for (Property<?> prop : hot) {
+			out.append("\t").append(Long.toString(getAccessCount(prop)))
+					.append("\t").append(config.getCanonicalName(prop))
+					.append(System.lineSeparator());
+		}
+		
+		for (Property<?> prop : unread) {
+			out.append("\t0\t").append(config.getCanonicalName(prop))
+					.append(System.lineSeparator());
+		}
+	}
+	
+	/**
+	 * The report from writeReport as a String.
+	 * 
+	 * @return The report
+	 */
+	public String getReport() {
+		StringBuilder sb = new StringBuilder();
+		
+		try {
+			writeReport(sb);
+		} catch (IOException e) {
+			//StringBuilder does not throw
+		}
+		
+		return sb.toString();
+	}
+	
+	/**
+	 * Logs the report at the info level on a daemon thread every period.
+	 * 
+	 * Any earlier logging started on this instance is stopped first.  The
+	 * logging thread only holds this instance weakly, so logging stops once
+	 * the AndHow instance that created it is no longer used.
+	 * 
+	 * @param periodSeconds The time between reports
+	 */
+	public synchronized void startLogging(long periodSeconds) {
+		stopLogging();
+		
+		logTask = LOG_EXECUTOR.scheduleAtFixedRate(new LogTask(this),
+				periodSeconds, periodSeconds, TimeUnit.SECONDS);
+	}
+	
+	/**
+	 * Stops periodic logging, if it was started.
+	 */
+	public synchronized void stopLogging() {
+		if (logTask != null) {
+			logTask.cancel(false);
+			logTask = null;
+		}
+	}
+	
+	private static ScheduledThreadPoolExecutor buildLogExecutor() {
+		ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread t = new Thread(r, "AndHow access metrics");
+			t.setDaemon(true);
+			return t;
+		});
+		
+		executor.setRemoveOnCancelPolicy(true);
+		return executor;
+	}
+	
+	/**
+	 * Logs the report of an AccessMetrics instance while it is still in use.
+	 */
+	private static class LogTask implements Runnable {
+		private final WeakReference<AccessMetrics> metrics;
+		
+		LogTask(AccessMetrics metrics) {
+			this.metrics = new WeakReference(metrics);
+		}
+		
+		@Override
+		public void run() {
+			AccessMetrics m = metrics.get();
+			
+			if (m == null) {
+				//An exception ends a periodic task, which is how it removes itself
+				throw new CancellationException("The metrics are no longer in use");
+			}
+			
+			LOG.info(m.getReport());
+		}
+	}
+
+}
@@ -2,13 +2,17 @@ package org.yarnandtail.andhow.internal;
 
 import java.io.*;
 import org.yarnandtail.andhow.util.AndHowUtil;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.yarnandtail.andhow.AndHow;
 import org.yarnandtail.andhow.Options;
+import org.yarnandtail.andhow.PropertyValue;
+import org.yarnandtail.andhow.PropertyValueTable;
 import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.FixedValueLoader;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.JfrEvents;
 
 /**
  * Actual central instance of the AndHow state after a successful startup.
@@ -28,12 +32,72 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 	//Internal state
 	private final StaticPropertyConfigurationInternal staticConfig;
 	private final ValidatedValuesWithContext loadedValues;
+	private volatile Object[] valuesByOrdinal;	//Effective values by ordinal, built on first use
+	
+	/** Resolved ordinals of each PropertyValueTable, shared by cores w/ the same staticConfig */
+	private final Map<PropertyValueTable, int[]> tableOrdinals;
 	private final ProblemList<Problem> problems = new ProblemList();
+	private final StartupTimings timings = new StartupTimings();
+	private final AccessMetrics accessMetrics;
+	private final long generation;
 	
 	public AndHowCore(NamingStrategy naming, List<Loader> loaders, 
 			List<GroupProxy> registeredGroups) 
 			throws AppFatalException {
 		
+		this(naming, loaders, registeredGroups, null, true);
+	}
+	
+	/**
+	 * New core that optionally skips the startup side effects.
+	 * 
+	 * A core that is not the application's global core, such as one that
+	 * is only active within a scope, should not change anything outside of
+	 * itself.  W/ startupSideEffects false nothing is exported, no JSON
+	 * report or samples are written and access metrics, if enabled, are
+	 * counted but never logged.
+	 * 
+	 * @param naming The naming strategy, or null for the default
+	 * @param loaders The loaders to load values from
+	 * @param registeredGroups The registered groups, or null to discover them
+	 * @param startupSideEffects If false, skip exports, reports, samples and metrics logging.
+	 * @throws AppFatalException If the configuration is invalid or values fail validation.
+	 */
+	public AndHowCore(NamingStrategy naming, List<Loader> loaders, 
+			List<GroupProxy> registeredGroups, boolean startupSideEffects) 
+			throws AppFatalException {
+		
+		this(naming, loaders, registeredGroups, null, startupSideEffects);
+	}
+	
+	/**
+	 * New core that replaces an earlier core, reusing its static configuration
+	 * and re-running only the loaders and validation.
+	 * 
+	 * Building the static configuration discovers, registers and checks every
+	 * Property, which is the bulk of startup cost.  It never changes for a
+	 * given set of Properties, so a test harness can share it between cores
+	 * that only differ in their loaded values.  The loaders must only use
+	 * configuration Properties that are registered in the reused configuration.
+	 * 
+	 * Since only the values are replaced, none of the startup side effects are
+	 * repeated:  Nothing is exported, no JSON report or samples are written and
+	 * the access metrics of the previous core, if any, are reused.
+	 * 
+	 * @param previous The earlier core, whose static configuration is reused
+	 * @param loaders The loaders to load values from
+	 * @throws AppFatalException If a loader is misconfigured or loads invalid values.
+	 */
+	public AndHowCore(AndHowCore previous, List<Loader> loaders)
+			throws AppFatalException {
+		
+		this(previous.getNamingStrategy(), loaders, null, previous, false);
+	}
+	
+	private AndHowCore(NamingStrategy naming, List<Loader> loaders, 
+			List<GroupProxy> registeredGroups, AndHowCore previous,
+			boolean startupSideEffects) throws AppFatalException {
+		
 		NamingStrategy namingStrategy = (naming != null)?naming:new CaseInsensitiveNaming();
 		
 		if (loaders != null) {
@@ -46,28 +110,46 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 			}
 		}		
 		
-		//The global options are always added to the list of registered groups
-		ArrayList<GroupProxy> effRegGroups = new ArrayList();
-		if (registeredGroups != null && ! registeredGroups.isEmpty()) {
-			effRegGroups.addAll(registeredGroups);
-		} else if (! AndHowUtil.classExists("org.yarnandtail.andhow.compile.AndHowCompileProcessor")) {
-			LOG.warn("org.yarnandtail:andhow-annotation-processor is not currently "
-					+ "on the classpath.  If it was not present at compile time, "
-					+ "AndHow Properties in source code are not discovered and registered. "
-					+ "To resolve, add org.yarnandtail:andhow-annotation-processor "
-					+ "as a dependency at least at compile time.");
-		}
+		long phaseStart;
+		JfrEvents.Event phaseEvent;
 		
-		try {
-			GroupProxy options = AndHowUtil.buildGroupProxy(Options.class, false);
-			effRegGroups.add(options);
-		} catch (Exception ex) {
-			problems.add(new ConstructionProblem.SecurityException(ex, Options.class));
-		}
+		if (previous != null) {
+			
+			staticConfig = previous.staticConfig;
+			tableOrdinals = previous.tableOrdinals;
+			checkLoadersAreRegistered(staticConfig, this.loaders, problems);
+			
+		} else {
+			
+			//The global options are always added to the list of registered groups
+			ArrayList<GroupProxy> effRegGroups = new ArrayList();
+			if (registeredGroups != null && ! registeredGroups.isEmpty()) {
+				effRegGroups.addAll(registeredGroups);
+			} else if (! AndHowUtil.classExists("org.yarnandtail.andhow.compile.AndHowCompileProcessor")) {
+				LOG.warn("org.yarnandtail:andhow-annotation-processor is not currently "
+						+ "on the classpath.  If it was not present at compile time, "
+						+ "AndHow Properties in source code are not discovered and registered. "
+						+ "To resolve, add org.yarnandtail:andhow-annotation-processor "
+						+ "as a dependency at least at compile time.");
+			}
+		
+			try {
+				GroupProxy options = AndHowUtil.buildGroupProxy(Options.class, false);
+				effRegGroups.add(options);
+			} catch (Exception ex) {
+				problems.add(new ConstructionProblem.SecurityException(ex, Options.class));
+			}
 
 
-		StaticPropertyConfigurationMutable startupDef = AndHowUtil.buildDefinition(effRegGroups, loaders, namingStrategy, problems);
-		staticConfig = startupDef.toImmutable();
+			phaseStart = timings.mark();
+			phaseEvent = JfrEvents.begin(JfrEvents.PHASE);
+			StaticPropertyConfigurationMutable startupDef = AndHowUtil.buildDefinition(effRegGroups, loaders, namingStrategy, problems);
+			staticConfig = startupDef.toImmutable();
+			tableOrdinals = new ConcurrentHashMap();
+			timings.addPhase("definition", phaseStart);
+			phaseEvent.set(0, "definition").commit();
+			
+		}
 		
 		//
 		//If there are ConstructionProblems, we can't continue on to attempt to
@@ -78,54 +160,229 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 				"Since it is the framework itself that is misconfigured, no attempt was made to load values. " +
 				"See System.err, out or the log files for more details.",
 					problems);
-			printFailedStartupDetails(afe);
+			printFailedStartupDetails(afe, null);
 			throw afe;
 		}
 		
 		//No Construction problems, so continue on...
 		
-		loadedValues = loadValues(staticConfig, problems).getValueMapWithContextImmutable();
-		doPropertyValidations(staticConfig, loadedValues, problems);
+		phaseEvent = JfrEvents.begin(JfrEvents.PHASE);
+		ValidatedValuesWithContextMutable allValues = loadValues(staticConfig, problems);
+		phaseEvent.set(0, "load").commit();
+		
+		if (allValues.getValue(Options.RETAIN_LOADER_VALUES)) {
+			loadedValues = allValues.getValueMapWithContextImmutable();
+		} else {
+			loadedValues = allValues.getValueMapWithContextCompact();
+		}
+		
 		checkForValuesWhichMustBeNonNull(staticConfig, problems);
 
 		if (problems.size() > 0) {
 			AppFatalException afe = AndHowUtil.buildFatalException(problems);
-			printFailedStartupDetails(afe);
+			printFailedStartupDetails(afe, allValues);
 			throw afe;
 		}
 		
-		//Export Values if applicable
-		List<ExportGroup> exportGroups = staticConfig.getExportGroups();
-		for (ExportGroup eg : exportGroups) {
-			Exporter exporter = eg.getExporter();
-			GroupProxy group = eg.getGroup();
+		if (startupSideEffects) {
 			
-			if (group != null) {
-				exporter.export(group, staticConfig, this);
-			} else {
-				for (GroupProxy grp : staticConfig.getPropertyGroups()) {
-					exporter.export(grp, staticConfig, this);
+			//Export Values if applicable
+			phaseStart = timings.mark();
+			phaseEvent = JfrEvents.begin(JfrEvents.PHASE);
+			List<ExportGroup> exportGroups = staticConfig.getExportGroups();
+			for (ExportGroup eg : exportGroups) {
+				Exporter exporter = eg.getExporter();
+				GroupProxy group = eg.getGroup();
+				JfrEvents.Event exportEvent = JfrEvents.begin(JfrEvents.EXPORT);
+				
+				if (group != null) {
+					exporter.export(group, staticConfig, this);
+				} else {
+					exporter.export(staticConfig.getPropertyGroups(), staticConfig, this);
+				}
+				
+				exportEvent.set(0, exporter.getClass().getCanonicalName())
+						.set(1, (group != null) ? group.getCanonicalName() : null).commit();
+			}
+			timings.addPhase("export", phaseStart);
+			phaseEvent.set(0, "export").commit();
+			
+			//Count Property reads (if requested)
+			if (getValue(Options.ACCESS_METRICS)) {
+				accessMetrics = new AccessMetrics(staticConfig);
+				
+				Integer logSeconds = getValue(Options.ACCESS_METRICS_LOG_SECONDS);
+				if (logSeconds != null) {
+					accessMetrics.startLogging(logSeconds);
 				}
+			} else {
+				accessMetrics = null;
+			}
+			
+			//Print samples (if requested) to System.out
+			if (getValue(Options.CREATE_SAMPLES)) {
+				ReportGenerator.printConfigSamples(staticConfig, loaders, false);
+			}
+			
+			String jsonReport = getValue(Options.JSON_REPORT);
+			if (jsonReport != null) {
+				writeJsonReport(jsonReport, problems, allValues);
+			}
+			
+		} else if (previous != null) {
+			
+			//A reload only replaces values:  Exports, reports and samples were
+			//done by the first core and metrics keep counting in its instance.
+			accessMetrics = previous.accessMetrics;
+			
+		} else if (getValue(Options.ACCESS_METRICS)) {
+			
+			//Count reads for this core only, but leave logging to the global core
+			accessMetrics = new AccessMetrics(staticConfig);
+			
+		} else {
+			accessMetrics = null;
+		}
+		
+		generation = (previous != null) ? previous.generation + 1 : 1L;
+		timings.finish();
+	}
+	
+	/**
+	 * New core w/ override values layered over the values of a base core.
+	 * 
+	 * Nothing is reloaded:  The static configuration and the values of the
+	 * base are reused as is, and only the override values are validated.
+	 */
+	private AndHowCore(AndHowCore base, FixedValueLoader overlayLoader) throws AppFatalException {
+		staticConfig = base.staticConfig;
+		tableOrdinals = base.tableOrdinals;
+		loaders.add(overlayLoader);
+		loaders.addAll(base.loaders);
+		
+		ValidatedValuesWithContextMutable allValues = new ValidatedValuesWithContextMutable();
+		
+		ValidatingValueSink sink = new ValidatingValueSink(staticConfig, overlayLoader, allValues, false);
+		overlayLoader.load(staticConfig, allValues, sink);
+		problems.addAll(sink.finish().getProblems());
+		
+		for (LoaderValues lvs : base.loadedValues.getAllLoaderValues()) {
+			allValues.addValues(lvs);
+		}
+		
+		if (problems.size() > 0) {
+			throw AndHowUtil.buildFatalException(problems);
+		}
+		
+		//The option may itself be overridden, otherwise it is the base value
+		if (allValues.getValue(Options.RETAIN_LOADER_VALUES)) {
+			loadedValues = allValues.getValueMapWithContextImmutable();
+		} else {
+			loadedValues = allValues.getValueMapWithContextCompact();
+		}
+		
+		//An override may null out a Property that must be non-null
+		checkForValuesWhichMustBeNonNull(staticConfig, problems);
+		
+		if (problems.size() > 0) {
+			throw AndHowUtil.buildFatalException(problems);
+		}
+		
+		accessMetrics = base.accessMetrics;
+		generation = base.generation + 1;
+		timings.finish();
+	}
+	
+	/**
+	 * Creates a new core w/ some values overridden, w/o reloading anything.
+	 * 
+	 * This is intended for testing, where a test needs a few values different
+	 * from an already loaded configuration.  The override values take
+	 * precedence over the values of every loader of this core and are validated
+	 * like loaded values, and Properties that must be non-null are checked
+	 * again, but nothing is exported.  This core is not modified.
+	 * 
+	 * @param overrides The values to override
+	 * @return A new core
+	 * @throws AppFatalException If an override value is invalid, its Property
+	 * is not registered or it nulls out a Property that must be non-null.
+	 */
+	public AndHowCore overlay(List<PropertyValue> overrides) throws AppFatalException {
+		FixedValueLoader overlayLoader = new FixedValueLoader();
+		overlayLoader.setPropertyValues(overrides);
+		
+		for (PropertyValue pv : overrides) {
+			if (staticConfig.getCanonicalName(pv.getProperty()) == null) {
+				ProblemList<Problem> probs = new ProblemList();
+				probs.add(new ConstructionProblem.LoaderPropertyNotRegistered(overlayLoader, pv.getProperty()));
+				throw AndHowUtil.buildFatalException(probs);
 			}
 		}
 		
-		//Print samples (if requested) to System.out
-		if (getValue(Options.CREATE_SAMPLES)) {
-			ReportGenerator.printConfigSamples(staticConfig, loaders, false);
+		return new AndHowCore(this, overlayLoader);
+	}
+	
+	/**
+	 * Adds a Problem for each configuration Property of a loader that is not
+	 * registered, which is checked while building the definition otherwise.
+	 */
+	private static void checkLoadersAreRegistered(StaticPropertyConfigurationInternal config,
+			List<Loader> loaders, ProblemList<Problem> problems) {
+		
+		for (Loader loader : loaders) {
+			List<Property> configProps = new ArrayList();
+			
+			if (loader.getClassConfig() != null) {
+				try {
+					for (NameAndProperty nap : AndHowUtil.buildGroupProxy(loader.getClassConfig(), false).getProperties()) {
+						configProps.add(nap.property);
+					}
+				} catch (Exception ex) {
+					problems.add(new ConstructionProblem.SecurityException(ex, loader.getClassConfig()));
+				}
+			}
+			
+			configProps.addAll(loader.getInstanceConfig());
+			
+			for (Property p : configProps) {
+				if (p == null) {
+					problems.add(new ConstructionProblem.LoaderPropertyIsNull(loader));
+				} else if (config.getCanonicalName(p) == null) {
+					problems.add(new ConstructionProblem.LoaderPropertyNotRegistered(loader, p));
+				}
+			}
 		}
 	}
 	
 	/**
-	 * Prints failed startup details to System.err
+	 * The static configuration, which can be shared w/ a new core via
+	 * AndHowCore(AndHowCore previous, List&lt;Loader&gt;).
+	 * 
+	 * @return The immutable static configuration
+	 */
+	public StaticPropertyConfigurationInternal getStaticConfig() {
+		return staticConfig;
+	}
+	
+	/**
+	 * Prints failed startup details to System.err, or as a JSON report if
+	 * Options.JSON_REPORT is set.
 	 * 
 	 * @param afe 
+	 * @param allValues All loaded values for the report, or null if not loaded.
 	 */
-	private void printFailedStartupDetails(AppFatalException afe) {
+	private void printFailedStartupDetails(AppFatalException afe, ValidatedValuesWithContext allValues) {
 		
 		File sampleDir = ReportGenerator.printConfigSamples(staticConfig, loaders, true);
 		String sampleDirStr = (sampleDir != null)?sampleDir.getAbsolutePath():"";
 		afe.setSampleDirectory(sampleDirStr);
 		
+		String jsonReport = findJsonReportDestination();
+		if (jsonReport != null) {
+			writeJsonReport(jsonReport, afe.getProblems(), allValues);
+			return;
+		}
+		
 		ByteArrayOutputStream os = new ByteArrayOutputStream();
 		PrintStream ps = new PrintStream(os);
 		ReportGenerator.printProblems(ps, afe, staticConfig);
@@ -140,6 +397,145 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 		
 	}
 	
+	/**
+	 * Finds where to write the JSON report, which may be before values are loaded.
+	 * 
+	 * @return The destination or null if there should be no JSON report.
+	 */
+	private String findJsonReportDestination() {
+		
+		if (loadedValues != null) {
+			return loadedValues.getValue(Options.JSON_REPORT);
+		}
+		
+		//Values were not loaded, so only check for a system property
+		return findBootstrapValue(Options.JSON_REPORT, false);
+	}
+	
+	/**
+	 * Finds the String value of an Option that is needed before, or while,
+	 * values are loaded, by its canonical name or any of its in aliases.
+	 * 
+	 * System properties are checked first, then env. variables if requested.
+	 * 
+	 * @param prop The Option
+	 * @param checkEnvVars If true, env. variables are checked as well.
+	 * @return The value or null if it is not set or Options is not registered.
+	 */
+	private String findBootstrapValue(Property<?> prop, boolean checkEnvVars) {
+		
+		List<String> names = new ArrayList();
+		String canonName = staticConfig.getCanonicalName(prop);
+		
+		if (canonName == null) {
+			return null;	//Options could not be registered
+		}
+		
+		names.add(canonName);
+		
+		for (EffectiveName alias : staticConfig.getAliases(prop)) {
+			if (alias.isIn()) {
+				names.add(alias.getActualName());
+			}
+		}
+		
+		for (String name : names) {
+			String value = System.getProperty(name);
+			
+			if (value != null) {
+				return value;
+			}
+		}
+		
+		if (checkEnvVars) {
+			for (String name : names) {
+				String value = System.getenv(name);
+				
+				if (value != null) {
+					return value;
+				}
+			}
+		}
+		
+		return null;
+	}
+	
+	/**
+	 * True if VALIDATE_IN_PARALLEL is set as a system property or env. variable.
+	 * 
+	 * This is resolved once before loading so that it applies to the values of
+	 * every loader.
+	 */
+	private boolean isValidateInParallel() {
+		String value = findBootstrapValue(Options.VALIDATE_IN_PARALLEL, true);
+		
+		if (value == null) {
+			return false;
+		}
+		
+		try {
+			return Options.VALIDATE_IN_PARALLEL.getValueType().parse(value);
+		} catch (ParsingException e) {
+			return false;	//Reported as a problem when the value is loaded
+		}
+	}
+	
+	/**
+	 * Writes the JSON report w/ all loaded values, so it includes overridden
+	 * values even if they are not retained.
+	 */
+	private void writeJsonReport(String destination, ProblemList<Problem> reportProblems,
+			ValidatedValuesWithContext allValues) {
+		try {
+			JsonReportGenerator.writeReport(destination, reportProblems, staticConfig, allValues, timings);
+		} catch (IOException e) {
+			LOG.error("Unable to write the JSON startup report to '" + destination + "'", e);
+		}
+	}
+	
+	/**
+	 * The loaded values w/ the loader each came from.
+	 * 
+	 * Unless Options.RETAIN_LOADER_VALUES is set, only the effective values
+	 * are kept, not values overridden by earlier loaders or loader Problems.
+	 * 
+	 * @return The loaded values
+	 */
+	public ValidatedValuesWithContext getValuesWithContext() {
+		return loadedValues;
+	}
+	
+	/**
+	 * The number of times the values of this configuration have been loaded.
+	 * 
+	 * A newly configured core is generation one.  Each core that replaces it,
+	 * by reloading values or overriding them, is one more than the core it
+	 * was built from.
+	 * 
+	 * @return The generation, starting at one.
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+	
+	/**
+	 * Timings and value counts recorded during startup.
+	 * 
+	 * @return The startup timings
+	 */
+	public StartupTimings getTimings() {
+		return timings;
+	}
+	
+	/**
+	 * Counts of Property reads, if Options.ACCESS_METRICS is set.
+	 * 
+	 * @return The metrics or null if they are not enabled.
+	 */
+	public AccessMetrics getAccessMetrics() {
+		return accessMetrics;
+	}
+	
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
 		return loadedValues.isExplicitlySet(prop);
@@ -155,68 +551,115 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 		return loadedValues.getValue(prop);
 	}
 	
-	//TODO:  Shouldn't this be stateless and pass in the loader list?
-	private ValidatedValuesWithContext loadValues(StaticPropertyConfigurationInternal config, ProblemList<Problem> problems) {
-		ValidatedValuesWithContextMutable existingValues = new ValidatedValuesWithContextMutable();
-
-		for (Loader loader : loaders) {
-			LoaderValues result = loader.load(config, existingValues);
-			existingValues.addValues(result);
-			problems.addAll(result.getProblems());
-			
-			loader.releaseResources();
+	/**
+	 * The effective value of a Property by its ordinal.
+	 * 
+	 * This is the fast path used by generated accessor classes, which look up
+	 * the ordinal of each Property once and then read values w/o any hashing.
+	 * The array of values is only built on the first call, so there is no
+	 * second copy of the values unless generated accessors are used.
+	 * 
+	 * @param ordinal The ordinal of the Property, as returned by getOrdinal().
+	 * @return The effective value, which may be null.
+	 * @throws ArrayIndexOutOfBoundsException If the ordinal is not valid.
+	 */
+	public Object getValue(int ordinal) {
+		Object[] values = valuesByOrdinal;
+		
+		if (values == null) {
+			//The values are immutable, so a race only builds the same array twice
+			values = buildValueTable(staticConfig.getProperties(), loadedValues);
+			valuesByOrdinal = values;
 		}
-
-		return existingValues;
+		
+		return values[ordinal];
 	}
 	
 	/**
-	 * Validates all Property values.
+	 * The ordinals of the Properties of a PropertyValueTable.
 	 * 
-	 * @param config Needed bc validation is done while construction is 
-	 *	not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loadedValues The values to be validated.
-	 * @param problems Add any new problems to this list
+	 * The canonical names of the table are resolved on the first call and
+	 * reused by later calls, including calls to other cores that share the
+	 * same static configuration.
+	 * 
+	 * @param table The table
+	 * @return The ordinal of each Property in the table, or -1 for a name
+	 * that is not registered.
 	 */
-	private void doPropertyValidations(StaticPropertyConfigurationInternal config, 
-			ValidatedValuesWithContext loadedValues, ProblemList<Problem> problems) {
+	public int[] getOrdinals(PropertyValueTable table) {
+		int[] ordinals = tableOrdinals.get(table);
 		
-		for (LoaderValues lvs : loadedValues.getAllLoaderValues()) {
-			for (ValidatedValue pv : lvs.getValues()) {
-				doPropertyValidation(config, lvs.getLoader(), problems, pv);
+		if (ordinals == null) {
+			ordinals = new int[table.size()];
+			
+			for (int i = 0; i < ordinals.length; i++) {
+				Property<?> prop = getProperty(table.getCanonicalName(i));
+				ordinals[i] = (prop != null) ? getOrdinal(prop) : -1;
 			}
+			
+			tableOrdinals.put(table, ordinals);
+		}
+		
+		return ordinals;
+	}
+	
+	/**
+	 * Copies the effective value of each Property into an array in ordinal order.
+	 */
+	private static Object[] buildValueTable(List<Property<?>> properties, ValidatedValues values) {
+		Object[] table = new Object[properties.size()];
+		
+		for (int i = 0; i < table.length; i++) {
+			table[i] = values.getValue(properties.get(i));
 		}
+		
+		return table;
 	}
 	
+	//TODO:  Shouldn't this be stateless and pass in the loader list?
 	/**
-	 * Does validation on a single Property value as loaded by a single loader.
+	 * Loads and validates values from each loader in a single pass.
+	 * 
+	 * Each loader pushes its values into a ValidatingValueSink, which validates
+	 * the effective values as they arrive and merges them with the values of
+	 * earlier loaders.  Only the effective value of each Property (the value
+	 * from the first loader to load it) is validated.
+	 * 
+	 * If VALIDATE_IN_PARALLEL is set as a system property or env. variable,
+	 * the values of every loader are validated in parallel across the common
+	 * ForkJoinPool.
+	 * Either way, Problems are added in the same deterministic order:  By
+	 * loader, then in the order each loader loaded its values.
 	 * 
-	 * @param <T> The shared type of the Property and Value.
 	 * @param config Needed bc validation is done while construction is 
 	 *	not complete, thus the as-is definition is needed prior to it being complete.
-	 * @param loader The loader used to load the value, for context when creating a Problem.
 	 * @param problems Add any new problems to this list
-	 * @param propValue<T> The Property and its value, both of type 'T'.
+	 * @return The loaded values
 	 */
-	private <T> void doPropertyValidation(StaticPropertyConfigurationInternal config,
-			Loader loader, ProblemList<Problem> problems, ValidatedValue<T> propValue) {
-		
-		Property<T> prop = propValue.getProperty();
-		
-		for (Validator<T> v : prop.getValidators()) {
-			if (! v.isValid(propValue.getValue())) {
-				
-				ValueProblem.InvalidValueProblem problem = 
-						new ValueProblem.InvalidValueProblem(loader, 
-								config.getGroupForProperty(prop).getProxiedGroup(),
-								prop, propValue.getValue(), v);
-				
-				propValue.addProblem(problem);
-				problems.add(problem);
-			}
+	private ValidatedValuesWithContextMutable loadValues(StaticPropertyConfigurationInternal config, ProblemList<Problem> problems) {
+		ValidatedValuesWithContextMutable existingValues = new ValidatedValuesWithContextMutable();
+		boolean inParallel = isValidateInParallel();
+
+		for (Loader loader : loaders) {
+			ValidatingValueSink sink = new ValidatingValueSink(config, loader, existingValues, inParallel);
+			
+			long loadStart = timings.mark();
+			JfrEvents.Event loadEvent = JfrEvents.begin(JfrEvents.LOAD);
+			loader.load(config, existingValues, sink);
+			
+			LoaderValues result = sink.finish();
+			problems.addAll(result.getProblems());
+			
+			loader.releaseResources();
+			timings.addLoader(loader, loadStart, result.getValues().size());
+			loadEvent.set(0, loader.getClass().getCanonicalName())
+					.set(1, loader.getSpecificLoadDescription())
+					.set(2, result.getValues().size())
+					.set(3, result.getProblems().size()).commit();
 		}
+
+		return existingValues;
 	}
-	
 
 	private void checkForValuesWhichMustBeNonNull(StaticPropertyConfigurationInternal config, ProblemList<Problem> problems) {
 		
@@ -256,6 +699,11 @@ public class AndHowCore implements StaticPropertyConfigurationInternal, Validate
 		return staticConfig.getPropertiesForGroup(group);
 	}
 
+	@Override
+	public int getOrdinal(Property<?> prop) {
+		return staticConfig.getOrdinal(prop);
+	}
+	
 	@Override
 	public Property<?> getProperty(String name) {
 		return staticConfig.getProperty(name);
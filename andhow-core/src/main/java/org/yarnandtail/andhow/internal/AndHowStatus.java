@@ -0,0 +1,237 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import javax.management.*;
+import org.yarnandtail.andhow.Options;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.AndHowLog;
+
+/**
+ * AndHowStatusMXBean implementation for the current core of an AndHow
+ * instance or context.
+ * 
+ * The MBean reads the core through a Supplier each time an attribute is read,
+ * so it reports on the core that replaced an earlier one w/o holding the
+ * earlier core.  The core and everything read from it is immutable after
+ * startup, so each attribute is built from the core w/o locking.
+ * 
+ * @author eeverman
+ */
+public class AndHowStatus implements AndHowStatusMXBean {
+	private static final AndHowLog LOG = AndHowLog.getLogger(AndHowStatus.class);
+	
+	/** The JMX name the MBean of the global AndHow instance is registered under */
+	public static final String OBJECT_NAME = "org.yarnandtail.andhow:type=AndHow";
+	
+	/** Replaces redacted values */
+	public static final String REDACTED_VALUE = "********";
+	
+	private final Supplier<AndHowCore> coreSupplier;
+	
+	/**
+	 * New instance.
+	 * 
+	 * Values of Properties w/ a canonical name matching the
+	 * Options.MBEAN_REDACT_REGEX of the current core are redacted.
+	 * 
+	 * @param coreSupplier Returns the current core to report on, or null if
+	 * there is none.
+	 */
+	public AndHowStatus(Supplier<AndHowCore> coreSupplier) {
+		this.coreSupplier = coreSupplier;
+	}
+	
+	/**
+	 * The JMX name of the MBean for an AndHowContext.
+	 * 
+	 * @param classLoader The classloader of the context
+	 * @return The name, which includes the classloader class and identity.
+	 */
+	public static String getObjectName(ClassLoader classLoader) {
+		return OBJECT_NAME + ",context=" + ObjectName.quote(classLoader.getClass().getName() +
+				"@" + Integer.toHexString(System.identityHashCode(classLoader)));
+	}
+	
+	/**
+	 * Registers a new instance w/ the platform MBeanServer, replacing any
+	 * MBean already registered w/ the same name.
+	 * 
+	 * Failure to register is logged, but does not stop AndHow from starting.
+	 * The MBean holds the supplier until it is unregistered.
+	 * 
+	 * @param objectName The JMX name to register under
+	 * @param coreSupplier See the constructor
+	 */
+	public static void register(String objectName, Supplier<AndHowCore> coreSupplier) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(objectName);
+			
+			synchronized (AndHowStatus.class) {
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+				
+				server.registerMBean(new AndHowStatus(coreSupplier), name);
+			}
+		} catch (JMException | RuntimeException e) {
+			LOG.error("Unable to register the AndHow MBean '" + objectName + "'", e);
+		}
+	}
+	
+	/**
+	 * Unregisters the MBean w/ the name, if there is one.
+	 * 
+	 * @param objectName The JMX name the MBean was registered under
+	 */
+	public static void unregister(String objectName) {
+		try {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName name = new ObjectName(objectName);
+			
+			synchronized (AndHowStatus.class) {
+				if (server.isRegistered(name)) {
+					server.unregisterMBean(name);
+				}
+			}
+		} catch (JMException | RuntimeException e) {
+			LOG.error("Unable to unregister the AndHow MBean '" + objectName + "'", e);
+		}
+	}
+	
+	@Override
+	public long getGeneration() {
+		return core().getGeneration();
+	}
+	
+	@Override
+	public long getReloadCount() {
+		return core().getGeneration() - 1;
+	}
+	
+	@Override
+	public int getPropertyCount() {
+		return core().getProperties().size();
+	}
+	
+	@Override
+	public Map<String, String> getEffectiveValues() {
+		AndHowCore core = core();
+		Pattern redactPattern = getRedactPattern(core);
+		Map<String, String> values = new TreeMap();
+		
+		for (Property<?> prop : core.getProperties()) {
+			String str = toString(core, prop);
+			
+			if (str != null) {
+				String name = core.getCanonicalName(prop);
+				
+				if (redactPattern != null && redactPattern.matcher(name).matches()) {
+					values.put(name, REDACTED_VALUE);
+				} else {
+					values.put(name, str);
+				}
+			}
+		}
+		
+		return values;
+	}
+	
+	@Override
+	public Map<String, String> getValueLoaders() {
+		AndHowCore core = core();
+		Map<String, String> loaders = new TreeMap();
+		
+		for (LoaderValues lvs : core.getValuesWithContext().getAllLoaderValues()) {
+			for (ValidatedValue v : lvs.getValues()) {
+				if (v.getValue() != null) {
+					loaders.putIfAbsent(core.getCanonicalName(v.getProperty()), describe(lvs.getLoader()));
+				}
+			}
+		}
+		
+		return loaders;
+	}
+	
+	@Override
+	public Map<String, Long> getLoaderNanos() {
+		Map<String, Long> nanos = new LinkedHashMap();
+		
+		int index = 0;
+		
+		for (Map.Entry<Loader, Long> e : core().getTimings().getLoaderNanos().entrySet()) {
+			nanos.put(describe(index++, e.getKey()), e.getValue());
+		}
+		
+		return nanos;
+	}
+	
+	@Override
+	public Map<String, Integer> getLoaderValueCounts() {
+		Map<String, Integer> counts = new LinkedHashMap();
+		
+		int index = 0;
+		
+		for (Map.Entry<Loader, Integer> e : core().getTimings().getLoaderValueCounts().entrySet()) {
+			counts.put(describe(index++, e.getKey()), e.getValue());
+		}
+		
+		return counts;
+	}
+	
+	/**
+	 * The current core.
+	 * 
+	 * @throws IllegalStateException If there is no current core.
+	 */
+	private AndHowCore core() {
+		AndHowCore core = coreSupplier.get();
+		
+		if (core == null) {
+			throw new IllegalStateException("AndHow is not currently initialized");
+		}
+		
+		return core;
+	}
+	
+	/**
+	 * The compiled MBEAN_REDACT_REGEX of the core, or null to redact nothing.
+	 * 
+	 * It is compiled on each read since the core may have been replaced, and
+	 * JMX reads are infrequent.
+	 */
+	private static Pattern getRedactPattern(AndHowCore core) {
+		String regex = core.getValue(Options.MBEAN_REDACT_REGEX);
+		return (regex != null) ? Pattern.compile(regex) : null;
+	}
+	
+	private static <T> String toString(AndHowCore core, Property<T> prop) {
+		T value = core.getValue(prop);
+		return (value != null) ? prop.getValueType().toString(value) : null;
+	}
+	
+	/**
+	 * The describe() text prefixed w/ the position of the loader, which is
+	 * unique even for two loaders of the same class and description.
+	 */
+	static String describe(int index, Loader loader) {
+		return index + ": " + describe(loader);
+	}
+	
+	/**
+	 * The loader class and, if it has one, its specific load description.
+	 */
+	static String describe(Loader loader) {
+		String desc = loader.getSpecificLoadDescription();
+		
+		if (desc != null) {
+			return loader.getClass().getSimpleName() + " " + desc;
+		} else {
+			return loader.getClass().getSimpleName();
+		}
+	}
+
+}
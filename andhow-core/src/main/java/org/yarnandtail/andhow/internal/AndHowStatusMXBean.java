@@ -0,0 +1,73 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.Map;
+
+/**
+ * JMX view of a running AndHow instance, registered as
+ * <code>org.yarnandtail.andhow:type=AndHow</code> when Options.MBEAN is set.
+ * AndHowContexts register w/ an added <code>context</code> key.
+ * 
+ * All attributes are read from the immutable state of the current AndHow
+ * instance, so polling does not lock or contend w/ the application reading
+ * Property values.  Property values and loaders are keyed by the canonical
+ * name of each Property.
+ * 
+ * @author eeverman
+ */
+public interface AndHowStatusMXBean {
+	
+	/**
+	 * The number of times the values of the current configuration have been
+	 * loaded, counting from one for the first load.
+	 * 
+	 * Each AndHow instance or context counts separately.
+	 * 
+	 * @return The generation of the current configuration
+	 */
+	long getGeneration();
+	
+	/**
+	 * The number of times the configuration was reloaded after the first load.
+	 * 
+	 * @return The reload count
+	 */
+	long getReloadCount();
+	
+	/**
+	 * The number of registered Properties.
+	 * 
+	 * @return
+	 */
+	int getPropertyCount();
+	
+	/**
+	 * The effective value of each Property, as a String.  Values of Properties
+	 * whose name matches Options.MBEAN_REDACT_REGEX are replaced w/ a mask.
+	 * 
+	 * @return Canonical name to value, for Properties w/ a non-null value.
+	 */
+	Map<String, String> getEffectiveValues();
+	
+	/**
+	 * The loader that supplied the value of each Property that was explicitly set.
+	 * 
+	 * @return Canonical name to loader description
+	 */
+	Map<String, String> getValueLoaders();
+	
+	/**
+	 * The time each loader took to load its values during startup.
+	 * 
+	 * @return Loader position and description, e.g. '0: FixedValueLoader', to nanoseconds
+	 */
+	Map<String, Long> getLoaderNanos();
+	
+	/**
+	 * The number of values each loader loaded during startup, including values
+	 * overridden by earlier loaders.
+	 * 
+	 * @return Loader position and description to value count
+	 */
+	Map<String, Integer> getLoaderValueCounts();
+
+}
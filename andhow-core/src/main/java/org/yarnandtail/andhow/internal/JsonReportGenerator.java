@@ -0,0 +1,279 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.yarnandtail.andhow.AndHow;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.IOUtil;
+
+/**
+ * Writes a structured startup report as JSON lines, one JSON object per line.
+ * 
+ * This is an alternative to the wrapped text of ReportGenerator for log
+ * pipelines that need to parse the report.  Each line has an 'event' field:
+ * <ul>
+ * <li>startup - Always first:  Whether startup succeeded, the number of problems
+ * and the total startup time.
+ * <li>problem - One per Problem, w/ its category (construction, loader, value
+ * or requirement), type, Property, group and loader, where known.
+ * <li>value - One per value loaded by each loader, w/ the loader it came from
+ * and if it is the effective value.  The values themselves are not included,
+ * since they may be secrets.
+ * <li>timing - One per startup phase and one per loader.
+ * </ul>
+ * 
+ * Lines are written directly to the sink from the ProblemList and loaded values.
+ * 
+ * @author eeverman
+ */
+public class JsonReportGenerator {
+	
+	/** Report destination for System.out */
+	public static final String STDOUT = "stdout";
+	
+	/** Report destination for System.err */
+	public static final String STDERR = "stderr";
+	
+	/**
+	 * All utility methods are static.
+	 */
+	private JsonReportGenerator() {
+		//no instances
+	}
+	
+	/**
+	 * Writes the report to a destination.
+	 * 
+	 * @param destination 'stdout', 'stderr' or the path of a file to append to.
+	 * @param problems The problems found during startup, which may be empty.
+	 * @param appDef The static config, used for Property names.
+	 * @param values The loaded values, or null if there was no attempt to load values.
+	 * @param timings The startup timings
+	 * @throws IOException If the destination cannot be written to.
+	 */
+	public static void writeReport(String destination, ProblemList<Problem> problems,
+			StaticPropertyConfigurationInternal appDef, ValidatedValuesWithContext values,
+			StartupTimings timings) throws IOException {
+		
+		if (STDOUT.equalsIgnoreCase(destination)) {
+			writeReport(System.out, problems, appDef, values, timings);
+		} else if (STDERR.equalsIgnoreCase(destination)) {
+			writeReport(System.err, problems, appDef, values, timings);
+		} else {
+			File file = new File(IOUtil.expandFilePath(destination));
+			
+			try (Writer out = new BufferedWriter(new OutputStreamWriter(
+					new FileOutputStream(file, true), StandardCharsets.UTF_8))) {
+				writeReport(out, problems, appDef, values, timings);
+			}
+		}
+	}
+	
+	/**
+	 * Writes the report to a PrintStream, flushing it after the report.
+	 * 
+	 * @param out The stream to write to
+	 * @param problems The problems found during startup, which may be empty.
+	 * @param appDef The static config, used for Property names.
+	 * @param values The loaded values, or null if there was no attempt to load values.
+	 * @param timings The startup timings
+	 * @throws IOException
+	 */
+	public static void writeReport(PrintStream out, ProblemList<Problem> problems,
+			StaticPropertyConfigurationInternal appDef, ValidatedValuesWithContext values,
+			StartupTimings timings) throws IOException {
+		
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writeReport(writer, problems, appDef, values, timings);
+		writer.flush();
+	}
+	
+	/**
+	 * Writes the report to an Appendable.
+	 * 
+	 * @param out The destination to write to
+	 * @param problems The problems found during startup, which may be empty.
+	 * @param appDef The static config, used for Property names.
+	 * @param values The loaded values, or null if there was no attempt to load values.
+	 * @param timings The startup timings
+	 * @throws IOException
+	 */
+	public static void writeReport(Appendable out, ProblemList<Problem> problems,
+			StaticPropertyConfigurationInternal appDef, ValidatedValuesWithContext values,
+			StartupTimings timings) throws IOException {
+		
+		writeStartup(out, problems, timings);
+		
+		for (Problem p : problems) {
+			writeProblem(out, p);
+		}
+		
+		if (values != null) {
+			writeValues(out, appDef, values);
+		}
+		
+		writeTimings(out, timings);
+	}
+	
+	static void writeStartup(Appendable out, ProblemList<Problem> problems,
+			StartupTimings timings) throws IOException {
+		
+		out.append("{\"event\":\"startup\"");
+		appendField(out, "name", AndHow.ANDHOW_NAME);
+		appendField(out, "success", problems.isEmpty());
+		appendField(out, "problemCount", problems.size());
+		appendField(out, "totalNanos", timings.getTotalNanos());
+		out.append("}\n");
+	}
+	
+	static void writeProblem(Appendable out, Problem problem) throws IOException {
+		
+		PropertyCoord coord = null;
+		Loader loader = null;
+		String category;
+		
+		if (problem instanceof ConstructionProblem) {
+			category = "construction";
+			coord = ((ConstructionProblem) problem).getBadPropertyCoord();
+		} else if (problem instanceof LoaderProblem) {
+			category = "loader";
+			coord = ((LoaderProblem) problem).getBadValueCoord();
+		} else if (problem instanceof ValueProblem) {
+			category = "value";
+			coord = ((ValueProblem) problem).getBadValueCoord();
+		} else if (problem instanceof RequirementProblem) {
+			category = "requirement";
+			coord = ((RequirementProblem) problem).getPropertyCoord();
+		} else {
+			category = "other";
+		}
+		
+		if (coord instanceof LoaderValueCoord) {
+			loader = ((LoaderValueCoord) coord).getLoader();
+		}
+		
+		out.append("{\"event\":\"problem\"");
+		appendField(out, "category", category);
+		appendField(out, "type", problem.getClass().getSimpleName());
+		
+		if (coord != null && coord.getGroup() != null) {
+			appendField(out, "group", coord.getGroupName());
+		}
+		
+		if (coord != null && coord.getProperty() != null) {
+			appendField(out, "property", coord.getPropName());
+		}
+		
+		if (loader != null) {
+			appendLoader(out, loader);
+		}
+		
+		appendField(out, "context", problem.getProblemContext());
+		appendField(out, "description", problem.getProblemDescription());
+		out.append("}\n");
+	}
+	
+	/**
+	 * Writes the provenance of each loaded value:  The loader it came from and
+	 * if it is the effective value, i.e., the first one loaded for the Property.
+	 */
+	static void writeValues(Appendable out, StaticPropertyConfigurationInternal appDef,
+			ValidatedValuesWithContext values) throws IOException {
+		
+		Set<Property<?>> loaded = new HashSet();
+		
+		for (LoaderValues lvs : values.getAllLoaderValues()) {
+			for (ValidatedValue v : lvs.getValues()) {
+				Property<?> prop = v.getProperty();
+				
+				out.append("{\"event\":\"value\"");
+				appendField(out, "property", appDef.getCanonicalName(prop));
+				appendLoader(out, lvs.getLoader());
+				appendField(out, "effective", loaded.add(prop));
+				appendField(out, "valid", ! v.hasProblems());
+				out.append("}\n");
+			}
+		}
+	}
+	
+	static void writeTimings(Appendable out, StartupTimings timings) throws IOException {
+		
+		for (Map.Entry<String, Long> phase : timings.getPhaseNanos().entrySet()) {
+			out.append("{\"event\":\"timing\"");
+			appendField(out, "phase", phase.getKey());
+			appendField(out, "nanos", phase.getValue());
+			out.append("}\n");
+		}
+		
+		for (Map.Entry<Loader, Long> load : timings.getLoaderNanos().entrySet()) {
+			out.append("{\"event\":\"timing\"");
+			appendField(out, "phase", "load");
+			appendLoader(out, load.getKey());
+			appendField(out, "nanos", load.getValue());
+			out.append("}\n");
+		}
+	}
+	
+	private static void appendLoader(Appendable out, Loader loader) throws IOException {
+		appendField(out, "loader", loader.getClass().getCanonicalName());
+		
+		if (loader.getSpecificLoadDescription() != null) {
+			appendField(out, "loaderDescription", loader.getSpecificLoadDescription());
+		}
+	}
+	
+	private static void appendField(Appendable out, String name, String value) throws IOException {
+		out.append(",\"").append(name).append("\":");
+		
+		if (value != null) {
+			appendString(out, value);
+		} else {
+			out.append("null");
+		}
+	}
+	
+	private static void appendField(Appendable out, String name, long value) throws IOException {
+		out.append(",\"").append(name).append("\":").append(Long.toString(value));
+	}
+	
+	private static void appendField(Appendable out, String name, boolean value) throws IOException {
+		out.append(",\"").append(name).append("\":").append(value ? "true" : "false");
+	}
+	
+	/**
+	 * Appends a String as a quoted and escaped JSON string.
+	 * 
+	 * @param out The destination
+	 * @param str The String to append, not null.
+	 * @throws IOException
+	 */
+	static void appendString(Appendable out, String str) throws IOException {
+		out.append('"');
+		
+		int start = 0;
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			String escape;
+			
+			switch (c) {
+				case '"': escape = "\\\""; break;
+				case '\\': escape = "\\\\"; break;
+				case '\n': escape = "\\n"; break;
+				case '\r': escape = "\\r"; break;
+				case '\t': escape = "\\t"; break;
+				default:
+					if (c < 0x20) {
+						escape = String.format("\\u%04x", (int) c);
+					} else {
+						continue;
+					}
+			}
+			
+			out.append(str, start, i).append(escape);
+			start = i + 1;
+		}
+		
+		out.append(str, start, str.length()).append('"');
+	}
+}
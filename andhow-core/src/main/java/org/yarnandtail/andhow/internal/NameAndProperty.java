@@ -9,10 +9,23 @@ public class NameAndProperty {
 
 	public String fieldName;
 	public Property<?> property;
+	public boolean buildVerified;
 
 	public NameAndProperty(String fieldName, Property<?> prop) {
 		this.fieldName = fieldName;
 		this.property = prop;
 	}
+
+	/**
+	 * New instance.
+	 * 
+	 * @param fieldName The name of the field the Property is assigned to
+	 * @param prop The Property
+	 * @param buildVerified True if the Property was verified at build time.
+	 */
+	public NameAndProperty(String fieldName, Property<?> prop, boolean buildVerified) {
+		this(fieldName, prop);
+		this.buildVerified = buildVerified;
+	}
 	
 }
@@ -1,12 +1,15 @@
 package org.yarnandtail.andhow.internal;
 
 import java.io.*;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import org.yarnandtail.andhow.AndHow;
 import org.yarnandtail.andhow.Options;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem.UnknownPropertyLoaderProblem;
+import org.yarnandtail.andhow.sample.BaseSamplePrinter;
+import org.yarnandtail.andhow.sample.SampleTextCache;
 import org.yarnandtail.andhow.util.*;
 
 /**
@@ -16,6 +19,9 @@ import org.yarnandtail.andhow.util.*;
 public class ReportGenerator {
 	
 	public static final int DEFAULT_LINE_WIDTH = 90;
+	
+	/** Output buffer size for each sample file */
+	private static final int SAMPLE_BUFFER_SIZE = 64 * 1024;
 		
 	public static void printProblems(PrintStream out, AppFatalException fatalException, StaticPropertyConfigurationInternal appDef) {
 		
@@ -177,6 +183,10 @@ public class ReportGenerator {
 	/**
 	 * Print configurations samples for Loaders that support it.
 	 * 
+	 * Each loader type is printed to its own file by a separate task, all run in
+	 * parallel.  The printers share a SampleTextCache, so the comment text of
+	 * each Property is only built and wrapped once.
+	 * 
 	 * @param sampleDir The directory to write configuration samples to
 	 * @param appDef
 	 * @param loaders
@@ -190,7 +200,8 @@ public class ReportGenerator {
 		//Set of loader type-dialect's that have been printed.  Skip duplicates.
 		HashSet<String> printedLoaderTypes = new HashSet();
 		
-		int supportedLoaders = 0;
+		SampleTextCache textCache = new SampleTextCache();
+		List<Runnable> tasks = new ArrayList();
 		
 		for (Loader loader : loaders) {
 			
@@ -207,25 +218,45 @@ public class ReportGenerator {
 				if (! printedLoaderTypes.contains(fullType)) {
 					printedLoaderTypes.add(fullType);
 					
-					supportedLoaders++;
+					if (printer instanceof BaseSamplePrinter) {
+						((BaseSamplePrinter) printer).setTextCache(textCache);
+					}
 					
 					File singleSample = new File(sampleDir, fullType + "." + printer.getSampleFileExtension());
-
-					try (PrintStream printWriter = new PrintStream(new BufferedOutputStream(new FileOutputStream(singleSample, false)))) {
-						printSingleLoader(appDef, printWriter, printer);
-					} catch (IOException ex) {
-						log.error("Unable to create sample configuration file '" + 
-								singleSample.getAbsolutePath() + "'", ex);
-					}
-
+					
+					tasks.add(() -> printSingleLoader(appDef, singleSample, printer, log));
 				}
 			}
 			
 			
 		}
 		
-		if (supportedLoaders == 0) {
+		if (tasks.isEmpty()) {
 			log.error("== None of the configured Loaders support creating configuration samples ==");
+		} else if (tasks.size() == 1) {
+			tasks.get(0).run();
+		} else {
+			tasks.parallelStream().forEach(Runnable::run);
+		}
+	}
+	
+	/**
+	 * Prints the sample for a single loader to a file.
+	 * 
+	 * @param appDef
+	 * @param sampleFile The file to write to, which is replaced if it exists.
+	 * @param printer
+	 * @param log Errors are logged here
+	 */
+	private static void printSingleLoader(StaticPropertyConfigurationInternal appDef, File sampleFile,
+			SamplePrinter printer, AndHowLog log) {
+		
+		try (PrintStream printWriter = new PrintStream(
+				new BufferedOutputStream(new FileOutputStream(sampleFile, false), SAMPLE_BUFFER_SIZE))) {
+			printSingleLoader(appDef, printWriter, printer);
+		} catch (IOException ex) {
+			log.error("Unable to create sample configuration file '" + 
+					sampleFile.getAbsolutePath() + "'", ex);
 		}
 	}
 	
@@ -0,0 +1,98 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.Loader;
+
+/**
+ * Records how long each phase of AndHow startup takes.
+ * 
+ * Phases are recorded in the order they complete.  Loading is recorded per
+ * loader.  Times are in nanoseconds.
+ * 
+ * @author eeverman
+ */
+public class StartupTimings {
+	
+	private final long startNanos = System.nanoTime();
+	private final Map<String, Long> phaseNanos = new LinkedHashMap();
+	private final Map<Loader, Long> loaderNanos = new LinkedHashMap();
+	private final Map<Loader, Integer> loaderValueCounts = new LinkedHashMap();
+	private volatile long totalNanos = -1L;
+	
+	/**
+	 * The current time, to pass back as the start of a phase.
+	 * 
+	 * @return The current System.nanoTime()
+	 */
+	public long mark() {
+		return System.nanoTime();
+	}
+	
+	/**
+	 * Records a phase that started at the passed time and ends now.
+	 * 
+	 * @param phase The name of the phase
+	 * @param phaseStartNanos The start time, as returned by mark()
+	 */
+	public void addPhase(String phase, long phaseStartNanos) {
+		phaseNanos.put(phase, System.nanoTime() - phaseStartNanos);
+	}
+	
+	/**
+	 * Records loading by a loader that started at the passed time and ends now.
+	 * 
+	 * @param loader The loader
+	 * @param loadStartNanos The start time, as returned by mark()
+	 */
+	public void addLoader(Loader loader, long loadStartNanos) {
+		loaderNanos.put(loader, System.nanoTime() - loadStartNanos);
+	}
+	
+	/**
+	 * Records loading by a loader, as addLoader(loader, start), and the number
+	 * of values it loaded.
+	 * 
+	 * @param loader The loader
+	 * @param loadStartNanos The start time, as returned by mark()
+	 * @param valueCount The number of values the loader loaded
+	 */
+	public void addLoader(Loader loader, long loadStartNanos, int valueCount) {
+		addLoader(loader, loadStartNanos);
+		loaderValueCounts.put(loader, valueCount);
+	}
+	
+	public Map<String, Long> getPhaseNanos() {
+		return Collections.unmodifiableMap(phaseNanos);
+	}
+	
+	public Map<Loader, Long> getLoaderNanos() {
+		return Collections.unmodifiableMap(loaderNanos);
+	}
+	
+	public Map<Loader, Integer> getLoaderValueCounts() {
+		return Collections.unmodifiableMap(loaderValueCounts);
+	}
+	
+	/**
+	 * Marks the end of startup, freezing the total time.
+	 * 
+	 * Only the first call has an effect.
+	 */
+	public void finish() {
+		if (totalNanos < 0L) {
+			totalNanos = System.nanoTime() - startNanos;
+		}
+	}
+	
+	/**
+	 * The total time of startup, from the creation of this instance to finish().
+	 * 
+	 * Until finish() is called, this is the time elapsed so far.
+	 * 
+	 * @return Elapsed nanoseconds
+	 */
+	public long getTotalNanos() {
+		long total = totalNanos;
+		return (total >= 0L) ? total : System.nanoTime() - startNanos;
+	}
+}
@@ -6,80 +6,191 @@ import org.yarnandtail.andhow.api.*;
 /**
  * An immutable instance that can be used during runtime.
  * 
+ * To keep the retained heap small for applications w/ many Properties, each
+ * Property is given an ordinal (its index in the Property list) and all per
+ * Property data is kept in flat arrays indexed by that ordinal.  The two
+ * lookups, by Property and by name, are open addressed hash tables that store
+ * ordinals, rather than HashMaps w/ an entry object for each key.
+ * 
+ * Names are not duplicated:  The name lookup table stores only the hash of
+ * each effective 'in' name.  A match is confirmed against the names the
+ * Property already has, i.e. the effective in names of its aliases and its
+ * canonical name, transformed by the NamingStrategy.  Strings are interned
+ * within the instance, so equal names share a single String.
+ * 
  * @author eeverman
  */
 public class StaticPropertyConfigurationImmutable implements StaticPropertyConfigurationInternal {
-
+	
+	private static final EffectiveName[] NO_ALIASES = new EffectiveName[0];
+	
 	private final NamingStrategy namingStrategy;
 	private final List<GroupProxy> groupList;
 	private final List<Property<?>> properties;
-	private final Map<GroupProxy, List<Property<?>>> propertiesByGroup;
-	private final Map<String, Property<?>> propertiesByAnyName;
-	private final Map<Property<?>, List<EffectiveName>> aliasesByProperty;
-	private final Map<Property<?>, String> canonicalNameByProperty;
 	private final List<ExportGroup> exportGroups;
 	
-
+	//
+	//Per Property data, indexed by ordinal
+	private final Property<?>[] propertyArray;
+	private final String[] canonicalNames;
+	private final EffectiveName[][] aliases;
+	private final int[] groupIndexes;
+	
+	/** Properties of each Group, indexed the same as groupList */
+	private final List<Property<?>>[] propertiesByGroupIndex;
+	
+	/** Property to ordinal:  Properties compared by identity */
+	private final Property<?>[] ordinalKeys;
+	private final int[] ordinalValues;
+	
+	/** Effective in name hash to ordinal + 1, so that zero is an empty slot */
+	private final int[] nameHashes;
+	private final int[] nameOrdinals;
+	
+	
 	public StaticPropertyConfigurationImmutable(
 			NamingStrategy namingStrategy,
 			List<GroupProxy> groupList,
 			List<Property<?>> properties,
-			Map<GroupProxy, List<Property<?>>> propertiesByGroup, 
-			Map<String, Property<?>> propertiesByAnyName, 
-			Map<Property<?>, List<EffectiveName>> aliasesByProperty, 
+			Map<GroupProxy, List<Property<?>>> propertiesByGroup,
+			Map<String, Property<?>> propertiesByAnyName,
+			Map<Property<?>, List<EffectiveName>> aliasesByProperty,
 			Map<Property<?>, String> canonicalNameByProperty,
 			List<ExportGroup> exportGroups) {
 		
 		this.namingStrategy = namingStrategy;
-
+		
 		//Full detach incomming data from existing collections for immutability
 		
-		ArrayList<GroupProxy> gl = new ArrayList();
-		gl.addAll(groupList);
-		gl.trimToSize();
-		this.groupList = Collections.unmodifiableList(gl);
+		this.groupList = Collections.unmodifiableList(Arrays.asList(groupList.toArray(new GroupProxy[groupList.size()])));
+		this.exportGroups = Collections.unmodifiableList(Arrays.asList(exportGroups.toArray(new ExportGroup[exportGroups.size()])));
 		
-		ArrayList<Property<?>> props = new ArrayList();
-		props.addAll(properties);
-		props.trimToSize();
-		this.properties = Collections.unmodifiableList(props);
+		propertyArray = properties.toArray(new Property<?>[properties.size()]);
+		this.properties = Collections.unmodifiableList(Arrays.asList(propertyArray));
 		
-		Map<GroupProxy, List<Property<?>>> propsByGrp = new HashMap();
-		propsByGrp.putAll(propertiesByGroup);
-		this.propertiesByGroup = Collections.unmodifiableMap(propsByGrp);
+		int propCount = propertyArray.length;
 		
-		Map<String, Property<?>> propsByName = new HashMap();
-		propsByName.putAll(propertiesByAnyName);
-		this.propertiesByAnyName = Collections.unmodifiableMap(propsByName);
+		//Property to ordinal
+		ordinalKeys = new Property<?>[tableSize(propCount)];
+		ordinalValues = new int[ordinalKeys.length];
 		
-		Map<Property<?>, List<EffectiveName>> alsByProp = new HashMap();
-		alsByProp.putAll(aliasesByProperty);
-		this.aliasesByProperty = Collections.unmodifiableMap(alsByProp);
-
-		Map<Property<?>, String> canonByProp = new HashMap();
-		canonByProp.putAll(canonicalNameByProperty);
-		this.canonicalNameByProperty = Collections.unmodifiableMap(canonByProp);
+		for (int i = 0; i < propCount; i++) {
+			int slot = findOrdinalSlot(ordinalKeys, propertyArray[i]);
+			ordinalKeys[slot] = propertyArray[i];
+			ordinalValues[slot] = i;
+		}
 		
-		ArrayList<ExportGroup> expGroups = new ArrayList();
-		expGroups.addAll(exportGroups);
-		expGroups.trimToSize();
-		this.exportGroups = Collections.unmodifiableList(expGroups);
+		//Names, interned so that equal Strings are only retained once
+		Map<String, String> internTable = new HashMap();
+		canonicalNames = new String[propCount];
+		aliases = new EffectiveName[propCount][];
 		
+		for (int i = 0; i < propCount; i++) {
+			canonicalNames[i] = intern(internTable, canonicalNameByProperty.get(propertyArray[i]));
+			
+			List<EffectiveName> als = aliasesByProperty.get(propertyArray[i]);
+			
+			if (als != null && ! als.isEmpty()) {
+				aliases[i] = new EffectiveName[als.size()];
+				
+				for (int a = 0; a < als.size(); a++) {
+					aliases[i][a] = internName(internTable, als.get(a));
+				}
+			} else {
+				aliases[i] = NO_ALIASES;
+			}
+		}
+		
+		//Effective in name to ordinal
+		nameHashes = new int[tableSize(propertiesByAnyName.size())];
+		nameOrdinals = new int[nameHashes.length];
+		int mask = nameHashes.length - 1;
+		
+		for (Map.Entry<String, Property<?>> entry : propertiesByAnyName.entrySet()) {
+			int ordinal = getOrdinal(entry.getValue());
+			
+			if (ordinal >= 0) {
+				int hash = entry.getKey().hashCode();
+				int slot = spread(hash) & mask;
+				
+				while (nameOrdinals[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				
+				nameHashes[slot] = hash;
+				nameOrdinals[slot] = ordinal + 1;
+			}
+		}
+		
+		//Groups
+		groupIndexes = new int[propCount];
+		Arrays.fill(groupIndexes, -1);
+		propertiesByGroupIndex = new List[this.groupList.size()];
+		
+		for (int g = 0; g < propertiesByGroupIndex.length; g++) {
+			List<Property<?>> grpProps = propertiesByGroup.get(this.groupList.get(g));
+			
+			if (grpProps != null) {
+				Property<?>[] grpArray = grpProps.toArray(new Property<?>[grpProps.size()]);
+				propertiesByGroupIndex[g] = Collections.unmodifiableList(Arrays.asList(grpArray));
+				
+				for (Property<?> p : grpArray) {
+					int ordinal = getOrdinal(p);
+					if (ordinal >= 0 && groupIndexes[ordinal] < 0) {
+						groupIndexes[ordinal] = g;
+					}
+				}
+			} else {
+				propertiesByGroupIndex[g] = EMPTY_PROPERTY_LIST;
+			}
+		}
+		
+	}
+	
+	@Override
+	public int getOrdinal(Property<?> prop) {
+		if (prop == null) return -1;
+		
+		int slot = findOrdinalSlot(ordinalKeys, prop);
+		return (ordinalKeys[slot] != null) ? ordinalValues[slot] : -1;
 	}
 	
 	@Override
 	public Property<?> getProperty(String classpathStyleName) {
-		return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
+		String effName = namingStrategy.toEffectiveName(classpathStyleName);
+		
+		if (effName == null) return null;
+		
+		int hash = effName.hashCode();
+		int mask = nameHashes.length - 1;
+		int slot = spread(hash) & mask;
+		
+		while (nameOrdinals[slot] != 0) {
+			if (nameHashes[slot] == hash && hasEffectiveInName(nameOrdinals[slot] - 1, effName)) {
+				return propertyArray[nameOrdinals[slot] - 1];
+			}
+			
+			slot = (slot + 1) & mask;
+		}
+		
+		return null;
 	}
 	
 	@Override
 	public List<EffectiveName> getAliases(Property<?> property) {
-		return Collections.unmodifiableList(aliasesByProperty.get(property));
-	}
+		int ordinal = getOrdinal(property);
 		
+		if (ordinal >= 0) {
+			return Collections.unmodifiableList(Arrays.asList(aliases[ordinal]));
+		} else {
+			return Collections.emptyList();
+		}
+	}
+	
 	@Override
 	public String getCanonicalName(Property<?> prop) {
-		return canonicalNameByProperty.get(prop);
+		int ordinal = getOrdinal(prop);
+		return (ordinal >= 0) ? canonicalNames[ordinal] : null;
 	}
 	
 	@Override
@@ -103,10 +214,10 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	
 	@Override
 	public List<Property<?>> getPropertiesForGroup(GroupProxy group) {
-		List<Property<?>> pts = propertiesByGroup.get(group);
+		int index = groupList.indexOf(group);
 		
-		if (pts != null) {
-			return Collections.unmodifiableList(pts);
+		if (index >= 0) {
+			return propertiesByGroupIndex[index];
 		} else {
 			return EMPTY_PROPERTY_LIST;
 		}
@@ -114,10 +225,10 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	
 	@Override
 	public GroupProxy getGroupForProperty(Property<?> prop) {
-		for (GroupProxy group : groupList) {
-			if (propertiesByGroup.get(group).contains(prop)) {
-				return group;
-			}
+		int ordinal = getOrdinal(prop);
+		
+		if (ordinal >= 0 && groupIndexes[ordinal] >= 0) {
+			return groupList.get(groupIndexes[ordinal]);
 		}
 		
 		return null;
@@ -132,5 +243,66 @@ public class StaticPropertyConfigurationImmutable implements StaticPropertyConfi
 	public NamingStrategy getNamingStrategy() {
 		return namingStrategy;
 	}
+	
+	/**
+	 * True if the effective in name is one of the names of the Property.
+	 */
+	private boolean hasEffectiveInName(int ordinal, String effName) {
+		for (EffectiveName a : aliases[ordinal]) {
+			if (a.isIn() && a.getEffectiveInName().equals(effName)) {
+				return true;
+			}
+		}
+		
+		return effName.equals(namingStrategy.toEffectiveName(canonicalNames[ordinal]));
+	}
+	
+	private static int findOrdinalSlot(Property<?>[] table, Property<?> prop) {
+		int mask = table.length - 1;
+		int slot = spread(System.identityHashCode(prop)) & mask;
+		
+		while (table[slot] != null && table[slot] != prop) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	/**
+	 * Power of two table size w/ a load factor of at most one half.
+	 */
+	private static int tableSize(int entries) {
+		return Integer.highestOneBit(Math.max(entries, 1) * 2 - 1) << 1;
+	}
+	
+	/**
+	 * Mixes the high bits into the low bits, like HashMap, since only the low
+	 * bits are used for the slot.
+	 */
+	private static int spread(int hash) {
+		return hash ^ (hash >>> 16);
+	}
+	
+	private static String intern(Map<String, String> internTable, String str) {
+		if (str == null) return null;
+		
+		String existing = internTable.putIfAbsent(str, str);
+		return (existing != null) ? existing : str;
+	}
+	
+	/**
+	 * Returns the same EffectiveName if its Strings are not duplicates of names
+	 * already seen, otherwise a copy that uses the existing Strings.
+	 */
+	private static EffectiveName internName(Map<String, String> internTable, EffectiveName name) {
+		String actual = intern(internTable, name.getActualName());
+		String effIn = intern(internTable, name.getEffectiveInName());
+		
+		if (actual == name.getActualName() && effIn == name.getEffectiveInName()) {
+			return name;
+		} else {
+			return new EffectiveName(actual, effIn, name.isIn(), name.isOut());
+		}
+	}
 
 }
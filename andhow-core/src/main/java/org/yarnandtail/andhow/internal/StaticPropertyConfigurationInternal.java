@@ -82,5 +82,13 @@ public interface StaticPropertyConfigurationInternal extends StaticPropertyConfi
 	 */
 	List<ExportGroup> getExportGroups();
 	
+	/**
+	 * The ordinal of a Property, which is its index in getProperties().
+	 * 
+	 * @param prop The Property
+	 * @return The ordinal or -1 if the Property is not registered.
+	 */
+	int getOrdinal(Property<?> prop);
+
 
 }
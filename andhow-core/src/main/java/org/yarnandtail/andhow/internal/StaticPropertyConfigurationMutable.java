@@ -37,6 +37,22 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 	 * @param property The Property to be added
 	 */
 	public ConstructionProblem addProperty(GroupProxy group, Property<?> property) {
+		return addProperty(group, property, false);
+	}
+	
+	/**
+	 * Adds a Group, its Property and the name and aliases for that property
+	 * to all the collections.
+	 * 
+	 * If the Property was verified at build time by the AndHowCompileProcessor,
+	 * its validator configuration and default value are not checked again.
+	 * Name uniqueness is always checked, since it depends on all Properties.
+	 * 
+	 * @param group The Group parent of the property
+	 * @param property The Property to be added
+	 * @param buildVerified True if the Property was verified at build time.
+	 */
+	public ConstructionProblem addProperty(GroupProxy group, Property<?> property, boolean buildVerified) {
 		
 		PropertyNaming names = null;
 		
@@ -102,22 +118,25 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		}
 		
 		
-		//Check for bad internal validation configuration (eg, bad regex string)
-		for (Validator v : property.getValidators()) {
-			if (! v.isSpecificationValid()) {
-				ConstructionProblem.InvalidValidationConfiguration badValid = new
-					ConstructionProblem.InvalidValidationConfiguration(
-					group, property, v);
-				
-				return badValid;
+		if (! buildVerified) {
+			
+			//Check for bad internal validation configuration (eg, bad regex string)
+			for (Validator v : property.getValidators()) {
+				if (! v.isSpecificationValid()) {
+					ConstructionProblem.InvalidValidationConfiguration badValid = new
+						ConstructionProblem.InvalidValidationConfiguration(
+						group, property, v);
+
+					return badValid;
+				}
+			}
+
+			//Check the default value against validation
+			ConstructionProblem invalidDefault = 
+					checkForInvalidDefaultValue(property, group, names.getCanonicalName().getActualName());
+			if (invalidDefault != null) {
+				return invalidDefault;
 			}
-		}
-		
-		//Check the default value against validation
-		ConstructionProblem invalidDefault = 
-				checkForInvalidDefaultValue(property, group, names.getCanonicalName().getActualName());
-		if (invalidDefault != null) {
-			return invalidDefault;
 		}
 		
 		//
@@ -154,6 +173,11 @@ public class StaticPropertyConfigurationMutable implements StaticPropertyConfigu
 		return propertiesByAnyName.get(namingStrategy.toEffectiveName(classpathStyleName));
 	}
 	
+	@Override
+	public int getOrdinal(Property<?> prop) {
+		return properties.indexOf(prop);
+	}
+	
 	@Override
 	public List<EffectiveName> getAliases(Property<?> property) {
 		return aliasesByProperty.get(property);
@@ -0,0 +1,253 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+
+/**
+ * Immutable ValidatedValues implementation that keeps only the effective values
+ * and the loader each one came from.
+ * 
+ * Values that were overridden by an earlier loader and the Problems of each
+ * loader are not kept, so this uses much less memory than the full
+ * ValidatedValuesWithContextImmutable when loaders load many values.  The
+ * effective values are kept in a single open addressed table of Properties,
+ * values and a one byte index of the source loader.
+ * 
+ * Because overridden values are dropped, getAllLoaderValues() and
+ * getAllValuesLoadedByLoader() return the same values as
+ * getEffectiveValuesLoadedByLoader(), w/o any Problems.  Use
+ * ValidatedValuesWithContextImmutable if full provenance is needed.
+ * 
+ * @author eeverman
+ */
+public class ValidatedValuesWithContextCompact extends ValidatedValuesWithContextBase {
+	
+	/** The max number of loaders, since the loader index is stored in a byte */
+	public static final int MAX_LOADERS = 256;
+	
+	/** The loaders, in load order */
+	private final Loader[] loaders;
+	
+	/** Properties, values and the loader index of each are at the same slot */
+	private final Property<?>[] props;
+	private final Object[] values;
+	private final byte[] sources;
+	
+	/** Number of effective values */
+	private final int size;
+	
+	private final boolean problem;
+	
+	/**
+	 * New instance from the values loaded by each loader.
+	 * 
+	 * @param inLoadedValuesList Lists of values loaded by each loader, in load order.
+	 * @throws IllegalArgumentException If there are more than MAX_LOADERS loaders.
+	 */
+	public ValidatedValuesWithContextCompact(List<LoaderValues> inLoadedValuesList) {
+		
+		if (inLoadedValuesList.size() > MAX_LOADERS) {
+			throw new IllegalArgumentException("The compact values cannot store more than " +
+					MAX_LOADERS + " loaders");
+		}
+		
+		loaders = new Loader[inLoadedValuesList.size()];
+		
+		int maxSize = 0;
+		boolean willHaveProblem = false;
+		
+		for (int i = 0; i < loaders.length; i++) {
+			LoaderValues lvs = inLoadedValuesList.get(i);
+			loaders[i] = lvs.getLoader();
+			maxSize += lvs.getValues().size();
+			
+			if (lvs.getProblems().size() > 0) {
+				willHaveProblem = true;
+			}
+		}
+		
+		problem = willHaveProblem;
+		
+		//Power of two capacity w/ a load factor of at most one half
+		int capacity = Integer.highestOneBit(Math.max(maxSize, 1) * 2 - 1) << 1;
+		Property<?>[] inProps = new Property<?>[capacity];
+		Object[] inValues = new Object[capacity];
+		byte[] inSources = new byte[capacity];
+		int count = 0;
+		
+		for (int i = 0; i < loaders.length; i++) {
+			for (ValidatedValue pv : inLoadedValuesList.get(i).getValues()) {
+				if (pv.getValue() != null) {
+					int slot = findSlot(inProps, pv.getProperty());
+					
+					//The first loader to load a value wins
+					if (inProps[slot] == null) {
+						inProps[slot] = pv.getProperty();
+						inValues[slot] = pv.getValue();
+						inSources[slot] = (byte) i;
+						count++;
+					}
+				}
+			}
+		}
+		
+		//Shrink the table if many values were overridden
+		int minCapacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+		if (minCapacity < capacity) {
+			props = new Property<?>[minCapacity];
+			values = new Object[minCapacity];
+			sources = new byte[minCapacity];
+			
+			for (int i = 0; i < capacity; i++) {
+				if (inProps[i] != null) {
+					int slot = findSlot(props, inProps[i]);
+					props[slot] = inProps[i];
+					values[slot] = inValues[i];
+					sources[slot] = inSources[i];
+				}
+			}
+		} else {
+			props = inProps;
+			values = inValues;
+			sources = inSources;
+		}
+		
+		size = count;
+	}
+	
+	/**
+	 * Finds the slot of a Property, or the empty slot where it would go.
+	 * 
+	 * Properties are singletons, so they are compared by identity.
+	 */
+	private static int findSlot(Property<?>[] table, Property<?> prop) {
+		int mask = table.length - 1;
+		int slot = System.identityHashCode(prop) & mask;
+		
+		while (table[slot] != null && table[slot] != prop) {
+			slot = (slot + 1) & mask;
+		}
+		
+		return slot;
+	}
+	
+	@Override
+	public <T> T getExplicitValue(Property<T> prop) {
+		int slot = findSlot(props, prop);
+		return prop.getValueType().cast(values[slot]);
+	}
+	
+	@Override
+	public <T> T getValue(Property<T> prop) {
+		T v = getExplicitValue(prop);
+		
+		if (v != null) {
+			return v;
+		} else {
+			return prop.getDefaultValue();
+		}
+	}
+	
+	@Override
+	public boolean isExplicitlySet(Property<?> prop) {
+		return props[findSlot(props, prop)] != null;
+	}
+	
+	/**
+	 * The loader that loaded the effective value of a Property.
+	 * 
+	 * @param prop The Property
+	 * @return The loader or null if the Property has no explicit value.
+	 */
+	public Loader getSourceLoader(Property<?> prop) {
+		int slot = findSlot(props, prop);
+		
+		if (props[slot] != null) {
+			return loaders[sources[slot] & 0xFF];
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * The number of Properties w/ an explicit value.
+	 * 
+	 * @return The number of effective values
+	 */
+	public int size() {
+		return size;
+	}
+	
+	/**
+	 * Only the effective values of each loader, since overridden values are not
+	 * kept.
+	 * 
+	 * @return
+	 */
+	@Override
+	public List<LoaderValues> getAllLoaderValues() {
+		List<LoaderValues> list = new ArrayList(loaders.length);
+		
+		for (int i = 0; i < loaders.length; i++) {
+			list.add(buildLoaderValues(i));
+		}
+		
+		return Collections.unmodifiableList(list);
+	}
+	
+	/**
+	 * Only the effective values loaded by the loader, since overridden values are
+	 * not kept.
+	 * 
+	 * @param loader
+	 * @return The values, which are empty if the loader is not in use by AndHow.
+	 */
+	@Override
+	public LoaderValues getAllValuesLoadedByLoader(Loader loader) {
+		return getEffectiveValuesLoadedByLoader(loader);
+	}
+	
+	/**
+	 * The effective values loaded by the loader.
+	 * 
+	 * @param loader
+	 * @return The values, which are empty if the loader is not in use by AndHow.
+	 */
+	@Override
+	public LoaderValues getEffectiveValuesLoadedByLoader(Loader loader) {
+		for (int i = 0; i < loaders.length; i++) {
+			if (loaders[i].equals(loader)) {
+				return buildLoaderValues(i);
+			}
+		}
+		
+		return new LoaderValues(loader, Collections.emptyList(), ProblemList.EMPTY_PROBLEM_LIST);
+	}
+	
+	private LoaderValues buildLoaderValues(int loaderIndex) {
+		List<ValidatedValue> lvs = new ArrayList();
+		
+		for (int i = 0; i < props.length; i++) {
+			if (props[i] != null && (sources[i] & 0xFF) == loaderIndex) {
+				lvs.add(new ValidatedValue(props[i], values[i]));
+			}
+		}
+		
+		return new LoaderValues(loaders[loaderIndex], lvs, ProblemList.EMPTY_PROBLEM_LIST);
+	}
+	
+	@Override
+	public ValidatedValues getValueMapImmutable() {
+		return this;
+	}
+	
+	@Override
+	public ValidatedValuesWithContext getValueMapWithContextImmutable() {
+		return this;
+	}
+	
+	@Override
+	public boolean hasProblems() {
+		return problem;
+	}
+}
@@ -3,6 +3,7 @@ package org.yarnandtail.andhow.internal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import org.yarnandtail.andhow.api.*;
 
 /**
@@ -21,9 +22,27 @@ public class ValidatedValuesWithContextImmutable extends ValidatedValuesWithCont
 	private final boolean problem;
 		
 	public ValidatedValuesWithContextImmutable(List<LoaderValues> inLoadedValuesList) {
+		this(inLoadedValuesList, null);
+	}
+	
+	/**
+	 * New instance using already merged effective values.
+	 * 
+	 * @param inLoadedValuesList Lists of values loaded by each loader
+	 * @param inEffectiveValues The effective value of each Property, which must
+	 * match inLoadedValuesList.  If null, it is built from inLoadedValuesList.
+	 */
+	public ValidatedValuesWithContextImmutable(List<LoaderValues> inLoadedValuesList, 
+			Map<Property<?>, Object> inEffectiveValues) {
+		
 		structuredValues.addAll(inLoadedValuesList);
 		structuredValues.trimToSize();
-		effectiveValues = super.buildValueMapImmutable(structuredValues);
+		
+		if (inEffectiveValues != null) {
+			effectiveValues = new ValidatedValuesImmutable(inEffectiveValues);
+		} else {
+			effectiveValues = super.buildValueMapImmutable(structuredValues);
+		}
 		
 		//Check for problems
 		boolean willHaveProblem = false;
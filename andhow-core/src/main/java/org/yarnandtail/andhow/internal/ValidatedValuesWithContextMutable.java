@@ -1,8 +1,6 @@
 package org.yarnandtail.andhow.internal;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import org.yarnandtail.andhow.api.*;
 
 /**
@@ -14,34 +12,76 @@ public class ValidatedValuesWithContextMutable extends ValidatedValuesWithContex
 	
 	/** List of maps of values that were loaded by each loader */
 	private final ArrayList<LoaderValues> loadedValuesList = new ArrayList();
+	
+	/** The effective values, merged as each loader's values are added */
+	private final HashMap<Property<?>, Object> effectiveValues = new HashMap();
+	
 	private boolean problem = false;
 	
 	public ValidatedValuesWithContextMutable() {
 	}
 	
+	/**
+	 * Adds the values of the next loader.
+	 * 
+	 * Values for Properties that do not already have a value from an earlier
+	 * loader become the effective values.
+	 * 
+	 * @param values The values from a single loader
+	 */
 	public void addValues(LoaderValues values) {
 		loadedValuesList.add(values);
+		
+		for (ValidatedValue pv : values.getValues()) {
+			if (pv.getValue() != null) {
+				effectiveValues.putIfAbsent(pv.getProperty(), pv.getValue());
+			}
+		}
+		
 		if (values.getProblems().size() > 0) problem = true;
 	}
 	
 	@Override
 	public ValidatedValuesWithContext getValueMapWithContextImmutable() {
-		return new ValidatedValuesWithContextImmutable(loadedValuesList);
+		return new ValidatedValuesWithContextImmutable(loadedValuesList, effectiveValues);
+	}
+	
+	/**
+	 * Unmodifiable copy that keeps only the effective values and the loader
+	 * each came from, dropping overridden values and Problems.
+	 * 
+	 * If there are too many loaders for the compact form, the full immutable
+	 * copy is returned instead.
+	 * 
+	 * @return A ValidatedValuesWithContextCompact, if possible.
+	 */
+	public ValidatedValuesWithContext getValueMapWithContextCompact() {
+		if (loadedValuesList.size() <= ValidatedValuesWithContextCompact.MAX_LOADERS) {
+			return new ValidatedValuesWithContextCompact(loadedValuesList);
+		} else {
+			return getValueMapWithContextImmutable();
+		}
 	}
 	
 	@Override
 	public <T> T getExplicitValue(Property<T> prop) {
-		return getExplicitValue(loadedValuesList, prop);
+		return prop.getValueType().cast(effectiveValues.get(prop));
 	}
 	
 	@Override
 	public <T> T getValue(Property<T> prop) {
-		return getEffectiveValue(loadedValuesList, prop);
+		T v = getExplicitValue(prop);
+		
+		if (v != null) {
+			return v;
+		} else {
+			return prop.getDefaultValue();
+		}
 	}
 
 	@Override
 	public boolean isExplicitlySet(Property<?> prop) {
-		return isPropertyPresent(loadedValuesList, prop);
+		return effectiveValues.get(prop) != null;
 	}
 	
 	@Override
@@ -61,7 +101,7 @@ public class ValidatedValuesWithContextMutable extends ValidatedValuesWithContex
 
 	@Override
 	public ValidatedValues getValueMapImmutable() {
-		return buildValueMapImmutable(loadedValuesList);
+		return new ValidatedValuesImmutable(effectiveValues);
 	}
 
 	@Override
@@ -0,0 +1,141 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
+import org.yarnandtail.andhow.util.JfrEvents;
+
+/**
+ * A ValueSink that validates each value as it is loaded and merges it with
+ * the values loaded by earlier loaders.
+ *
+ * Only the first value loaded for a Property is used, so only that effective
+ * value is validated.  Values for Properties already loaded by an earlier
+ * loader are overridden:  They are only kept as a record of what each loader
+ * loaded, so they are never validated.
+ *
+ * Validation problems are added to the invalid ValidatedValue and are
+ * reported with the loader that loaded the value.
+ *
+ * There is one instance per loader.  After the loader completes, finish()
+ * adds its values to the ValidatedValuesWithContextMutable, so the next
+ * loader sees them as existing values.
+ *
+ * @author eeverman
+ */
+public class ValidatingValueSink implements ValueSink {
+
+	private final StaticPropertyConfigurationInternal config;
+	private final Loader loader;
+	private final ValidatedValuesWithContextMutable loadedValues;
+	private final boolean inParallel;
+
+	private final ArrayList<ValidatedValue> values = new ArrayList();
+	private final ProblemList<Problem> problems = new ProblemList();
+	private final Set<Property<?>> loadedProperties = new HashSet();
+
+	/** Effective values waiting to be validated in parallel */
+	private final List<ValidatedValue> unvalidatedValues = new ArrayList();
+	
+	/** Number of values already validated one at a time, as they were added */
+	private int validatedCount = 0;
+
+	/**
+	 * New instance for a single loader.
+	 *
+	 * @param config Needed bc validation is done while construction is
+	 *	not complete, thus the as-is definition is needed prior to it being complete.
+	 * @param loader The loader that values are loaded from
+	 * @param loadedValues The values loaded by earlier loaders, which the values
+	 * of this loader are added to by finish().
+	 * @param inParallel If true, the effective values are validated in parallel
+	 * by finish(), rather than one at a time as they are added.
+	 */
+	public ValidatingValueSink(StaticPropertyConfigurationInternal config, Loader loader,
+			ValidatedValuesWithContextMutable loadedValues, boolean inParallel) {
+		this.config = config;
+		this.loader = loader;
+		this.loadedValues = loadedValues;
+		this.inParallel = inParallel;
+	}
+
+	@Override
+	public Loader getLoader() {
+		return loader;
+	}
+
+	@Override
+	public boolean addValue(ValidatedValue value) {
+		Property<?> prop = value.getProperty();
+
+		if (! loadedProperties.add(prop)) {
+			problems.add(new DuplicatePropertyLoaderProblem(
+					loader, config.getGroupForProperty(prop).getProxiedGroup(), prop));
+			return false;
+		}
+
+		values.add(value);
+
+		if (! loadedValues.isExplicitlySet(prop)) {
+			if (inParallel) {
+				unvalidatedValues.add(value);
+			} else {
+				validate(value);
+				validatedCount++;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public void addProblem(Problem problem) {
+		problems.add(problem);
+	}
+
+	/**
+	 * Completes loading for this loader, adding its values to the loaded values.
+	 *
+	 * Problems are in a deterministic order either way:  Loader problems first,
+	 * then validation problems in the order the values were loaded.
+	 *
+	 * @return The values and problems of this loader
+	 */
+	public LoaderValues finish() {
+		
+		JfrEvents.Event event = JfrEvents.begin(JfrEvents.VALIDATION);
+		int validationCount = validatedCount + unvalidatedValues.size();
+		
+		if (! unvalidatedValues.isEmpty()) {
+			unvalidatedValues.parallelStream().forEach(this::validate);
+			unvalidatedValues.clear();
+		}
+		
+		event.set(0, loader.getClass().getCanonicalName()).set(1, validationCount).set(2, inParallel).commit();
+
+		//Validation problems on the values are collected by LoaderValues
+		LoaderValues result = new LoaderValues(loader, values, problems);
+		loadedValues.addValues(result);
+		return result;
+	}
+
+	/**
+	 * Validates a single Property value, adding any problems to the value.
+	 *
+	 * @param <T> The shared type of the Property and Value.
+	 * @param propValue The Property and its value, both of type 'T'.
+	 */
+	private <T> void validate(ValidatedValue<T> propValue) {
+
+		Property<T> prop = propValue.getProperty();
+
+		for (Validator<T> v : prop.getValidators()) {
+			if (! v.isValid(propValue.getValue())) {
+
+				propValue.addProblem(new ValueProblem.InvalidValueProblem(loader,
+						config.getGroupForProperty(prop).getProxiedGroup(),
+						prop, propValue.getValue(), v));
+			}
+		}
+	}
+}
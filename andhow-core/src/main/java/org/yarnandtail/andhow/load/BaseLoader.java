@@ -5,7 +5,6 @@ import java.util.Collections;
 import java.util.List;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
-import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.ObjectConversionValueProblem;
 import org.yarnandtail.andhow.internal.LoaderProblem.UnknownPropertyLoaderProblem;
 import org.yarnandtail.andhow.util.TextUtil;
@@ -32,6 +31,28 @@ public abstract class BaseLoader implements Loader {
 		return null;	//Each implementation needs to provide its own.
 	}
 	
+	/**
+	 * Loads values by collecting the values pushed by the streaming
+	 * load(StaticPropertyConfigurationInternal, ValidatedValuesWithContext, ValueSink)
+	 * into a LoaderValues instance.
+	 * 
+	 * Subclasses that override the streaming load() can use this to implement
+	 * load(StaticPropertyConfigurationInternal, ValidatedValuesWithContext).
+	 * Subclasses that only implement the list based load() must not call it,
+	 * since the default streaming load() calls the list based one.
+	 * 
+	 * @param appConfigDef
+	 * @param existingValues
+	 * @return The values and problems loaded
+	 */
+	protected LoaderValues collectValues(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues) {
+		
+		ListValueSink sink = new ListValueSink(this, appConfigDef);
+		load(appConfigDef, existingValues, sink);
+		return sink.toLoaderValues();
+	}
+	
 	/**
 	 * Util method to load a String to a property by name.
 	 * 
@@ -46,6 +67,23 @@ public abstract class BaseLoader implements Loader {
 	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, List<ValidatedValue> values, 
 			ProblemList<Problem> loaderProblems, String key, String strValue) {
 		
+		attemptToAdd(appConfigDef, new ListValueSink(this, appConfigDef, values, loaderProblems), key, strValue);
+	}
+	
+	/**
+	 * Util method to load a String to a property by name, pushing the value
+	 * or any problem to a ValueSink.
+	 * 
+	 * Used for text based loaders.
+	 * 
+	 * @param appConfigDef Used to look up the property name for find the actual property
+	 * @param sink Receives the value or any loader related problem
+	 * @param key The property name
+	 * @param strValue The property value 
+	 */
+	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, ValueSink sink, 
+			String key, String strValue) {
+		
 		key = TextUtil.trimToNull(key);
 		
 		if (key != null) {
@@ -55,37 +93,58 @@ public abstract class BaseLoader implements Loader {
 			Property prop = appConfigDef.getProperty(effKey);
 
 			if (prop != null) {
-				
-				ValidatedValue pv = null;
-				
-				try {
-					pv = createValue(appConfigDef, prop, strValue);
-				} catch (ParsingException e) {
-					loaderProblems.add(new LoaderProblem.StringConversionLoaderProblem(
-						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
-				}
-								
-				if (pv != null) {
-					ValidatedValue dup = findDuplicateProperty(pv, values);
-
-					if (dup == null) {
-						values.add(pv);
-					} else {
-						loaderProblems.add(new DuplicatePropertyLoaderProblem(
-							this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop));
-					}
-				}
-				
-			} else if (this instanceof ReadLoader) {
-				ReadLoader rl = (ReadLoader)this;
-				if (rl.isUnknownPropertyAProblem()) {
-					loaderProblems.add(new UnknownPropertyLoaderProblem(this, key));
-				}
+				attemptToAddString(appConfigDef, sink, prop, strValue);
+			} else {
+				addUnknownPropertyProblem(sink, key);
 			}
 
 		}
 	}
 	
+	/**
+	 * Util method to load a String to an already resolved Property.
+	 * 
+	 * Used for text based loaders that do their own name lookup, so the
+	 * String value only needs to be created if the Property is known.
+	 * 
+	 * @param appConfigDef Used to look up the group of the Property for Problems
+	 * @param sink Receives the value or any loader related problem
+	 * @param prop The Property to load to, which must not be null
+	 * @param strValue The property value, untrimmed
+	 */
+	protected void attemptToAddString(StaticPropertyConfigurationInternal appConfigDef, ValueSink sink, 
+			Property prop, String strValue) {
+		
+		ValidatedValue pv = null;
+
+		try {
+			pv = createValue(appConfigDef, prop, strValue);
+		} catch (ParsingException e) {
+			sink.addProblem(new LoaderProblem.StringConversionLoaderProblem(
+				this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
+		}
+
+		if (pv != null) {
+			sink.addValue(pv);
+		}
+	}
+	
+	/**
+	 * Adds an UnknownPropertyLoaderProblem for the passed name if this is a
+	 * ReadLoader configured to consider unknown properties a problem.
+	 * 
+	 * @param sink Receives the problem
+	 * @param key The unrecognized property name, as found in the source
+	 */
+	protected void addUnknownPropertyProblem(ValueSink sink, String key) {
+		if (this instanceof ReadLoader) {
+			ReadLoader rl = (ReadLoader)this;
+			if (rl.isUnknownPropertyAProblem()) {
+				sink.addProblem(new UnknownPropertyLoaderProblem(this, key));
+			}
+		}
+	}
+	
 
 	/**
 	 * Util method to attempt to load an object of an unknown type to a property.
@@ -103,6 +162,21 @@ public abstract class BaseLoader implements Loader {
 	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, List<ValidatedValue> values, 
 			ProblemList<Problem> loaderProblems, Property prop, Object value) {
 		
+		attemptToAdd(appConfigDef, new ListValueSink(this, appConfigDef, values, loaderProblems), prop, value);
+	}
+	
+	/**
+	 * Util method to attempt to load an object of an unknown type to a property,
+	 * pushing the value or any problem to a ValueSink.
+	 * 
+	 * @param appConfigDef Used to look up the property name for find the actual property
+	 * @param sink Receives the value or any loader related problem
+	 * @param prop The Property to load to
+	 * @param value The Object to be loaded to this property
+	 */
+	protected void attemptToAdd(StaticPropertyConfigurationInternal appConfigDef, ValueSink sink, 
+			Property prop, Object value) {
+		
 		if (prop != null) {
 			
 			ValidatedValue pv = null;
@@ -116,25 +190,17 @@ public abstract class BaseLoader implements Loader {
 				try {
 					pv = createValue(appConfigDef, prop, value.toString());
 				} catch (ParsingException e) {
-					loaderProblems.add(new LoaderProblem.StringConversionLoaderProblem(
+					sink.addProblem(new LoaderProblem.StringConversionLoaderProblem(
 						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, e.getProblemText()));
 				}
 
 			} else {
-				loaderProblems.add(
+				sink.addProblem(
 						new ObjectConversionValueProblem(this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop, value));
 			}
 			
 			if (pv != null) {
-				
-				ValidatedValue dup = findDuplicateProperty(pv, values);
-				
-				if (dup == null) {
-					values.add(pv);
-				} else {
-					loaderProblems.add(new DuplicatePropertyLoaderProblem(
-						this, appConfigDef.getGroupForProperty(prop).getProxiedGroup(), prop));
-				}
+				sink.addValue(pv);
 			}
 
 		}
@@ -38,20 +38,20 @@ public class FixedValueLoader extends BaseLoader implements ReadLoader {
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues) {
 		
-		if (values != null && values.size() > 0) {
-			List<ValidatedValue> vvs = new ArrayList(values.size());
-			
+		return collectValues(appConfigDef, existingValues);
+	}
+	
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
+		
+		if (values != null) {
 			for (int i = 0; i < values.size(); i++) {
-				ValidatedValue vv = new ValidatedValue(values.get(i).getProperty(), values.get(i).getValue());
-				vvs.add(vv);
+				sink.addValue(new ValidatedValue(values.get(i).getProperty(), values.get(i).getValue()));
 			}
-			
-			return new LoaderValues(this, vvs, ProblemList.EMPTY_PROBLEM_LIST);
-			
-		} else {
-			return new LoaderValues(this, Collections.emptyList(), ProblemList.EMPTY_PROBLEM_LIST);
 		}
 		
 	}
@@ -4,6 +4,7 @@ import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.LoaderProblem;
+import org.yarnandtail.andhow.util.TextUtil;
 
 /**
  * Intended to reads properties from the command line, but could be used for
@@ -48,7 +49,7 @@ public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
 	 * 
 	 * Values are copied, so changes to the passed list are not tracked.
 	 * 
-	 * KVPs are split by KVP.splitKVP using '=' as the delimiter, as defined in
+	 * KVPs are split by loadKeyValuePair using '=' as the delimiter, as defined in
 	 * AndHow.KVP_DELIMITER.
 	 * 
 	 * @param keyValuePairs 
@@ -66,7 +67,7 @@ public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
 	 * 
 	 * Values are copied, so changes to the passed array are not tracked.
 	 * 
-	 * KVPs are split by KVP.splitKVP using '=' as the delimiter, as defined in
+	 * KVPs are split by loadKeyValuePair using '=' as the delimiter, as defined in
 	 * AndHow.KVP_DELIMITER.
 	 * 
 	 * @param keyValuePairs 
@@ -78,29 +79,82 @@ public class KeyValuePairLoader extends BaseLoader implements ReadLoader {
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues) {
 		
-		ArrayList<ValidatedValue> values = new ArrayList();
-		ProblemList<Problem> problems = new ProblemList();
+		return collectValues(appConfigDef, existingValues);
+	}
+	
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
 		
 		if (keyValuePairs != null) {
 			for (String s : keyValuePairs) {
 				try {
-					KVP kvp = KVP.splitKVP(s, KVP_DELIMITER);
-
-					attemptToAdd(appConfigDef, values, problems, kvp.getName(), kvp.getValue());
-
+					loadKeyValuePair(appConfigDef, sink, s);
 				} catch (ParsingException e) {
-					//thrown by KVP.split - this is aloader level problem if we cannot
+					//This is a loader level problem if we cannot
 					//determine even what the Property is.
-					problems.add(new LoaderProblem.ParsingLoaderProblem(this, null, null, e));
+					sink.addProblem(new LoaderProblem.ParsingLoaderProblem(this, null, null, e));
 				}
 			}
-
-			values.trimToSize();
 		}
+	}
+	
+	/**
+	 * Parses a single key value pair and adds its value if the key is a known
+	 * Property.
+	 * 
+	 * This has the same splitting and trimming rules as KVP.splitKVP, but works
+	 * on index spans within the passed String rather than splitting it:  Only
+	 * the key is copied out for the name lookup, and the value is only
+	 * copied if the key matches a Property.  The delimiter is matched
+	 * literally, not as a regex.
+	 * 
+	 * @param appConfigDef Used to look up the Property by name
+	 * @param sink Receives the value or any loader related problem
+	 * @param arg The key value pair, which may be null or all whitespace.
+	 * @throws ParsingException If there is only whitespace before the delimiter
+	 */
+	protected void loadKeyValuePair(StaticPropertyConfigurationInternal appConfigDef,
+			ValueSink sink, String arg) throws ParsingException {
 		
-		return new LoaderValues(this, values, problems);
+		if (arg == null) return;
+		
+		final int start = TextUtil.trimStart(arg, 0, arg.length());
+		final int end = TextUtil.trimEnd(arg, start, arg.length());
+		
+		if (start == end) return;	//all whitespace
+		
+		int delim = arg.indexOf(KVP_DELIMITER, start);
+		if (delim >= end) delim = -1;
+		
+		final int keyEnd = TextUtil.trimEnd(arg, start, (delim > -1) ? delim : end);
+		
+		if (keyEnd == start) {
+			throw new ParsingException("The key (parameter name) cannot be empty", arg.substring(start, end));
+		}
+		
+		String key = arg.substring(start, keyEnd);
+		Property prop = appConfigDef.getProperty(key);
+		
+		if (prop != null) {
+			
+			String value = null;
+			
+			if (delim > -1) {
+				int valStart = TextUtil.trimStart(arg, delim + KVP_DELIMITER.length(), end);
+				if (valStart < end) {
+					value = arg.substring(valStart, end);
+				}
+			}
+			
+			attemptToAddString(appConfigDef, sink, prop, value);
+			
+		} else {
+			addUnknownPropertyProblem(sink, key);
+		}
 	}
 	
 	@Override
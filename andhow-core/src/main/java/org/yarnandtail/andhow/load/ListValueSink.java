@@ -0,0 +1,84 @@
+package org.yarnandtail.andhow.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+
+/**
+ * A ValueSink that simply collects values and problems into lists.
+ * 
+ * Used to implement the list based Loader.load() method on top of the
+ * streaming load, and to wrap the lists passed to the list based utility
+ * methods of BaseLoader.
+ * 
+ * @author eeverman
+ */
+public class ListValueSink implements ValueSink {
+	
+	private final Loader loader;
+	private final StaticPropertyConfigurationInternal appConfigDef;
+	private final List<ValidatedValue> values;
+	private final ProblemList<Problem> problems;
+	
+	/**
+	 * New instance that collects to its own, new lists.
+	 * 
+	 * @param loader The loader that values are loaded from
+	 * @param appConfigDef Used to look up the group of a Property for Problems
+	 */
+	public ListValueSink(Loader loader, StaticPropertyConfigurationInternal appConfigDef) {
+		this(loader, appConfigDef, new ArrayList(), new ProblemList());
+	}
+	
+	/**
+	 * New instance that adds to existing lists.
+	 * 
+	 * @param loader The loader that values are loaded from
+	 * @param appConfigDef Used to look up the group of a Property for Problems
+	 * @param values List to add values to, which may already contain values
+	 * @param problems List to add problems to
+	 */
+	public ListValueSink(Loader loader, StaticPropertyConfigurationInternal appConfigDef,
+			List<ValidatedValue> values, ProblemList<Problem> problems) {
+		this.loader = loader;
+		this.appConfigDef = appConfigDef;
+		this.values = values;
+		this.problems = problems;
+	}
+	
+	@Override
+	public Loader getLoader() {
+		return loader;
+	}
+	
+	@Override
+	public boolean addValue(ValidatedValue value) {
+		for (ValidatedValue ref : values) {
+			if (value.getProperty().equals(ref.getProperty())) {
+				problems.add(new DuplicatePropertyLoaderProblem(loader,
+						appConfigDef.getGroupForProperty(value.getProperty()).getProxiedGroup(),
+						value.getProperty()));
+				return false;
+			}
+		}
+		
+		values.add(value);
+		return true;
+	}
+	
+	@Override
+	public void addProblem(Problem problem) {
+		problems.add(problem);
+	}
+	
+	/**
+	 * Builds a LoaderValues instance from the collected values and problems.
+	 * 
+	 * @return A new LoaderValues instance
+	 */
+	public LoaderValues toLoaderValues() {
+		return new LoaderValues(loader, values, problems);
+	}
+}
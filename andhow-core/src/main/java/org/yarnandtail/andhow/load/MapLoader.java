@@ -30,26 +30,25 @@ public class MapLoader extends BaseLoader implements ReadLoader {
 	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
 			ValidatedValuesWithContext existingValues) {
 		
+		return collectValues(appConfigDef, existingValues);
+	}
+	
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
+		
 		Map<?, ?> props = getMap();
 		
 		if (props != null) {
-			ArrayList<ValidatedValue> values = new ArrayList();
-			ProblemList<Problem> problems = new ProblemList();
-
 			Set<?> keys = props.keySet();
 			for(Object key : keys) {
 				if (key != null) {
 					Object val = props.get(key);
 					String sVal = (val != null)?val.toString():null;
 
-					attemptToAdd(appConfigDef, values, problems, key.toString(), sVal);
+					attemptToAdd(appConfigDef, sink, key.toString(), sVal);
 				}
 			}
-
-			values.trimToSize();
-			return new LoaderValues(this, values, problems);
-		} else {
-			return new LoaderValues(this);
 		}
 		
 		
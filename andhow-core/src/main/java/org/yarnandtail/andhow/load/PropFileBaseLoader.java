@@ -1,10 +1,13 @@
 package org.yarnandtail.andhow.load;
 
 import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.*;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.sample.PropFileLoaderSamplePrinter;
+import org.yarnandtail.andhow.util.JfrEvents;
 
 /**
  * Shared functionality for all Property file loaders.
@@ -30,22 +33,48 @@ public abstract class PropFileBaseLoader extends BaseLoader
 	
 	public PropFileBaseLoader() { /* empty for easy construction */ }
 	
+	@Override
+	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues) {
+		
+		return collectValues(appConfigDef, existingValues);
+	}
+	
 	public LoaderValues loadInputStreamToProps(InputStream inputStream, 
 			String fromPath, StaticPropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues) throws LoaderException {
 		
+		ListValueSink sink = new ListValueSink(this, appConfigDef);
+		loadInputStreamToProps(inputStream, fromPath, appConfigDef, sink);
+		return sink.toLoaderValues();
+	}
+	
+	/**
+	 * Reads a properties file from an InputStream, pushing each value and any
+	 * problem to the passed sink.
+	 * 
+	 * @param inputStream The stream to read from, which must not be null
+	 * @param fromPath The path of the file, used for error messages
+	 * @param appConfigDef
+	 * @param sink Receives the values and loader related problems
+	 * @throws LoaderException If the InputStream cannot be read
+	 */
+	public void loadInputStreamToProps(InputStream inputStream, 
+			String fromPath, StaticPropertyConfigurationInternal appConfigDef,
+			ValueSink sink) throws LoaderException {
+		
 		
 		if (inputStream == null) {
 			Exception e = new IllegalArgumentException("The InputStream cannot be null");
 			throw new LoaderException(e, this, "properties file at '" + fromPath + "'");
 		}
 		
+		JfrEvents.Event event = JfrEvents.begin(JfrEvents.PROPERTY_FILE_READ);
+		CountingInputStream counter = new CountingInputStream(inputStream);
+		
 		try {
 			Properties props = new Properties();
-			props.load(inputStream);
-			
-			ArrayList<ValidatedValue> values = new ArrayList();
-			ProblemList<Problem> problems = new ProblemList();
+			props.load(counter);
 
 			Set<Object> keys = props.keySet();
 			for(Object key : keys) {
@@ -53,12 +82,11 @@ public abstract class PropFileBaseLoader extends BaseLoader
 					String k = key.toString();
 					String v = props.getProperty(k);
 
-					attemptToAdd(appConfigDef, values, problems, k, v);
+					attemptToAdd(appConfigDef, sink, k, v);
 				}
 			}
-
-			values.trimToSize();
-			return new LoaderValues(this, values, problems);
+			
+			event.set(0, fromPath).set(1, counter.count).set(2, props.size()).commit();
 			
 		} catch (Exception e) {
 			//These are nominally IO exceptions
@@ -155,4 +183,29 @@ public abstract class PropFileBaseLoader extends BaseLoader
 		pathProp = path;
 	}
 
+	/**
+	 * Counts the bytes read, for the property file JFR event.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+		long count;
+		
+		CountingInputStream(InputStream in) {
+			super(in);
+		}
+		
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b >= 0) count++;
+			return b;
+		}
+		
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0) count += read;
+			return read;
+		}
+	}
+
 }
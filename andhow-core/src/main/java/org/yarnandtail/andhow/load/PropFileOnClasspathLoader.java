@@ -42,7 +42,8 @@ public class PropFileOnClasspathLoader extends PropFileBaseLoader {
 		/* empty for easy construction */ }
 
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
 
 		String path = getEffectivePath(existingValues);
 
@@ -50,14 +51,12 @@ public class PropFileOnClasspathLoader extends PropFileBaseLoader {
 
 			specificLoadDescription = "file on classpath at: " + path;
 
-			LoaderValues vals = load(appConfigDef, existingValues, path);
-			return vals;
+			load(appConfigDef, path, sink);
 
 		} else {
 			//The classpathProp is not specified, so just ignore
 
 			specificLoadDescription = "unpsecified file on classpath";
-			return new LoaderValues(this);
 		}
 	}
 
@@ -72,26 +71,40 @@ public class PropFileOnClasspathLoader extends PropFileBaseLoader {
 	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues, String path) {
 
+		ListValueSink sink = new ListValueSink(this, appConfigDef);
+		load(appConfigDef, path, sink);
+		return sink.toLoaderValues();
+	}
+
+	/**
+	 * Load from a non-null classpathProp path, pushing values and problems to
+	 * the passed sink.
+	 *
+	 * @param appConfigDef
+	 * @param path
+	 * @param sink
+	 */
+	protected void load(StaticPropertyConfigurationInternal appConfigDef,
+			String path, ValueSink sink) {
+
 		try (InputStream inS = PropFileOnClasspathLoader.class.getResourceAsStream(path)) {
 
 			if (inS != null) {
 
-				return loadInputStreamToProps(inS, path, appConfigDef, existingValues);
+				loadInputStreamToProps(inS, path, appConfigDef, sink);
 
 			} else {
 
 				//If the file is not there, the inS is null (no exception thrown)
 				if (isMissingFileAProblem()) {
-					return new LoaderValues(this, new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file at classpath:" + path));
-				} else {
-					return new LoaderValues(this);
+					sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file at classpath:" + path));
 				}
 			}
 
 		} catch (LoaderException e) {
-			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "classpath:" + path));
+			sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e.getCause(), "classpath:" + path));
 		} catch (IOException ioe) {
-			return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, ioe, "classpath:" + path));
+			sink.addProblem(new LoaderProblem.IOLoaderProblem(this, ioe, "classpath:" + path));
 		}
 	}
 
@@ -43,7 +43,8 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 	
 
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
 
 		String path = getEffectivePath(existingValues);
 
@@ -52,20 +53,33 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 			specificLoadDescription = TextUtil.format("file on the file system at path : {} ({})",
 			path, getAbsPath(path));
 
-			LoaderValues vals = load(appConfigDef, existingValues, path);
-			return vals;
+			load(appConfigDef, path, sink);
 
 		} else {
 			//The path is not specified, so just ignore
 
 			specificLoadDescription = "unpsecified file in the filesystem";
-			return new LoaderValues(this);
 		}
 	}
 	
 	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef,
 			ValidatedValuesWithContext existingValues, String path) {
 		
+		ListValueSink sink = new ListValueSink(this, appConfigDef);
+		load(appConfigDef, path, sink);
+		return sink.toLoaderValues();
+	}
+	
+	/**
+	 * Load from a filesystem path, pushing values and problems to the passed sink.
+	 * 
+	 * @param appConfigDef
+	 * @param path
+	 * @param sink 
+	 */
+	protected void load(StaticPropertyConfigurationInternal appConfigDef,
+			String path, ValueSink sink) {
+		
 		if (path != null) {
 
 			try {
@@ -73,27 +87,24 @@ public class PropFileOnFilesystemLoader extends PropFileBaseLoader {
 
 				try (FileInputStream inS = new FileInputStream(propFile)) {
 
-					return loadInputStreamToProps(inS, path, appConfigDef, existingValues);
+					loadInputStreamToProps(inS, path, appConfigDef, sink);
 
 				} catch (FileNotFoundException e) {
 
 					if (isMissingFileAProblem()) {
-						return new LoaderValues(this, new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file on filesystem:" + path));
-					} else {
-						return new LoaderValues(this);
+						sink.addProblem(new LoaderProblem.SourceNotFoundLoaderProblem(this, "Expected file on filesystem:" + path));
 					}
 				}
 
 			} catch (LoaderException e) {
-				return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, e.getCause(), "filesystem:" + path));
+				sink.addProblem(new LoaderProblem.IOLoaderProblem(this, e.getCause(), "filesystem:" + path));
 			} catch (IOException ioe) {
-				return new LoaderValues(this, new LoaderProblem.IOLoaderProblem(this, ioe, "filesystem:" + path));
+				sink.addProblem(new LoaderProblem.IOLoaderProblem(this, ioe, "filesystem:" + path));
 			}
 			
-		} else {
-			//The filepath to loadJavaPropsToAndhowProps from is not specified, so just ignore it
-			return new LoaderValues(this);
 		}
+		
+		//If the path is not specified, there is nothing to load
 	}
 	
 	@Override
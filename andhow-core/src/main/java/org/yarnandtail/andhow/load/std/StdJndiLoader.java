@@ -12,6 +12,7 @@ import org.yarnandtail.andhow.property.QuotedSpacePreservingTrimmer;
 import org.yarnandtail.andhow.property.StrProp;
 import org.yarnandtail.andhow.sample.JndiLoaderSamplePrinter;
 import org.yarnandtail.andhow.util.AndHowLog;
+import org.yarnandtail.andhow.util.JfrEvents;
 import org.yarnandtail.andhow.util.TextUtil;
 
 /**
@@ -117,15 +118,24 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 	}
 	
 	@Override
-	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, ValidatedValuesWithContext existingValues) {
+	public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues) {
+		
+		return collectValues(appConfigDef, existingValues);
+	}
+	
+	@Override
+	public void load(StaticPropertyConfigurationInternal appConfigDef, 
+			ValidatedValuesWithContext existingValues, ValueSink sink) {
 
 		AndHowLog log = AndHowLog.getLogger(StdJndiLoader.class);
 		
 		List<String> jndiRoots = buildJndiRoots(existingValues);
 
-		ArrayList<ValidatedValue> values = new ArrayList();
-		ProblemList<Problem> problems = new ProblemList();
-
+		JfrEvents.Event event = JfrEvents.begin(JfrEvents.JNDI_LOOKUP);
+		int lookupCount = 0;
+		int foundCount = 0;
+		
 		try {
 			InitialContext ctx = new InitialContext();
 			List<String> propNames = new ArrayList();
@@ -139,10 +149,12 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 
 				for (String propName : propJndiNames) {
 					try {
+						lookupCount++;
 						Object o = ctx.lookup(propName);
 
 						if (o != null) {
-							attemptToAdd(appConfigDef, values, problems, prop, o);
+							foundCount++;
+							attemptToAdd(appConfigDef, sink, prop, o);
 						}
 
 					} catch (NameNotFoundException nnfe) {
@@ -166,13 +178,13 @@ public class StdJndiLoader extends BaseLoader implements LookupLoader, StandardL
 				log.error(
 						"Unable to read from JNDI - Does JNDI exist in this environment? "
 								+ "If this is expected, initialize the JndiLoader ignore non-JNDI environments.", ex);
-				problems.add(new JndiContextLoaderProblem(this));
+				sink.addProblem(new JndiContextLoaderProblem(this));
 			} else {
 				log.debug("No JNDI Environment found, or a naming error encountered.  The JndiLoader is configured to ignore this.");
 			}
 		}
-
-		return new LoaderValues(this, values, problems);
+		
+		event.set(0, jndiRoots.size()).set(1, lookupCount).set(2, foundCount).commit();
 	}
 
 	@Override
@@ -16,6 +16,8 @@ import org.yarnandtail.andhow.util.TextUtil;
  */
 public abstract class BaseSamplePrinter implements SamplePrinter {
 	
+	private SampleTextCache textCache;
+	
 	abstract PrintFormat getFormat();
 	
 	public abstract TextBlock getSampleFileStart();
@@ -33,6 +35,30 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 	
 	public abstract TextBlock getSampleFileEnd();
 	
+	/**
+	 * Shares the Property comments and wrapped text w/ printers for other
+	 * formats that use the same cache.
+	 * 
+	 * @param cache The cache to use
+	 */
+	public void setTextCache(SampleTextCache cache) {
+		textCache = cache;
+		getFormat().textCache = cache;
+	}
+	
+	/**
+	 * The cache used for Property comments and wrapped text, created if not set.
+	 * 
+	 * @return The cache, never null.
+	 */
+	public SampleTextCache getTextCache() {
+		if (textCache == null) {
+			setTextCache(new SampleTextCache());
+		}
+		
+		return textCache;
+	}
+	
 	protected void printIfNotNull(PrintStream out, String line) {
 		if (line != null) {
 			out.println(line);
@@ -63,7 +89,7 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 				
 				if (block.isWrap()) {
 					List<String> lines = line.getWrappedBlockComment(format, true, true);
-					lines.stream().forEachOrdered(l -> out.println(l));
+					printLines(out, lines);
 				} else {
 					out.println(line.getBlockComment(format, true, true));
 				}
@@ -83,7 +109,7 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 					//need to add the end comment on the last row
 					if (line.wrap) {
 						List<String> lines = line.getWrappedBlockComment(format, isFirstLine, isLastLine);
-						lines.stream().forEachOrdered(l -> out.println(l));
+						printLines(out, lines);
 					} else {
 						String lineStr = line.getBlockComment(format, isFirstLine, isLastLine);
 						out.println(lineStr);
@@ -98,7 +124,7 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 			for (TextLine line : block.getLines()) {
 				if (line.wrap) {
 					List<String> lines = line.getWrappedLineComment(format);
-					lines.stream().forEachOrdered(l -> out.println(l));
+					printLines(out, lines);
 				} else {
 					out.println(line.getLineComment(format));
 				}
@@ -116,7 +142,7 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 					}
 				} else if (line.wrap) {
 					List<String> lines = line.getWrappedLine(format);
-					lines.stream().forEachOrdered(l -> out.println(l));
+					printLines(out, lines);
 				} else {
 					out.println(line.getLine(format));
 				}
@@ -128,6 +154,12 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 			out.println();
 		}
 	}
+	
+	private void printLines(PrintStream out, List<String> lines) {
+		for (String l : lines) {
+			out.println(l);
+		}
+	}
 
 	@Override
 	public void printSampleStart(StaticPropertyConfigurationInternal definition, PrintStream out) {
@@ -189,42 +221,23 @@ public abstract class BaseSamplePrinter implements SamplePrinter {
 		
 		try {
 			
-			String propFieldName = group.getSimpleName(prop);
-					
-			tb.addLine(TextUtil.format("{} ({}) {}{}", 
-					propFieldName,
-					prop.getValueType().getDestinationType().getSimpleName(),
-					(prop.isNonNullRequired())?SamplePrinter.REQUIRED_KEYWORD:"",
-					(TextUtil.trimToNull(prop.getDescription()) == null)?"":" - " + prop.getDescription()));
+			//The same in all formats, except the aliases
+			SampleTextCache.PropertyComment comment = getTextCache().getPropertyComment(group, prop);
+			
+			tb.addLine(comment.getSummary());
 
-			List<EffectiveName> effAliases = definition.getAliases(prop);
 			List<String> inAliases = new ArrayList();
-			effAliases.stream().filter(a -> a.isIn()).forEachOrdered(a -> {
-				inAliases.add(getInAliaseString(definition, a));
-			});
+			for (EffectiveName a : definition.getAliases(prop)) {
+				if (a.isIn()) {
+					inAliases.add(getInAliaseString(definition, a));
+				}
+			}
 			if (inAliases.size() > 0) {
 				tb.addLine(TextUtil.format("Recognized aliases: {}", String.join(", ", inAliases)));
 			}
-						
-			if (prop.getDefaultValue() != null) {
-				tb.addLine(DEFAULT_VALUE_TEXT + ": " + prop.getDefaultValue());
-			}
-
-			if (TextUtil.trimToNull(prop.getHelpText()) != null) {
-				tb.addLine(prop.getHelpText());
-			}
-
-			if (prop.getValidators().size() == 1) {
-				tb.addLine(
-					TextUtil.format(THE_VALUE_MUST_TEXT + " " + prop.getValidators().get(0).getTheValueMustDescription())
-				);
-			}
-
-			if (prop.getValidators().size() > 1) {
-				tb.addLine(THE_VALUE_MUST_TEXT + ":");	
-				for (Validator v : prop.getValidators()) {
-					tb.addLine("\t- " + v.getTheValueMustDescription());
-				}
+			
+			for (String line : comment.getDetails()) {
+				tb.addLine(line);
 			}
 
 			print(out, tb, getFormat());
@@ -17,7 +17,10 @@ public class PrintFormat {
 	public String secondLineIndent;
 	public String hr;
 	public int lineWidth;
-
+	
+	/** If set, wrapped text is cached and shared w/ other formats using the same cache */
+	public SampleTextCache textCache;
+	
 	public boolean usesLineComments() {
 		return TextUtil.trimToNull(lineCommentPrefix) != null;
 	}
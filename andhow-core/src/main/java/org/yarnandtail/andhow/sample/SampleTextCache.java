@@ -0,0 +1,177 @@
+package org.yarnandtail.andhow.sample;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.util.TextUtil;
+
+/**
+ * Caches the comment text of each Property and word wrapped text, so they can
+ * be shared by the SamplePrinters of each format.
+ * 
+ * The comment of a Property is the same in every format, except for the list
+ * of aliases, so it is only built once.  Wrapping depends only on the text and
+ * the line length, so a wrapped line is reused by any format that wraps it to
+ * the same length.  The format specific comment prefixes are added after.
+ * 
+ * Instances are thread safe, so sample files can be printed in parallel.
+ * Nothing is ever removed, so an instance should only be used while printing
+ * one set of samples.
+ * 
+ * @author ericeverman
+ */
+public class SampleTextCache {
+	
+	private final Map<Property<?>, PropertyComment> comments = new ConcurrentHashMap();
+	private final Map<WrapKey, List<String>> wrapped = new ConcurrentHashMap();
+	
+	/**
+	 * Wraps text, like TextUtil.wrap(in, length).
+	 * 
+	 * @param text The text to wrap
+	 * @param length The max line length
+	 * @return The wrapped lines, which cannot be modified.
+	 */
+	public List<String> wrap(String text, int length) {
+		WrapKey key = new WrapKey(text, length);
+		List<String> lines = wrapped.get(key);
+		
+		if (lines == null) {
+			lines = Collections.unmodifiableList(TextUtil.wrap(text, length));
+			wrapped.putIfAbsent(key, lines);
+		}
+		
+		return lines;
+	}
+	
+	/**
+	 * Wraps text and adds a prefix to each line, like
+	 * TextUtil.wrap(in, length, prefix, wrappedLineIndent).
+	 * 
+	 * @param text The text to wrap
+	 * @param length The max line length, including the prefix.
+	 * @param prefix Added to each line and subtracted from the length.
+	 * @param wrappedLineIndent Added to each line after the first, after the prefix.
+	 * @return A new list of the wrapped lines
+	 */
+	public List<String> wrap(String text, int length, String prefix, String wrappedLineIndent) {
+		prefix = TextUtil.nullToEmpty(prefix);
+		wrappedLineIndent = TextUtil.nullToEmpty(wrappedLineIndent);
+		
+		List<String> lines = wrap(text, length - prefix.length());
+		List<String> result = new ArrayList(lines.size() + 1);
+		
+		for (int i = 0; i < lines.size(); i++) {
+			if (i == 0) {
+				result.add(prefix + lines.get(i));
+			} else {
+				result.add(prefix + wrappedLineIndent + lines.get(i));
+			}
+		}
+		
+		return result;
+	}
+	
+	/**
+	 * The format independent comment text of a Property.
+	 * 
+	 * @param group The group containing the Property
+	 * @param prop The Property
+	 * @return The comment, built on first use.
+	 */
+	public PropertyComment getPropertyComment(GroupProxy group, Property<?> prop) {
+		PropertyComment comment = comments.get(prop);
+		
+		if (comment == null) {
+			comment = new PropertyComment(group, prop);
+			comments.putIfAbsent(prop, comment);
+		}
+		
+		return comment;
+	}
+	
+	/**
+	 * The comment lines printed before each Property in a sample, other than
+	 * its aliases, which are format specific.
+	 */
+	public static class PropertyComment {
+		private final String summary;
+		private final List<String> details;
+		
+		PropertyComment(GroupProxy group, Property<?> prop) {
+			
+			String propFieldName = group.getSimpleName(prop);
+			
+			summary = TextUtil.format("{} ({}) {}{}",
+					propFieldName,
+					prop.getValueType().getDestinationType().getSimpleName(),
+					(prop.isNonNullRequired())?SamplePrinter.REQUIRED_KEYWORD:"",
+					(TextUtil.trimToNull(prop.getDescription()) == null)?"":" - " + prop.getDescription());
+			
+			List<String> lines = new ArrayList();
+			
+			if (prop.getDefaultValue() != null) {
+				lines.add(SamplePrinter.DEFAULT_VALUE_TEXT + ": " + prop.getDefaultValue());
+			}
+			
+			if (TextUtil.trimToNull(prop.getHelpText()) != null) {
+				lines.add(prop.getHelpText());
+			}
+			
+			if (prop.getValidators().size() == 1) {
+				lines.add(
+					TextUtil.format(SamplePrinter.THE_VALUE_MUST_TEXT + " " + prop.getValidators().get(0).getTheValueMustDescription())
+				);
+			}
+			
+			if (prop.getValidators().size() > 1) {
+				lines.add(SamplePrinter.THE_VALUE_MUST_TEXT + ":");
+				for (Validator v : prop.getValidators()) {
+					lines.add("\t- " + v.getTheValueMustDescription());
+				}
+			}
+			
+			details = Collections.unmodifiableList(lines);
+		}
+		
+		/**
+		 * The first line, w/ the name, type, required flag and description.
+		 * @return
+		 */
+		public String getSummary() {
+			return summary;
+		}
+		
+		/**
+		 * The lines after the aliases:  Default value, help text and validation.
+		 * @return
+		 */
+		public List<String> getDetails() {
+			return details;
+		}
+	}
+	
+	private static class WrapKey {
+		private final String text;
+		private final int length;
+		
+		WrapKey(String text, int length) {
+			this.text = text;
+			this.length = length;
+		}
+		
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof WrapKey) {
+				WrapKey other = (WrapKey) obj;
+				return length == other.length && text.equals(other.text);
+			}
+			return false;
+		}
+		
+		@Override
+		public int hashCode() {
+			return text.hashCode() * 31 + length;
+		}
+	}
+}
@@ -72,21 +72,20 @@ public abstract class TextLine {
 		
 		@Override
 		public List<String> getWrappedLine(PrintFormat format) {
-			return TextUtil.wrap(line, format.lineWidth, "", format.secondLineIndent);
+			return wrap(format, "");
 		}
 		
 		@Override
 		public List<String> getWrappedLineComment(PrintFormat format) {
-			return TextUtil.wrap(line, format.lineWidth, 
+			return wrap(format, 
 					TextUtil.nullToEmpty(format.lineCommentPrefix)
-					+ TextUtil.nullToEmpty(format.lineCommentPrefixSeparator),
-					format.secondLineIndent);
+					+ TextUtil.nullToEmpty(format.lineCommentPrefixSeparator));
 		}
 		
 		@Override
 		public List<String> getWrappedBlockComment(PrintFormat format, boolean startComment, boolean endComment) {
 			
-			List<String> lines = TextUtil.wrap(line, format.lineWidth, "", format.secondLineIndent);
+			List<String> lines = wrap(format, "");
 
 			if (startComment && endComment && lines.size() == 1) {
 				lines.set(0, 
@@ -107,6 +106,21 @@ public abstract class TextLine {
 			
 			return lines;
 		}
+		
+		/**
+		 * Wraps the line, using the shared cache of the format if it has one.
+		 * 
+		 * @param format
+		 * @param prefix Added to each line
+		 * @return A new, modifiable list of lines
+		 */
+		private List<String> wrap(PrintFormat format, String prefix) {
+			if (format.textCache != null) {
+				return format.textCache.wrap(line, format.lineWidth, prefix, format.secondLineIndent);
+			} else {
+				return TextUtil.wrap(line, format.lineWidth, prefix, format.secondLineIndent);
+			}
+		}
 
 	}
 	
@@ -1,11 +1,13 @@
 package org.yarnandtail.andhow.service;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.util.*;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import org.yarnandtail.andhow.api.*;
 import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.util.AndHowUtil;
 
 /**
  * Dedicated wrapper for a java.util.ServiceLoader that loads PropertyRegistrar instances.
@@ -13,10 +15,24 @@ import org.yarnandtail.andhow.internal.NameAndProperty;
  * PropertyRegistrar instances are generated automatically at compile time for
  * classes using AndHow properties.  When a PropertyRegistrar is created, it is
  * recorded as a Service, making it visible to the ServiceLoader.
+ * <p>
+ * Discovery iterates the service files of every jar and reads every Property
+ * field, so the groups discovered from each classloader are cached for reuse
+ * by {@code getCachedGroups}.  The cached groups reference the Properties, and
+ * so the classes, of the classloader, which pins the classloader until its
+ * entry is removed.  The soft references are only cleared under heap pressure,
+ * never because of Metaspace pressure, so they cannot be relied on to unload a
+ * classloader.  When a classloader is discarded, e.g. when a webapp is
+ * undeployed, {@code invalidateCache} must be called for it.
+ * {@code AndHowContext.remove} does this for the classloader of a context.
  * 
  * @author ericeverman
  */
 public class PropertyRegistrarLoader {
+	
+	/** Immutable groups discovered from each classloader */
+	private static final Map<ClassLoader, SoftReference<List<GroupProxy>>> GROUP_CACHE = new WeakHashMap();
+	
 	private final ClassLoader classLoader;
 	private final ServiceLoader<PropertyRegistrar> loader;
 	private final Object lock = new Object();	//Sync lock for instances
@@ -39,6 +55,74 @@ public class PropertyRegistrarLoader {
 		loader = ServiceLoader.load(PropertyRegistrar.class, this.classLoader);
 	}
 	
+	/**
+	 * Returns the {@code GroupProxy}s discovered from a classloader, reusing
+	 * the groups discovered by a previous call for the same classloader.
+	 * <p>
+	 * The returned list and groups cannot be modified.  If the classpath of
+	 * the classloader changes, {@code invalidateCache} must be called to see
+	 * the change.
+	 * 
+	 * @param classLoader The classloader to discover from, or null for the
+	 * classloader that loaded this class.
+	 * @return An unmodifiable list of unmodifiable {@code GroupProxy}s.
+	 */
+	public static List<GroupProxy> getCachedGroups(ClassLoader classLoader) {
+		ClassLoader cl = (classLoader != null)?classLoader:PropertyRegistrarLoader.class.getClassLoader();
+		List<GroupProxy> groups;
+		
+		synchronized (GROUP_CACHE) {
+			SoftReference<List<GroupProxy>> ref = GROUP_CACHE.get(cl);
+			groups = (ref != null) ? ref.get() : null;
+		}
+		
+		if (groups == null) {
+			
+			//Discover outside the lock so other classloaders are not blocked
+			List<GroupProxy> immutable = new ArrayList();
+			
+			for (GroupProxy grp : new PropertyRegistrarLoader(cl).getGroups()) {
+				immutable.add(new GroupProxyImmutable(grp.getCanonicalName(), grp.getJavaCanonicalName(),
+						new ArrayList(grp.getProperties()), grp.isUserGroup()));
+			}
+			
+			groups = Collections.unmodifiableList(immutable);
+			
+			synchronized (GROUP_CACHE) {
+				GROUP_CACHE.put(cl, new SoftReference(groups));
+			}
+		}
+		
+		return groups;
+	}
+	
+	/**
+	 * Removes the cached groups of a classloader, so they are discovered again
+	 * by the next call to {@code getCachedGroups}.
+	 * <p>
+	 * This must be called when a classloader that groups were cached for is
+	 * discarded, otherwise the cache keeps it from being unloaded.
+	 * 
+	 * @param classLoader The classloader, or null for the classloader that
+	 * loaded this class.
+	 */
+	public static void invalidateCache(ClassLoader classLoader) {
+		ClassLoader cl = (classLoader != null)?classLoader:PropertyRegistrarLoader.class.getClassLoader();
+		
+		synchronized (GROUP_CACHE) {
+			GROUP_CACHE.remove(cl);
+		}
+	}
+	
+	/**
+	 * Removes the cached groups of all classloaders.
+	 */
+	public static void invalidateCache() {
+		synchronized (GROUP_CACHE) {
+			GROUP_CACHE.clear();
+		}
+	}
+	
 	/**
 	 * Returns a newly created list of {@code PropertyRegistrar}s.
 	 * <p>
@@ -78,6 +162,9 @@ public class PropertyRegistrarLoader {
 	 * method would only be called once, though there is no impact to calling it
 	 * multiple times.  The contained {@code Property}s are static instances
 	 * for which there will ever only be a single instance.
+	 * <p>
+	 * Each {@code Property} is read w/ the accessor of its registration, if the
+	 * generated registrar provides one, otherwise its field is read reflectively.
 	 * 
 	 * @return A disconnected list of new {@code GroupProxy}s.
 	 */
@@ -103,14 +190,12 @@ public class PropertyRegistrarLoader {
 				
 				try {
 					
-					group = Class.forName(registration.getJavaCanonicalParentName());
-					Field f = group.getDeclaredField(registration.getPropertyName());
-					
-					try {
-						prop = (Property) f.get(null);
-					} catch (Exception ex) {	
-						f.setAccessible(true);
-						prop = (Property) f.get(null);
+					if (registration.getAccessor() != null) {
+						prop = registration.getAccessor().get();
+					} else {
+						group = Class.forName(registration.getJavaCanonicalParentName(), true, classLoader);
+						Field f = group.getDeclaredField(registration.getPropertyName());
+						prop = (Property) AndHowUtil.getStaticFieldValue(f);
 					}
 					
 				} catch (ClassNotFoundException ex) {
@@ -128,7 +213,7 @@ public class PropertyRegistrarLoader {
 					continue;
 				}
 				
-				NameAndProperty nap = new NameAndProperty(registration.getPropertyName(), prop);
+				NameAndProperty nap = new NameAndProperty(registration.getPropertyName(), prop, registration.isBuildVerified());
 				grp.addProperty(nap);
 			}
 		}
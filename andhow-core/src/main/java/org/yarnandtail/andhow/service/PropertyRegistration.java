@@ -2,6 +2,8 @@ package org.yarnandtail.andhow.service;
 
 import org.yarnandtail.andhow.util.NameUtil;
 import java.util.*;
+import java.util.function.Supplier;
+import org.yarnandtail.andhow.api.Property;
 
 /**
  * Registration for a single Property, which registers a single {@code Property}
@@ -28,6 +30,8 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	private final String classCanonName;
 	private final String[] innerPath;
 	private final String propName;
+	private final boolean buildVerified;
+	private final Supplier<Property<?>> accessor;
 
 	/**
 	 * Create an instance representing a {@code Property} declared directly in
@@ -42,6 +46,8 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 		this.classCanonName = classCanonName;
 		this.propName = propName;
 		innerPath = null;
+		buildVerified = false;
+		accessor = null;
 	}
 	
 	/**
@@ -59,8 +65,47 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	 * the root class to the inner class that contains the {@code Property} declaration.
 	 */
 	PropertyRegistration(String classCanonName, String propName, String... innerPathNesting) {
+		this(classCanonName, propName, false, innerPathNesting);
+	}
+	
+	/**
+	 * Create an instance, recording if the {@code Property} was verified at
+	 * build time.
+	 * 
+	 * @param classCanonName The canonical name of the root class.
+	 * @param propName The declared name of the variable referencing the
+	 * {@code Property} declaration.
+	 * @param buildVerified True if the AndHowCompileProcessor checked the
+	 * validator configuration and default value of the {@code Property}.
+	 * @param innerPathNesting The name or names of the nested inner classes
+	 * and/or interfaces that contain the {@code Property} declaration, or null
+	 * or empty for a {@code Property} declared directly in the root class.
+	 */
+	PropertyRegistration(String classCanonName, String propName, boolean buildVerified, String... innerPathNesting) {
+		this(classCanonName, propName, buildVerified, null, innerPathNesting);
+	}
+	
+	/**
+	 * Create an instance w/ an accessor that reads the {@code Property} from
+	 * its static field.
+	 * 
+	 * @param classCanonName The canonical name of the root class.
+	 * @param propName The declared name of the variable referencing the
+	 * {@code Property} declaration.
+	 * @param buildVerified True if the AndHowCompileProcessor checked the
+	 * validator configuration and default value of the {@code Property}.
+	 * @param accessor Returns the value of the static field, or null if the
+	 * field must be read reflectively.
+	 * @param innerPathNesting The name or names of the nested inner classes
+	 * and/or interfaces that contain the {@code Property} declaration, or null
+	 * or empty for a {@code Property} declared directly in the root class.
+	 */
+	PropertyRegistration(String classCanonName, String propName, boolean buildVerified,
+			Supplier<Property<?>> accessor, String... innerPathNesting) {
 		this.classCanonName = classCanonName;
 		this.propName = propName;
+		this.buildVerified = buildVerified;
+		this.accessor = accessor;
 		
 		if (innerPathNesting != null && innerPathNesting.length > 0) {
 			innerPath = innerPathNesting;
@@ -95,7 +140,35 @@ public class PropertyRegistration implements Comparable<PropertyRegistration> {
 	public String getPropertyName() {
 		return propName;
 	}
-
+	
+	/**
+	 * True if the validator configuration and default value of the
+	 * {@code Property} were checked at build time by the AndHowCompileProcessor.
+	 * 
+	 * Verified Properties skip those checks at startup.  Name uniqueness is
+	 * still checked at startup, since it depends on all the Properties in the
+	 * application and the NamingStrategy.
+	 * 
+	 * @return True if verified at build time.
+	 */
+	public boolean isBuildVerified() {
+		return buildVerified;
+	}
+	
+	/**
+	 * Returns the {@code Property} directly from the static field it is
+	 * assigned to, w/o reflection.
+	 * 
+	 * The AndHowCompileProcessor generates an accessor for each field the
+	 * generated {@code PropertyRegistrar} can reference, which excludes
+	 * private fields and fields of private inner classes.
+	 * 
+	 * @return The accessor, or null if the field must be read reflectively.
+	 */
+	public Supplier<Property<?>> getAccessor() {
+		return accessor;
+	}
+	
 	/**
 	 * The names of the nested inner classes/interfaces containing the
 	 * named property for this registration.
@@ -1,6 +1,9 @@
 package org.yarnandtail.andhow.service;
 
 import java.util.*;
+import java.util.function.Supplier;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.util.AndHowUtil;
 
 /**
  * A List of Registrations with simplified add methods that make it
@@ -36,7 +39,10 @@ public class PropertyRegistrationList extends ArrayList<PropertyRegistration> {
 
 	private final String rootCanonName;
 	private PropertyRegistration lastReg;
-
+	
+	/** True if the build version matches the AndHow version at runtime */
+	private boolean buildVersionCurrent;
+	
 	/**
 	 * Construct a new registration list for properties in a specific top level
 	 * class.
@@ -57,6 +63,23 @@ public class PropertyRegistrationList extends ArrayList<PropertyRegistration> {
 		return rootCanonName;
 	}
 	
+	/**
+	 * Sets the version of AndHow that the AndHowCompileProcessor verified
+	 * Properties against.
+	 * <p>
+	 * The processor verifies a {@code Property} by replaying its builder chain
+	 * against its own AndHow classes, which may differ from the ones used at
+	 * runtime.  Registrations added w/ {@code addBuildVerified} are only marked
+	 * as verified if this version matches the runtime AndHow version, so it
+	 * must be set before they are added.
+	 * 
+	 * @param andhowVersion The AndHow version the Properties were verified against.
+	 */
+	public void setBuildVersion(String andhowVersion) {
+		String current = AndHowUtil.getAndHowVersion();
+		buildVersionCurrent = current != null && current.equals(andhowVersion);
+	}
+	
 
 	/**
 	 * Adds a registration using the innerPath specified in the passed registration.
@@ -125,8 +148,109 @@ public class PropertyRegistrationList extends ArrayList<PropertyRegistration> {
 	 * @return True if it was added (it is always added).
 	 */
 	public boolean add(String name, List<String> innerPath) {
+		return add(name, innerPath, false);
+	}
+	
+	/**
+	 * Adds a property registration with a specified path, recording if the
+	 * {@code Property} was verified at build time.
+	 * 
+	 * @param name Name of the AndHow property, which is the name of the variable it
+	 *		is assigned to at construction.
+	 * @param innerPath The 'path' of nested inner class/interfaces from outer to inner
+	 * @param buildVerified See {@link PropertyRegistration#isBuildVerified()}
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean add(String name, List<String> innerPath, boolean buildVerified) {
 		String[] innerPathArray = (innerPath == null) ? null : innerPath.toArray(new String[innerPath.size()]);
-		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, innerPathArray);
+		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, buildVerified, innerPathArray);
+		lastReg = reg;
+		return super.add(reg);
+	}
+	
+	/**
+	 * Same as {@link #add(String)}, but for a {@code Property} that was
+	 * verified at build time.
+	 * <p>
+	 * It is only marked as verified if {@link #setBuildVersion(String)} was
+	 * called w/ the runtime AndHow version.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean addBuildVerified(String name) {
+		String[] innerPath = (lastReg != null) ? lastReg.getInnerPath() : null;
+		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, buildVersionCurrent, innerPath);
+		lastReg = reg;
+		return super.add(reg);
+	}
+	
+	/**
+	 * Same as {@link #add(String, String...)}, but for a {@code Property} that
+	 * was verified at build time.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @param innerPath
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean addBuildVerified(String name, String... innerPath) {
+		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, buildVersionCurrent, innerPath);
+		lastReg = reg;
+		return super.add(reg);
+	}
+	
+	/**
+	 * Same as {@link #add(String)}, w/ an accessor that returns the
+	 * {@code Property} from its static field.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @param accessor See {@link PropertyRegistration#getAccessor()}
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean add(String name, Supplier<Property<?>> accessor) {
+		return add(name, false, accessor, (lastReg != null) ? lastReg.getInnerPath() : null);
+	}
+	
+	/**
+	 * Same as {@link #add(String, String...)}, w/ an accessor that returns the
+	 * {@code Property} from its static field.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @param accessor See {@link PropertyRegistration#getAccessor()}
+	 * @param innerPath The 'path' of nested inner class/interfaces from outer to inner
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean add(String name, Supplier<Property<?>> accessor, String... innerPath) {
+		return add(name, false, accessor, innerPath);
+	}
+	
+	/**
+	 * Same as {@link #addBuildVerified(String)}, w/ an accessor that returns
+	 * the {@code Property} from its static field.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @param accessor See {@link PropertyRegistration#getAccessor()}
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean addBuildVerified(String name, Supplier<Property<?>> accessor) {
+		return add(name, buildVersionCurrent, accessor, (lastReg != null) ? lastReg.getInnerPath() : null);
+	}
+	
+	/**
+	 * Same as {@link #addBuildVerified(String, String...)}, w/ an accessor
+	 * that returns the {@code Property} from its static field.
+	 * 
+	 * @param name Name of the AndHow property
+	 * @param accessor See {@link PropertyRegistration#getAccessor()}
+	 * @param innerPath The 'path' of nested inner class/interfaces from outer to inner
+	 * @return True if it was added (it is always added).
+	 */
+	public boolean addBuildVerified(String name, Supplier<Property<?>> accessor, String... innerPath) {
+		return add(name, buildVersionCurrent, accessor, innerPath);
+	}
+	
+	private boolean add(String name, boolean buildVerified, Supplier<Property<?>> accessor, String[] innerPath) {
+		PropertyRegistration reg = new PropertyRegistration(rootCanonName, name, buildVerified, accessor, innerPath);
 		lastReg = reg;
 		return super.add(reg);
 	}
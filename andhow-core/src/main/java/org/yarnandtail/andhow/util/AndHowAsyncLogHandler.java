@@ -0,0 +1,135 @@
+package org.yarnandtail.andhow.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.logging.*;
+
+/**
+ * Wraps another Handler, typically an AndHowLogHandler, so that records are
+ * written by the wrapped Handler on a background thread.
+ * 
+ * Logging calls only queue the record, so they never wait on a slow console.
+ * Records are written in the order they are logged.  The source location of
+ * each record is found before it is queued, while still on the logging thread.
+ * 
+ * If the queue is full, the record is written directly by the logging thread
+ * rather than dropped, so it may be written ahead of records still queued.
+ * flush() waits until all queued records are written.
+ * 
+ * @author ericeverman
+ */
+public class AndHowAsyncLogHandler extends Handler {
+	
+	/** Default max number of records waiting to be written */
+	public static final int DEFAULT_CAPACITY = 1024;
+	
+	private final Handler target;
+	private final BlockingQueue<LogRecord> queue;
+	private final Thread writer;
+	private final Object writeLock = new Object();
+	
+	/** Number of records queued and number written.  Guarded by writeLock. */
+	private long queuedCount = 0;
+	private long writtenCount = 0;
+	
+	private volatile boolean closed = false;
+	
+	public AndHowAsyncLogHandler(Handler target) {
+		this(target, DEFAULT_CAPACITY);
+	}
+	
+	public AndHowAsyncLogHandler(Handler target, int capacity) {
+		this.target = target;
+		queue = new ArrayBlockingQueue(capacity);
+		
+		writer = new Thread(this::writeQueuedRecords, "AndHow async log writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+	
+	/**
+	 * The Handler that actually writes the records.
+	 * 
+	 * @return The wrapped Handler
+	 */
+	public Handler getTarget() {
+		return target;
+	}
+	
+	@Override
+	public void publish(LogRecord record) {
+		if (! isLoggable(record)) {
+			return;
+		}
+		
+		//Must be found on the logging thread (see AndHowLogRecord)
+		record.getSourceClassName();
+		
+		if (closed) {
+			target.publish(record);
+			return;
+		}
+		
+		synchronized (writeLock) {
+			if (queue.offer(record)) {
+				queuedCount++;
+				return;
+			}
+		}
+		
+		//Queue is full
+		target.publish(record);
+	}
+	
+	/**
+	 * Waits until all records queued so far are written, then flushes the
+	 * wrapped Handler.
+	 */
+	@Override
+	public void flush() {
+		synchronized (writeLock) {
+			long waitFor = queuedCount;
+			
+			while (writtenCount < waitFor && writer.isAlive()) {
+				try {
+					writeLock.wait(100);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
+			}
+		}
+		
+		target.flush();
+	}
+	
+	@Override
+	public void close() throws SecurityException {
+		closed = true;
+		flush();
+		writer.interrupt();
+		target.close();
+	}
+	
+	private void writeQueuedRecords() {
+		while (true) {
+			try {
+				LogRecord record = queue.take();
+				
+				try {
+					target.publish(record);
+				} catch (RuntimeException e) {
+					reportError(null, e, ErrorManager.WRITE_FAILURE);
+				}
+				
+				synchronized (writeLock) {
+					writtenCount++;
+					writeLock.notifyAll();
+				}
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+}
@@ -26,33 +26,111 @@ import java.util.logging.Logger;
  * logging configurations.
  * </ul>
  *
+ * The source location of each message is only found if a Handler formats the
+ * message, and can be turned off entirely via setCallerLocationEnabled() or a
+ * System property:  [canonical name of AndHowLog].callerLocation=false
+ *
+ * There is a single AndHowLog instance per class.  Log output can be written on
+ * a background thread by setting the System property
+ * [canonical name of AndHowLog].asyncHandler=true
+ * 
  * @author ericeverman
  */
 public class AndHowLog {
 
-	private static final AndHowLogHandler DEFAULT_HANDLER = new AndHowLogHandler();
 	private static final String CN = AndHowLog.class.getCanonicalName();
+	
+	/**
+	 * System property to turn off finding the source class, method and line
+	 * number of each logged message:  [canonical name of AndHowLog].callerLocation=false
+	 */
+	public static final String CALLER_LOCATION_PROPERTY = CN + ".callerLocation";
+	
+	/**
+	 * System property to write log output on a background thread:
+	 * [canonical name of AndHowLog].asyncHandler=true
+	 */
+	public static final String ASYNC_HANDLER_PROPERTY = CN + ".asyncHandler";
+	
+	private static final Handler DEFAULT_HANDLER = buildDefaultHandler();
+	
+	private static volatile boolean callerLocationEnabled = 
+			! "false".equalsIgnoreCase(System.getProperty(CALLER_LOCATION_PROPERTY));
+	
+	/** One instance per class.  Stored w/ the class, so it does not prevent unloading */
+	private static final ClassValue<AndHowLog> LOGGERS = new ClassValue<AndHowLog>() {
+		@Override
+		protected AndHowLog computeValue(Class<?> clazz) {
+			return new AndHowLog(Logger.getLogger(clazz.getCanonicalName()), clazz);
+		}
+	};
 
 	private final Class<?> clazz;
 	private final Logger baseLogger;
 	
+	/**
+	 * Returns the AndHowLog for a class.
+	 * 
+	 * There is a single instance per class, created on first use.
+	 * 
+	 * @param clazz The class that will be logging
+	 * @return The shared AndHowLog for the class
+	 */
 	public static AndHowLog getLogger(Class<?> clazz) {
-		Logger baseLog = Logger.getLogger(clazz.getCanonicalName());
-		return new AndHowLog(baseLog, clazz);
+		return LOGGERS.get(clazz);
 	}
 	
+	/**
+	 * Returns the AndHowLog for a class, replacing its handler.
+	 * 
+	 * Since there is a single instance per class, the handler is replaced for
+	 * all users of the logger.
+	 * 
+	 * @param clazz The class that will be logging
+	 * @param handler The only handler to use, or null to use the default handler
+	 * @return The shared AndHowLog for the class
+	 */
 	public static AndHowLog getLogger(Class<?> clazz, Handler handler) {
-		Logger baseLog = Logger.getLogger(clazz.getCanonicalName());
-		return new AndHowLog(baseLog, clazz, handler);
+		AndHowLog log = LOGGERS.get(clazz);
+		log.useHandler(handler);
+		return log;
 	}
 	
 	private AndHowLog(Logger baseLog, Class<?> clazz) {
-		this(baseLog, clazz, null);
-	}
-
-	private AndHowLog(Logger baseLog, Class<?> clazz, Handler handler) {
 		baseLogger = baseLog;
 		baseLogger.setUseParentHandlers(false);	//Don't double print messages
+		this.clazz = clazz;
+		
+		useHandler(null);
+		reloadLogLevel();
+	}
+	
+	/**
+	 * Builds the handler shared by all AndHowLog instances, which writes on a
+	 * background thread if ASYNC_HANDLER_PROPERTY is true.
+	 * 
+	 * @return A new handler
+	 */
+	private static Handler buildDefaultHandler() {
+		AndHowLogHandler handler = new AndHowLogHandler();
+		
+		if (Boolean.getBoolean(ASYNC_HANDLER_PROPERTY)) {
+			AndHowAsyncLogHandler async = new AndHowAsyncLogHandler(handler);
+			
+			//Write anything still queued before the JVM exits
+			Runtime.getRuntime().addShutdownHook(new Thread(async::flush, "AndHow async log flush"));
+			return async;
+		} else {
+			return handler;
+		}
+	}
+	
+	/**
+	 * Makes the passed handler the only handler of the underlying Logger.
+	 * 
+	 * @param handler The handler to use, or null to use the default handler.
+	 */
+	private void useHandler(Handler handler) {
 		
 		if (handler == null) {
 			handler = DEFAULT_HANDLER;
@@ -66,9 +144,6 @@ public class AndHowLog {
 		}
 		
 		baseLogger.addHandler(handler);
-
-		this.clazz = clazz;
-		reloadLogLevel();
 	}
 
 	/**
@@ -91,6 +166,30 @@ public class AndHowLog {
 		}
 	}
 	
+	/**
+	 * Turns on or off finding the source location (class, method and line
+	 * number) of logged messages, for all AndHowLog instances.
+	 * 
+	 * The location is only found for messages that are actually formatted,
+	 * but it still requires walking the stack.  When turned off, the logger
+	 * name is used as the source.  The default is on, unless turned off via
+	 * the CALLER_LOCATION_PROPERTY System property.
+	 * 
+	 * @param enabled True to find the source location.
+	 */
+	public static void setCallerLocationEnabled(boolean enabled) {
+		callerLocationEnabled = enabled;
+	}
+	
+	/**
+	 * True if the source location of logged messages is found.
+	 * 
+	 * @return 
+	 */
+	public static boolean isCallerLocationEnabled() {
+		return callerLocationEnabled;
+	}
+	
 	public Handler[] getHandlers() {
 		return baseLogger.getHandlers();
 	}
@@ -126,26 +225,40 @@ public class AndHowLog {
 		}
 	}
 
+	/**
+	 * Logs a message w/ an AndHowLogRecord, so the source location is only found
+	 * if a Handler formats it.
+	 * 
+	 * @param level The level, which must already be known to be loggable.
+	 * @param msg The message or message format
+	 * @param arguments Arguments for the format, or null
+	 * @param t A Throwable to log, or null
+	 */
+	private void log(Level level, String msg, Object[] arguments, Throwable t) {
+		AndHowLogRecord record = new AndHowLogRecord(level, msg, callerLocationEnabled ? CN : null);
+		record.setLoggerName(baseLogger.getName());
+		record.setParameters(arguments);
+		record.setThrown(t);
+		baseLogger.log(record);
+	}
+	
 	//
 	//Trace
 	public void trace(String msg) {
 		if (baseLogger.isLoggable(Level.FINEST)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINEST, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg);
+			log(Level.FINEST, msg, null, null);
 		}
 	}
 
 	public void trace(String format, Object... arguments) {
 		if (baseLogger.isLoggable(Level.FINEST)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINEST, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), format, arguments);
+			log(Level.FINEST, format, arguments, null);
 		}
 	}
 
 	public void trace(String msg, Throwable t) {
 		if (baseLogger.isLoggable(Level.FINEST)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINEST, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg, t);
+			log(Level.FINEST, msg, null, t);
 		}
 	}
 
@@ -153,22 +266,19 @@ public class AndHowLog {
 	//Debug
 	public void debug(String msg) {
 		if (baseLogger.isLoggable(Level.FINE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg);
+			log(Level.FINE, msg, null, null);
 		}
 	}
 
 	public void debug(String format, Object... arguments) {
 		if (baseLogger.isLoggable(Level.FINE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), format, arguments);
+			log(Level.FINE, format, arguments, null);
 		}
 	}
 
 	public void debug(String msg, Throwable t) {
 		if (baseLogger.isLoggable(Level.FINE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.FINE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg, t);
+			log(Level.FINE, msg, null, t);
 		}
 	}
 
@@ -176,22 +286,19 @@ public class AndHowLog {
 	//Info
 	public void info(String msg) {
 		if (baseLogger.isLoggable(Level.INFO)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.INFO, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg);
+			log(Level.INFO, msg, null, null);
 		}
 	}
 
 	public void info(String format, Object... arguments) {
 		if (baseLogger.isLoggable(Level.INFO)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.INFO, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), format, arguments);
+			log(Level.INFO, format, arguments, null);
 		}
 	}
 
 	public void info(String msg, Throwable t) {
 		if (baseLogger.isLoggable(Level.INFO)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.INFO, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg, t);
+			log(Level.INFO, msg, null, t);
 		}
 	}
 
@@ -199,22 +306,19 @@ public class AndHowLog {
 	//Warn
 	public void warn(String msg) {
 		if (baseLogger.isLoggable(Level.WARNING)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.WARNING, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg);
+			log(Level.WARNING, msg, null, null);
 		}
 	}
 
 	public void warn(String format, Object... arguments) {
 		if (baseLogger.isLoggable(Level.WARNING)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.WARNING, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), format, arguments);
+			log(Level.WARNING, format, arguments, null);
 		}
 	}
 
 	public void warn(String msg, Throwable t) {
 		if (baseLogger.isLoggable(Level.WARNING)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.WARNING, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg, t);
+			log(Level.WARNING, msg, null, t);
 		}
 	}
 
@@ -222,22 +326,19 @@ public class AndHowLog {
 	//Error
 	public void error(String msg) {
 		if (baseLogger.isLoggable(Level.SEVERE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.SEVERE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg);
+			log(Level.SEVERE, msg, null, null);
 		}
 	}
 
 	public void error(String format, Object... arguments) {
 		if (baseLogger.isLoggable(Level.SEVERE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.SEVERE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), format, arguments);
+			log(Level.SEVERE, format, arguments, null);
 		}
 	}
 
 	public void error(String msg, Throwable t) {
 		if (baseLogger.isLoggable(Level.SEVERE)) {
-			StackTraceElement ste = StackLocator.calcLocation(CN);
-			baseLogger.logp(Level.SEVERE, ste.getClassName(), ste.getMethodName() + ":" + ste.getLineNumber(), msg, t);
+			log(Level.SEVERE, msg, null, t);
 		}
 	}
 
@@ -0,0 +1,76 @@
+package org.yarnandtail.andhow.util;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A LogRecord that finds the source class and method of the logging call only
+ * when they are first requested, typically by a Formatter.
+ * 
+ * Finding the source requires walking the stack, so it is only done for
+ * records that are actually formatted.  The stack is walked from the point
+ * the source is requested, so it must be requested on the thread that made
+ * the logging call, while that call is still in progress.  Handlers that
+ * format records later or on another thread must call getSourceClassName()
+ * before handing off the record.
+ * 
+ * @author ericeverman
+ */
+public class AndHowLogRecord extends LogRecord {
+	
+	private transient String fqcnOfLogger;
+	
+	/**
+	 * New instance.
+	 * 
+	 * @param level The logging level
+	 * @param msg The raw, non-localized logging message
+	 * @param fqcnOfLogger The fully qualified name of the logger class, used to
+	 * find the caller in the stack.  If null, the source is never found and
+	 * Formatters will use the logger name instead.
+	 */
+	public AndHowLogRecord(Level level, String msg, String fqcnOfLogger) {
+		super(level, msg);
+		this.fqcnOfLogger = fqcnOfLogger;
+		
+		//Setting the source also prevents LogRecord from inferring the caller itself
+		super.setSourceClassName(null);
+		super.setSourceMethodName(null);
+	}
+	
+	@Override
+	public String getSourceClassName() {
+		locate();
+		return super.getSourceClassName();
+	}
+	
+	@Override
+	public void setSourceClassName(String sourceClassName) {
+		fqcnOfLogger = null;
+		super.setSourceClassName(sourceClassName);
+	}
+	
+	@Override
+	public String getSourceMethodName() {
+		locate();
+		return super.getSourceMethodName();
+	}
+	
+	@Override
+	public void setSourceMethodName(String sourceMethodName) {
+		fqcnOfLogger = null;
+		super.setSourceMethodName(sourceMethodName);
+	}
+	
+	private void locate() {
+		if (fqcnOfLogger != null) {
+			StackTraceElement ste = StackLocator.calcLocation(fqcnOfLogger);
+			fqcnOfLogger = null;
+			
+			if (ste != null) {
+				super.setSourceClassName(ste.getClassName());
+				super.setSourceMethodName(ste.getMethodName() + ":" + ste.getLineNumber());
+			}
+		}
+	}
+}
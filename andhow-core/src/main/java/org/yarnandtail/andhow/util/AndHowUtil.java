@@ -1,5 +1,7 @@
 package org.yarnandtail.andhow.util;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.logging.Level;
@@ -18,6 +20,11 @@ import org.yarnandtail.andhow.service.InitLoader;
  * @author eeverman
  */
 public class AndHowUtil {
+	
+	/** Classpath resource w/ the AndHow version */
+	private static final String VERSION_RESOURCE = "/org/yarnandtail/andhow/andhow-version.properties";
+	
+	private static final String ANDHOW_VERSION = readAndHowVersion();
 
 	/**
 	 * Build a fully populated ConstructionDefinition from the passed Groups,
@@ -106,7 +113,7 @@ public class AndHowUtil {
 			List<NameAndProperty> nameAndProperties = group.getProperties();
 
 			for (NameAndProperty nameAndProp : nameAndProperties) {
-				problems.add(appDef.addProperty(group, nameAndProp.property));
+				problems.add(appDef.addProperty(group, nameAndProp.property, nameAndProp.buildVerified));
 			}
 
 		} catch (Exception ex) {
@@ -181,14 +188,7 @@ public class AndHowUtil {
 
 			if (Modifier.isStatic(f.getModifiers()) && Property.class.isAssignableFrom(f.getType())) {
 
-				Property cp = null;
-
-				try {
-					cp = (Property) f.get(null);
-				} catch (Exception ex) {
-					f.setAccessible(true);
-					cp = (Property) f.get(null);
-				}
+				Property cp = (Property) getStaticFieldValue(f);
 
 				props.add(new NameAndProperty(f.getName(), cp));
 
@@ -199,6 +199,31 @@ public class AndHowUtil {
 		return props;
 	}
 	
+	/**
+	 * Reads the value of a static field.
+	 * 
+	 * A field that is not public, or is in a class that is not public, is made
+	 * accessible before it is read, rather than failing and retrying.
+	 * 
+	 * @param field The static field
+	 * @return The value
+	 * @throws IllegalAccessException
+	 * @throws SecurityException If the field cannot be made accessible.
+	 */
+	public static Object getStaticFieldValue(Field field) throws IllegalAccessException, SecurityException {
+		boolean accessible = Modifier.isPublic(field.getModifiers());
+		
+		for (Class<?> c = field.getDeclaringClass(); accessible && c != null; c = c.getEnclosingClass()) {
+			accessible = Modifier.isPublic(c.getModifiers());
+		}
+		
+		if (! accessible) {
+			field.setAccessible(true);
+		}
+		
+		return field.get(null);
+	}
+	
 	/**
 	 * Invokes buildGroupProxy(group, true).
 	 * 
@@ -342,6 +367,37 @@ public class AndHowUtil {
 		return null;
 	}
 	
+	/**
+	 * The version of AndHow, as recorded by the build.
+	 * 
+	 * @return The version, or null if it is not known.
+	 */
+	public static String getAndHowVersion() {
+		return ANDHOW_VERSION;
+	}
+	
+	/**
+	 * Reads the version of AndHow from the resource written by the build.
+	 */
+	private static String readAndHowVersion() {
+		try (InputStream in = AndHowUtil.class.getResourceAsStream(VERSION_RESOURCE)) {
+			if (in != null) {
+				Properties props = new Properties();
+				props.load(in);
+				String version = props.getProperty("andhow.version");
+				
+				//An unfiltered resource still contains the placeholder
+				if (version != null && ! version.trim().isEmpty() && ! version.startsWith("${")) {
+					return version.trim();
+				}
+			}
+		} catch (IOException ex) {
+			//Unknown
+		}
+		
+		return null;
+	}
+	
 	/**
 	 * Returns true if the specified class name is on the classpath.
 	 * 
@@ -395,9 +451,23 @@ public class AndHowUtil {
 	public static AndHowConfiguration findConfiguration(AndHowConfiguration defaultConfig) 
 			throws AppFatalException {
 		
-		InitLoader prodLoader = new InitLoader();
-		InitLoader testLoader = (InitLoader) getClassInstanceForName(
-				"org.yarnandtail.andhow.service.TestInitLoader");
+		return findConfiguration(defaultConfig, null);
+	}
+	
+	/**
+	 * Finds the AndHowConfiguration provided by an AndHowInit or AndHowTestInit
+	 * implementation visible to a specific classloader.
+	 * 
+	 * @param defaultConfig Config to use if no init class is found to provide one.
+	 * @param classLoader The classloader to search, or null for the one that loaded AndHow.
+	 * @return The configuration
+	 * @throws AppFatalException If more than one init class is found.
+	 */
+	public static AndHowConfiguration findConfiguration(AndHowConfiguration defaultConfig, ClassLoader classLoader) 
+			throws AppFatalException {
+		
+		InitLoader prodLoader = new InitLoader(classLoader);
+		InitLoader testLoader = getTestInitLoader(classLoader);
 
 		if (! prodLoader.isValidState()) {
 			throw new AppFatalException(
@@ -418,6 +488,26 @@ public class AndHowUtil {
 		}
 
 	}
+	
+	/**
+	 * The TestInitLoader for a classloader, if the test harness is on the classpath.
+	 * 
+	 * @param classLoader The classloader to search, or null for the default.
+	 * @return The loader or null if it is not present.
+	 */
+	protected static InitLoader getTestInitLoader(ClassLoader classLoader) {
+		Class<?> c = getClassForName("org.yarnandtail.andhow.service.TestInitLoader");
+		
+		if (c != null) {
+			try {
+				return (InitLoader) c.getConstructor(ClassLoader.class).newInstance(classLoader);
+			} catch (Throwable ex) {
+				//ignore
+			}
+		}
+		
+		return null;
+	}
 
 
 }
@@ -0,0 +1,322 @@
+package org.yarnandtail.andhow.util;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * Java Flight Recorder (JFR) events for AndHow startup.
+ * 
+ * AndHow is compiled against the Java 8 API, which does not include the
+ * jdk.jfr package (it is in Java 11+ and JDK 8 builds since 8u262), so events
+ * are not subclasses of jdk.jfr.Event.  Instead, each event type is created at
+ * runtime w/ jdk.jfr.EventFactory, which is found and called reflectively.
+ * On a JVM w/o the JFR API, every event is a no-op.
+ * 
+ * Creating an EventFactory is expensive, so each one is created on the first
+ * begin() of its type after the FlightRecorder is initialized, i.e. once a
+ * recording has been started.  Until then, begin() returns the no-op event
+ * after a single FlightRecorder.isInitialized() check.  Events are recorded
+ * only during startup, never when Property values are read.
+ * 
+ * Usage:
+ * <pre>{@code
+ * JfrEvents.Event e = JfrEvents.begin(JfrEvents.EXPORT);
+ * ...do the work...
+ * e.set(0, exporterName).set(1, groupName).commit();
+ * }</pre>
+ * Field values are set by index, in the order the fields are listed for
+ * each type.
+ * 
+ * @author eeverman
+ */
+public final class JfrEvents {
+	
+	/** Prefix of the JFR name of each event type */
+	public static final String EVENT_NAME_PREFIX = "org.yarnandtail.andhow.";
+	
+	/** Fields:  phase */
+	public static final EventType PHASE = new EventType("Phase", "AndHow Startup Phase",
+			"A phase of AndHow startup",
+			"phase", String.class);
+	
+	/** Fields:  loader, source, valueCount, problemCount */
+	public static final EventType LOAD = new EventType("Load", "AndHow Loader",
+			"A single call to Loader.load",
+			"loader", String.class, "source", String.class,
+			"valueCount", int.class, "problemCount", int.class);
+	
+	/** Fields:  rootCount, lookupCount, foundCount */
+	public static final EventType JNDI_LOOKUP = new EventType("JndiLookup", "AndHow JNDI Lookup",
+			"The JNDI lookups for all Properties by a JNDI loader",
+			"rootCount", int.class, "lookupCount", int.class, "foundCount", int.class);
+	
+	/** Fields:  path, bytes, keyCount */
+	public static final EventType PROPERTY_FILE_READ = new EventType("PropertyFileRead", "AndHow Property File Read",
+			"Reading a properties file",
+			"path", String.class, "bytes", long.class, "keyCount", int.class);
+	
+	/** Fields:  loader, valueCount, parallel */
+	public static final EventType VALIDATION = new EventType("Validation", "AndHow Validation",
+			"Validation of the values from one loader.  Only parallel validation is timed, "
+					+ "since otherwise values are validated as they are loaded.",
+			"loader", String.class, "valueCount", int.class, "parallel", boolean.class);
+	
+	/** Fields:  exporter, group */
+	public static final EventType EXPORT = new EventType("Export", "AndHow Export",
+			"Exporting one Group, or all Groups, w/ an Exporter",
+			"exporter", String.class, "group", String.class);
+	
+	/** The no-op event, returned if JFR is not available or not recording */
+	private static final Event NOOP = new Event(null);
+	
+	/**
+	 * All utility methods are static.
+	 */
+	private JfrEvents() {
+		//no instances
+	}
+	
+	/**
+	 * True if the JFR API is available in this JVM.
+	 * 
+	 * @return True if events can be recorded.
+	 */
+	public static boolean isSupported() {
+		return Jfr.SUPPORTED;
+	}
+	
+	/**
+	 * Starts timing a new event.
+	 * 
+	 * @param type The type of event
+	 * @return A new event, or a no-op event if JFR is not available or the
+	 * event type is not being recorded.
+	 */
+	public static Event begin(EventType type) {
+		Object factory = type.getFactory();
+		
+		if (factory == null) return NOOP;
+		
+		try {
+			Object event = Jfr.NEW_EVENT.invoke(factory);
+			
+			if ((Boolean) Jfr.IS_ENABLED.invoke(event)) {
+				Jfr.BEGIN.invoke(event);
+				return new Event(event);
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			//Events are best effort and must never break startup
+		}
+		
+		return NOOP;
+	}
+	
+	/**
+	 * An event in progress.
+	 */
+	public static final class Event {
+		private final Object event;
+		
+		private Event(Object event) {
+			this.event = event;
+		}
+		
+		/**
+		 * Sets a field value.
+		 * 
+		 * @param index The index of the field, in the order listed for the type.
+		 * @param value The value, which must match the field type.
+		 * @return This event, for chaining.
+		 */
+		public Event set(int index, Object value) {
+			if (event != null) {
+				try {
+					Jfr.SET.invoke(event, index, value);
+				} catch (ReflectiveOperationException | RuntimeException e) {
+					//Best effort
+				}
+			}
+			
+			return this;
+		}
+		
+		/**
+		 * Ends the event and writes it to the recording.
+		 */
+		public void commit() {
+			if (event != null) {
+				try {
+					Jfr.COMMIT.invoke(event);
+				} catch (ReflectiveOperationException | RuntimeException e) {
+					//Best effort
+				}
+			}
+		}
+	}
+	
+	/**
+	 * A JFR event type.
+	 */
+	public static final class EventType {
+		private final String name;
+		private final String label;
+		private final String description;
+		private final Object[] fields;
+		
+		/** The EventFactory, created on first use while recording */
+		private volatile Object factory;
+		private boolean factoryCreated;	//Guarded by this
+		
+		/**
+		 * New event type.
+		 * 
+		 * @param simpleName The name, w/o the EVENT_NAME_PREFIX
+		 * @param label The label JFR tools display
+		 * @param description A description of the event
+		 * @param fields Pairs of field name and field type
+		 */
+		EventType(String simpleName, String label, String description, Object... fields) {
+			this.name = EVENT_NAME_PREFIX + simpleName;
+			this.label = label;
+			this.description = description;
+			this.fields = fields;
+		}
+		
+		/**
+		 * The EventFactory, creating it if the FlightRecorder is initialized.
+		 * 
+		 * @return The factory, or null if JFR is not supported or not recording.
+		 */
+		Object getFactory() {
+			Object f = factory;
+			
+			if (f != null || ! Jfr.isRecorderInitialized()) {
+				return f;
+			}
+			
+			synchronized (this) {
+				if (! factoryCreated) {
+					factory = Jfr.createFactory(name, label, description, fields);
+					factoryCreated = true;	//Only try once, even if it failed
+				}
+				
+				return factory;
+			}
+		}
+		
+		/**
+		 * The full JFR name of the event type.
+		 * 
+		 * @return The name
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+	
+	/**
+	 * Reflective access to the JFR API, which is loaded only if present.
+	 */
+	private static final class Jfr {
+		static final boolean SUPPORTED;
+		static final Method IS_INITIALIZED;
+		static final Method CREATE;
+		static final Method NEW_EVENT;
+		static final Method IS_ENABLED;
+		static final Method BEGIN;
+		static final Method SET;
+		static final Method COMMIT;
+		static final Constructor<?> ANNOTATION;
+		static final Constructor<?> VALUE;
+		static final Class<?> NAME;
+		static final Class<?> LABEL;
+		static final Class<?> DESCRIPTION;
+		static final Class<?> CATEGORY;
+		
+		static {
+			Method isInitialized = null, create = null, newEvent = null, isEnabled = null, begin = null, set = null, commit = null;
+			Constructor<?> annotation = null, value = null;
+			Class<?> name = null, label = null, description = null, category = null;
+			boolean supported = false;
+			
+			try {
+				Class<?> factory = Class.forName("jdk.jfr.EventFactory");
+				Class<?> event = Class.forName("jdk.jfr.Event");
+				Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+				
+				isInitialized = Class.forName("jdk.jfr.FlightRecorder").getMethod("isInitialized");
+				create = factory.getMethod("create", List.class, List.class);
+				newEvent = factory.getMethod("newEvent");
+				isEnabled = event.getMethod("isEnabled");
+				begin = event.getMethod("begin");
+				set = event.getMethod("set", int.class, Object.class);
+				commit = event.getMethod("commit");
+				annotation = annotationElement.getConstructor(Class.class, Object.class);
+				value = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+				name = Class.forName("jdk.jfr.Name");
+				label = Class.forName("jdk.jfr.Label");
+				description = Class.forName("jdk.jfr.Description");
+				category = Class.forName("jdk.jfr.Category");
+				supported = true;
+			} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+				//No JFR API in this JVM
+			}
+			
+			SUPPORTED = supported;
+			IS_INITIALIZED = isInitialized;
+			CREATE = create;
+			NEW_EVENT = newEvent;
+			IS_ENABLED = isEnabled;
+			BEGIN = begin;
+			SET = set;
+			COMMIT = commit;
+			ANNOTATION = annotation;
+			VALUE = value;
+			NAME = name;
+			LABEL = label;
+			DESCRIPTION = description;
+			CATEGORY = category;
+		}
+		
+		/**
+		 * True if the FlightRecorder has been initialized, which it is once a
+		 * recording has been started.  Checking does not initialize it.
+		 */
+		static boolean isRecorderInitialized() {
+			if (! SUPPORTED) return false;
+			
+			try {
+				return (Boolean) IS_INITIALIZED.invoke(null);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return false;
+			}
+		}
+		
+		/**
+		 * Creates an EventFactory, or returns null if JFR is not supported.
+		 */
+		static Object createFactory(String name, String label, String description, Object... fields) {
+			if (! SUPPORTED) return null;
+			
+			try {
+				List<Object> annotations = new ArrayList();
+				annotations.add(ANNOTATION.newInstance(NAME, name));
+				annotations.add(ANNOTATION.newInstance(LABEL, label));
+				annotations.add(ANNOTATION.newInstance(DESCRIPTION, description));
+				annotations.add(ANNOTATION.newInstance(CATEGORY, new String[] {"AndHow"}));
+				
+				List<Object> values = new ArrayList();
+				for (int i = 0; i < fields.length; i += 2) {
+					String fieldName = (String) fields[i];
+					List<Object> fieldAnnotations = Collections.singletonList(ANNOTATION.newInstance(LABEL, fieldName));
+					values.add(VALUE.newInstance(fields[i + 1], fieldName, fieldAnnotations));
+				}
+				
+				return CREATE.invoke(null, annotations, values);
+			} catch (ReflectiveOperationException | RuntimeException e) {
+				return null;
+			}
+		}
+	}
+
+}
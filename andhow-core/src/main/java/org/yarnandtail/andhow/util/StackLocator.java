@@ -20,29 +20,116 @@
  */
 package org.yarnandtail.andhow.util;
 
+import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * A utility class for find the calling class, method and line number for use
  * in creating more detailed logging information.  This class was mostly copied
  * from the class of the same name in the Apache log4j project.
+ * 
+ * On Java 9 and later, the stack is walked lazily using java.lang.StackWalker,
+ * which stops at the first frame outside the logger instead of capturing the
+ * entire stack.  Since AndHow is compiled for Java 8, StackWalker is accessed
+ * reflectively.  On Java 8, the stack is captured via a Throwable.
  */
 public class StackLocator {
 
+    /** Finds the location via StackWalker, or null if not available (pre Java 9) */
+    private static final Function<String, StackTraceElement> WALKER_LOCATOR = buildWalkerLocator();
+
+    /**
+     * Finds the stack frame of the caller of the logger.
+     * 
+     * The caller is the first frame outside of the logger class, following
+     * (walking outward from the current frame) the frames of the logger class.
+     * 
+     * @param fqcnOfLogger The fully qualified class name of the logger
+     * @return The frame of the caller, or null if not found.
+     */
     public static StackTraceElement calcLocation(final String fqcnOfLogger) {
         if (fqcnOfLogger == null) {
             return null;
         }
+        
+        if (WALKER_LOCATOR != null) {
+            try {
+                return WALKER_LOCATOR.apply(fqcnOfLogger);
+            } catch (RuntimeException e) {
+                //Unexpected reflection failure - fall through to the Java 8 way
+            }
+        }
+        
+        return calcLocationFromStackTrace(fqcnOfLogger);
+    }
+    
+    /**
+     * Finds the caller of the logger by capturing the stack via a Throwable.
+     * 
+     * @param fqcnOfLogger The fully qualified class name of the logger
+     * @return The frame of the caller, or null if not found.
+     */
+    static StackTraceElement calcLocationFromStackTrace(final String fqcnOfLogger) {
         // LOG4J2-1029 new Throwable().getStackTrace is faster than Thread.currentThread().getStackTrace().
         final StackTraceElement[] stackTrace = new Throwable().getStackTrace();
-        StackTraceElement last = null;
-        for (int i = stackTrace.length - 1; i > 0; i--) {
-            final String className = stackTrace[i].getClassName();
-            if (fqcnOfLogger.equals(className)) {
-                return last;
+        boolean inLogger = false;
+        for (int i = 0; i < stackTrace.length; i++) {
+            if (fqcnOfLogger.equals(stackTrace[i].getClassName())) {
+                inLogger = true;
+            } else if (inLogger) {
+                return stackTrace[i];
             }
-            last = stackTrace[i];
         }
         return null;
     }
+    
+    /**
+     * Builds a locator that uses java.lang.StackWalker, if it exists.
+     * 
+     * @return A locator function or null if StackWalker is not available.
+     */
+    static Function<String, StackTraceElement> buildWalkerLocator() {
+        try {
+            Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+            Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+            
+            final Object walker = walkerClass.getMethod("getInstance").invoke(null);
+            final Method walk = walkerClass.getMethod("walk", Function.class);
+            final Method getClassName = frameClass.getMethod("getClassName");
+            final Method toStackTraceElement = frameClass.getMethod("toStackTraceElement");
+            
+            return fqcnOfLogger -> {
+                
+                Function<Stream<Object>, StackTraceElement> finder = frames -> {
+                    try {
+                        Iterator<Object> it = frames.iterator();
+                        boolean inLogger = false;
+                        while (it.hasNext()) {
+                            Object frame = it.next();
+                            if (fqcnOfLogger.equals(getClassName.invoke(frame))) {
+                                inLogger = true;
+                            } else if (inLogger) {
+                                return (StackTraceElement) toStackTraceElement.invoke(frame);
+                            }
+                        }
+                        return null;
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(e);
+                    }
+                };
+                
+                try {
+                    return (StackTraceElement) walk.invoke(walker, finder);
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+            
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
 
 }
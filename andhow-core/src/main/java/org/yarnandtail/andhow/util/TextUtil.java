@@ -23,6 +23,9 @@ public class TextUtil {
 	
 	private static final String PAD = "[[00PAD00]]";
 	
+	/** Lower case values recognized as true by the toBoolean methods */
+	private static final String[] BOOLEAN_TRUE_VALUES = new String[] {"true", "t", "yes", "y", "on"};
+	
 	
 	/**
 	 * println to the passed PrintStream using the format {} patterning.
@@ -220,6 +223,149 @@ public class TextUtil {
 		return v.equals("true") || v.equals("t") || v.equals("yes") || v.equals("y") || v.equals("on");
 	}
 	
+	/**
+	 * Parses a span of characters to a boolean, using the same rules as
+	 * toBoolean(String), but without creating a String.
+	 * 
+	 * Whitespace around the value within the span is ignored.
+	 * 
+	 * @param value The text containing the value
+	 * @param start The first index of the span, inclusive
+	 * @param end The last index of the span, exclusive
+	 * @return True for the same values as toBoolean(String).  Null returns false.
+	 */
+	public static boolean toBoolean(CharSequence value, int start, int end) {
+		if (value == null) return false;
+		
+		start = trimStart(value, start, end);
+		end = trimEnd(value, start, end);
+		
+		for (String t : BOOLEAN_TRUE_VALUES) {
+			if (equalsIgnoreCase(value, start, end, t)) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Parses a span of bytes to a boolean, using the same rules as
+	 * toBoolean(String), but without creating a String.
+	 * 
+	 * The bytes are assumed to be in an ASCII compatible encoding, such as
+	 * UTF-8 or ISO-8859-1.  Whitespace around the value within the span is ignored.
+	 * 
+	 * @param value The bytes containing the value
+	 * @param start The first index of the span, inclusive
+	 * @param end The last index of the span, exclusive
+	 * @return True for the same values as toBoolean(String).  Null returns false.
+	 */
+	public static boolean toBoolean(byte[] value, int start, int end) {
+		if (value == null) return false;
+		
+		start = trimStart(value, start, end);
+		end = trimEnd(value, start, end);
+		
+		for (String t : BOOLEAN_TRUE_VALUES) {
+			if (equalsIgnoreCase(value, start, end, t)) return true;
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Finds the index of the first non-whitespace character in the span
+	 * <code>[start, end)</code> of the passed text.
+	 * 
+	 * Whitespace has the same meaning as in String.trim(), i.e., any character
+	 * less than or equal to the space character.
+	 * 
+	 * @param text The text to search
+	 * @param start The first index to consider, inclusive
+	 * @param end The last index to consider, exclusive
+	 * @return The index of the first non-whitespace character, or end if
+	 * the span is all whitespace.
+	 */
+	public static int trimStart(CharSequence text, int start, int end) {
+		while (start < end && text.charAt(start) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+	
+	/**
+	 * Finds the index just past the last non-whitespace character in the span
+	 * <code>[start, end)</code> of the passed text.
+	 * 
+	 * Whitespace has the same meaning as in String.trim(), i.e., any character
+	 * less than or equal to the space character.
+	 * 
+	 * @param text The text to search
+	 * @param start The first index to consider, inclusive
+	 * @param end The last index to consider, exclusive
+	 * @return The exclusive end index of the trimmed span, or start if
+	 * the span is all whitespace.
+	 */
+	public static int trimEnd(CharSequence text, int start, int end) {
+		while (end > start && text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+	
+	/**
+	 * Same as trimStart(CharSequence, int, int), but for bytes in an ASCII
+	 * compatible encoding.
+	 * 
+	 * @param bytes The bytes to search
+	 * @param start The first index to consider, inclusive
+	 * @param end The last index to consider, exclusive
+	 * @return The index of the first non-whitespace byte, or end if
+	 * the span is all whitespace.
+	 */
+	public static int trimStart(byte[] bytes, int start, int end) {
+		while (start < end && (bytes[start] & 0xFF) <= ' ') {
+			start++;
+		}
+		return start;
+	}
+	
+	/**
+	 * Same as trimEnd(CharSequence, int, int), but for bytes in an ASCII
+	 * compatible encoding.
+	 * 
+	 * @param bytes The bytes to search
+	 * @param start The first index to consider, inclusive
+	 * @param end The last index to consider, exclusive
+	 * @return The exclusive end index of the trimmed span, or start if
+	 * the span is all whitespace.
+	 */
+	public static int trimEnd(byte[] bytes, int start, int end) {
+		while (end > start && (bytes[end - 1] & 0xFF) <= ' ') {
+			end--;
+		}
+		return end;
+	}
+	
+	private static boolean equalsIgnoreCase(CharSequence text, int start, int end, String lowerCaseTarget) {
+		if (end - start != lowerCaseTarget.length()) return false;
+		
+		for (int i = 0; i < lowerCaseTarget.length(); i++) {
+			if (Character.toLowerCase(text.charAt(start + i)) != lowerCaseTarget.charAt(i)) return false;
+		}
+		
+		return true;
+	}
+	
+	private static boolean equalsIgnoreCase(byte[] bytes, int start, int end, String lowerCaseTarget) {
+		if (end - start != lowerCaseTarget.length()) return false;
+		
+		for (int i = 0; i < lowerCaseTarget.length(); i++) {
+			if (Character.toLowerCase((char)(bytes[start + i] & 0xFF)) != lowerCaseTarget.charAt(i)) return false;
+		}
+		
+		return true;
+	}
+	
 	/**
 	 * Wraps text to be no longer than the specified length, if possible, and adds
 	 * a prefix to each line, which is subtracted from the overall length.
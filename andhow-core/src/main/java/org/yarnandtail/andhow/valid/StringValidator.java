@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valid;
 
+import java.util.regex.Pattern;
 import org.yarnandtail.andhow.api.Validator;
 
 /**
@@ -94,25 +95,33 @@ public class StringValidator {
 	
 	/**
 	 * Validate based on a regex string.
+	 * 
+	 * The regex is compiled once when the validator is created, so validating
+	 * many values (or revalidating on reload) does not recompile the expression.
+	 * Matchers are not cached, since a cached Matcher would keep a reference
+	 * to the last value validated, which may be a secret.
 	 */
 	public static class Regex implements Validator<String> {
 
-		private String regex;
+		private final String regex;
+		private final Pattern pattern;
 
 		public Regex(String regex) {
 			this.regex = regex;
-		}
-
-		@Override
-		public boolean isSpecificationValid() {
-
+			
+			Pattern p = null;
 			try {
-				"".matches(regex);
-				return true;
+				p = Pattern.compile(regex);
 			} catch (Exception e) {
-				return false;
+				//Invalid (or null) regex, reported via isSpecificationValid
 			}
+			
+			pattern = p;
+		}
 
+		@Override
+		public boolean isSpecificationValid() {
+			return pattern != null;
 		}
 
 		@Override
@@ -122,8 +131,8 @@ public class StringValidator {
 
 		@Override
 		public boolean isValid(String value) {
-			if (value != null && value.matches(regex)) {
-				return true;
+			if (value != null && pattern != null) {
+				return pattern.matcher(value).matches();
 			} else {
 				return false;
 			}
@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import java.nio.charset.StandardCharsets;
 import org.yarnandtail.andhow.api.ParsingException;
 import org.yarnandtail.andhow.api.ValueType;
 
@@ -10,6 +11,29 @@ import org.yarnandtail.andhow.api.ValueType;
  */
 public abstract class BaseValueType<T> implements ValueType<T> {
 
+	/**
+	 * Max decimal digits that always fit in an int without overflow.
+	 */
+	protected static final int MAX_SIMPLE_INT_DIGITS = 9;
+	
+	/**
+	 * Max decimal digits that always fit in a long without overflow.
+	 */
+	protected static final int MAX_SIMPLE_LONG_DIGITS = 18;
+	
+	/**
+	 * Max decimal digits of a mantissa that are exactly representable as a double.
+	 */
+	private static final int MAX_EXACT_DOUBLE_DIGITS = 15;
+	
+	/**
+	 * Powers of ten that are exactly representable as a double.
+	 */
+	private static final double[] EXACT_DOUBLE_POWERS_OF_TEN = {
+		1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+		1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+	};
+	
 	protected final Class<T> clazzType;
 
 	public BaseValueType(Class<T> clazzType) {
@@ -31,6 +55,20 @@ public abstract class BaseValueType<T> implements ValueType<T> {
 		}
 	}
 	
+	@Override
+	public T parse(CharSequence sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue == null) return null;
+		
+		return parse(spanToString(sourceValue, start, end));
+	}
+	
+	@Override
+	public T parse(byte[] sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue == null) return null;
+		
+		return parse(spanToString(sourceValue, start, end));
+	}
+	
 	@Override
 	public String toString(T value) {
 		if (value != null) {
@@ -40,4 +78,275 @@ public abstract class BaseValueType<T> implements ValueType<T> {
 		}
 	}
 	
+	/**
+	 * Creates a String from a span of characters.
+	 * 
+	 * Span based parse implementations use this to fall back to parse(String)
+	 * for values they cannot handle directly, so error handling and edge cases
+	 * stay identical to parse(String).
+	 * 
+	 * @param source The characters containing the value
+	 * @param start Index of the first character, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return A new String for the span
+	 */
+	protected static String spanToString(CharSequence source, int start, int end) {
+		return source.subSequence(start, end).toString();
+	}
+	
+	/**
+	 * Creates a String from a span of UTF-8 encoded bytes.
+	 * 
+	 * @see #spanToString(java.lang.CharSequence, int, int)
+	 * @param source The bytes containing the value
+	 * @param start Index of the first byte, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return A new String for the span
+	 */
+	protected static String spanToString(byte[] source, int start, int end) {
+		return new String(source, start, end - start, StandardCharsets.UTF_8);
+	}
+	
+	/**
+	 * Returns true if the span is a simple decimal integer:  An optional
+	 * leading '+' or '-', followed by one to maxDigits ASCII digits.
+	 * 
+	 * Simple integers can be converted by parseSimpleLong without overflow.
+	 * Anything else, including values that might be valid but are longer,
+	 * returns false and should be handled by parse(String).
+	 * 
+	 * @param source The characters to check
+	 * @param start Index of the first character, inclusive
+	 * @param end Index of the end, exclusive
+	 * @param maxDigits The max number of digits allowed
+	 * @return True if the span can be handled by parseSimpleLong.
+	 */
+	protected static boolean isSimpleInteger(CharSequence source, int start, int end, int maxDigits) {
+		if (start < end && (source.charAt(start) == '-' || source.charAt(start) == '+')) {
+			start++;
+		}
+		
+		if (start == end || end - start > maxDigits) return false;
+		
+		for (int i = start; i < end; i++) {
+			char c = source.charAt(i);
+			if (c < '0' || c > '9') return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Same as isSimpleInteger(CharSequence, int, int, int), but for bytes.
+	 * 
+	 * @param source The bytes to check
+	 * @param start Index of the first byte, inclusive
+	 * @param end Index of the end, exclusive
+	 * @param maxDigits The max number of digits allowed
+	 * @return True if the span can be handled by parseSimpleLong.
+	 */
+	protected static boolean isSimpleInteger(byte[] source, int start, int end, int maxDigits) {
+		if (start < end && (source[start] == '-' || source[start] == '+')) {
+			start++;
+		}
+		
+		if (start == end || end - start > maxDigits) return false;
+		
+		for (int i = start; i < end; i++) {
+			byte c = source[i];
+			if (c < '0' || c > '9') return false;
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Converts a span that isSimpleInteger has already accepted to a long.
+	 * 
+	 * @param source The characters to convert
+	 * @param start Index of the first character, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return The numeric value of the span.
+	 */
+	protected static long parseSimpleLong(CharSequence source, int start, int end) {
+		boolean negative = source.charAt(start) == '-';
+		if (negative || source.charAt(start) == '+') start++;
+		
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			result = result * 10 + (source.charAt(i) - '0');
+		}
+		
+		return negative ? -result : result;
+	}
+	
+	/**
+	 * Same as parseSimpleLong(CharSequence, int, int), but for bytes.
+	 * 
+	 * @param source The bytes to convert
+	 * @param start Index of the first byte, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return The numeric value of the span.
+	 */
+	protected static long parseSimpleLong(byte[] source, int start, int end) {
+		boolean negative = source[start] == '-';
+		if (negative || source[start] == '+') start++;
+		
+		long result = 0;
+		for (int i = start; i < end; i++) {
+			result = result * 10 + (source[i] - '0');
+		}
+		
+		return negative ? -result : result;
+	}
+	
+	/**
+	 * Attempts to convert a span containing a simple decimal number to a double
+	 * without creating a String.
+	 * 
+	 * Only numbers that can be converted exactly are handled:  An optional sign,
+	 * at most 15 ASCII digits with an optional decimal point, and an optional
+	 * exponent, where the effective power of ten is at most 22.  A double
+	 * built from these is correctly rounded, so the result is identical to
+	 * Double.parseDouble.  Anything else (special values, type suffixes,
+	 * whitespace, longer values or invalid text) returns NaN and should be
+	 * handled by parse(String).
+	 * 
+	 * @param source The characters to convert
+	 * @param start Index of the first character, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return The value of the span, or NaN if it is not a simple decimal number.
+	 */
+	protected static double parseSimpleDouble(CharSequence source, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		
+		if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+			negative = source.charAt(i) == '-';
+			i++;
+		}
+		
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean pastPoint = false;
+		
+		for (; i < end; i++) {
+			char c = source.charAt(i);
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_EXACT_DOUBLE_DIGITS) return Double.NaN;
+				mantissa = mantissa * 10 + (c - '0');
+				if (pastPoint) fractionDigits++;
+			} else if (c == '.' && ! pastPoint) {
+				pastPoint = true;
+			} else {
+				break;
+			}
+		}
+		
+		if (digits == 0) return Double.NaN;
+		
+		int exponent = 0;
+		
+		if (i < end) {
+			char c = source.charAt(i++);
+			if (c != 'e' && c != 'E') return Double.NaN;
+			
+			boolean negativeExp = false;
+			if (i < end && (source.charAt(i) == '-' || source.charAt(i) == '+')) {
+				negativeExp = source.charAt(i) == '-';
+				i++;
+			}
+			
+			if (i == end || end - i > 3) return Double.NaN;
+			
+			for (; i < end; i++) {
+				c = source.charAt(i);
+				if (c < '0' || c > '9') return Double.NaN;
+				exponent = exponent * 10 + (c - '0');
+			}
+			
+			if (negativeExp) exponent = -exponent;
+		}
+		
+		return toExactDouble(negative, mantissa, exponent - fractionDigits);
+	}
+	
+	/**
+	 * Same as parseSimpleDouble(CharSequence, int, int), but for bytes.
+	 * 
+	 * @param source The bytes to convert
+	 * @param start Index of the first byte, inclusive
+	 * @param end Index of the end, exclusive
+	 * @return The value of the span, or NaN if it is not a simple decimal number.
+	 */
+	protected static double parseSimpleDouble(byte[] source, int start, int end) {
+		int i = start;
+		boolean negative = false;
+		
+		if (i < end && (source[i] == '-' || source[i] == '+')) {
+			negative = source[i] == '-';
+			i++;
+		}
+		
+		long mantissa = 0;
+		int digits = 0;
+		int fractionDigits = 0;
+		boolean pastPoint = false;
+		
+		for (; i < end; i++) {
+			byte c = source[i];
+			if (c >= '0' && c <= '9') {
+				if (++digits > MAX_EXACT_DOUBLE_DIGITS) return Double.NaN;
+				mantissa = mantissa * 10 + (c - '0');
+				if (pastPoint) fractionDigits++;
+			} else if (c == '.' && ! pastPoint) {
+				pastPoint = true;
+			} else {
+				break;
+			}
+		}
+		
+		if (digits == 0) return Double.NaN;
+		
+		int exponent = 0;
+		
+		if (i < end) {
+			byte c = source[i++];
+			if (c != 'e' && c != 'E') return Double.NaN;
+			
+			boolean negativeExp = false;
+			if (i < end && (source[i] == '-' || source[i] == '+')) {
+				negativeExp = source[i] == '-';
+				i++;
+			}
+			
+			if (i == end || end - i > 3) return Double.NaN;
+			
+			for (; i < end; i++) {
+				c = source[i];
+				if (c < '0' || c > '9') return Double.NaN;
+				exponent = exponent * 10 + (c - '0');
+			}
+			
+			if (negativeExp) exponent = -exponent;
+		}
+		
+		return toExactDouble(negative, mantissa, exponent - fractionDigits);
+	}
+	
+	private static double toExactDouble(boolean negative, long mantissa, int powerOfTen) {
+		double d = mantissa;
+		
+		if (powerOfTen < 0) {
+			if (powerOfTen < -22) return Double.NaN;
+			d = d / EXACT_DOUBLE_POWERS_OF_TEN[-powerOfTen];
+		} else {
+			if (powerOfTen > 22) return Double.NaN;
+			d = d * EXACT_DOUBLE_POWERS_OF_TEN[powerOfTen];
+		}
+		
+		return negative ? -d : d;
+	}
+
 }
@@ -36,6 +36,34 @@ public class BolType extends BaseValueType<Boolean> {
 		}
 	}
 	
+	/**
+	 * Parses a span of characters with the same rules as parse(String),
+	 * without creating a String.
+	 */
+	@Override
+	public Boolean parse(CharSequence sourceValue, int start, int end) throws IllegalArgumentException {
+
+		if (sourceValue != null && TextUtil.trimStart(sourceValue, start, end) < end) {
+			return TextUtil.toBoolean(sourceValue, start, end);
+		} else {
+			return null;
+		}
+	}
+	
+	/**
+	 * Parses a span of UTF-8 bytes with the same rules as parse(String),
+	 * without creating a String.
+	 */
+	@Override
+	public Boolean parse(byte[] sourceValue, int start, int end) throws IllegalArgumentException {
+
+		if (sourceValue != null && TextUtil.trimStart(sourceValue, start, end) < end) {
+			return TextUtil.toBoolean(sourceValue, start, end);
+		} else {
+			return null;
+		}
+	}
+	
 	@Override
 	public Boolean cast(Object o) throws RuntimeException {
 		return (Boolean)o;
@@ -40,6 +40,40 @@ public class DblType extends BaseValueType<Double> {
 		}
 	}
 	
+	/**
+	 * Parses a span of characters without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Double parse(CharSequence sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null) {
+			double d = parseSimpleDouble(sourceValue, start, end);
+			
+			if (! Double.isNaN(d)) {
+				return d;
+			}
+		}
+		
+		return super.parse(sourceValue, start, end);
+	}
+	
+	/**
+	 * Parses a span of UTF-8 bytes without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Double parse(byte[] sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null) {
+			double d = parseSimpleDouble(sourceValue, start, end);
+			
+			if (! Double.isNaN(d)) {
+				return d;
+			}
+		}
+		
+		return super.parse(sourceValue, start, end);
+	}
+	
 	@Override
 	public Double cast(Object o) throws RuntimeException {
 		return (Double)o;
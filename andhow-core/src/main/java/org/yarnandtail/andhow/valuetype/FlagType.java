@@ -37,6 +37,36 @@ public class FlagType extends BaseValueType<Boolean> {
 		}
 	}
 	
+	/**
+	 * Parses a span of characters with the same rules as parse(String),
+	 * without creating a String.
+	 */
+	@Override
+	public Boolean parse(CharSequence sourceValue, int start, int end) throws IllegalArgumentException {
+
+		if (sourceValue == null || TextUtil.trimStart(sourceValue, start, end) == end) {
+			//regardless of trimming, all whitespace is considered == to the flag is present
+			return true;
+		} else {
+			return TextUtil.toBoolean(sourceValue, start, end);
+		}
+	}
+	
+	/**
+	 * Parses a span of UTF-8 bytes with the same rules as parse(String),
+	 * without creating a String.
+	 */
+	@Override
+	public Boolean parse(byte[] sourceValue, int start, int end) throws IllegalArgumentException {
+
+		if (sourceValue == null || TextUtil.trimStart(sourceValue, start, end) == end) {
+			//regardless of trimming, all whitespace is considered == to the flag is present
+			return true;
+		} else {
+			return TextUtil.toBoolean(sourceValue, start, end);
+		}
+	}
+	
 	@Override
 	public Boolean cast(Object o) throws RuntimeException {
 		return (Boolean)o;
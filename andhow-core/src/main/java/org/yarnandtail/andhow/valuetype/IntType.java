@@ -40,6 +40,32 @@ public class IntType extends BaseValueType<Integer> {
 		}
 	}
 	
+	/**
+	 * Parses a span of characters without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Integer parse(CharSequence sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null && isSimpleInteger(sourceValue, start, end, MAX_SIMPLE_INT_DIGITS)) {
+			return (int)parseSimpleLong(sourceValue, start, end);
+		} else {
+			return super.parse(sourceValue, start, end);
+		}
+	}
+	
+	/**
+	 * Parses a span of UTF-8 bytes without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Integer parse(byte[] sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null && isSimpleInteger(sourceValue, start, end, MAX_SIMPLE_INT_DIGITS)) {
+			return (int)parseSimpleLong(sourceValue, start, end);
+		} else {
+			return super.parse(sourceValue, start, end);
+		}
+	}
+	
 	@Override
 	public Integer cast(Object o) throws RuntimeException {
 		return (Integer)o;
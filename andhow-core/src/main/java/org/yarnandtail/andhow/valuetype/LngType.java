@@ -40,6 +40,32 @@ public class LngType extends BaseValueType<Long> {
 		}
 	}
 	
+	/**
+	 * Parses a span of characters without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Long parse(CharSequence sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null && isSimpleInteger(sourceValue, start, end, MAX_SIMPLE_LONG_DIGITS)) {
+			return parseSimpleLong(sourceValue, start, end);
+		} else {
+			return super.parse(sourceValue, start, end);
+		}
+	}
+	
+	/**
+	 * Parses a span of UTF-8 bytes without creating a String for simple
+	 * decimal values.  Other values are handled exactly as parse(String).
+	 */
+	@Override
+	public Long parse(byte[] sourceValue, int start, int end) throws ParsingException {
+		if (sourceValue != null && isSimpleInteger(sourceValue, start, end, MAX_SIMPLE_LONG_DIGITS)) {
+			return parseSimpleLong(sourceValue, start, end);
+		} else {
+			return super.parse(sourceValue, start, end);
+		}
+	}
+	
 	@Override
 	public Long cast(Object o) throws RuntimeException {
 		return (Long)o;
@@ -0,0 +1,141 @@
+package org.yarnandtail.andhow;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import org.yarnandtail.andhow.load.FixedValueLoader;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.service.PropertyRegistrarLoader;
+
+/**
+ *
+ * @author eeverman
+ */
+public class AndHowContextTest extends AndHowCoreTestBase {
+	
+	public interface ContextParams {
+		StrProp NAME = StrProp.builder().defaultValue("default").build();
+	}
+	
+	private static AndHowCoreTestConfig.NonProductionConfigImpl buildConfig(String name) {
+		return AndHowCoreTestConfig.instance()
+				.addFixedValue(ContextParams.NAME, name)
+				.group(ContextParams.class);
+	}
+	
+	@Test
+	public void testForClassLoaderReturnsOneContextPerClassLoader() throws Exception {
+		ClassLoader parent = AndHowContextTest.class.getClassLoader();
+		
+		try (URLClassLoader cl1 = new URLClassLoader(new URL[0], parent);
+				URLClassLoader cl2 = new URLClassLoader(new URL[0], parent)) {
+			
+			AndHowContext c1 = AndHowContext.forClassLoader(cl1);
+			
+			assertSame(c1, AndHowContext.forClassLoader(cl1));
+			assertNotSame(c1, AndHowContext.forClassLoader(cl2));
+			assertSame(cl1, c1.getClassLoader());
+			assertFalse(c1.isInitialized());
+			
+			assertSame(c1, AndHowContext.remove(cl1));
+			assertNotSame(c1, AndHowContext.forClassLoader(cl1));
+			
+			AndHowContext.remove(cl1);
+			AndHowContext.remove(cl2);
+		}
+	}
+	
+	@Test
+	public void testRemoveReleasesTheCachedGroupsOfTheClassLoader() throws Exception {
+		ClassLoader parent = AndHowContextTest.class.getClassLoader();
+		
+		try (URLClassLoader cl = new URLClassLoader(new URL[0], parent)) {
+			AndHowContext.forClassLoader(cl);
+			List<GroupProxy> groups = PropertyRegistrarLoader.getCachedGroups(cl);
+			
+			assertSame(groups, PropertyRegistrarLoader.getCachedGroups(cl));
+			
+			AndHowContext.remove(cl);
+			
+			assertNotSame("The cache should be invalidated", groups, PropertyRegistrarLoader.getCachedGroups(cl));
+			PropertyRegistrarLoader.invalidateCache(cl);
+		}
+		
+		assertNull(AndHowContext.remove(null));
+	}
+	
+	@Test
+	public void testContextsAreIndependentOfEachOtherAndTheGlobalInstance() {
+		AndHowContext bob = AndHowContext.create(null).initialize(buildConfig("bob"));
+		AndHowContext kim = AndHowContext.create(null).initialize(buildConfig("kim"));
+		
+		assertEquals("bob", bob.getValue(ContextParams.NAME));
+		assertEquals("kim", kim.getValue(ContextParams.NAME));
+		assertTrue(bob.isExplicitlySet(ContextParams.NAME));
+		assertTrue(bob.getInitializationTrace().length > 0);
+		assertFalse("A context should not initialize AndHow", AndHow.isInitialize());
+		
+		try (AndHowScope scope = kim.open()) {
+			assertEquals("kim", ContextParams.NAME.getValue());
+		}
+		
+		AndHow.instance(buildConfig("global"));
+		assertEquals("global", ContextParams.NAME.getValue());
+		assertEquals("bob", bob.getValue(ContextParams.NAME));
+	}
+	
+	@Test(expected = AppFatalException.class)
+	public void testInitializingTwiceIsAnError() {
+		AndHowContext context = AndHowContext.create(null).initialize(buildConfig("bob"));
+		context.initialize(buildConfig("kim"));
+	}
+	
+	@Test
+	public void testInitializationOfOneContextDoesNotBlockAnother() throws Exception {
+		final CountDownLatch loading = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+		
+		FixedValueLoader blockingLoader = new FixedValueLoader() {
+			@Override
+			public void load(StaticPropertyConfigurationInternal appConfigDef,
+					ValidatedValuesWithContext existingValues, ValueSink sink) {
+				loading.countDown();
+				
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+		
+		final AndHowContext slow = AndHowContext.create(null);
+		AndHowContext fast = AndHowContext.create(null).initialize(buildConfig("fast"));
+		ExecutorService exec = Executors.newSingleThreadExecutor();
+		
+		try {
+			Future<?> init = exec.submit(() -> slow.initialize(
+					AndHowCoreTestConfig.instance().setLoaders(blockingLoader).group(ContextParams.class)));
+			
+			assertTrue(loading.await(10, TimeUnit.SECONDS));
+			assertFalse(slow.isInitialized());
+			assertEquals("fast", fast.getValue(ContextParams.NAME));
+			
+			release.countDown();
+			init.get();
+			
+			assertEquals("default", slow.getValue(ContextParams.NAME));
+		} finally {
+			release.countDown();
+			exec.shutdown();
+		}
+	}
+
+}
@@ -0,0 +1,125 @@
+package org.yarnandtail.andhow;
+
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class AndHowScopeTest extends AndHowCoreTestBase {
+	
+	public interface ScopeParams {
+		StrProp NAME = StrProp.builder().defaultValue("default").build();
+	}
+	
+	private static AndHowCore buildCore(String name) {
+		AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+				.addFixedValue(ScopeParams.NAME, name)
+				.group(ScopeParams.class);
+		
+		return new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+	}
+	
+	@Test
+	public void testScopeWithoutGlobalInstance() {
+		assertNull(AndHowScope.getCurrentCore());
+		
+		try (AndHowScope scope = AndHowScope.open(buildCore("bob"))) {
+			assertEquals("bob", ScopeParams.NAME.getValue());
+			assertFalse("The scope should not initialize AndHow", AndHow.isInitialize());
+		}
+		
+		assertNull(AndHowScope.getCurrentCore());
+	}
+	
+	@Test
+	public void testInstanceFromAClosedScopeThrowsADescriptiveException() {
+		AndHow instance;
+		
+		try (AndHowScope scope = AndHowScope.open(buildCore("bob"))) {
+			instance = AndHow.instance();
+			assertEquals("bob", instance.getValue(ScopeParams.NAME));
+		}
+		
+		try {
+			instance.getValue(ScopeParams.NAME);
+			fail("The instance has no core once the scope is closed");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage().contains("AndHowScope"));
+		}
+	}
+	
+	@Test
+	public void testNestedScopesOverrideTheGlobalCore() {
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addFixedValue(ScopeParams.NAME, "global")
+				.group(ScopeParams.class));
+		
+		try (AndHowScope outer = AndHowScope.open(buildCore("outer"))) {
+			assertEquals("outer", ScopeParams.NAME.getValue());
+			
+			try (AndHowScope inner = AndHowScope.open(buildCore("inner"))) {
+				assertEquals("inner", ScopeParams.NAME.getValue());
+			}
+			
+			assertEquals("outer", ScopeParams.NAME.getValue());
+		}
+		
+		assertEquals("global", ScopeParams.NAME.getValue());
+	}
+	
+	@Test
+	public void testScopesAreIsolatedBetweenThreads() throws Exception {
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		
+		try {
+			Future<?>[] futures = new Future<?>[8];
+			
+			for (int i = 0; i < futures.length; i++) {
+				final String name = "thread" + i;
+				
+				futures[i] = exec.submit(() -> {
+					try (AndHowScope scope = AndHowScope.open(buildCore(name))) {
+						for (int j = 0; j < 100; j++) {
+							assertEquals(name, ScopeParams.NAME.getValue());
+						}
+					}
+				});
+			}
+			
+			for (Future<?> f : futures) {
+				f.get();
+			}
+		} finally {
+			exec.shutdown();
+		}
+		
+		assertNull(AndHowScope.getCurrentCore());
+	}
+	
+	@Test(expected = IllegalStateException.class)
+	public void testScopeMustBeClosedByItsThread() throws Throwable {
+		final AndHowScope scope = AndHowScope.open(buildCore("bob"));
+		
+		try {
+			ExecutorService exec = Executors.newSingleThreadExecutor();
+			
+			try {
+				exec.submit(scope::close).get();
+			} catch (ExecutionException e) {
+				throw e.getCause();
+			} finally {
+				exec.shutdown();
+			}
+		} finally {
+			scope.close();
+		}
+	}
+
+}
@@ -10,6 +10,7 @@ import org.yarnandtail.andhow.internal.*;
 import org.yarnandtail.andhow.load.KeyValuePairLoader;
 import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
 import org.yarnandtail.andhow.property.FlagProp;
+import org.yarnandtail.andhow.property.IntProp;
 import org.yarnandtail.andhow.property.StrProp;
 
 import static org.junit.Assert.*;
@@ -39,6 +40,13 @@ public class AndHowTest extends AndHowCoreTestBase {
 		FlagProp FLAG_NULL = FlagProp.builder().mustBeNonNull().build();
 	}
 	
+	public static interface ValidatedParams {
+		StrProp STR_A = StrProp.builder().mustStartWith("A").build();
+		StrProp STR_B = StrProp.builder().mustStartWith("B").build();
+		StrProp STR_C = StrProp.builder().mustStartWith("C").build();
+		IntProp INT_BIG = IntProp.builder().mustBeGreaterThan(100).build();
+	}
+	
 	@Before
 	public void setup() throws Exception {
 		
@@ -187,6 +195,48 @@ public class AndHowTest extends AndHowCoreTestBase {
 		}
 	}
 	
+	@Test
+	public void testOverriddenInvalidValuesAreNotValidated() {
+		
+		String baseName = AndHowTest.class.getCanonicalName();
+		baseName += "." + RequiredParams.class.getSimpleName() + ".";
+		
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+			.group(RequiredParams.class)
+			.addFixedValue(RequiredParams.STR_NULL_R, "XYZ_fixed")
+			.addCmdLineArg(baseName + "STR_NULL_R", "zzz");
 
+		AndHow.instance(config);
+		
+		assertEquals("XYZ_fixed", RequiredParams.STR_NULL_R.getValue());
+	}
+	
+	@Test
+	public void testInvalidValuesInParallelAreReportedInLoadOrder() {
+		
+		String baseName = AndHowTest.class.getCanonicalName();
+		baseName += "." + ValidatedParams.class.getSimpleName() + ".";
+		
+		System.setProperty("AHValidateInParallel", "true");
+		
+		try {
+			AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.group(ValidatedParams.class)
+				.addCmdLineArg(baseName + "STR_C", "zzz")
+				.addCmdLineArg(baseName + "STR_B", "B_is_ok")
+				.addCmdLineArg(baseName + "INT_BIG", "1")
+				.addCmdLineArg(baseName + "STR_A", "zzz");
+			
+			AndHow.instance(config);
+			
+			fail();	//The line above should throw an error
+		} catch (AppFatalException ce) {
+			List<ValueProblem> vps = ce.getProblems().filter(ValueProblem.class);
+			assertEquals(3, vps.size());
+			assertEquals(ValidatedParams.STR_C, vps.get(0).getBadValueCoord().getProperty());
+			assertEquals(ValidatedParams.INT_BIG, vps.get(1).getBadValueCoord().getProperty());
+			assertEquals(ValidatedParams.STR_A, vps.get(2).getBadValueCoord().getProperty());
+		}
+	}
 	
 }
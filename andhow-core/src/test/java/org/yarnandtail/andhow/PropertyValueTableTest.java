@@ -0,0 +1,108 @@
+package org.yarnandtail.andhow;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class PropertyValueTableTest extends AndHowCoreTestBase {
+	
+	public interface TableParams {
+		StrProp NAME = StrProp.builder().build();
+		IntProp COUNT = IntProp.builder().defaultValue(4).build();
+		StrProp UNSET = StrProp.builder().build();
+	}
+	
+	@Test
+	public void testValuesAreReadByIndex() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(TableParams.class).getCanonicalName();
+		
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addCmdLineArg(groupName + ".NAME", "bob")
+				.group(TableParams.class));
+		
+		PropertyValueTable table = new PropertyValueTable(
+				groupName + ".COUNT", groupName + ".NAME", groupName + ".UNSET");
+		
+		assertEquals(3, table.size());
+		assertEquals(4, table.get(0));
+		assertEquals("bob", table.get(1));
+		assertNull(table.get(2));
+		
+		//The value table in the core matches
+		int ordinal = AndHowCoreTestUtil.getAndHowCore().getOrdinal(TableParams.NAME);
+		assertEquals("bob", AndHowCoreTestUtil.getAndHowCore().getValue(ordinal));
+	}
+	
+	@Test
+	public void testTableFollowsAReloadedCore() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(TableParams.class).getCanonicalName();
+		PropertyValueTable table = new PropertyValueTable(groupName + ".NAME");
+		
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addCmdLineArg(groupName + ".NAME", "bob")
+				.group(TableParams.class));
+		
+		assertEquals("bob", table.get(0));
+		
+		AndHowCoreTestUtil.setAndHowCore(null);
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addCmdLineArg(groupName + ".NAME", "sue")
+				.group(TableParams.class));
+		
+		assertEquals("sue", table.get(0));
+	}
+	
+	@Test
+	public void testOrdinalsAreResolvedOncePerConfiguration() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(TableParams.class).getCanonicalName();
+		PropertyValueTable table = new PropertyValueTable(groupName + ".NAME", "org.not.Registered.PROP");
+		
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addCmdLineArg(groupName + ".NAME", "bob")
+				.group(TableParams.class));
+		
+		AndHowCore base = AndHowCoreTestUtil.getAndHowCore();
+		AndHowCore over = base.overlay(Collections.singletonList(new PropertyValue(TableParams.NAME, "sue")));
+		int[] ordinals = base.getOrdinals(table);
+		
+		assertEquals(base.getOrdinal(TableParams.NAME), ordinals[0]);
+		assertEquals(-1, ordinals[1]);
+		assertSame("Cores sharing a configuration share the ordinals", ordinals, over.getOrdinals(table));
+		assertEquals("bob", base.getValue(ordinals[0]));
+		assertEquals("sue", over.getValue(ordinals[0]));
+	}
+	
+	@Test(expected = AppFatalException.class)
+	public void testUnregisteredPropertyThrows() throws Exception {
+		AndHow.instance(AndHowCoreTestConfig.instance().group(TableParams.class));
+		
+		new PropertyValueTable("org.not.Registered.PROP").get(0);
+	}
+	
+	@Test
+	public void testReadsAreCountedWhenAccessMetricsAreOn() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(TableParams.class).getCanonicalName();
+		
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.ACCESS_METRICS, true)
+				.group(TableParams.class));
+		
+		PropertyValueTable table = new PropertyValueTable(groupName + ".COUNT");
+		table.get(0);
+		table.get(0);
+		
+		assertEquals(2, AndHow.instance().getAccessMetrics().getAccessCount(TableParams.COUNT));
+	}
+
+}
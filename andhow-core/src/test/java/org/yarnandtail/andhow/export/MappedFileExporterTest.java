@@ -0,0 +1,247 @@
+package org.yarnandtail.andhow.export;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.api.Exporter;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class MappedFileExporterTest extends AndHowCoreTestBase {
+	
+	Path path;
+	
+	@GroupExport(
+		exporter=MappedFileExporter.class,
+		exportByCanonicalName=Exporter.EXPORT_CANONICAL_NAME.ONLY_IF_NO_OUT_ALIAS,
+		exportByOutAliases=Exporter.EXPORT_OUT_ALIASES.ALWAYS
+	)
+	interface Group1 {
+		StrProp STR = StrProp.builder().aliasInAndOut("mapped.str").build();
+		IntProp INT = IntProp.builder().defaultValue(42).build();
+	}
+	
+	@GroupExport(
+		exporter=MappedFileExporter.class,
+		exportByCanonicalName=Exporter.EXPORT_CANONICAL_NAME.ALWAYS,
+		exportByOutAliases=Exporter.EXPORT_OUT_ALIASES.NEVER
+	)
+	interface Group2 {
+		StrProp STR = StrProp.builder().defaultValue("two").build();
+	}
+	
+	@Before
+	public void createFile() throws Exception {
+		path = Files.createTempFile("andhow-mapped", ".bin");
+		Files.delete(path);
+	}
+	
+	@After
+	public void deleteFile() throws Exception {
+		Files.deleteIfExists(path);
+	}
+	
+	@Test
+	public void testWriteAndRead() throws Exception {
+		Map<String, String> values = new LinkedHashMap();
+		values.put("b", "bee");
+		values.put("a", "ay");
+		values.put("été", "summer ☀");
+		values.put("empty", "");
+		
+		MappedFileExporter.write(path, values);
+		
+		try (MappedFileReader reader = new MappedFileReader(path)) {
+			assertEquals(2L, reader.getGeneration());
+			assertEquals("ay", reader.getValue("a"));
+			assertEquals("bee", reader.getValue("b"));
+			assertEquals("summer ☀", reader.getValue("été"));
+			assertEquals("", reader.getValue("empty"));
+			assertNull(reader.getValue("c"));
+			assertNull(reader.getValue(""));
+			
+			ByteBuffer buf = reader.getValueBuffer("b");
+			assertTrue(buf.isReadOnly());
+			assertEquals(3, buf.remaining());
+			assertEquals('b', buf.get(0));
+			assertNull(reader.getValueBuffer("c"));
+			
+			assertEquals(4, reader.getValues().size());
+			assertEquals("a", reader.getValues().keySet().iterator().next());
+		}
+	}
+	
+	@Test
+	public void testReaderSeesUpdatesAndGrowth() throws Exception {
+		Map<String, String> values = new LinkedHashMap();
+		values.put("a", "1");
+		MappedFileExporter.write(path, values);
+		
+		try (MappedFileReader reader = new MappedFileReader(path)) {
+			long generation = reader.getGeneration();
+			assertFalse(reader.hasChanged(generation));
+			
+			StringBuilder big = new StringBuilder();
+			for (int i = 0; i < 10000; i++) {
+				big.append('x');
+			}
+			
+			values.put("a", "2");
+			values.put("big", big.toString());
+			MappedFileExporter.write(path, values);
+			
+			assertTrue(reader.hasChanged(generation));
+			assertEquals(generation + 2, reader.getGeneration());
+			assertEquals("2", reader.getValue("a"));
+			assertEquals(big.toString(), reader.getValue("big"));
+			
+			//Smaller again:  The file is not shrunk, but the values are replaced
+			values.remove("big");
+			MappedFileExporter.write(path, values);
+			
+			assertNull(reader.getValue("big"));
+			assertEquals(1, reader.getValues().size());
+			
+			//...and the bytes of the removed value are erased
+			assertFalse(new String(Files.readAllBytes(path), StandardCharsets.UTF_8).contains("xx"));
+		}
+	}
+	
+	@Test
+	public void testWritesAddToValuesFromTheSameWriterOnly() throws Exception {
+		MappedFileExporter.write(path, Collections.singletonMap("a", "1"), 7L);
+		MappedFileExporter.write(path, Collections.singletonMap("b", "2"), 7L);
+		
+		try (MappedFileReader reader = new MappedFileReader(path)) {
+			assertEquals(2, reader.getValues().size());
+			assertEquals("1", reader.getValue("a"));
+			assertEquals("2", reader.getValue("b"));
+			
+			MappedFileExporter.write(path, Collections.singletonMap("c", "3"), 8L);
+			
+			assertEquals(1, reader.getValues().size());
+			assertEquals("3", reader.getValue("c"));
+			
+			MappedFileExporter.write(path, Collections.singletonMap("d", "4"));
+			MappedFileExporter.write(path, Collections.singletonMap("e", "5"));
+			
+			assertEquals(1, reader.getValues().size());
+			assertEquals("5", reader.getValue("e"));
+		}
+	}
+	
+	@Test
+	public void testAbandonedWriteIsDetectedAndRecovered() throws Exception {
+		MappedFileExporter.write(path, Collections.singletonMap("a", "1"));
+		
+		//A writer that died mid-write leaves the generation odd
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+			ByteBuffer generation = ByteBuffer.allocate(8);
+			generation.putLong(0, 3L);
+			channel.write(generation, MappedFileReader.GENERATION_POS);
+		}
+		
+		try (MappedFileReader reader = new MappedFileReader(path)) {
+			
+			try {
+				reader.getValue("a");
+				fail("The write was abandoned, so the file is not readable");
+			} catch (IllegalStateException e) {
+				assertTrue(e.getMessage().contains("did not complete"));
+			}
+			
+			MappedFileExporter.write(path, Collections.singletonMap("a", "2"));
+			
+			assertEquals(6L, reader.getGeneration());
+			assertEquals("2", reader.getValue("a"));
+		}
+	}
+	
+	@Test
+	public void testNewFileIsOnlyAccessibleByTheOwner() throws Exception {
+		Assume.assumeTrue(path.getFileSystem().supportedFileAttributeViews().contains("posix"));
+		
+		MappedFileExporter.write(path, Collections.singletonMap("a", "1"));
+		
+		assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(path));
+	}
+	
+	@Test
+	public void testFileOwnedByAnotherUserIsNotWritten() throws Exception {
+		Files.write(path, new byte[0]);
+		
+		try {
+			Files.setOwner(path, path.getFileSystem().getUserPrincipalLookupService().lookupPrincipalByName("nobody"));
+		} catch (IOException | UnsupportedOperationException e) {
+			Assume.assumeNoException("Unable to give the file to another user", e);
+		}
+		
+		try {
+			MappedFileExporter.write(path, Collections.singletonMap("a", "1"));
+			fail("The file is owned by another user");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("owned by"));
+		}
+		
+		assertEquals(0L, Files.size(path));
+	}
+	
+	@Test(expected = java.io.IOException.class)
+	public void testReaderRejectsOtherFiles() throws Exception {
+		Files.write(path, "Not a mapped file at all".getBytes(StandardCharsets.UTF_8));
+		new MappedFileReader(path).close();
+	}
+	
+	@Test
+	public void testExportAllGroupsToTheSameFile() throws Exception {
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.MAPPED_EXPORT_FILE, path.toString())
+				.addCmdLineArg("mapped.str", "one")
+				.group(Group1.class).group(Group2.class);
+		
+		AndHow.instance(config);
+		
+		try (MappedFileReader reader = new MappedFileReader(path)) {
+			Map<String, String> values = reader.getValues();
+			
+			assertEquals(3, values.size());
+			assertEquals("one", values.get("mapped.str"));
+			assertEquals("42", values.get(AndHow.instance().getCanonicalName(Group1.INT)));
+			assertEquals("two", values.get(AndHow.instance().getCanonicalName(Group2.STR)));
+		}
+	}
+	
+	@Test
+	public void testExportWithoutAFileIsAnError() throws Exception {
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.group(Group2.class);
+		
+		try {
+			AndHow.instance(config);
+			fail("The export file is required");
+		} catch (AppFatalException e) {
+			assertTrue(e.getMessage().contains("MAPPED_EXPORT_FILE"));
+		}
+		
+		assertFalse(new File(path.toString()).exists());
+	}
+}
@@ -0,0 +1,118 @@
+package org.yarnandtail.andhow.export;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class SysPropExporterTest {
+	
+	static final String STR_OUT_1 = "SysPropExporterTest.str.out.1";
+	static final String STR_OUT_2 = "SysPropExporterTest.str.out.2";
+	
+	StaticPropertyConfigurationMutable appDef;
+	LoaderValues values;
+	GroupProxy proxy;
+	
+	public interface Params {
+		StrProp STR = StrProp.builder().aliasOut(STR_OUT_1).aliasInAndOut(STR_OUT_2).build();
+		IntProp INT = IntProp.builder().build();
+		StrProp STR_NULL = StrProp.builder().build();
+	}
+	
+	@Before
+	public void init() throws Exception {
+		proxy = AndHowUtil.buildGroupProxy(Params.class);
+		
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		appDef.addProperty(proxy, Params.STR);
+		appDef.addProperty(proxy, Params.INT);
+		appDef.addProperty(proxy, Params.STR_NULL);
+		
+		List<ValidatedValue> vals = new ArrayList();
+		vals.add(new ValidatedValue(Params.STR, "abc"));
+		vals.add(new ValidatedValue(Params.INT, 42));
+		values = new LoaderValues(new KeyValuePairLoader(), vals, new ProblemList());
+		
+		clearSysProps();
+	}
+	
+	@After
+	public void clearSysProps() {
+		System.clearProperty(STR_OUT_1);
+		System.clearProperty(STR_OUT_2);
+		System.clearProperty(appDef.getCanonicalName(Params.STR));
+		System.clearProperty(appDef.getCanonicalName(Params.INT));
+		System.clearProperty(appDef.getCanonicalName(Params.STR_NULL));
+	}
+	
+	@Test
+	public void testExportOnlyIfNoOutAlias() {
+		SysPropExporter exporter = new SysPropExporter();
+		exporter.setExportByCanonicalName(Exporter.EXPORT_CANONICAL_NAME.ONLY_IF_NO_OUT_ALIAS);
+		exporter.setExportByOutAliases(Exporter.EXPORT_OUT_ALIASES.ALWAYS);
+		
+		exporter.export(proxy, appDef, values);
+		
+		assertEquals("abc", System.getProperty(STR_OUT_1));
+		assertEquals("abc", System.getProperty(STR_OUT_2));
+		assertNull(System.getProperty(appDef.getCanonicalName(Params.STR)));
+		assertEquals("42", System.getProperty(appDef.getCanonicalName(Params.INT)));
+		assertFalse(System.getProperties().containsKey(appDef.getCanonicalName(Params.STR_NULL)));
+	}
+	
+	@Test
+	public void testExportAllNamesAsABatch() {
+		SysPropExporter exporter = new SysPropExporter();
+		exporter.setExportByCanonicalName(Exporter.EXPORT_CANONICAL_NAME.ALWAYS);
+		exporter.setExportByOutAliases(Exporter.EXPORT_OUT_ALIASES.ALWAYS);
+		
+		List<GroupProxy> groups = new ArrayList();
+		groups.add(proxy);
+		exporter.export(groups, appDef, values);
+		
+		assertEquals("abc", System.getProperty(STR_OUT_1));
+		assertEquals("abc", System.getProperty(STR_OUT_2));
+		assertEquals("abc", System.getProperty(appDef.getCanonicalName(Params.STR)));
+		assertEquals("42", System.getProperty(appDef.getCanonicalName(Params.INT)));
+	}
+	
+	@Test
+	public void testExportNoNames() {
+		SysPropExporter exporter = new SysPropExporter();
+		exporter.setExportByCanonicalName(Exporter.EXPORT_CANONICAL_NAME.NEVER);
+		exporter.setExportByOutAliases(Exporter.EXPORT_OUT_ALIASES.NEVER);
+		
+		exporter.export(appDef, values);
+		
+		assertNull(System.getProperty(STR_OUT_1));
+		assertNull(System.getProperty(appDef.getCanonicalName(Params.INT)));
+	}
+	
+	@Test
+	public void testGetExportNamesPutsCanonicalNameFirst() {
+		SysPropExporter exporter = new SysPropExporter();
+		exporter.setExportByCanonicalName(Exporter.EXPORT_CANONICAL_NAME.ALWAYS);
+		exporter.setExportByOutAliases(Exporter.EXPORT_OUT_ALIASES.ALWAYS);
+		
+		List<String> names = exporter.getExportNames(Params.STR, appDef);
+		
+		assertEquals(3, names.size());
+		assertEquals(appDef.getCanonicalName(Params.STR), names.get(0));
+		assertEquals(STR_OUT_1, names.get(1));
+		assertEquals(STR_OUT_2, names.get(2));
+	}
+}
@@ -0,0 +1,97 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.Property;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class AccessMetricsTest extends AndHowCoreTestBase {
+	
+	public interface MetricParams {
+		StrProp STR = StrProp.builder().defaultValue("str").build();
+		IntProp INT = IntProp.builder().defaultValue(4).build();
+		IntProp UNUSED = IntProp.builder().build();
+	}
+	
+	@Test
+	public void testMetricsAreOffByDefault() {
+		AndHow.instance(AndHowCoreTestConfig.instance().group(MetricParams.class));
+		
+		assertEquals("str", MetricParams.STR.getValue());
+		assertNull(AndHow.instance().getAccessMetrics());
+	}
+	
+	@Test
+	public void testPropertyReadsAreCounted() {
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.ACCESS_METRICS, true)
+				.group(MetricParams.class);
+		
+		AndHow.instance(config);
+		AccessMetrics metrics = AndHow.instance().getAccessMetrics();
+		
+		//Reads by AndHow during startup are not counted
+		assertEquals(0L, metrics.getAccessCount(Options.ACCESS_METRICS));
+		
+		for (int i = 0; i < 5; i++) {
+			MetricParams.STR.getValue();
+		}
+		
+		MetricParams.INT.getExplicitValue();
+		AndHow.instance().getValue(MetricParams.INT);
+		
+		assertEquals(5L, metrics.getAccessCount(MetricParams.STR));
+		assertEquals(2L, metrics.getAccessCount(MetricParams.INT));
+		assertEquals(0L, metrics.getAccessCount(MetricParams.UNUSED));
+		
+		List<Property<?>> hot = metrics.getHotProperties(10);
+		assertEquals(2, hot.size());
+		assertSame(MetricParams.STR, hot.get(0));
+		assertSame(MetricParams.INT, hot.get(1));
+		assertEquals(1, metrics.getHotProperties(1).size());
+		
+		List<Property<?>> unread = metrics.getUnreadProperties();
+		assertTrue(unread.contains(MetricParams.UNUSED));
+		assertFalse(unread.contains(MetricParams.STR));
+		
+		Map<Property<?>, Long> counts = metrics.getAccessCounts();
+		assertEquals(Long.valueOf(5L), counts.get(MetricParams.STR));
+		
+		String report = metrics.getReport();
+		assertTrue(report.contains("\t5\t" + AndHow.instance().getCanonicalName(MetricParams.STR)));
+		assertTrue(report.contains("\t0\t" + AndHow.instance().getCanonicalName(MetricParams.UNUSED)));
+		
+		metrics.reset();
+		assertEquals(0L, metrics.getAccessCount(MetricParams.STR));
+	}
+	
+	@Test
+	public void testLoggingOfReplacedInstancesSharesOneThread() {
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.ACCESS_METRICS, true)
+				.addFixedValue(Options.ACCESS_METRICS_LOG_SECONDS, 3600)
+				.group(MetricParams.class);
+		
+		for (int i = 0; i < 3; i++) {
+			AndHowCoreTestUtil.forceRebuild(config);
+		}
+		
+		long threads = Thread.getAllStackTraces().keySet().stream()
+				.filter(t -> t.getName().equals("AndHow access metrics")).count();
+		
+		assertEquals(1L, threads);
+		
+		AndHow.instance().getAccessMetrics().stopLogging();
+	}
+
+}
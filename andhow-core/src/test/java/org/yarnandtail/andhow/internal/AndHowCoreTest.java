@@ -0,0 +1,140 @@
+package org.yarnandtail.andhow.internal;
+
+import java.io.File;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class AndHowCoreTest extends AndHowCoreTestBase {
+	
+	public interface CoreParams {
+		StrProp NAME = StrProp.builder().build();
+		IntProp COUNT = IntProp.builder().mustBeGreaterThan(0).defaultValue(4).build();
+		StrProp REQUIRED = StrProp.builder().mustBeNonNull().defaultValue("req").build();
+	}
+	
+	public interface OtherParams {
+		StrProp OTHER = StrProp.builder().build();
+	}
+	
+	@Test
+	public void testStaticConfigIsReused() {
+		AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+				.addFixedValue(CoreParams.NAME, "bob")
+				.group(CoreParams.class);
+		
+		AndHowCore base = new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+		
+		AndHowCore reused = new AndHowCore(base,
+				AndHowCoreTestConfig.instance().addFixedValue(CoreParams.NAME, "sue").buildLoaders());
+		
+		assertTrue(base.getStaticConfig() == reused.getStaticConfig());
+		assertEquals("bob", base.getValue(CoreParams.NAME));
+		assertEquals("sue", reused.getValue(CoreParams.NAME));
+		assertEquals(Integer.valueOf(4), reused.getValue(CoreParams.COUNT));
+		assertEquals(1L, base.getGeneration());
+		assertEquals(2L, reused.getGeneration());
+	}
+	
+	@Test
+	public void testReusedConfigDoesNotRepeatStartupSideEffects() throws Exception {
+		File report = File.createTempFile("andhow", ".json");
+		
+		try {
+			AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+					.addFixedValue(Options.ACCESS_METRICS, true)
+					.addFixedValue(Options.JSON_REPORT, report.getAbsolutePath())
+					.group(CoreParams.class);
+			
+			AndHowCore base = new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+			long reportLength = report.length();
+			
+			assertTrue(reportLength > 0);
+			assertNotNull(base.getAccessMetrics());
+			
+			AndHowCore reused = new AndHowCore(base, config.buildLoaders());
+			
+			assertEquals("The JSON report is not written again", reportLength, report.length());
+			assertSame(base.getAccessMetrics(), reused.getAccessMetrics());
+		} finally {
+			report.delete();
+		}
+	}
+	
+	@Test
+	public void testTotalStartupTimeIsFrozenWhenConstructed() throws Exception {
+		AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+				.group(CoreParams.class);
+		
+		AndHowCore core = new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+		long total = core.getTimings().getTotalNanos();
+		
+		Thread.sleep(5);
+		
+		assertTrue(total > 0L);
+		assertEquals(total, core.getTimings().getTotalNanos());
+	}
+	
+	@Test
+	public void testOverlay() {
+		AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+				.addFixedValue(CoreParams.NAME, "bob")
+				.group(CoreParams.class);
+		
+		AndHowCore base = new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+		AndHowCore over = base.overlay(Collections.singletonList(new PropertyValue(CoreParams.COUNT, 9)));
+		
+		assertEquals(Integer.valueOf(4), base.getValue(CoreParams.COUNT));
+		assertEquals(Integer.valueOf(9), over.getValue(CoreParams.COUNT));
+		assertEquals(Integer.valueOf(9), over.getValue(over.getOrdinal(CoreParams.COUNT)));
+		assertEquals("bob", over.getValue(CoreParams.NAME));
+		
+		try {
+			base.overlay(Collections.singletonList(new PropertyValue(CoreParams.COUNT, 0)));
+			fail("An invalid value should not be accepted");
+		} catch (AppFatalException e) {
+			//expected
+		}
+		
+		try {
+			base.overlay(Collections.singletonList(new PropertyValue(OtherParams.OTHER, "x")));
+			fail("A Property that is not registered should not be accepted");
+		} catch (AppFatalException e) {
+			assertTrue(e.getProblems().get(0) instanceof ConstructionProblem.LoaderPropertyNotRegistered);
+		}
+		
+		//A null override is not a value, so a non-null Property keeps its value
+		AndHowCore nullOver = base.overlay(Collections.singletonList(new PropertyValue(CoreParams.REQUIRED, null)));
+		assertEquals("req", nullOver.getValue(CoreParams.REQUIRED));
+	}
+	
+	@Test
+	public void testOverlayHonorsRetainLoaderValues() {
+		AndHowCoreTestConfig.NonProductionConfigImpl config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.RETAIN_LOADER_VALUES, true)
+				.group(CoreParams.class);
+		
+		AndHowCore base = new AndHowCore(config.getNamingStrategy(), config.buildLoaders(), config.getRegisteredGroups());
+		AndHowCore over = base.overlay(Collections.singletonList(new PropertyValue(CoreParams.COUNT, 9)));
+		
+		assertTrue(base.getValuesWithContext() instanceof ValidatedValuesWithContextImmutable);
+		assertTrue(over.getValuesWithContext() instanceof ValidatedValuesWithContextImmutable);
+		
+		//The option can also be overridden
+		AndHowCore compact = base.overlay(Collections.singletonList(
+				new PropertyValue(Options.RETAIN_LOADER_VALUES, false)));
+		
+		assertTrue(compact.getValuesWithContext() instanceof ValidatedValuesWithContextCompact);
+	}
+
+}
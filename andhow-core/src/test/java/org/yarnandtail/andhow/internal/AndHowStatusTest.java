@@ -0,0 +1,174 @@
+package org.yarnandtail.andhow.internal;
+
+import java.lang.management.ManagementFactory;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Test;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.Loader;
+import org.yarnandtail.andhow.load.FixedValueLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class AndHowStatusTest extends AndHowCoreTestBase {
+	
+	public interface StatusParams {
+		StrProp NAME = StrProp.builder().build();
+		StrProp DB_PASSWORD = StrProp.builder().build();
+		IntProp COUNT = IntProp.builder().defaultValue(4).build();
+	}
+	
+	@After
+	public void unregister() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AndHowStatus.OBJECT_NAME);
+		
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+	
+	@Test
+	public void testMBeanIsRegistered() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(StatusParams.class).getCanonicalName();
+		
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.MBEAN, true)
+				.addCmdLineArg(groupName + ".NAME", "bob")
+				.addCmdLineArg(groupName + ".DB_PASSWORD", "s3cret")
+				.group(StatusParams.class);
+		
+		AndHow.instance(config);
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AndHowStatus.OBJECT_NAME);
+		assertTrue(server.isRegistered(name));
+		
+		TabularData values = (TabularData) server.getAttribute(name, "EffectiveValues");
+		assertEquals("bob", lookup(values, groupName + ".NAME"));
+		assertEquals(AndHowStatus.REDACTED_VALUE, lookup(values, groupName + ".DB_PASSWORD"));
+		assertEquals("4", lookup(values, groupName + ".COUNT"));
+		
+		TabularData loaders = (TabularData) server.getAttribute(name, "ValueLoaders");
+		assertTrue(((String) lookup(loaders, groupName + ".NAME")).startsWith("StdMainStringArgsLoader"));
+		assertNull(lookup(loaders, groupName + ".COUNT"));
+		
+		TabularData counts = (TabularData) server.getAttribute(name, "LoaderValueCounts");
+		assertFalse(counts.isEmpty());
+		
+		assertEquals(1L, server.getAttribute(name, "Generation"));
+		assertEquals(0L, server.getAttribute(name, "ReloadCount"));
+	}
+	
+	@Test
+	public void testMBeanReadsTheCurrentCore() throws Exception {
+		String groupName = AndHowUtil.buildGroupProxy(StatusParams.class).getCanonicalName();
+		
+		AndHow.instance(AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.MBEAN, true)
+				.addCmdLineArg(groupName + ".NAME", "bob")
+				.group(StatusParams.class));
+		
+		AndHowCore reloaded = new AndHowCore(AndHowCoreTestUtil.getAndHowCore(),
+				AndHowCoreTestConfig.instance()
+						.addFixedValue(Options.MBEAN, true)
+						.addCmdLineArg(groupName + ".NAME", "sue").buildLoaders());
+		
+		AndHowCoreTestUtil.setAndHowCore(reloaded);
+		
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(AndHowStatus.OBJECT_NAME);
+		
+		TabularData values = (TabularData) server.getAttribute(name, "EffectiveValues");
+		assertEquals("sue", lookup(values, groupName + ".NAME"));
+		assertEquals(2L, server.getAttribute(name, "Generation"));
+		assertEquals(1L, server.getAttribute(name, "ReloadCount"));
+	}
+	
+	@Test
+	public void testContextMBeansAreKeyedByContextAndUnregisteredOnRemove() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		
+		try (URLClassLoader cl1 = new URLClassLoader(new URL[0], getClass().getClassLoader());
+				URLClassLoader cl2 = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+			
+			for (ClassLoader cl : new ClassLoader[] {cl1, cl2}) {
+				AndHowContext.forClassLoader(cl).initialize(AndHowCoreTestConfig.instance()
+						.addFixedValue(Options.MBEAN, true)
+						.group(StatusParams.class));
+			}
+			
+			ObjectName name1 = new ObjectName(AndHowStatus.getObjectName(cl1));
+			ObjectName name2 = new ObjectName(AndHowStatus.getObjectName(cl2));
+			
+			assertNotEquals(name1, name2);
+			assertTrue(server.isRegistered(name1));
+			assertTrue(server.isRegistered(name2));
+			assertFalse(server.isRegistered(new ObjectName(AndHowStatus.OBJECT_NAME)));
+			assertEquals(1L, server.getAttribute(name2, "Generation"));
+			
+			AndHowContext.remove(cl1);
+			AndHowContext.remove(cl2);
+			
+			assertFalse(server.isRegistered(name1));
+			assertFalse(server.isRegistered(name2));
+		}
+	}
+	
+	@Test
+	public void testMBeanIsNotRegisteredByDefault() throws Exception {
+		AndHow.instance(AndHowCoreTestConfig.instance().group(StatusParams.class));
+		
+		assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(
+				new ObjectName(AndHowStatus.OBJECT_NAME)));
+	}
+	
+	@Test
+	public void testLoadersOfTheSameClassHaveDistinctKeys() throws Exception {
+		FixedValueLoader first = new FixedValueLoader();
+		first.setPropertyValues(new PropertyValue(StatusParams.NAME, "bob"));
+		FixedValueLoader second = new FixedValueLoader();
+		second.setPropertyValues(new PropertyValue(StatusParams.COUNT, 5));
+		
+		List<Loader> loaders = new ArrayList();
+		loaders.add(first);
+		loaders.add(second);
+		
+		AndHowCore core = new AndHowCore(new CaseInsensitiveNaming(), loaders,
+				AndHowUtil.buildGroupProxies(Arrays.<Class<?>>asList(StatusParams.class)), false);
+		AndHowStatus status = new AndHowStatus(() -> core);
+		
+		Map<String, Integer> counts = status.getLoaderValueCounts();
+		List<String> keys = new ArrayList(counts.keySet());
+		assertEquals(2, keys.size());
+		assertTrue(keys.get(0).startsWith("0: FixedValueLoader"));
+		assertTrue(keys.get(1).startsWith("1: FixedValueLoader"));
+		assertEquals(Integer.valueOf(1), counts.get(keys.get(0)));
+		assertEquals(Integer.valueOf(1), counts.get(keys.get(1)));
+		assertEquals(counts.keySet(), status.getLoaderNanos().keySet());
+	}
+	
+	private static Object lookup(TabularData table, String key) {
+		CompositeData row = table.get(new Object[] {key});
+		return (row != null) ? row.get("value") : null;
+	}
+
+}
@@ -0,0 +1,149 @@
+package org.yarnandtail.andhow.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+import org.yarnandtail.andhow.*;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ *
+ * @author eeverman
+ */
+public class JsonReportGeneratorTest extends AndHowCoreTestBase {
+	
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	Path path;
+	
+	public interface SimpleParams {
+		StrProp STR_ENDS_WITH_XXX = StrProp.builder().mustEndWith("XXX").build();
+		IntProp INT = IntProp.builder().defaultValue(4).build();
+	}
+	
+	public interface DuplicateAliasParams {
+		StrProp STR_1 = StrProp.builder().aliasIn("JsonReportGeneratorTest.dup").build();
+		StrProp STR_2 = StrProp.builder().aliasIn("JsonReportGeneratorTest.dup").build();
+	}
+	
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		appDef.addProperty(proxy, SimpleParams.STR_ENDS_WITH_XXX);
+		appDef.addProperty(proxy, SimpleParams.INT);
+		
+		path = Files.createTempFile("andhow-report", ".jsonl");
+	}
+	
+	@After
+	public void deleteFile() throws Exception {
+		Files.deleteIfExists(path);
+	}
+	
+	@Test
+	public void testReportLines() throws Exception {
+		Loader loader1 = new KeyValuePairLoader();
+		Loader loader2 = new MapLoader();
+		ProblemList<Problem> problems = new ProblemList();
+		StartupTimings timings = new StartupTimings();
+		
+		ValidatingValueSink sink = new ValidatingValueSink(appDef, loader1, appValuesBuilder, false);
+		sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "bad \"quoted\"\n"));
+		problems.addAll(sink.finish().getProblems());
+		timings.addLoader(loader1, timings.mark());
+		
+		sink = new ValidatingValueSink(appDef, loader2, appValuesBuilder, false);
+		sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "okXXX"));
+		sink.addValue(new ValidatedValue(SimpleParams.INT, 2));
+		problems.addAll(sink.finish().getProblems());
+		timings.addPhase("export", timings.mark());
+		
+		StringBuilder out = new StringBuilder();
+		JsonReportGenerator.writeReport(out, problems, appDef, appValuesBuilder, timings);
+		String[] lines = out.toString().split("\n");
+		
+		assertEquals(7, lines.length);
+		assertTrue(lines[0].startsWith("{\"event\":\"startup\",\"name\":\"AndHow!\",\"success\":false,\"problemCount\":1,"));
+		
+		assertTrue(lines[1].startsWith("{\"event\":\"problem\",\"category\":\"value\",\"type\":\"InvalidValueProblem\","));
+		assertTrue(lines[1].contains("\"property\":\"" + appDef.getCanonicalName(SimpleParams.STR_ENDS_WITH_XXX) + "\""));
+		assertTrue(lines[1].contains("\"loader\":\"" + KeyValuePairLoader.class.getCanonicalName() + "\""));
+		assertTrue(lines[1].contains("bad \\\"quoted\\\"\\n"));
+		
+		String strName = appDef.getCanonicalName(SimpleParams.STR_ENDS_WITH_XXX);
+		assertTrue(lines[2].startsWith("{\"event\":\"value\",\"property\":\"" + strName + "\",\"loader\":\"" + KeyValuePairLoader.class.getCanonicalName()));
+		assertTrue(lines[2].endsWith("\"effective\":true,\"valid\":false}"));
+		assertTrue(lines[3].startsWith("{\"event\":\"value\",\"property\":\"" + strName + "\",\"loader\":\"" + MapLoader.class.getCanonicalName()));
+		assertTrue(lines[3].endsWith("\"effective\":false,\"valid\":true}"));
+		assertTrue(lines[4].endsWith("\"effective\":true,\"valid\":true}"));
+		
+		assertTrue(lines[5].startsWith("{\"event\":\"timing\",\"phase\":\"export\",\"nanos\":"));
+		assertTrue(lines[6].startsWith("{\"event\":\"timing\",\"phase\":\"load\",\"loader\":\"" + KeyValuePairLoader.class.getCanonicalName()));
+	}
+	
+	@Test
+	public void testAppendString() throws Exception {
+		StringBuilder out = new StringBuilder();
+		JsonReportGenerator.appendString(out, "a\\b\t\u0001c");
+		assertEquals("\"a\\\\b\\t\\u0001c\"", out.toString());
+		
+		out.setLength(0);
+		JsonReportGenerator.appendString(out, "");
+		assertEquals("\"\"", out.toString());
+	}
+	
+	@Test
+	public void testReportOfSuccessfulStartup() throws Exception {
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.addFixedValue(Options.JSON_REPORT, path.toString())
+				.addCmdLineArg(AndHowUtil.buildGroupProxy(SimpleParams.class).getCanonicalName() + ".STR_ENDS_WITH_XXX", "aXXX")
+				.group(SimpleParams.class);
+		
+		AndHow.instance(config);
+		
+		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		
+		assertTrue(lines.get(0).startsWith("{\"event\":\"startup\",\"name\":\"AndHow!\",\"success\":true,\"problemCount\":0,"));
+		assertTrue(lines.stream().anyMatch(l -> l.startsWith("{\"event\":\"value\",\"property\":\"" +
+				AndHow.instance().getCanonicalName(SimpleParams.STR_ENDS_WITH_XXX) + "\"")));
+		assertTrue(lines.stream().anyMatch(l -> l.startsWith("{\"event\":\"timing\",\"phase\":\"definition\"")));
+		assertTrue(lines.stream().anyMatch(l -> l.startsWith("{\"event\":\"timing\",\"phase\":\"export\"")));
+		assertTrue(lines.stream().noneMatch(l -> l.contains("\"event\":\"problem\"")));
+	}
+	
+	@Test
+	public void testReportOfConstructionProblemsUsesSystemProperty() throws Exception {
+		System.setProperty("AHJsonReport", path.toString());
+		
+		AndHowConfiguration config = AndHowCoreTestConfig.instance()
+				.group(DuplicateAliasParams.class);
+		
+		try {
+			AndHow.instance(config);
+			fail("The duplicate alias should be a problem");
+		} catch (AppFatalException e) {
+			//expected
+		}
+		
+		List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+		
+		assertTrue(lines.get(0).startsWith("{\"event\":\"startup\",\"name\":\"AndHow!\",\"success\":false,\"problemCount\":1,"));
+		assertTrue(lines.get(1).startsWith("{\"event\":\"problem\",\"category\":\"construction\",\"type\":\"NonUniqueNames\","));
+		assertTrue(lines.stream().noneMatch(l -> l.contains("\"event\":\"value\"")));
+	}
+}
@@ -2,6 +2,8 @@ package org.yarnandtail.andhow.internal;
 
 
 
+import java.util.ArrayList;
+import java.util.List;
 import org.yarnandtail.andhow.util.AndHowUtil;
 
 import static org.junit.Assert.*;
@@ -32,6 +34,17 @@ public class StaticPropertyConfigurationImmutableTest {
 	
 	public interface RandomUnregisteredGroup { StrProp STR_RND = StrProp.builder().build(); }
 	
+	//"BX" and "C9" have the same String hashCode
+	public interface CollidingNames {
+		StrProp BX_PROP = StrProp.builder().aliasIn("BX").build();
+		StrProp C9_PROP = StrProp.builder().aliasIn("C9").build();
+	}
+	
+	public interface AliasOnlyParams {
+		StrProp IN_ONLY = StrProp.builder().aliasIn("in.only").build();
+		StrProp OUT_ONLY = StrProp.builder().aliasOut("out.only").build();
+	}
+	
 	/**
 	 * Used for testing bad default value (don't match the validator) and bad validator config (invalid regex).
 	 */
@@ -81,6 +94,105 @@ public class StaticPropertyConfigurationImmutableTest {
 		assertEquals(SimpleParams.FLAG_FALSE, appDef.getPropertiesForGroup(proxy).get(1));
 	}
 	
+	@Test
+	public void testNamesWithTheSameHashCode() throws Exception {
+		assertEquals("BX".hashCode(), "C9".hashCode());	//Just checking
+		
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(CollidingNames.class);
+		StaticPropertyConfigurationMutable cdm = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		cdm.addProperty(proxy, CollidingNames.BX_PROP);
+		cdm.addProperty(proxy, CollidingNames.C9_PROP);
+		
+		StaticPropertyConfigurationInternal appDef = cdm.toImmutable();
+		
+		assertEquals(CollidingNames.BX_PROP, appDef.getProperty("BX"));
+		assertEquals(CollidingNames.BX_PROP, appDef.getProperty("bx"));
+		assertEquals(CollidingNames.C9_PROP, appDef.getProperty("C9"));
+		assertEquals(CollidingNames.C9_PROP, appDef.getProperty("c9"));
+		assertEquals(0, appDef.getOrdinal(CollidingNames.BX_PROP));
+		assertEquals(1, appDef.getOrdinal(CollidingNames.C9_PROP));
+	}
+	
+	@Test
+	public void testOrdinalsWithManyProperties() throws Exception {
+		
+		//Enough Properties that some share a slot in the identity hash table
+		List<NameAndProperty> naps = new ArrayList();
+		
+		for (int i = 0; i < 500; i++) {
+			naps.add(new NameAndProperty("PROP_" + i, StrProp.builder().build()));
+		}
+		
+		GroupProxy proxy = new GroupProxyImmutable("org.test.Many", "org.test.Many", naps, true);
+		StaticPropertyConfigurationMutable cdm = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		
+		for (NameAndProperty nap : naps) {
+			cdm.addProperty(proxy, nap.property);
+		}
+		
+		StaticPropertyConfigurationInternal appDef = cdm.toImmutable();
+		
+		for (int i = 0; i < naps.size(); i++) {
+			Property<?> prop = naps.get(i).property;
+			assertEquals(i, appDef.getOrdinal(prop));
+			assertEquals(prop, appDef.getProperty("org.test.Many.PROP_" + i));
+			assertEquals(proxy, appDef.getGroupForProperty(prop));
+		}
+	}
+	
+	@Test
+	public void testAliasOnlyInNames() throws Exception {
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(AliasOnlyParams.class);
+		String prefix = AliasOnlyParams.class.getCanonicalName() + ".";
+		StaticPropertyConfigurationMutable cdm = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		cdm.addProperty(proxy, AliasOnlyParams.IN_ONLY);
+		cdm.addProperty(proxy, AliasOnlyParams.OUT_ONLY);
+		
+		StaticPropertyConfigurationInternal appDef = cdm.toImmutable();
+		
+		assertEquals(AliasOnlyParams.IN_ONLY, appDef.getProperty("in.only"));
+		assertEquals(AliasOnlyParams.IN_ONLY, appDef.getProperty(prefix + "IN_ONLY"));
+		assertEquals(1, appDef.getAliases(AliasOnlyParams.IN_ONLY).size());
+		
+		//An out alias is not a name to load from
+		assertNull(appDef.getProperty("out.only"));
+		assertEquals(AliasOnlyParams.OUT_ONLY, appDef.getProperty(prefix + "OUT_ONLY"));
+		assertEquals(1, appDef.getAliases(AliasOnlyParams.OUT_ONLY).size());
+	}
+	
+	@Test
+	public void testPropertyNotInTheConfiguration() throws Exception {
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		StaticPropertyConfigurationMutable cdm = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		cdm.addProperty(proxy, SimpleParams.STR_BOB);
+		
+		StaticPropertyConfigurationInternal appDef = cdm.toImmutable();
+		
+		assertEquals(-1, appDef.getOrdinal(RandomUnregisteredGroup.STR_RND));
+		assertEquals(-1, appDef.getOrdinal(SimpleParams.FLAG_FALSE));
+		assertEquals(-1, appDef.getOrdinal(null));
+		assertNull(appDef.getCanonicalName(RandomUnregisteredGroup.STR_RND));
+		assertTrue(appDef.getAliases(RandomUnregisteredGroup.STR_RND).isEmpty());
+		assertNull(appDef.getGroupForProperty(RandomUnregisteredGroup.STR_RND));
+		assertNull(appDef.getProperty(RandomUnregisteredGroup.class.getCanonicalName() + ".STR_RND"));
+		assertNull(appDef.getProperty(paramFullPath + "FLAG_FALSE"));
+	}
+	
+	@Test
+	public void testEmptyConfiguration() throws Exception {
+		StaticPropertyConfigurationInternal appDef =
+				new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming()).toImmutable();
+		
+		assertTrue(appDef.getProperties().isEmpty());
+		assertTrue(appDef.getPropertyGroups().isEmpty());
+		assertTrue(appDef.getExportGroups().isEmpty());
+		assertFalse(appDef.containsUserGroups());
+		assertEquals(-1, appDef.getOrdinal(SimpleParams.STR_BOB));
+		assertNull(appDef.getProperty(paramFullPath + "STR_BOB"));
+		assertNull(appDef.getCanonicalName(SimpleParams.STR_BOB));
+		assertTrue(appDef.getPropertiesForGroup(AndHowUtil.buildGroupProxy(SimpleParams.class)).isEmpty());
+	}
+	
 	@Test
 	public void testDuplicatePropertiesInSeparateGroupWithDistinctNames() throws Exception {
 		
@@ -130,6 +130,24 @@ public class StaticPropertyConfigurationMutableTest {
 
 	}
 	
+	@Test
+	public void testBuildVerifiedPropertiesSkipValidatorAndDefaultChecks() throws Exception {
+		
+		NamingStrategy bns = new CaseInsensitiveNaming();
+		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(bns);
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(BadDefaultAndValidationGroup.class);
+		
+		//Would be a problem if checked, but was verified at build time
+		assertNull(appDef.addProperty(proxy, BadDefaultAndValidationGroup.COLOR_WITH_BAD_DEFAULT, true));
+		assertNotNull(appDef.addProperty(proxy, BadDefaultAndValidationGroup.NAME_WITH_BAD_REGEX, false));
+		
+		//Names are still checked
+		assertTrue(appDef.addProperty(proxy, BadDefaultAndValidationGroup.COLOR_WITH_BAD_DEFAULT, true)
+				instanceof ConstructionProblem.DuplicateProperty);
+		
+		assertEquals(1, appDef.getProperties().size());
+	}
+	
 	/**
 	 * Used for testing bad default value (don't match the validator) and bad validator config (invalid regex).
 	 */
@@ -0,0 +1,110 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.SimpleParams;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.load.PropFileOnClasspathLoader;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class ValidatedValuesWithContextCompactTest {
+	
+	Loader cmdLineLoad;
+	PropFileOnClasspathLoader propFileLoad;
+	ValidatedValuesWithContextMutable builder;
+	
+	@Before
+	public void init() {
+		builder = new ValidatedValuesWithContextMutable();
+		
+		cmdLineLoad = new KeyValuePairLoader();
+		propFileLoad = new PropFileOnClasspathLoader();
+		propFileLoad.setFilePath(SimpleParams.STR_BOB);
+		
+		List<ValidatedValue> firstSet = new ArrayList();
+		firstSet.add(new ValidatedValue(SimpleParams.STR_BOB, "test"));
+		firstSet.add(new ValidatedValue(SimpleParams.FLAG_TRUE, Boolean.FALSE));
+		firstSet.add(new ValidatedValue(SimpleParams.FLAG_NULL, Boolean.TRUE));
+		builder.addValues(new LoaderValues(cmdLineLoad, firstSet, new ProblemList<Problem>()));
+		
+		List<ValidatedValue> secondSet = new ArrayList();
+		secondSet.add(new ValidatedValue(SimpleParams.STR_BOB, "blah"));
+		secondSet.add(new ValidatedValue(SimpleParams.STR_NULL, "blah"));
+		secondSet.add(new ValidatedValue(SimpleParams.FLAG_TRUE, Boolean.TRUE));
+		secondSet.add(new ValidatedValue(SimpleParams.FLAG_FALSE, Boolean.FALSE));
+		builder.addValues(new LoaderValues(propFileLoad, secondSet, new ProblemList<Problem>()));
+	}
+	
+	@Test
+	public void testEffectiveValuesMatchFullValues() {
+		ValidatedValuesWithContext compact = builder.getValueMapWithContextCompact();
+		ValidatedValuesWithContext full = builder.getValueMapWithContextImmutable();
+		
+		assertTrue(compact instanceof ValidatedValuesWithContextCompact);
+		assertEquals(5, ((ValidatedValuesWithContextCompact) compact).size());
+		assertFalse(compact.hasProblems());
+		
+		for (Property<?> prop : new Property<?>[] {SimpleParams.STR_BOB, SimpleParams.STR_NULL,
+				SimpleParams.FLAG_TRUE, SimpleParams.FLAG_FALSE, SimpleParams.FLAG_NULL,
+				SimpleParams.INT_TEN, SimpleParams.LNG_NULL}) {
+			
+			assertEquals(full.getExplicitValue(prop), compact.getExplicitValue(prop));
+			assertEquals(full.getValue(prop), compact.getValue(prop));
+			assertEquals(full.isExplicitlySet(prop), compact.isExplicitlySet(prop));
+		}
+		
+		assertEquals("test", compact.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals(false, compact.getExplicitValue(SimpleParams.FLAG_TRUE));
+		assertEquals(10, compact.getValue(SimpleParams.INT_TEN).intValue());
+		assertFalse(compact.isExplicitlySet(SimpleParams.INT_TEN));
+	}
+	
+	@Test
+	public void testSourceLoaderAndLoaderValues() {
+		ValidatedValuesWithContextCompact compact =
+				(ValidatedValuesWithContextCompact) builder.getValueMapWithContextCompact();
+		
+		assertSame(cmdLineLoad, compact.getSourceLoader(SimpleParams.STR_BOB));
+		assertSame(cmdLineLoad, compact.getSourceLoader(SimpleParams.FLAG_TRUE));
+		assertSame(propFileLoad, compact.getSourceLoader(SimpleParams.STR_NULL));
+		assertSame(propFileLoad, compact.getSourceLoader(SimpleParams.FLAG_FALSE));
+		assertNull(compact.getSourceLoader(SimpleParams.INT_TEN));
+		
+		//Overridden values are not retained
+		LoaderValues propFileValues = compact.getAllValuesLoadedByLoader(propFileLoad);
+		assertEquals(2, propFileValues.getValues().size());
+		assertEquals("blah", propFileValues.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(false, propFileValues.getExplicitValue(SimpleParams.FLAG_FALSE));
+		assertFalse(propFileValues.isExplicitlySet(SimpleParams.STR_BOB));
+		
+		assertEquals(3, compact.getEffectiveValuesLoadedByLoader(cmdLineLoad).getValues().size());
+		
+		List<LoaderValues> all = compact.getAllLoaderValues();
+		assertEquals(2, all.size());
+		assertSame(cmdLineLoad, all.get(0).getLoader());
+		assertSame(propFileLoad, all.get(1).getLoader());
+		
+		KeyValuePairLoader unknown = new KeyValuePairLoader();
+		assertTrue(compact.getAllValuesLoadedByLoader(unknown).getValues().isEmpty());
+		assertTrue(compact.getEffectiveValuesLoadedByLoader(unknown).getValues().isEmpty());
+		assertSame(unknown, compact.getEffectiveValuesLoadedByLoader(unknown).getLoader());
+	}
+	
+	@Test
+	public void testProblemsAreFlagged() {
+		ProblemList<Problem> problems = new ProblemList();
+		problems.add(new LoaderProblem.SourceNotFoundLoaderProblem(new KeyValuePairLoader(), "missing"));
+		builder.addValues(new LoaderValues(new KeyValuePairLoader(), new ArrayList(), problems));
+		
+		assertTrue(builder.getValueMapWithContextCompact().hasProblems());
+	}
+}
@@ -0,0 +1,125 @@
+package org.yarnandtail.andhow.internal;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.LoaderProblem.DuplicatePropertyLoaderProblem;
+import org.yarnandtail.andhow.load.KeyValuePairLoader;
+import org.yarnandtail.andhow.load.MapLoader;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ *
+ * @author eeverman
+ */
+public class ValidatingValueSinkTest {
+	
+	StaticPropertyConfigurationMutable appDef;
+	ValidatedValuesWithContextMutable appValuesBuilder;
+	
+	public interface SimpleParams {
+		StrProp STR_ENDS_WITH_XXX = StrProp.builder().mustEndWith("XXX").build();
+		StrProp STR_NULL = StrProp.builder().build();
+		IntProp INT_BIG_TEN = IntProp.builder().mustBeGreaterThan(10).build();
+	}
+	
+	@Before
+	public void init() throws Exception {
+		appValuesBuilder = new ValidatedValuesWithContextMutable();
+		
+		GroupProxy proxy = AndHowUtil.buildGroupProxy(SimpleParams.class);
+		
+		appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		appDef.addProperty(proxy, SimpleParams.STR_ENDS_WITH_XXX);
+		appDef.addProperty(proxy, SimpleParams.STR_NULL);
+		appDef.addProperty(proxy, SimpleParams.INT_BIG_TEN);
+	}
+
+	@Test
+	public void testValuesAreMergedByFinish() {
+		Loader loader = new KeyValuePairLoader();
+		ValidatingValueSink sink = new ValidatingValueSink(appDef, loader, appValuesBuilder, false);
+		
+		assertSame(loader, sink.getLoader());
+		assertTrue(sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "aXXX")));
+		assertTrue(sink.addValue(new ValidatedValue(SimpleParams.INT_BIG_TEN, 42)));
+		
+		//Not visible to other loaders until finished
+		assertFalse(appValuesBuilder.isExplicitlySet(SimpleParams.STR_ENDS_WITH_XXX));
+		
+		LoaderValues result = sink.finish();
+		
+		assertEquals(2, result.getValues().size());
+		assertEquals(0, result.getProblems().size());
+		assertSame(result, appValuesBuilder.getAllValuesLoadedByLoader(loader));
+		assertEquals("aXXX", appValuesBuilder.getExplicitValue(SimpleParams.STR_ENDS_WITH_XXX));
+		assertEquals(42, appValuesBuilder.getExplicitValue(SimpleParams.INT_BIG_TEN).intValue());
+	}
+	
+	@Test
+	public void testDuplicateValuesAreAProblem() {
+		Loader loader = new KeyValuePairLoader();
+		ValidatingValueSink sink = new ValidatingValueSink(appDef, loader, appValuesBuilder, false);
+		
+		assertTrue(sink.addValue(new ValidatedValue(SimpleParams.STR_NULL, "one")));
+		assertFalse(sink.addValue(new ValidatedValue(SimpleParams.STR_NULL, "two")));
+		
+		LoaderValues result = sink.finish();
+		
+		assertEquals(1, result.getValues().size());
+		assertEquals(1, result.getProblems().size());
+		assertTrue(result.getProblems().get(0) instanceof DuplicatePropertyLoaderProblem);
+		assertEquals("one", appValuesBuilder.getExplicitValue(SimpleParams.STR_NULL));
+	}
+	
+	@Test
+	public void testOnlyEffectiveValuesAreValidated() {
+		Loader first = new KeyValuePairLoader();
+		Loader second = new MapLoader();
+		
+		ValidatingValueSink sink = new ValidatingValueSink(appDef, first, appValuesBuilder, false);
+		sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "aXXX"));
+		sink.addValue(new ValidatedValue(SimpleParams.INT_BIG_TEN, 1));
+		
+		LoaderValues firstResult = sink.finish();
+		
+		assertEquals(1, firstResult.getProblems().size());
+		assertTrue(firstResult.getProblems().get(0) instanceof ValueProblem.InvalidValueProblem);
+		assertEquals(1, firstResult.getValues().get(1).getProblems().size());
+		
+		//Invalid, but overridden by the value from the first loader
+		sink = new ValidatingValueSink(appDef, second, appValuesBuilder, false);
+		sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "bad"));
+		sink.addValue(new ValidatedValue(SimpleParams.STR_NULL, "fine"));
+		
+		LoaderValues secondResult = sink.finish();
+		
+		assertEquals(0, secondResult.getProblems().size());
+		assertEquals("aXXX", appValuesBuilder.getExplicitValue(SimpleParams.STR_ENDS_WITH_XXX));
+		assertEquals("fine", appValuesBuilder.getExplicitValue(SimpleParams.STR_NULL));
+	}
+	
+	@Test
+	public void testParallelValidationKeepsLoadOrder() {
+		Loader loader = new KeyValuePairLoader();
+		ValidatingValueSink sink = new ValidatingValueSink(appDef, loader, appValuesBuilder, true);
+		
+		sink.addValue(new ValidatedValue(SimpleParams.INT_BIG_TEN, 1));
+		sink.addValue(new ValidatedValue(SimpleParams.STR_NULL, "fine"));
+		sink.addValue(new ValidatedValue(SimpleParams.STR_ENDS_WITH_XXX, "bad"));
+		
+		List<Problem> problems = sink.finish().getProblems();
+		
+		assertEquals(2, problems.size());
+		assertEquals(SimpleParams.INT_BIG_TEN, ((ValueProblem)problems.get(0)).getBadValueCoord().getProperty());
+		assertEquals(SimpleParams.STR_ENDS_WITH_XXX, ((ValueProblem)problems.get(1)).getBadValueCoord().getProperty());
+	}
+	
+}
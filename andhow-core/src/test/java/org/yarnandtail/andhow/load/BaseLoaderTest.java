@@ -0,0 +1,87 @@
+package org.yarnandtail.andhow.load;
+
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.yarnandtail.andhow.PropertyValue;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.*;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class BaseLoaderTest {
+	
+	public interface LegacyParams {
+		StrProp NAME = StrProp.builder().build();
+	}
+	
+	/**
+	 * A loader written before the ValueSink load method existed.
+	 */
+	public static class LegacyLoader extends BaseLoader {
+		
+		@Override
+		public LoaderValues load(StaticPropertyConfigurationInternal appConfigDef,
+				ValidatedValuesWithContext existingValues) {
+			
+			return new LoaderValues(this,
+					Collections.singletonList(new ValidatedValue(LegacyParams.NAME, "legacy")),
+					ProblemList.EMPTY_PROBLEM_LIST);
+		}
+		
+		@Override
+		public String getSpecificLoadDescription() {
+			return "legacy";
+		}
+		
+		@Override
+		public boolean isTrimmingRequiredForStringValues() {
+			return false;
+		}
+		
+		@Override
+		public String getLoaderType() {
+			return "Legacy";
+		}
+		
+		@Override
+		public String getLoaderDialect() {
+			return null;
+		}
+	}
+	
+	@Test
+	public void testLoaderWithOnlyTheListBasedLoadStreamsToASink() throws Exception {
+		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		appDef.addProperty(AndHowUtil.buildGroupProxy(LegacyParams.class), LegacyParams.NAME);
+		
+		LegacyLoader loader = new LegacyLoader();
+		ListValueSink sink = new ListValueSink(loader, appDef);
+		
+		loader.load(appDef, new ValidatedValuesWithContextMutable(), sink);
+		
+		LoaderValues values = sink.toLoaderValues();
+		assertEquals(1, values.getValues().size());
+		assertEquals("legacy", values.getExplicitValue(LegacyParams.NAME));
+	}
+	
+	@Test
+	public void testStreamingLoaderAlsoLoadsAList() throws Exception {
+		StaticPropertyConfigurationMutable appDef = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		appDef.addProperty(AndHowUtil.buildGroupProxy(LegacyParams.class), LegacyParams.NAME);
+		
+		FixedValueLoader loader = new FixedValueLoader();
+		loader.setPropertyValues(new PropertyValue(LegacyParams.NAME, "fixed"));
+		
+		LoaderValues values = loader.load(appDef, new ValidatedValuesWithContextMutable());
+		assertEquals("fixed", values.getExplicitValue(LegacyParams.NAME));
+	}
+
+}
@@ -212,4 +212,68 @@ public class KeyValuePairLoaderTest {
 		assertEquals(0L, result.getValues().stream().filter(p -> p.hasProblems()).count());
 	}
 
+	@Test
+	public void testCmdLineLoaderWhitespaceAndMultipleDelimiters() {
+		
+		String basePath = SimpleParams.class.getCanonicalName() + ".";
+		
+		List<String> args = new ArrayList();
+		args.add("  \t" + basePath + "STR_BOB \t " + KeyValuePairLoader.KVP_DELIMITER + "  a=b=c \t ");
+		args.add(basePath + "str_null" + KeyValuePairLoader.KVP_DELIMITER + "  \"  x  \"  ");
+		args.add("  " + basePath + "FLAG_NULL   ");
+		args.add(basePath + "FLAG_TRUE  " + KeyValuePairLoader.KVP_DELIMITER + "   ");
+		args.add("   ");
+		args.add(null);
+		
+		KeyValuePairLoader cll = new KeyValuePairLoader();
+		cll.setKeyValuePairs(args);
+		
+		LoaderValues result = cll.load(appDef, appValuesBuilder);
+		
+		assertEquals(0, result.getProblems().size());
+		assertEquals("a=b=c", result.getExplicitValue(SimpleParams.STR_BOB));
+		assertEquals("  x  ", result.getExplicitValue(SimpleParams.STR_NULL));
+		assertEquals(Boolean.TRUE, result.getExplicitValue(SimpleParams.FLAG_NULL));
+		assertEquals(Boolean.TRUE, result.getExplicitValue(SimpleParams.FLAG_TRUE));
+		assertEquals(4, result.getValues().size());
+	}
+	
+	@Test
+	public void testCmdLineLoaderEmptyKeyIsAParsingProblem() {
+		
+		List<String> args = new ArrayList();
+		args.add(" \t " + KeyValuePairLoader.KVP_DELIMITER + "value");
+		args.add(KeyValuePairLoader.KVP_DELIMITER);
+		
+		KeyValuePairLoader cll = new KeyValuePairLoader();
+		cll.setKeyValuePairs(args);
+		
+		LoaderValues result = cll.load(appDef, appValuesBuilder);
+		
+		assertEquals(2, result.getProblems().size());
+		for (Problem lp : result.getProblems()) {
+			assertTrue(lp instanceof LoaderProblem.ParsingLoaderProblem);
+		}
+		assertEquals(0, result.getValues().size());
+	}
+	
+	@Test
+	public void testCmdLineLoaderUnknownPropertiesIgnoredWhenNotAProblem() {
+		
+		String basePath = SimpleParams.class.getCanonicalName() + ".";
+		
+		List<String> args = new ArrayList();
+		args.add(basePath + "XXX" + KeyValuePairLoader.KVP_DELIMITER + "1");
+		args.add(basePath + "STR_BOB" + KeyValuePairLoader.KVP_DELIMITER + "2");
+		
+		KeyValuePairLoader cll = new KeyValuePairLoader();
+		cll.setUnknownPropertyAProblem(false);
+		cll.setKeyValuePairs(args);
+		
+		LoaderValues result = cll.load(appDef, appValuesBuilder);
+		
+		assertEquals(0, result.getProblems().size());
+		assertEquals("2", result.getExplicitValue(SimpleParams.STR_BOB));
+	}
+
 }
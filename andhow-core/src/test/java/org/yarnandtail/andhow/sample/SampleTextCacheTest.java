@@ -0,0 +1,101 @@
+package org.yarnandtail.andhow.sample;
+
+import java.io.UnsupportedEncodingException;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.yarnandtail.andhow.api.GroupProxyMutable;
+import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.TextUtil;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class SampleTextCacheTest {
+	
+	static final String LONG_TEXT = "Long text on how to use the property, which goes on and on "
+			+ "for long enough that it has to be wrapped at least once, maybe twice.";
+	
+	StaticPropertyConfigurationMutable config;
+	GroupProxyMutable groupProxy1;
+	
+	public static interface Config {
+		StrProp MY_PROP = StrProp.builder().defaultValue("La la la").desc("mp description")
+				.helpText(LONG_TEXT).mustStartWith("La").mustEndWith("la")
+				.mustBeNonNull().aliasIn("mp2").build();
+	}
+	
+	@Before
+	public void setup() {
+		config = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		
+		groupProxy1 = new GroupProxyMutable(
+				SampleTextCacheTest.Config.class.getCanonicalName(),
+				SampleTextCacheTest.class.getCanonicalName() + "$Config"
+		);
+		groupProxy1.addProperty(new NameAndProperty("MY_PROP", Config.MY_PROP));
+		
+		assertNull("Error adding property", config.addProperty(groupProxy1, Config.MY_PROP));
+	}
+	
+	@Test
+	public void testWrapIsCachedAndMatchesTextUtil() {
+		SampleTextCache cache = new SampleTextCache();
+		
+		List<String> lines = cache.wrap(LONG_TEXT, 40);
+		assertSame(lines, cache.wrap(LONG_TEXT, 40));
+		assertEquals(TextUtil.wrap(LONG_TEXT, 40), lines);
+		assertNotEquals(lines, cache.wrap(LONG_TEXT, 50));
+		
+		assertEquals(TextUtil.wrap(LONG_TEXT, 40, "# ", "\t"), cache.wrap(LONG_TEXT, 40, "# ", "\t"));
+		assertEquals(TextUtil.wrap(LONG_TEXT, 40, null, null), cache.wrap(LONG_TEXT, 40, null, null));
+		
+		//The prefixed version is a new, modifiable list each time
+		cache.wrap(LONG_TEXT, 40, "", "").add("another");
+		assertEquals(TextUtil.wrap(LONG_TEXT, 40), cache.wrap(LONG_TEXT, 40));
+	}
+	
+	@Test
+	public void testPropertyCommentIsBuiltOnce() {
+		SampleTextCache cache = new SampleTextCache();
+		
+		SampleTextCache.PropertyComment comment = cache.getPropertyComment(groupProxy1, Config.MY_PROP);
+		
+		assertSame(comment, cache.getPropertyComment(groupProxy1, Config.MY_PROP));
+		assertEquals("MY_PROP (String) NON-NULL - mp description", comment.getSummary());
+		assertEquals(5, comment.getDetails().size());
+		assertEquals("Default Value: La la la", comment.getDetails().get(0));
+		assertEquals(LONG_TEXT, comment.getDetails().get(1));
+	}
+	
+	@Test
+	public void testSharedCacheGivesTheSameSamples() throws UnsupportedEncodingException {
+		SampleTextCache cache = new SampleTextCache();
+		
+		assertEquals(printProperty(new PropFileLoaderSamplePrinter(), null),
+				printProperty(new PropFileLoaderSamplePrinter(), cache));
+		assertEquals(printProperty(new JndiLoaderSamplePrinter(), null),
+				printProperty(new JndiLoaderSamplePrinter(), cache));
+		
+		//Run again w/ everything already cached
+		assertEquals(printProperty(new PropFileLoaderSamplePrinter(), null),
+				printProperty(new PropFileLoaderSamplePrinter(), cache));
+	}
+	
+	String printProperty(BaseSamplePrinter printer, SampleTextCache cache) throws UnsupportedEncodingException {
+		TestPrintStream out = new TestPrintStream();
+		
+		if (cache != null) {
+			printer.setTextCache(cache);
+		}
+		
+		printer.printProperty(config, out, groupProxy1, Config.MY_PROP);
+		return out.getTextAsString();
+	}
+}
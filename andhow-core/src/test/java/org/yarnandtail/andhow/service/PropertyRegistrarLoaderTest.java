@@ -6,6 +6,7 @@ import org.yarnandtail.andhow.service.PropertyRegistrationList;
 import org.junit.Test;
 import org.yarnandtail.andhow.api.GroupProxy;
 import org.yarnandtail.andhow.property.*;
+import org.yarnandtail.andhow.util.AndHowUtil;
 
 import static org.junit.Assert.*;
 
@@ -37,6 +38,63 @@ public class PropertyRegistrarLoaderTest {
 		assertTrue(InnerClass.MY_PROP3 == groups.get(1).getProperties().get(1).property);
 	}
 	
+	@Test
+	public void testGetGroupsUsesAccessors() {
+		PropertyRegistrarLoader loader = new PropertyRegistrarLoader() {
+			@Override
+			public List<PropertyRegistrar> getPropertyRegistrars() {
+				List<PropertyRegistrar> regs = new ArrayList();
+				
+				regs.add(new AbstractPropertyRegistrar() {
+					@Override
+					public void addPropertyRegistrations(PropertyRegistrationList list) {
+						//Reading the field of a class that does not exist would fail
+						list.setBuildVersion(AndHowUtil.getAndHowVersion());
+						list.add("MY_PROP1", () -> MY_PROP1);
+						list.addBuildVerified("MY_PROP2", () -> InnerClass.MY_PROP2, "InnerClass");
+					}
+					
+					@Override
+					public String getRootCanonicalName() {
+						return "org.yat.DoesNotExist";
+					}
+				});
+				
+				return regs;
+			}
+		};
+		
+		List<GroupProxy> groups = loader.getGroups();
+		assertEquals(2, groups.size());
+		assertTrue(MY_PROP1 == groups.get(0).getProperties().get(0).property);
+		assertEquals("org.yat.DoesNotExist.InnerClass", groups.get(1).getCanonicalName());
+		assertTrue(InnerClass.MY_PROP2 == groups.get(1).getProperties().get(0).property);
+		assertTrue(groups.get(1).getProperties().get(0).buildVerified);
+	}
+	
+	@Test
+	public void testGetCachedGroups() {
+		ClassLoader cl = PropertyRegistrarLoaderTest.class.getClassLoader();
+		PropertyRegistrarLoader.invalidateCache(cl);
+		
+		List<GroupProxy> groups = PropertyRegistrarLoader.getCachedGroups(cl);
+		assertSame(groups, PropertyRegistrarLoader.getCachedGroups(cl));
+		assertSame(groups, PropertyRegistrarLoader.getCachedGroups(null));
+		
+		PropertyRegistrarLoader.invalidateCache(cl);
+		List<GroupProxy> rediscovered = PropertyRegistrarLoader.getCachedGroups(cl);
+		assertNotSame(groups, rediscovered);
+		assertEquals(groups.size(), rediscovered.size());
+		
+		PropertyRegistrarLoader.invalidateCache();
+		assertNotSame(rediscovered, PropertyRegistrarLoader.getCachedGroups(cl));
+	}
+	
+	@Test(expected = UnsupportedOperationException.class)
+	public void testGetCachedGroupsCannotBeModified() {
+		PropertyRegistrarLoader.getCachedGroups(null).add(null);
+	}
+	
 	//
 	//This set of three properties are used to test the Registrar.
 	private static BolProp MY_PROP1 = BolProp.builder().build();
@@ -1,7 +1,10 @@
 package org.yarnandtail.andhow.service;
 
 import org.yarnandtail.andhow.service.PropertyRegistrationList;
+import java.util.Arrays;
 import org.junit.Test;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
 
 import static org.junit.Assert.*;
 
@@ -89,6 +92,67 @@ public class PropertyRegistrationListTest {
 		assertEquals(className + ".Inner3.Cindy", list.get(4).getCanonicalPropertyName());
 
 	}
-
 	
+	@Test
+	public void testBuildVerified() {
+		String className = "org.yat.MyClass";
+		
+		PropertyRegistrationList list = new PropertyRegistrationList(className);
+		list.setBuildVersion(AndHowUtil.getAndHowVersion());
+		
+		list.addBuildVerified("Andy", "Inner1");
+		list.add("Bob");
+		list.addBuildVerified("Cindy");
+		list.add("Doug", Arrays.asList("Inner2"), true);
+		
+		assertTrue(list.get(0).isBuildVerified());
+		assertFalse(list.get(1).isBuildVerified());
+		assertTrue(list.get(2).isBuildVerified());
+		assertEquals(className + ".Inner1.Cindy", list.get(2).getCanonicalPropertyName());
+		assertTrue(list.get(3).isBuildVerified());
+		assertEquals(className + ".Inner2.Doug", list.get(3).getCanonicalPropertyName());
+	}
+	
+	@Test
+	public void testBuildVerifiedIsIgnoredForOtherAndHowVersions() {
+		assertNotNull("The build should record the AndHow version", AndHowUtil.getAndHowVersion());
+		
+		PropertyRegistrationList list = new PropertyRegistrationList("org.yat.MyClass");
+		list.addBuildVerified("Andy");	//No version set, e.g. an older registrar
+		list.setBuildVersion("0.0.1-OTHER");
+		list.addBuildVerified("Bob");
+		list.setBuildVersion(AndHowUtil.getAndHowVersion());
+		list.addBuildVerified("Cindy");
+		
+		assertFalse(list.get(0).isBuildVerified());
+		assertFalse(list.get(1).isBuildVerified());
+		assertTrue(list.get(2).isBuildVerified());
+	}
+	
+	@Test
+	public void testAccessors() {
+		String className = "org.yat.MyClass";
+		StrProp prop = StrProp.builder().build();
+		
+		PropertyRegistrationList list = new PropertyRegistrationList(className);
+		list.setBuildVersion(AndHowUtil.getAndHowVersion());
+		
+		list.add("Andy", () -> prop);
+		list.add("Bob");
+		list.add("Cindy", () -> prop, "Inner1");
+		list.addBuildVerified("Doug", () -> prop);
+		list.addBuildVerified("Evan", () -> prop, "Inner1", "Inner2");
+		
+		assertTrue(prop == list.get(0).getAccessor().get());
+		assertNull(list.get(1).getAccessor());
+		assertEquals(className + ".Inner1.Cindy", list.get(2).getCanonicalPropertyName());
+		assertTrue(prop == list.get(2).getAccessor().get());
+		assertEquals(className + ".Inner1.Doug", list.get(3).getCanonicalPropertyName());
+		assertTrue(list.get(3).isBuildVerified());
+		assertFalse(list.get(2).isBuildVerified());
+		assertEquals(className + ".Inner1.Inner2.Evan", list.get(4).getCanonicalPropertyName());
+		assertTrue(list.get(4).isBuildVerified());
+		assertNotNull(list.get(4).getAccessor());
+	}
+
 }
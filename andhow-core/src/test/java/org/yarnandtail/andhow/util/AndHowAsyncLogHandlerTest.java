@@ -0,0 +1,112 @@
+package org.yarnandtail.andhow.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.*;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class AndHowAsyncLogHandlerTest {
+	
+	/** Logger used only by this test, so replacing its handler affects nothing else */
+	private static class AsyncLogUser {
+		static AndHowLog log = AndHowLog.getLogger(AsyncLogUser.class);
+	}
+	
+	@Test
+	public void testRecordsAreWrittenInOrderOnAnotherThread() {
+		CapturingHandler capture = new CapturingHandler();
+		AndHowAsyncLogHandler async = new AndHowAsyncLogHandler(capture);
+		
+		AndHowLog log = AndHowLog.getLogger(AsyncLogUser.class, async);
+		
+		try {
+			for (int i = 0; i < 100; i++) {
+				log.info("Message {0}", i);
+			}
+			
+			async.flush();
+			
+			assertEquals(100, capture.records.size());
+			for (int i = 0; i < 100; i++) {
+				assertEquals(i, capture.records.get(i).getParameters()[0]);
+			}
+			
+			assertNotEquals(Thread.currentThread(), capture.threads.get(0));
+			assertTrue(capture.flushed);
+			
+			//Source location is found on the logging thread, not the writer thread
+			assertEquals(AndHowAsyncLogHandlerTest.class.getName(), capture.records.get(0).getSourceClassName());
+			assertTrue(capture.records.get(0).getSourceMethodName().startsWith("testRecordsAreWrittenInOrderOnAnotherThread:"));
+		} finally {
+			AndHowLog.getLogger(AsyncLogUser.class, null);
+		}
+	}
+	
+	@Test
+	public void testFullQueueWritesOnLoggingThread() throws Exception {
+		CapturingHandler capture = new CapturingHandler();
+		capture.blocked = true;
+		AndHowAsyncLogHandler async = new AndHowAsyncLogHandler(capture, 1);
+		
+		//The writer takes the first and blocks, the second fills the queue
+		async.publish(new LogRecord(Level.INFO, "one"));
+		while (capture.threads.isEmpty()) Thread.sleep(1);
+		async.publish(new LogRecord(Level.INFO, "two"));
+		async.publish(new LogRecord(Level.INFO, "three"));
+		
+		assertEquals(Thread.currentThread(), capture.threads.get(1));
+		assertEquals("three", capture.records.get(0).getMessage());
+		
+		synchronized (capture) {
+			capture.blocked = false;
+			capture.notifyAll();
+		}
+		
+		async.close();
+		
+		assertEquals(3, capture.records.size());
+		assertEquals("one", capture.records.get(1).getMessage());
+		assertEquals("two", capture.records.get(2).getMessage());
+	}
+	
+	private static class CapturingHandler extends Handler {
+		final List<LogRecord> records = Collections.synchronizedList(new ArrayList());
+		final List<Thread> threads = Collections.synchronizedList(new ArrayList());
+		volatile boolean flushed = false;
+		volatile boolean blocked = false;
+		
+		@Override
+		public void publish(LogRecord record) {
+			threads.add(Thread.currentThread());
+			
+			synchronized (this) {
+				while (blocked && ! threads.isEmpty() && threads.get(0) == Thread.currentThread()) {
+					try {
+						wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+			
+			records.add(record);
+		}
+		
+		@Override
+		public void flush() {
+			flushed = true;
+		}
+		
+		@Override
+		public void close() throws SecurityException {
+		}
+	}
+
+}
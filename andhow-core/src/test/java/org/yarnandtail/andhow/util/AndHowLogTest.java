@@ -359,4 +359,60 @@ public class AndHowLogTest {
 		assertEquals("nonErr stream should be empty", 0, testNonErrByteArray.toString().length());
 	}
 
+	@Test
+	public void testCallerLocation() {
+		assertTrue(AndHowLog.isCallerLocationEnabled());
+		
+		log.info("Where am I?");
+		assertTrue(testNonErrByteArray.toString().contains(
+				AndHowLogTest.class.getCanonicalName() + " testCallerLocation:"));
+		
+		testNonErrByteArray.reset();
+		
+		try {
+			AndHowLog.setCallerLocationEnabled(false);
+			log.info("Where am I now?");
+			
+			String out = testNonErrByteArray.toString();
+			assertTrue(out.contains("Where am I now?"));
+			assertTrue("The logger name is the source", out.contains(
+					"| " + AndHowLogTest.class.getCanonicalName() + " |"));
+			assertFalse(out.contains("testCallerLocation"));
+		} finally {
+			AndHowLog.setCallerLocationEnabled(true);
+		}
+	}
+	
+	@Test
+	public void testCallerLocationIsOnlyFoundWhenFormatted() {
+		AndHowLogRecord record = new AndHowLogRecord(Level.INFO, "msg", AndHowLogRecord.class.getCanonicalName());
+		record.setSourceClassName("Explicit");
+		assertEquals("Explicit", record.getSourceClassName());
+		assertNull(record.getSourceMethodName());
+		
+		record = new AndHowLogRecord(Level.INFO, "msg", null);
+		assertNull(record.getSourceClassName());
+		assertNull(record.getSourceMethodName());
+	}
+
+	@Test
+	public void testGetLoggerReturnsOneInstancePerClass() {
+		assertSame(log, AndHowLog.getLogger(AndHowLogTest.class));
+		assertNotSame(log, AndHowLog.getLogger(AndHowLog.class));
+		
+		//Replacing the handler applies to the shared instance
+		AndHowLogHandler original = (AndHowLogHandler) log.getHandlers()[0];
+		AndHowLogHandler other = new AndHowLogHandler(testErrPrintStream, testNonErrPrintStream);
+		
+		try {
+			assertSame(log, AndHowLog.getLogger(AndHowLogTest.class, other));
+			assertEquals(1, log.getHandlers().length);
+			assertSame(other, log.getHandlers()[0]);
+		} finally {
+			AndHowLog.getLogger(AndHowLogTest.class, null);
+		}
+		
+		assertSame(original, log.getHandlers()[0]);
+	}
+
 }
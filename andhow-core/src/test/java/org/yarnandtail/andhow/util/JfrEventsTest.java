@@ -0,0 +1,77 @@
+package org.yarnandtail.andhow.util;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * 
+ * @author eeverman
+ */
+public class JfrEventsTest {
+	
+	@Test
+	public void testEventsNeverThrow() {
+		//No-ops if this JVM has no JFR API or nothing is recording
+		JfrEvents.begin(JfrEvents.PHASE).set(0, "test").commit();
+		JfrEvents.begin(JfrEvents.LOAD).set(0, "loader").set(1, null).set(2, 1).set(3, 0).commit();
+		JfrEvents.begin(JfrEvents.JNDI_LOOKUP).set(0, 2).set(1, 10).set(2, 1).commit();
+		JfrEvents.begin(JfrEvents.PROPERTY_FILE_READ).set(0, "/my.properties").set(1, 100L).set(2, 3).commit();
+		JfrEvents.begin(JfrEvents.VALIDATION).set(0, "loader").set(1, 5).set(2, true).commit();
+		JfrEvents.begin(JfrEvents.EXPORT).set(0, "exporter").set(1, null).commit();
+		
+		//Wrong index or type is ignored
+		JfrEvents.begin(JfrEvents.PHASE).set(5, 1).set(0, 1).commit();
+	}
+	
+	@Test
+	public void testEventNames() {
+		assertEquals("org.yarnandtail.andhow.Phase", JfrEvents.PHASE.getName());
+		assertEquals("org.yarnandtail.andhow.PropertyFileRead", JfrEvents.PROPERTY_FILE_READ.getName());
+	}
+	
+	@Test
+	public void testEventsAreRecordedWhileRecording() throws Exception {
+		Assume.assumeTrue("This JVM has no JFR API", JfrEvents.isSupported());
+		
+		//The jdk.jfr API is not in the Java 8 API this is compiled against
+		Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+		Object recording = recordingClass.newInstance();
+		Path file = Files.createTempFile("andhow", ".jfr");
+		
+		try {
+			recordingClass.getMethod("enable", String.class).invoke(recording, JfrEvents.PHASE.getName());
+			recordingClass.getMethod("start").invoke(recording);
+			
+			JfrEvents.begin(JfrEvents.PHASE).set(0, "recorded").commit();
+			
+			recordingClass.getMethod("stop").invoke(recording);
+			recordingClass.getMethod("dump", Path.class).invoke(recording, file);
+			
+			Method readAll = Class.forName("jdk.jfr.consumer.RecordingFile").getMethod("readAllEvents", Path.class);
+			boolean found = false;
+			
+			for (Object event : (List<?>) readAll.invoke(null, file)) {
+				Object type = event.getClass().getMethod("getEventType").invoke(event);
+				String name = (String) type.getClass().getMethod("getName").invoke(type);
+				
+				if (JfrEvents.PHASE.getName().equals(name)) {
+					Object phase = event.getClass().getMethod("getString", String.class).invoke(event, "phase");
+					found = found || "recorded".equals(phase);
+				}
+			}
+			
+			assertTrue("The Phase event should be in the recording", found);
+		} finally {
+			recordingClass.getMethod("close").invoke(recording);
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
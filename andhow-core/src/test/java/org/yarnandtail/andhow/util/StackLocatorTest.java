@@ -26,6 +26,30 @@ public class StackLocatorTest {
 			assertEquals("org.yarnandtail.andhow.util.StackLocatorTest", ste.getClassName());
 			assertEquals("testCalcLocation", ste.getMethodName());
 		}
+		
+		static void callMeForStackTrace() {
+			StackTraceElement ste = StackLocator.calcLocationFromStackTrace("org.yarnandtail.andhow.util.StackLocatorTest$TestCalcLocation");
+			assertEquals("org.yarnandtail.andhow.util.StackLocatorTest", ste.getClassName());
+			assertEquals("testCalcLocationFromStackTrace", ste.getMethodName());
+		}
+	}
+	
+	@Test
+	public void testCalcLocationFromStackTrace() {
+		TestCalcLocation.callMeForStackTrace();
+	}
+	
+	@Test
+	public void testWalkerLocatorIsOnlyAvailableWithStackWalker() {
+		boolean hasStackWalker;
+		try {
+			Class.forName("java.lang.StackWalker");
+			hasStackWalker = true;
+		} catch (ClassNotFoundException e) {
+			hasStackWalker = false;
+		}
+		
+		assertEquals(hasStackWalker, StackLocator.buildWalkerLocator() != null);
 	}
 	
 }
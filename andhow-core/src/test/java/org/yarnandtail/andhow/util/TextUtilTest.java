@@ -340,4 +340,41 @@ public class TextUtilTest {
 	public void testFindLastInstanceOfWithEmptyToBeFound() {
 		assertEquals(-1, TextUtil.findLastInstanceOf("abcd", 10));
 	}
+
+	@Test
+	public void testTrimStartAndEnd() {
+		assertEquals(2, TextUtil.trimStart(" \tab ", 0, 5));
+		assertEquals(4, TextUtil.trimEnd(" \tab ", 0, 5));
+		assertEquals(3, TextUtil.trimStart(" \tab ", 3, 5));
+		assertEquals(3, TextUtil.trimEnd(" \ta  ", 2, 5));
+		
+		//All whitespace collapses to an empty span
+		assertEquals(4, TextUtil.trimStart(" \t\n ", 0, 4));
+		assertEquals(0, TextUtil.trimEnd(" \t\n ", 0, 4));
+		assertEquals(1, TextUtil.trimEnd("a   ", 1, 4));
+		
+		byte[] bytes = " \tab ".getBytes(StandardCharsets.UTF_8);
+		assertEquals(2, TextUtil.trimStart(bytes, 0, 5));
+		assertEquals(4, TextUtil.trimEnd(bytes, 0, 5));
+		assertEquals(5, TextUtil.trimStart(bytes, 4, 5));
+		assertEquals(4, TextUtil.trimEnd(bytes, 4, 5));
+	}
+	
+	@Test
+	public void testToBooleanSpan() {
+		String[] values = new String[] {"True", "TRUE", "YES", "yEs", "on", "oN", "t", "Y",
+			" true ", "\ttrue\n", "false", "No", "", "  ", ".asef3", "tru", "truee", "yess"};
+		
+		for (String v : values) {
+			String padded = "xx" + v + "yy";
+			byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+			int end = 2 + v.length();
+			
+			assertEquals(v, TextUtil.toBoolean(v), TextUtil.toBoolean(padded, 2, end));
+			assertEquals(v, TextUtil.toBoolean(v), TextUtil.toBoolean(bytes, 2, end));
+		}
+		
+		assertEquals(false, TextUtil.toBoolean((CharSequence)null, 0, 0));
+		assertEquals(false, TextUtil.toBoolean((byte[])null, 0, 0));
+	}
 }
@@ -1,5 +1,8 @@
 package org.yarnandtail.andhow.valid;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
 import static org.junit.Assert.*;
 import org.junit.Test;
 
@@ -116,4 +119,41 @@ public class StringValidatorTest {
 		assertFalse(instance.isValid(null));
 	}
 	
+	@Test
+	public void testRegexIsValidWithBadSpecification() {
+		StringValidator.Regex instance = new StringValidator.Regex("abc.*[");
+		assertFalse(instance.isValid("abc"));
+		assertFalse(instance.isValid(null));
+	}
+	
+	@Test
+	public void testRegexIsValidFromManyThreads() throws Exception {
+		final StringValidator.Regex instance = new StringValidator.Regex("[a-z]+\\d{3}");
+		
+		ExecutorService exec = Executors.newFixedThreadPool(4);
+		List<Future<Boolean>> results = new ArrayList();
+		
+		try {
+			for (int i = 0; i < 200; i++) {
+				final int idx = i;
+				results.add(exec.submit(() -> {
+					for (int j = 0; j < 100; j++) {
+						String good = "abc" + (100 + ((idx + j) % 900));
+						String bad = good + "x";
+						if (! instance.isValid(good) || instance.isValid(bad)) {
+							return false;
+						}
+					}
+					return true;
+				}));
+			}
+			
+			for (Future<Boolean> f : results) {
+				assertTrue(f.get());
+			}
+		} finally {
+			exec.shutdown();
+		}
+	}
+	
 }
@@ -0,0 +1,65 @@
+package org.yarnandtail.andhow.valuetype;
+
+import java.nio.charset.StandardCharsets;
+import static org.junit.Assert.*;
+import org.junit.Test;
+
+/**
+ *
+ * @author ericeverman
+ */
+public class BolTypeTest {
+	
+	private static final String[] VALUES = new String[] {"true", "TRUE", "  yes ", "on", "t", "Y",
+		"false", "no", "apple", "", "   ", "\t\n"};
+
+	@Test
+	public void testParseHappyPath() {
+		
+		BolType type = BolType.instance();
+		
+		assertEquals(Boolean.TRUE, type.parse("true"));
+		assertEquals(Boolean.TRUE, type.parse("Yes"));
+		assertEquals(Boolean.FALSE, type.parse("false"));
+		assertEquals(Boolean.FALSE, type.parse("apple"));
+		assertNull(type.parse("  "));
+		assertNull(type.parse(null));
+	}
+	
+	@Test
+	public void testParseSpanMatchesParseString() {
+		
+		BolType type = BolType.instance();
+		
+		for (String v : VALUES) {
+			String padded = "on" + v + "on";
+			byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+			int end = 2 + v.length();
+			
+			assertEquals(v, type.parse(v), type.parse(padded, 2, end));
+			assertEquals(v, type.parse(v), type.parse(bytes, 2, end));
+		}
+		
+		assertNull(type.parse((CharSequence)null, 0, 0));
+		assertNull(type.parse((byte[])null, 0, 0));
+	}
+	
+	@Test
+	public void testFlagParseSpanMatchesParseString() {
+		
+		FlagType type = FlagType.instance();
+		
+		for (String v : VALUES) {
+			String padded = "no" + v + "no";
+			byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+			int end = 2 + v.length();
+			
+			assertEquals(v, type.parse(v), type.parse(padded, 2, end));
+			assertEquals(v, type.parse(v), type.parse(bytes, 2, end));
+		}
+		
+		assertEquals(Boolean.TRUE, type.parse((CharSequence)null, 0, 0));
+		assertEquals(Boolean.TRUE, type.parse((byte[])null, 0, 0));
+	}
+	
+}
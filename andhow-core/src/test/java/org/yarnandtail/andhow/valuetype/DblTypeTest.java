@@ -1,5 +1,6 @@
 package org.yarnandtail.andhow.valuetype;
 
+import java.nio.charset.StandardCharsets;
 import static org.junit.Assert.*;
 import org.junit.Test;
 import org.yarnandtail.andhow.api.ParsingException;
@@ -62,4 +63,43 @@ public class DblTypeTest {
 		assertTrue(type.cast(o) instanceof Double);
 	}
 	
+	
+	@Test
+	public void testParseSpanMatchesParseString() throws ParsingException {
+		DblType type = DblType.instance();
+		
+		String[] values = new String[] {"0", "-0", "+0", "1", "-1", "+7", "-1234", "", "-", "+", "--1", " 1", "1 ", "1.0", "apple", 
+			"34D", "34f", "-1234.5678d", "NaN", "-Infinity", "0.1", ".5", "5.", ".", "1e5", "1E-5",
+			"1.e3", "-2.5e+10", "1e", "1e+", "1e1000", "1e-400", "123456789012345", "1234567890123456",
+			"0.000000000000000000001", "9007199254740993", "1.7976931348623157E308", "4.9e-324",
+			"3.141592653589793", "0.30000000000000004", "1e22", "1e23", "12.34e-20", "1..2", "1e5.5"};
+		
+		for (String v : values) {
+			String padded = "12" + v + "34";
+			byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+			int end = 2 + v.length();
+			
+			if (type.isParsable(v)) {
+				assertEquals(v, type.parse(v), type.parse(padded, 2, end));
+				assertEquals(v, type.parse(v), type.parse(bytes, 2, end));
+			} else {
+				try {
+					type.parse(padded, 2, end);
+					fail("Expected a ParsingException for " + v);
+				} catch (ParsingException e) {
+					assertEquals(v, e.getProblemText());
+				}
+				
+				try {
+					type.parse(bytes, 2, end);
+					fail("Expected a ParsingException for " + v);
+				} catch (ParsingException e) {
+					assertEquals(v, e.getProblemText());
+				}
+			}
+		}
+		
+		assertNull(type.parse((CharSequence)null, 0, 0));
+		assertNull(type.parse((byte[])null, 0, 0));
+	}
 }
@@ -2,6 +2,7 @@
  */
 package org.yarnandtail.andhow.valuetype;
 
+import java.nio.charset.StandardCharsets;
 import static org.junit.Assert.*;
 import org.junit.Test;
 import org.yarnandtail.andhow.api.ParsingException;
@@ -69,4 +70,41 @@ public class IntTypeTest {
 		assertTrue(type.cast(o) instanceof Integer);
 	}
 	
+	
+	@Test
+	public void testParseSpanMatchesParseString() throws ParsingException {
+		IntType type = IntType.instance();
+		
+		String[] values = new String[] {"0", "-0", "+0", "1", "-1", "+7", "-1234", "", "-", "+", "--1", " 1", "1 ", "1.0", "apple", 
+			"999999999", "-999999999", "2147483647", "-2147483648", "2147483648", "-2147483649",
+			"0000000000001", "9999999999999999999999999999999999999999"};
+		
+		for (String v : values) {
+			String padded = "12" + v + "34";
+			byte[] bytes = padded.getBytes(StandardCharsets.UTF_8);
+			int end = 2 + v.length();
+			
+			if (type.isParsable(v)) {
+				assertEquals(v, type.parse(v), type.parse(padded, 2, end));
+				assertEquals(v, type.parse(v), type.parse(bytes, 2, end));
+			} else {
+				try {
+					type.parse(padded, 2, end);
+					fail("Expected a ParsingException for " + v);
+				} catch (ParsingException e) {
+					assertEquals(v, e.getProblemText());
+				}
+				
+				try {
+					type.parse(bytes, 2, end);
+					fail("Expected a ParsingException for " + v);
+				} catch (ParsingException e) {
+					assertEquals(v, e.getProblemText());
+				}
+			}
+		}
+		
+		assertNull(type.parse((CharSequence)null, 0, 0));
+		assertNull(type.parse((byte[])null, 0, 0));
+	}
 }
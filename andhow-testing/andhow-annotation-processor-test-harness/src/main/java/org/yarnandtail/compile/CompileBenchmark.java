@@ -0,0 +1,291 @@
+package org.yarnandtail.compile;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.*;
+import java.util.function.Supplier;
+import javax.annotation.processing.Processor;
+import javax.tools.*;
+
+/**
+ * Measures the cost of an annotation processor by compiling synthetic sources
+ * w/ and w/o it and comparing the javac wall time and allocation.
+ * 
+ * Each iteration compiles the same sources twice in memory, once w/ annotation
+ * processing turned off and once w/ only the passed processor.  The medians
+ * of each are reported.  Allocation is measured for the compiling thread,
+ * which is where javac runs, so it is only available on JVMs that support
+ * com.sun.management.ThreadMXBean.
+ * 
+ * To benchmark the AndHow processor from the command line, put this module,
+ * andhow-core and andhow-annotation-processor on the classpath and run:
+ * <pre>
+ * java org.yarnandtail.compile.CompileBenchmark org.yarnandtail.andhow.compile.AndHowCompileProcessor [classCount] [propertiesPerClass] [iterations]
+ * </pre>
+ * 
+ * @author ericeverman
+ */
+public class CompileBenchmark {
+	
+	private final int classCount;
+	private final int propertiesPerClass;
+	private final int warmupCount;
+	private final int iterationCount;
+	
+	/**
+	 * New instance.
+	 * 
+	 * @param classCount The number of classes to compile
+	 * @param propertiesPerClass The number of Properties in each class
+	 * @param warmupCount The number of unmeasured iterations to run first
+	 * @param iterationCount The number of measured iterations
+	 */
+	public CompileBenchmark(int classCount, int propertiesPerClass, int warmupCount, int iterationCount) {
+		this.classCount = classCount;
+		this.propertiesPerClass = propertiesPerClass;
+		this.warmupCount = warmupCount;
+		this.iterationCount = iterationCount;
+	}
+	
+	/**
+	 * Runs the benchmark.
+	 * 
+	 * @param processorSupplier Creates a new processor for each compile, since
+	 * a processor instance can only be used once.
+	 * @return The measured results
+	 * @throws IOException
+	 */
+	public Result run(Supplier<? extends Processor> processorSupplier) throws IOException {
+		Set<TestSource> sources = new SyntheticSourceGenerator().generate(classCount, propertiesPerClass);
+		
+		for (int i = 0; i < warmupCount; i++) {
+			compile(sources, null);
+			compile(sources, processorSupplier.get());
+		}
+		
+		List<Measurement> without = new ArrayList();
+		List<Measurement> with = new ArrayList();
+		
+		for (int i = 0; i < iterationCount; i++) {
+			without.add(compile(sources, null));
+			with.add(compile(sources, processorSupplier.get()));
+		}
+		
+		return new Result(classCount, propertiesPerClass, median(without), median(with));
+	}
+	
+	/**
+	 * Compiles the sources in memory once.
+	 * 
+	 * @param sources The sources to compile
+	 * @param processor The only processor to run, or null to turn off
+	 * annotation processing.
+	 * @return The time and allocation of the compile
+	 * @throws IOException
+	 * @throws IllegalStateException If the sources do not compile
+	 */
+	public Measurement compile(Set<TestSource> sources, Processor processor) throws IOException {
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		MemoryFileManager manager = new MemoryFileManager(compiler);
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector();
+		
+		List<String> options = new ArrayList();
+		if (processor == null) {
+			options.add("-proc:none");
+		}
+		
+		JavaCompiler.CompilationTask task = compiler.getTask(null, manager, diagnostics, options, null, sources);
+		
+		if (processor != null) {
+			task.setProcessors(Collections.singleton(processor));
+		}
+		
+		long startBytes = getAllocatedBytes();
+		long start = System.nanoTime();
+		
+		boolean success = task.call();
+		
+		long nanos = System.nanoTime() - start;
+		long bytes = (startBytes >= 0) ? getAllocatedBytes() - startBytes : -1;
+		
+		if (! success) {
+			throw new IllegalStateException("Benchmark sources failed to compile: " + diagnostics.getDiagnostics());
+		}
+		
+		return new Measurement(nanos, bytes);
+	}
+	
+	/**
+	 * Bytes allocated by the current thread so far, or -1 if not supported.
+	 */
+	static long getAllocatedBytes() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Median time and median allocation, each taken separately.
+	 */
+	static Measurement median(List<Measurement> measurements) {
+		long[] nanos = new long[measurements.size()];
+		long[] bytes = new long[measurements.size()];
+		
+		for (int i = 0; i < nanos.length; i++) {
+			nanos[i] = measurements.get(i).getNanos();
+			bytes[i] = measurements.get(i).getBytes();
+		}
+		
+		Arrays.sort(nanos);
+		Arrays.sort(bytes);
+		return new Measurement(nanos[nanos.length / 2], bytes[bytes.length / 2]);
+	}
+	
+	/**
+	 * Runs the benchmark and prints the results.
+	 * 
+	 * @param args The processor class name, then optionally the class count
+	 * (default 1000), Properties per class (default 10) and measured iterations
+	 * (default 5).
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			System.err.println("Usage: CompileBenchmark processorClassName [classCount] [propertiesPerClass] [iterations]");
+			System.exit(1);
+		}
+		
+		final Class<?> processorClass = Class.forName(args[0]);
+		int classCount = (args.length > 1) ? Integer.parseInt(args[1]) : 1000;
+		int propertiesPerClass = (args.length > 2) ? Integer.parseInt(args[2]) : 10;
+		int iterations = (args.length > 3) ? Integer.parseInt(args[3]) : 5;
+		
+		CompileBenchmark benchmark = new CompileBenchmark(classCount, propertiesPerClass, 2, iterations);
+		
+		Result result = benchmark.run(() -> {
+			try {
+				return (Processor) processorClass.newInstance();
+			} catch (ReflectiveOperationException e) {
+				throw new RuntimeException(e);
+			}
+		});
+		
+		System.out.println(result);
+	}
+	
+	/**
+	 * Time and allocation of a single compile.
+	 */
+	public static class Measurement {
+		private final long nanos;
+		private final long bytes;
+		
+		public Measurement(long nanos, long bytes) {
+			this.nanos = nanos;
+			this.bytes = bytes;
+		}
+		
+		/**
+		 * Wall time of the compile.
+		 * 
+		 * @return Nanoseconds
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+		
+		/**
+		 * Bytes allocated by the compile.
+		 * 
+		 * @return Bytes, or -1 if allocation could not be measured.
+		 */
+		public long getBytes() {
+			return bytes;
+		}
+	}
+	
+	/**
+	 * The results of a benchmark run.
+	 */
+	public static class Result {
+		private final int classCount;
+		private final int propertiesPerClass;
+		private final Measurement without;
+		private final Measurement with;
+		
+		public Result(int classCount, int propertiesPerClass, Measurement without, Measurement with) {
+			this.classCount = classCount;
+			this.propertiesPerClass = propertiesPerClass;
+			this.without = without;
+			this.with = with;
+		}
+		
+		/**
+		 * The median compile w/o annotation processing.
+		 * 
+		 * @return
+		 */
+		public Measurement getWithoutProcessor() {
+			return without;
+		}
+		
+		/**
+		 * The median compile w/ the processor.
+		 * 
+		 * @return
+		 */
+		public Measurement getWithProcessor() {
+			return with;
+		}
+		
+		/**
+		 * The fraction of the javac wall time spent on the processor.
+		 * 
+		 * @return The share, from 0 to 1.  Noise can make it slightly negative
+		 * when the processor is very cheap.
+		 */
+		public double getProcessorTimeShare() {
+			return share(without.getNanos(), with.getNanos());
+		}
+		
+		/**
+		 * The fraction of the javac allocation caused by the processor.
+		 * 
+		 * @return The share, from 0 to 1, or NaN if allocation was not measured.
+		 */
+		public double getProcessorAllocationShare() {
+			if (without.getBytes() < 0 || with.getBytes() < 0) {
+				return Double.NaN;
+			}
+			
+			return share(without.getBytes(), with.getBytes());
+		}
+		
+		private static double share(long without, long with) {
+			return (with > 0) ? (double) (with - without) / with : 0d;
+		}
+		
+		@Override
+		public String toString() {
+			return String.format(
+					"Compiled %d classes w/ %d Properties each%n"
+					+ "  w/o processor: %,d ms, %,d KB allocated%n"
+					+ "  w/  processor: %,d ms, %,d KB allocated%n"
+					+ "  processor share: %.1f%% of time, %.1f%% of allocation",
+					classCount, propertiesPerClass,
+					without.getNanos() / 1000000L, without.getBytes() / 1024L,
+					with.getNanos() / 1000000L, with.getBytes() / 1024L,
+					getProcessorTimeShare() * 100, getProcessorAllocationShare() * 100);
+		}
+	}
+
+}
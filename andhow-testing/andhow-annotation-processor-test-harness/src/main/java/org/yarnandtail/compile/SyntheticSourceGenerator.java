@@ -0,0 +1,125 @@
+package org.yarnandtail.compile;
+
+import java.io.IOException;
+import java.util.*;
+import javax.tools.JavaFileObject;
+
+/**
+ * Generates in-memory Java sources w/ AndHow Properties, for measuring the
+ * cost of annotation processing on a code base of a known size.
+ * 
+ * Each class has the requested number of Properties, split between the class
+ * itself and a nested interface, plus an equal number of non-Property static
+ * fields, since the processor has to examine every field to find Properties.
+ * Generated sources refer to andhow-core classes, so andhow-core must be on
+ * the classpath of the compile.
+ * 
+ * @author ericeverman
+ */
+public class SyntheticSourceGenerator {
+	
+	/** Default package of the generated classes */
+	public static final String DEFAULT_PACKAGE = "org.yarnandtail.synthetic";
+	
+	private final String packageName;
+	
+	/**
+	 * New instance generating classes in the DEFAULT_PACKAGE.
+	 */
+	public SyntheticSourceGenerator() {
+		this(DEFAULT_PACKAGE);
+	}
+	
+	/**
+	 * New instance.
+	 * 
+	 * @param packageName The package of the generated classes
+	 */
+	public SyntheticSourceGenerator(String packageName) {
+		this.packageName = packageName;
+	}
+	
+	/**
+	 * Generates a set of classes.
+	 * 
+	 * @param classCount The number of classes
+	 * @param propertiesPerClass The number of Properties in each class
+	 * @return The sources, ready to pass to a compile task
+	 * @throws IOException
+	 */
+	public Set<TestSource> generate(int classCount, int propertiesPerClass) throws IOException {
+		Set<TestSource> sources = new LinkedHashSet();
+		
+		for (int i = 0; i < classCount; i++) {
+			String simpleName = getClassSimpleName(i);
+			sources.add(new TestSource(packageName + "." + simpleName,
+					JavaFileObject.Kind.SOURCE, generateClass(simpleName, propertiesPerClass)));
+		}
+		
+		return sources;
+	}
+	
+	/**
+	 * The simple name of the generated class at a given index.
+	 * 
+	 * @param index Zero based index of the class
+	 * @return The simple name
+	 */
+	public String getClassSimpleName(int index) {
+		return "SyntheticConfig" + index;
+	}
+	
+	/**
+	 * The source of a single class.
+	 * 
+	 * @param simpleName The simple name of the class
+	 * @param propertyCount The number of Properties in the class
+	 * @return Java source code
+	 */
+	public String generateClass(String simpleName, int propertyCount) {
+		int outerCount = (propertyCount + 1) / 2;
+		StringBuilder src = new StringBuilder();
+		
+		src.append("package ").append(packageName).append(";\n\n");
+		src.append("import org.yarnandtail.andhow.property.*;\n\n");
+		src.append("public class ").append(simpleName).append(" {\n");
+		
+		for (int p = 0; p < outerCount; p++) {
+			appendFields(src, "\tpublic static final ", p);
+		}
+		
+		src.append("\n\tpublic interface Config {\n");
+		
+		for (int p = outerCount; p < propertyCount; p++) {
+			appendFields(src, "\t\t", p);
+		}
+		
+		src.append("\t}\n");
+		src.append("}\n");
+		
+		return src.toString();
+	}
+	
+	/**
+	 * Appends one Property and one plain field, alternating the Property types.
+	 */
+	private void appendFields(StringBuilder src, String prefix, int index) {
+		switch (index % 3) {
+			case 0:
+				src.append(prefix).append("StrProp STR_").append(index)
+						.append(" = StrProp.builder().mustStartWith(\"a\").defaultValue(\"abc\").build();\n");
+				break;
+			case 1:
+				src.append(prefix).append("IntProp INT_").append(index)
+						.append(" = IntProp.builder().mustBeGreaterThan(0).defaultValue(1).build();\n");
+				break;
+			default:
+				src.append(prefix).append("FlagProp FLAG_").append(index)
+						.append(" = FlagProp.builder().defaultValue(true).build();\n");
+		}
+		
+		src.append(prefix).append("String NAME_").append(index)
+				.append(" = \"name").append(index).append("\";\n");
+	}
+
+}
@@ -0,0 +1,58 @@
+package org.yarnandtail.compile;
+
+import java.util.Set;
+import javax.annotation.processing.*;
+import javax.lang.model.element.TypeElement;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 
+ * @author ericeverman
+ */
+public class CompileBenchmarkTest {
+	
+	@Test
+	public void testGeneratedSourcesCompile() throws Exception {
+		SyntheticSourceGenerator gen = new SyntheticSourceGenerator();
+		Set<TestSource> sources = gen.generate(3, 5);
+		
+		assertEquals(3, sources.size());
+		
+		String src = gen.generateClass("Sample", 5);
+		assertTrue(src.contains("StrProp STR_0"));
+		assertTrue(src.contains("interface Config"));
+		
+		CompileBenchmark.Measurement m = new CompileBenchmark(3, 5, 0, 1).compile(sources, null);
+		assertTrue(m.getNanos() > 0);
+	}
+	
+	@Test
+	public void testRunWithProcessor() throws Exception {
+		CountingProcessor[] last = new CountingProcessor[1];
+		
+		CompileBenchmark.Result result = new CompileBenchmark(4, 3, 0, 1).run(() -> {
+			last[0] = new CountingProcessor();
+			return last[0];
+		});
+		
+		assertEquals(4, last[0].rootCount);
+		assertTrue(result.getWithoutProcessor().getNanos() > 0);
+		assertTrue(result.getWithProcessor().getNanos() > 0);
+		assertTrue(result.getProcessorTimeShare() < 1d);
+		assertTrue(result.toString().contains("Compiled 4 classes w/ 3 Properties each"));
+	}
+	
+	@SupportedAnnotationTypes("*")
+	public static class CountingProcessor extends AbstractProcessor {
+		int rootCount;
+		
+		@Override
+		public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+			rootCount += roundEnv.getRootElements().size();
+			return false;
+		}
+	}
+
+}
@@ -95,4 +95,23 @@ public class PropertyRegistrarLoaderTest {
 		assertEquals(1, props.size());
 		assertEquals("STRING", props.get(0).fieldName);
 	}
+	
+	@Test
+	public void testAccessorsAreGeneratedForAccessibleFields() throws Exception {
+		PropertyRegistrarLoader loader = new PropertyRegistrarLoader();
+		
+		PropertyRegistrar registrar = loader.getPropertyRegistrars().stream()
+				.filter(r -> r.getRootCanonicalName().equals(PROP_SAMPLE_TLC)).findFirst().get();
+		
+		for (PropertyRegistration reg : registrar.getRegistrationList()) {
+			String name = reg.getCanonicalPropertyName();
+			
+			if (name.equals(PROP_SAMPLE_TLC + ".STRING_PUB")) {
+				assertTrue(PropertySample.STRING_PUB == reg.getAccessor().get());
+			} else {
+				//Private or in a private inner class, so read reflectively
+				assertNull(name, reg.getAccessor());
+			}
+		}
+	}
 }
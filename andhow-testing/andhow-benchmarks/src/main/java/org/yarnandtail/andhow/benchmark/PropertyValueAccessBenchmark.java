@@ -0,0 +1,79 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.annotations.Scope;
+import org.yarnandtail.andhow.AndHowScope;
+import org.yarnandtail.andhow.PropertyValueTable;
+import org.yarnandtail.andhow.api.Loader;
+import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+import org.yarnandtail.andhow.util.AndHowUtil;
+
+/**
+ * Compares reading values w/ Property.getValue() to reading them through a
+ * PropertyValueTable, the way a generated accessor class does.
+ * 
+ * getValue() looks up the value of the Property in a map, while the table
+ * keeps the ordinals of the core it last read from and reads the value from
+ * an array.  Each benchmark reads the same four values.
+ * 
+ * The core is bound to the benchmark thread w/ an AndHowScope, since the
+ * benchmarks do not discover Properties w/ the annotation processor.  Both
+ * paths look up the scope the same way, so the comparison is not affected.
+ * 
+ * @author ericeverman
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyValueAccessBenchmark {
+	
+	public static interface Params {
+		StrProp HOST = StrProp.builder().defaultValue("localhost").build();
+		IntProp PORT = IntProp.builder().defaultValue(8080).build();
+		StrProp USER = StrProp.builder().defaultValue("app").build();
+		IntProp TIMEOUT = IntProp.builder().defaultValue(30).build();
+	}
+	
+	private static final String PREFIX = Params.class.getCanonicalName() + ".";
+	
+	private static final PropertyValueTable VALUE_TABLE = new PropertyValueTable(
+			PREFIX + "HOST", PREFIX + "PORT", PREFIX + "USER", PREFIX + "TIMEOUT");
+	
+	private AndHowScope scope;
+	
+	@Setup
+	public void setup() {
+		List<Loader> loaders = new ArrayList();
+		AndHowCore core = new AndHowCore(new CaseInsensitiveNaming(), loaders,
+				AndHowUtil.buildGroupProxies(Arrays.<Class<?>>asList(Params.class)), false);
+		
+		scope = AndHowScope.open(core);
+	}
+	
+	@TearDown
+	public void tearDown() {
+		scope.close();
+	}
+	
+	@Benchmark
+	public int readWithPropertyGetValue() {
+		return Params.HOST.getValue().length() + Params.PORT.getValue() +
+				Params.USER.getValue().length() + Params.TIMEOUT.getValue();
+	}
+	
+	@Benchmark
+	public int readWithValueTable() {
+		return ((String) VALUE_TABLE.get(0)).length() + (Integer) VALUE_TABLE.get(1) +
+				((String) VALUE_TABLE.get(2)).length() + (Integer) VALUE_TABLE.get(3);
+	}
+}
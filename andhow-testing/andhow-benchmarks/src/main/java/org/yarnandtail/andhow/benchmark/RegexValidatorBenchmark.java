@@ -0,0 +1,87 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.yarnandtail.andhow.valid.StringValidator;
+
+/**
+ * Compares StringValidator.Regex, which compiles its Pattern once, to
+ * validating with String.matches, which compiles the regex for each call
+ * (the way Regex used to work).
+ * 
+ * Each benchmark validates a large set of generated strings, about half of
+ * which match.  The 'startup' benchmarks model what happens when a Property
+ * is registered:  The specification is checked and the default value is
+ * validated.
+ * 
+ * @author ericeverman
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RegexValidatorBenchmark {
+	
+	/** An email-ish address, with a bounded number of dotted parts */
+	public static final String EMAIL_REGEX = "[a-z][a-z0-9]*(\\.[a-z0-9]+){0,3}@[a-z]+\\.(com|org|net)";
+	
+	@Param({"100", "10000"})
+	public int valueCount;
+	
+	private String[] values;
+	private StringValidator.Regex validator;
+	
+	@Setup
+	public void setup() {
+		Random random = new Random(42);
+		values = new String[valueCount];
+		
+		for (int i = 0; i < valueCount; i++) {
+			StringBuilder sb = new StringBuilder();
+			sb.append("user").append(i);
+			
+			if (random.nextBoolean()) {
+				sb.append(".dept").append(random.nextInt(100));
+			}
+			
+			//About half the values end with an unknown domain, so they don't match
+			sb.append('@').append("example.").append(random.nextBoolean() ? "com" : "biz");
+			values[i] = sb.toString();
+		}
+		
+		validator = new StringValidator.Regex(EMAIL_REGEX);
+	}
+	
+	@Benchmark
+	public int validateWithCompiledPattern() {
+		int valid = 0;
+		for (String v : values) {
+			if (validator.isValid(v)) valid++;
+		}
+		return valid;
+	}
+	
+	@Benchmark
+	public int validateWithStringMatches() {
+		int valid = 0;
+		for (String v : values) {
+			if (v.matches(EMAIL_REGEX)) valid++;
+		}
+		return valid;
+	}
+	
+	@Benchmark
+	public boolean startupWithCompiledPattern() {
+		StringValidator.Regex v = new StringValidator.Regex(EMAIL_REGEX);
+		return v.isSpecificationValid() && v.isValid(values[0]);
+	}
+	
+	@Benchmark
+	public boolean startupWithStringMatches() {
+		"".matches(EMAIL_REGEX);	//Specification check
+		return values[0].matches(EMAIL_REGEX);
+	}
+}
@@ -0,0 +1,169 @@
+package org.yarnandtail.andhow.benchmark;
+
+import java.util.*;
+import org.openjdk.jol.info.GraphLayout;
+import org.yarnandtail.andhow.api.*;
+import org.yarnandtail.andhow.internal.NameAndProperty;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationInternal;
+import org.yarnandtail.andhow.internal.StaticPropertyConfigurationMutable;
+import org.yarnandtail.andhow.name.CaseInsensitiveNaming;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
+
+/**
+ * Measures the heap retained by the static configuration for each Property
+ * with JOL.
+ * 
+ * The mutable configuration is used during startup and keeps a HashMap entry
+ * for each name of each Property.  The immutable configuration is retained
+ * for the life of the application.  MapBasedConfig is a copy of the earlier,
+ * HashMap based layout of the immutable configuration, kept as the baseline
+ * the current layout is compared to.  Only the configuration itself is
+ * measured, not the Properties and Groups it refers to.
+ * 
+ * This is not a JMH benchmark, so run it directly:
+ * <code>java -cp target/benchmarks.jar org.yarnandtail.andhow.benchmark.StaticConfigMemoryBenchmark [property counts]</code>
+ * 
+ * @author ericeverman
+ */
+public class StaticConfigMemoryBenchmark {
+	
+	/** Properties per generated group */
+	public static final int GROUP_SIZE = 100;
+	
+	public static void main(String[] args) {
+		int[] counts = {1000, 10000, 50000};
+		
+		if (args.length > 0) {
+			counts = new int[args.length];
+			for (int i = 0; i < args.length; i++) {
+				counts[i] = Integer.parseInt(args[i]);
+			}
+		}
+		
+		System.out.println("properties\tmutable bytes/prop\tmap based immutable bytes/prop\timmutable bytes/prop");
+		
+		for (int count : counts) {
+			List<GroupProxy> groups = buildGroups(count);
+			StaticPropertyConfigurationMutable mutable = buildConfig(groups);
+			MapBasedConfig mapBased = new MapBasedConfig(mutable);
+			StaticPropertyConfigurationInternal immutable = mutable.toImmutable();
+			
+			//Properties and Groups are shared, so they are not counted
+			Object[] shared = groups.toArray();
+			long sharedSize = GraphLayout.parseInstance(shared).totalSize();
+			long mutableSize = GraphLayout.parseInstance(mutable, shared).totalSize() - sharedSize;
+			long mapBasedSize = GraphLayout.parseInstance(mapBased, shared).totalSize() - sharedSize;
+			long immutableSize = GraphLayout.parseInstance(immutable, shared).totalSize() - sharedSize;
+			
+			System.out.println(count + "\t" + (mutableSize / count) + "\t" +
+					(mapBasedSize / count) + "\t" + (immutableSize / count));
+		}
+	}
+	
+	/**
+	 * Builds groups of Properties, some of which have aliases.
+	 */
+	static List<GroupProxy> buildGroups(int propertyCount) {
+		List<GroupProxy> groups = new ArrayList();
+		
+		for (int g = 0; g * GROUP_SIZE < propertyCount; g++) {
+			String groupName = "org.yarnandtail.andhow.benchmark.generated.Group" + g;
+			List<NameAndProperty> naps = new ArrayList();
+			
+			for (int p = g * GROUP_SIZE; p < Math.min(propertyCount, (g + 1) * GROUP_SIZE); p++) {
+				Property<?> prop;
+				
+				if (p % 2 == 0) {
+					prop = StrProp.builder().desc("A generated String Property").build();
+				} else if (p % 10 == 1) {
+					prop = IntProp.builder().defaultValue(p).aliasIn("int.in." + p).aliasInAndOut("int.inout." + p).build();
+				} else {
+					prop = IntProp.builder().defaultValue(p).build();
+				}
+				
+				naps.add(new NameAndProperty("PROPERTY_" + p, prop));
+			}
+			
+			groups.add(new GroupProxyImmutable(groupName, groupName, naps, true));
+		}
+		
+		return groups;
+	}
+	
+	static StaticPropertyConfigurationMutable buildConfig(List<GroupProxy> groups) {
+		StaticPropertyConfigurationMutable config = new StaticPropertyConfigurationMutable(new CaseInsensitiveNaming());
+		
+		for (GroupProxy group : groups) {
+			for (NameAndProperty nap : group.getProperties()) {
+				if (config.addProperty(group, nap.property) != null) {
+					throw new IllegalStateException("Unable to add " + nap.fieldName);
+				}
+			}
+		}
+		
+		return config;
+	}
+	
+	/**
+	 * The data retained by the earlier, HashMap based immutable configuration:
+	 * Unmodifiable copies of the lists and maps of the mutable configuration,
+	 * including a map entry for the upper cased canonical name and each 'in'
+	 * alias of each Property.
+	 */
+	static class MapBasedConfig {
+		final NamingStrategy namingStrategy;
+		final List<GroupProxy> groupList;
+		final List<Property<?>> properties;
+		final Map<GroupProxy, List<Property<?>>> propertiesByGroup;
+		final Map<String, Property<?>> propertiesByAnyName;
+		final Map<Property<?>, List<EffectiveName>> aliasesByProperty;
+		final Map<Property<?>, String> canonicalNameByProperty;
+		final List<ExportGroup> exportGroups;
+		
+		MapBasedConfig(StaticPropertyConfigurationInternal config) {
+			namingStrategy = config.getNamingStrategy();
+			
+			ArrayList<GroupProxy> gl = new ArrayList(config.getPropertyGroups());
+			gl.trimToSize();
+			groupList = Collections.unmodifiableList(gl);
+			
+			ArrayList<Property<?>> props = new ArrayList(config.getProperties());
+			props.trimToSize();
+			properties = Collections.unmodifiableList(props);
+			
+			Map<GroupProxy, List<Property<?>>> propsByGrp = new HashMap();
+			Map<String, Property<?>> propsByName = new HashMap();
+			Map<Property<?>, List<EffectiveName>> alsByProp = new HashMap();
+			Map<Property<?>, String> canonByProp = new HashMap();
+			
+			for (GroupProxy group : groupList) {
+				propsByGrp.put(group, config.getPropertiesForGroup(group));
+			}
+			
+			for (Property<?> prop : properties) {
+				String canon = config.getCanonicalName(prop);
+				List<EffectiveName> aliases = config.getAliases(prop);
+				
+				canonByProp.put(prop, canon);
+				alsByProp.put(prop, aliases);
+				propsByName.put(namingStrategy.toEffectiveName(canon), prop);
+				
+				for (EffectiveName a : aliases) {
+					if (a.isIn()) {
+						propsByName.put(a.getEffectiveInName(), prop);
+					}
+				}
+			}
+			
+			propertiesByGroup = Collections.unmodifiableMap(propsByGrp);
+			propertiesByAnyName = Collections.unmodifiableMap(propsByName);
+			aliasesByProperty = Collections.unmodifiableMap(alsByProp);
+			canonicalNameByProperty = Collections.unmodifiableMap(canonByProp);
+			
+			ArrayList<ExportGroup> expGroups = new ArrayList(config.getExportGroups());
+			expGroups.trimToSize();
+			exportGroups = Collections.unmodifiableList(expGroups);
+		}
+	}
+}
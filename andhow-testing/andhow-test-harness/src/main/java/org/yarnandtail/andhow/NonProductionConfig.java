@@ -111,9 +111,7 @@ public class NonProductionConfig {
 			if (this._groups.size() > 0) {
 				return AndHowUtil.buildGroupProxies(_groups);
 			} else {
-				PropertyRegistrarLoader registrar = new PropertyRegistrarLoader();
-				List<GroupProxy> registeredGroups = registrar.getGroups();
-				return registeredGroups;
+				return PropertyRegistrarLoader.getCachedGroups(classLoader);
 			}
 		}
 		
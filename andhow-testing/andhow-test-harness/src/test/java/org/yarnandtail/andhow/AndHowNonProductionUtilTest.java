@@ -4,7 +4,12 @@ package org.yarnandtail.andhow;
 
 import java.util.Properties;
 import org.junit.Test;
+import org.yarnandtail.andhow.api.AppFatalException;
+import org.yarnandtail.andhow.api.Exporter;
+import org.yarnandtail.andhow.export.SysPropExporter;
 import org.yarnandtail.andhow.internal.AndHowCore;
+import org.yarnandtail.andhow.property.IntProp;
+import org.yarnandtail.andhow.property.StrProp;
 
 import static org.junit.Assert.*;
 
@@ -14,6 +19,20 @@ import static org.junit.Assert.*;
  */
 public class AndHowNonProductionUtilTest extends AndHowTestingTestBase {
 	
+	public static interface ReloadParams {
+		StrProp NAME = StrProp.builder().build();
+		IntProp COUNT = IntProp.builder().mustBeGreaterThan(0).defaultValue(3).build();
+	}
+	
+	@GroupExport(
+		exporter=SysPropExporter.class,
+		exportByCanonicalName=Exporter.EXPORT_CANONICAL_NAME.ALWAYS,
+		exportByOutAliases=Exporter.EXPORT_OUT_ALIASES.ALWAYS
+	)
+	public static interface ExportParams {
+		StrProp SECRET = StrProp.builder().build();
+	}
+	
 	public AndHowNonProductionUtilTest() {
 	}
 
@@ -83,6 +102,121 @@ public class AndHowNonProductionUtilTest extends AndHowTestingTestBase {
 		assertFalse("The core instances should be different instances", ahCore1 == ahCore2);
 	}
 
+	/**
+	 * Test of reloadValues method, of class AndHowNonProductionUtil.
+	 */
+	@Test
+	public void testReloadValues() {
+		String name = ReloadParams.class.getCanonicalName() + ".NAME";
+		
+		AndHowNonProductionUtil.reloadValues(NonProductionConfig.instance()
+				.group(ReloadParams.class)
+				.addCmdLineArg(name, "bob"));	//No core, so a normal build
+		AndHowCore ahCore1 = AndHowNonProductionUtil.getAndHowCore();
+		assertEquals("bob", ReloadParams.NAME.getValue());
+		
+		AndHowNonProductionUtil.reloadValues(NonProductionConfig.instance()
+				.addCmdLineArg(name, "sue"));
+		AndHowCore ahCore2 = AndHowNonProductionUtil.getAndHowCore();
+		
+		assertFalse(ahCore1 == ahCore2);
+		assertTrue("The static config should be reused",
+				ahCore1.getStaticConfig() == ahCore2.getStaticConfig());
+		assertEquals("sue", ReloadParams.NAME.getValue());
+		assertEquals(Integer.valueOf(3), ReloadParams.COUNT.getValue());
+	}
+	
+	/**
+	 * Test of overlay method, of class AndHowNonProductionUtil.
+	 */
+	@Test
+	public void testOverlay() {
+		String name = ReloadParams.class.getCanonicalName() + ".NAME";
+		
+		AndHowNonProductionUtil.forceRebuild(NonProductionConfig.instance()
+				.group(ReloadParams.class)
+				.addCmdLineArg(name, "bob"));
+		
+		AndHowCore before = AndHowNonProductionUtil.overlay(
+				new PropertyValue(ReloadParams.COUNT, 7));
+		
+		assertTrue(before.getStaticConfig() == AndHowNonProductionUtil.getAndHowCore().getStaticConfig());
+		assertEquals("bob", ReloadParams.NAME.getValue());
+		assertEquals(Integer.valueOf(7), ReloadParams.COUNT.getValue());
+		assertTrue(AndHow.instance().isExplicitlySet(ReloadParams.COUNT));
+		
+		//Overlays stack and override loaded values
+		AndHowNonProductionUtil.overlay(new PropertyValue(ReloadParams.NAME, "sue"));
+		assertEquals("sue", ReloadParams.NAME.getValue());
+		assertEquals(Integer.valueOf(7), ReloadParams.COUNT.getValue());
+		
+		AndHowNonProductionUtil.setAndHowCore(before);
+		assertEquals(Integer.valueOf(3), ReloadParams.COUNT.getValue());
+	}
+	
+	@Test(expected = AppFatalException.class)
+	public void testOverlayWithInvalidValue() {
+		AndHowNonProductionUtil.forceRebuild(NonProductionConfig.instance()
+				.group(ReloadParams.class));
+		
+		AndHowNonProductionUtil.overlay(new PropertyValue(ReloadParams.COUNT, -1));
+	}
+	
+	/**
+	 * Test of openScope and openOverlayScope methods, of class AndHowNonProductionUtil.
+	 */
+	@Test
+	public void testScopes() throws Exception {
+		String name = ReloadParams.class.getCanonicalName() + ".NAME";
+		
+		AndHowNonProductionUtil.forceRebuild(NonProductionConfig.instance()
+				.group(ReloadParams.class)
+				.addCmdLineArg(name, "bob"));
+		AndHowCore global = AndHowNonProductionUtil.getAndHowCore();
+		
+		try (AndHowScope scope = AndHowNonProductionUtil.openScope(NonProductionConfig.instance()
+				.group(ReloadParams.class)
+				.addCmdLineArg(name, "sue"))) {
+			
+			assertEquals("sue", ReloadParams.NAME.getValue());
+			
+			try (AndHowScope inner = AndHowNonProductionUtil.openOverlayScope(
+					new PropertyValue(ReloadParams.COUNT, 8))) {
+				
+				assertEquals("sue", ReloadParams.NAME.getValue());
+				assertEquals(Integer.valueOf(8), ReloadParams.COUNT.getValue());
+				
+				//Another thread only sees the global core
+				final Object[] otherThreadValue = new Object[1];
+				Thread other = new Thread(() -> otherThreadValue[0] = ReloadParams.NAME.getValue());
+				other.start();
+				other.join();
+				assertEquals("bob", otherThreadValue[0]);
+			}
+			
+			assertEquals(Integer.valueOf(3), ReloadParams.COUNT.getValue());
+		}
+		
+		assertEquals("bob", ReloadParams.NAME.getValue());
+		assertTrue(global == AndHowNonProductionUtil.getAndHowCore());
+	}
+	
+	@Test
+	public void testScopeHasNoStartupSideEffects() throws Exception {
+		String name = ExportParams.class.getCanonicalName() + ".SECRET";
+		System.clearProperty(name);
+		
+		try (AndHowScope scope = AndHowNonProductionUtil.openScope(NonProductionConfig.instance()
+				.group(ExportParams.class)
+				.addCmdLineArg(name, "shh"))) {
+			
+			assertEquals("shh", ExportParams.SECRET.getValue());
+			assertNull(System.getProperty(name));
+		} finally {
+			System.clearProperty(name);
+		}
+	}
+	
 	/**
 	 * Test of clone method, of class AndHowNonProductionUtil.
 	 */